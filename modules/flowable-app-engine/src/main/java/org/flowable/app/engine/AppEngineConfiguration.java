@@ -69,7 +69,6 @@ import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
@@ -82,12 +81,14 @@ import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
+import org.flowable.variable.service.impl.storage.VariableContentStorage;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
 import org.flowable.variable.service.impl.types.DateType;
 import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.DoubleType;
 import org.flowable.variable.service.impl.types.InstantType;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JodaDateTimeType;
 import org.flowable.variable.service.impl.types.JodaDateType;
@@ -159,6 +160,13 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * When set, the content of variable byte arrays (e.g. of serializable, long json or byte array variables) that is larger
+     * than the threshold (in bytes) is stored in this storage instead of the database, which then only keeps a reference to it.
+     */
+    protected VariableContentStorage variableContentStorage;
+    protected int variableContentStorageThreshold = 64 * 1024;
+
 
     protected BusinessCalendarManager businessCalendarManager;
 
@@ -354,12 +362,9 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
 
     protected void initAppDefinitionCache() {
         if (appDefinitionCache == null) {
-            if (appDefinitionCacheLimit <= 0) {
-                appDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                appDefinitionCache = new DefaultDeploymentCache<>(appDefinitionCacheLimit);
-            }
+            appDefinitionCache = createDeploymentCache(appDefinitionCacheLimit);
         }
+        appDefinitionCache = initDeploymentCacheMetrics("appDefinition", appDefinitionCache);
     }
     
     protected void initAppResourceConverter() {
@@ -426,6 +431,7 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
             // longJsonType only needed for reading purposes
             variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
             variableTypes.addType(new ByteArrayType());
+            variableTypes.addType(new InputStreamType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
@@ -446,6 +452,8 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setVariableContentStorage(this.variableContentStorage);
+        this.variableServiceConfiguration.setVariableContentStorageThreshold(this.variableContentStorageThreshold);
 
         this.variableServiceConfiguration.init();
 
@@ -758,6 +766,24 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public VariableContentStorage getVariableContentStorage() {
+        return variableContentStorage;
+    }
+
+    public AppEngineConfiguration setVariableContentStorage(VariableContentStorage variableContentStorage) {
+        this.variableContentStorage = variableContentStorage;
+        return this;
+    }
+
+    public int getVariableContentStorageThreshold() {
+        return variableContentStorageThreshold;
+    }
+
+    public AppEngineConfiguration setVariableContentStorageThreshold(int variableContentStorageThreshold) {
+        this.variableContentStorageThreshold = variableContentStorageThreshold;
+        return this;
+    }
+
     public boolean isDisableIdmEngine() {
         return disableIdmEngine;
     }
@@ -50,5 +50,7 @@ public interface BatchService {
     BatchPart createBatchPart(Batch batch, String status, String scopeId, String subScopeId, String scopeType);
     
     BatchPart completeBatchPart(String batchPartId, String status, String resultJson);
+
+    Batch completeBatch(String batchId, String status);
     
 }
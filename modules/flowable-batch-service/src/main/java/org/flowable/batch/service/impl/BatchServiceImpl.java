@@ -109,6 +109,11 @@ public class BatchServiceImpl extends CommonServiceImpl<BatchServiceConfiguratio
     public BatchPart completeBatchPart(String batchPartId, String status, String resultJson) {
         return getBatchPartEntityManager().completeBatchPart(batchPartId, status, resultJson);
     }
+
+    @Override
+    public Batch completeBatch(String batchId, String status) {
+        return getBatchEntityManager().completeBatch(batchId, status);
+    }
     
     public Batch createBatch(BatchBuilder batchBuilder) {
         return getBatchEntityManager().createBatch(batchBuilder);
@@ -30,4 +30,6 @@ public interface BatchEntityManager extends EntityManager<BatchEntity> {
     long findBatchCountByQueryCriteria(BatchQueryImpl batchQuery);
 
     Batch createBatch(BatchBuilder batchBuilder);
+
+    BatchEntity completeBatch(String batchId, String status);
 }
\ No newline at end of file
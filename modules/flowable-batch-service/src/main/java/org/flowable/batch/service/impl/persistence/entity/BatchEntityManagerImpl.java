@@ -67,6 +67,15 @@ public class BatchEntityManagerImpl
         return batchEntity;
     }
 
+    @Override
+    public BatchEntity completeBatch(String batchId, String status) {
+        BatchEntity batchEntity = findById(batchId);
+        batchEntity.setCompleteTime(getClock().getCurrentTime());
+        batchEntity.setStatus(status);
+
+        return batchEntity;
+    }
+
     @Override
     public void delete(String batchId) {
         BatchEntity batch = dataManager.findById(batchId);
@@ -34,7 +34,8 @@ public class ProcessExport implements BpmnXMLConstants {
             new ExtensionAttribute(ATTRIBUTE_PROCESS_EXECUTABLE),
             new ExtensionAttribute(ATTRIBUTE_PROCESS_CANDIDATE_USERS),
             new ExtensionAttribute(ATTRIBUTE_PROCESS_CANDIDATE_GROUPS),
-            new ExtensionAttribute(ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING));
+            new ExtensionAttribute(ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING),
+            new ExtensionAttribute(ATTRIBUTE_PROCESS_DISABLE_RUNTIME_ACTIVITY_INSTANCES));
 
     @SuppressWarnings("unchecked")
     public static void writeProcess(Process process, BpmnModel model, XMLStreamWriter xtw) throws Exception {
@@ -60,6 +61,10 @@ public class ProcessExport implements BpmnXMLConstants {
             xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING, "true");
         }
 
+        if (process.isDisableRuntimeActivityInstances()) {
+            xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_PROCESS_DISABLE_RUNTIME_ACTIVITY_INSTANCES, "true");
+        }
+
         // write custom attributes
         BpmnXMLUtil.writeCustomAttributes(process.getAttributes().values(), xtw, defaultProcessAttributes);
 
@@ -45,6 +45,7 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
     
     // Performance settings
     protected boolean enableEagerExecutionTreeFetching;
+    protected boolean disableRuntimeActivityInstances;
 
     public Process() {
 
@@ -392,6 +393,7 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         }
         
         enableEagerExecutionTreeFetching = otherElement.enableEagerExecutionTreeFetching;
+        disableRuntimeActivityInstances = otherElement.disableRuntimeActivityInstances;
 
         eventListeners = new ArrayList<>();
         if (otherElement.getEventListeners() != null && !otherElement.getEventListeners().isEmpty()) {
@@ -457,4 +459,12 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public boolean isDisableRuntimeActivityInstances() {
+        return disableRuntimeActivityInstances;
+    }
+
+    public void setDisableRuntimeActivityInstances(boolean disableRuntimeActivityInstances) {
+        this.disableRuntimeActivityInstances = disableRuntimeActivityInstances;
+    }
+
 }
@@ -26,6 +26,10 @@ import javax.sql.DataSource;
 
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.JdbcType;
+import org.flowable.batch.service.BatchServiceConfiguration;
+import org.flowable.batch.service.impl.db.BatchDbSchemaManager;
+import org.flowable.batch.service.impl.persistence.BatchByteArrayRefTypeHandler;
+import org.flowable.batch.service.impl.persistence.entity.BatchByteArrayRef;
 import org.flowable.cmmn.api.CallbackTypes;
 import org.flowable.cmmn.api.CandidateManager;
 import org.flowable.cmmn.api.CmmnEngineConfigurationApi;
@@ -106,6 +110,9 @@ import org.flowable.cmmn.engine.impl.interceptor.CmmnCommandInvoker;
 import org.flowable.cmmn.engine.impl.interceptor.DefaultCmmnIdentityLinkInterceptor;
 import org.flowable.cmmn.engine.impl.job.AsyncActivatePlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.job.AsyncInitializePlanModelJobHandler;
+import org.flowable.cmmn.engine.impl.job.AsyncTriggerJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchPartJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchStatusJobHandler;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerFactory;
@@ -178,6 +185,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.MybatisResourc
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.MybatisSentryPartInstanceDataManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.TableDataManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntryWeigher;
 import org.flowable.cmmn.engine.impl.process.ProcessInstanceService;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceHelper;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceHelperImpl;
@@ -233,9 +241,11 @@ import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
 import org.flowable.common.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
@@ -286,12 +296,14 @@ import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
 import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
+import org.flowable.variable.service.impl.storage.VariableContentStorage;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
 import org.flowable.variable.service.impl.types.DateType;
 import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.DoubleType;
 import org.flowable.variable.service.impl.types.InstantType;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JodaDateTimeType;
 import org.flowable.variable.service.impl.types.JodaDateType;
@@ -377,8 +389,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected CaseDefinitionDiagramHelper caseDefinitionDiagramHelper;
 
     protected int caseDefinitionCacheLimit = -1;
+    protected long caseDefinitionCacheMaxWeight = -1; // Only used by a concurrent deployment cache, see CaseDefinitionCacheEntryWeigher
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
 
+    /**
+     * When enabled, the sentries of a case definition are indexed (see {@link org.flowable.cmmn.engine.impl.criteria.SentryIndex})
+     * and criteria that can't be satisfied by the current lifecycle event are not evaluated.
+     */
+    protected boolean sentryEvaluationIndexEnabled = true;
+
+    /**
+     * When enabled (and the sentry index is enabled), if-part conditions only depending on variables are not evaluated again within a command
+     * when the variables didn't change. This assumes that variables are resolved by the default variable el resolver,
+     * it must not be enabled when custom resolvers take precedence over the variables.
+     */
+    protected boolean sentryIfPartResultReuseEnabled;
+
     protected CmmnParser cmmnParser;
     protected List<CmmnParseHandler> preCmmnParseHandlers;
     protected List<CmmnParseHandler> postCmmnParseHandlers;
@@ -400,6 +426,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
+    protected boolean isCompiledScriptCacheEnabled = true;
+    protected int compiledScriptCacheSize = 1024;
 
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
@@ -415,6 +443,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected SchemaManager variableSchemaManager;
     protected SchemaManager taskSchemaManager;
     protected SchemaManager jobSchemaManager;
+    protected SchemaManager batchSchemaManager;
 
     /**
      * Case diagram generator. Default value is DefaultCaseDiagramGenerator
@@ -437,6 +466,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     // EventSubscription support
     protected EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
 
+    // Batch support
+    protected BatchServiceConfiguration batchServiceConfiguration;
+    protected String batchStatusTimeCycleConfig = "30 * * * * ?";
+
     // Task support
     protected TaskServiceConfiguration taskServiceConfiguration;
     protected InternalHistoryTaskManager internalHistoryTaskManager;
@@ -469,6 +502,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * When set, the content of variable byte arrays (e.g. of serializable, long json or byte array variables) that is larger
+     * than the threshold (in bytes) is stored in this storage instead of the database, which then only keeps a reference to it.
+     */
+    protected VariableContentStorage variableContentStorage;
+    protected int variableContentStorageThreshold = 64 * 1024;
+
 
     // Set Http Client config defaults
     protected HttpClientConfig httpClientConfig = new HttpClientConfig();
@@ -500,6 +540,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected InternalJobParentStateResolver internalJobParentStateResolver;
     protected String jobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     protected String historyJobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
+
+    /**
+     * Acquire async, timer and history jobs with 'select ... for update skip locked' (or the 'readpast' table hint on MS SQL Server),
+     * so that async executors on different nodes don't try to lock the same jobs. Only used on PostgreSQL, MySQL 8+, Oracle and MS SQL Server,
+     * on other databases the regular acquisition queries are used.
+     */
+    protected boolean isSkipLockedJobAcquisitionEnabled;
     
     /**
      * Boolean flag to be set to activate the {@link AsyncExecutor} automatically after the engine has booted up.
@@ -645,6 +692,27 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * Enables adaptive async job acquisition: after an acquisition that returned a full page, the next page is twice as large
+     * (up to {@link #asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition}), after an acquisition without jobs the wait time doubles
+     * (from {@link #asyncExecutorMinAsyncJobAcquireWaitTime} up to {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}),
+     * and adding a job on this node wakes up the acquisition thread. Disabled by default.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled;
+
+    /**
+     * The maximum number of async jobs acquired in one query when adaptive async job acquisition is enabled. Default value = 64.
+     */
+    protected int asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition = 64;
+
+    /**
+     * The time (in milliseconds) the async job acquisition thread waits after the first acquisition without jobs
+     * when adaptive async job acquisition is enabled. Default value = 100 milliseconds.
+     */
+    protected int asyncExecutorMinAsyncJobAcquireWaitTime = 100;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it.
      * While doing this, the 'name' of the lock owner is written into a column of the job.
@@ -752,6 +820,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected CmmnHistoryCleaningManager cmmnHistoryCleaningManager;
+
+    /**
+     * The maximum number of historic case instances deleted in one transaction by the history cleanup.
+     * When set to a value higher than 0, the history cleanup job splits the expired instances into a batch of parts,
+     * each deleted by its own async job in chunks of this size. By default, all expired instances are deleted at once.
+     */
+    protected int historyCleaningBatchSize = 0;
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
@@ -871,6 +946,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initEventSubscriptionServiceConfiguration();
         initVariableServiceConfiguration();
         initTaskServiceConfiguration();
+        if (isHistoryCleaningBatchEnabled()) {
+            initBatchServiceConfiguration();
+        }
         initBusinessCalendarManager();
         initJobHandlers();
         initHistoryJobHandlers();
@@ -903,6 +981,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             initVariableSchemaManager();
             initTaskSchemaManager();
             initJobSchemaManager();
+            if (isHistoryCleaningBatchEnabled()) {
+                initBatchSchemaManager();
+            }
         }
     }
     
@@ -960,9 +1041,29 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
 
+    protected void initBatchSchemaManager() {
+        if (this.batchSchemaManager == null) {
+            this.batchSchemaManager = new BatchDbSchemaManager();
+        }
+    }
+
     @Override
     public void initMybatisTypeHandlers(Configuration configuration) {
         configuration.getTypeHandlerRegistry().register(VariableType.class, JdbcType.VARCHAR, new IbatisVariableTypeHandler(variableTypes));
+        if (isHistoryCleaningBatchEnabled()) {
+            configuration.getTypeAliasRegistry().registerAlias("BatchByteArrayRefTypeHandler", BatchByteArrayRefTypeHandler.class);
+            configuration.getTypeHandlerRegistry().register(BatchByteArrayRef.class, JdbcType.VARCHAR, new BatchByteArrayRefTypeHandler());
+        }
+    }
+
+    @Override
+    public void parseCustomMybatisXMLMappers(Configuration configuration) {
+        if (isHistoryCleaningBatchEnabled()) {
+            parseMybatisXmlMapping(configuration, "org/flowable/batch/service/db/mapping/entity/Batch.xml");
+            parseMybatisXmlMapping(configuration, "org/flowable/batch/service/db/mapping/entity/BatchPart.xml");
+            parseMybatisXmlMapping(configuration, "org/flowable/batch/service/db/mapping/entity/ByteArray.xml");
+        }
+        super.parseCustomMybatisXMLMappers(configuration);
     }
     
     public void initFunctionDelegates() {
@@ -1215,12 +1316,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
+            if (isConcurrentDeploymentCacheEnabled && caseDefinitionCacheMaxWeight > 0) {
+                caseDefinitionCache = new ConcurrentDeploymentCache<>(caseDefinitionCacheLimit, caseDefinitionCacheMaxWeight, new CaseDefinitionCacheEntryWeigher());
             } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
+                caseDefinitionCache = createDeploymentCache(caseDefinitionCacheLimit);
             }
         }
+        caseDefinitionCache = initDeploymentCacheMetrics("caseDefinition", caseDefinitionCache);
     }
 
     protected void initDeploymentManager() {
@@ -1378,6 +1480,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (isCompiledScriptCacheEnabled && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(new CompiledScriptCache(compiledScriptCacheSize));
+        }
     }
     
     public void afterInitEventRegistryEventBusConsumer() {
@@ -1444,6 +1549,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             // longJsonType only needed for reading purposes
             variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
             variableTypes.addType(new ByteArrayType());
+            variableTypes.addType(new InputStreamType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
@@ -1471,6 +1577,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setVariableContentStorage(this.variableContentStorage);
+        this.variableServiceConfiguration.setVariableContentStorageThreshold(this.variableContentStorageThreshold);
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
 
         this.variableServiceConfiguration.init();
@@ -1581,6 +1689,23 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return new EventSubscriptionServiceConfiguration(ScopeTypes.CMMN);
     }
 
+    public void initBatchServiceConfiguration() {
+        if (batchServiceConfiguration == null) {
+            this.batchServiceConfiguration = instantiateBatchServiceConfiguration();
+            this.batchServiceConfiguration.setClock(this.clock);
+            this.batchServiceConfiguration.setObjectMapper(this.objectMapper);
+            this.batchServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+
+            this.batchServiceConfiguration.init();
+        }
+
+        addServiceConfiguration(EngineConfigurationConstants.KEY_BATCH_SERVICE_CONFIG, this.batchServiceConfiguration);
+    }
+
+    protected BatchServiceConfiguration instantiateBatchServiceConfiguration() {
+        return new BatchServiceConfiguration(ScopeTypes.CMMN);
+    }
+
     public void initBusinessCalendarManager() {
         if (businessCalendarManager == null) {
             MapBusinessCalendarManager mapBusinessCalendarManager = new MapBusinessCalendarManager();
@@ -1597,7 +1722,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobHandlers.put(TriggerTimerEventJobHandler.TYPE, new TriggerTimerEventJobHandler());
         jobHandlers.put(AsyncActivatePlanItemInstanceJobHandler.TYPE, new AsyncActivatePlanItemInstanceJobHandler());
         jobHandlers.put(AsyncInitializePlanModelJobHandler.TYPE, new AsyncInitializePlanModelJobHandler());
+        jobHandlers.put(AsyncTriggerJobHandler.TYPE, new AsyncTriggerJobHandler());
         jobHandlers.put(CmmnHistoryCleanupJobHandler.TYPE, new CmmnHistoryCleanupJobHandler());
+        if (isHistoryCleaningBatchEnabled()) {
+            jobHandlers.put(CmmnHistoryCleanupBatchPartJobHandler.TYPE, new CmmnHistoryCleanupBatchPartJobHandler());
+            jobHandlers.put(CmmnHistoryCleanupBatchStatusJobHandler.TYPE, new CmmnHistoryCleanupBatchStatusJobHandler());
+        }
 
         // if we have custom job handlers, register them
         if (customJobHandlers != null) {
@@ -1719,6 +1849,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setEngineMetrics(this.engineMetrics);
     
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1739,6 +1870,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
+            this.jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(this.isSkipLockedJobAcquisitionEnabled);
     
             this.jobServiceConfiguration.init();
         }
@@ -1809,6 +1941,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
+            // Adaptive acquisition
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisitionEnabled(isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled);
+            defaultAsyncExecutor.setMaxAdaptiveAsyncJobsDuePerAcquisition(asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition);
+            defaultAsyncExecutor.setMinAsyncJobAcquireWaitTimeInMillis(asyncExecutorMinAsyncJobAcquireWaitTime);
+
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
@@ -2255,6 +2392,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
     
+    public boolean isSentryEvaluationIndexEnabled() {
+        return sentryEvaluationIndexEnabled;
+    }
+
+    public CmmnEngineConfiguration setSentryEvaluationIndexEnabled(boolean sentryEvaluationIndexEnabled) {
+        this.sentryEvaluationIndexEnabled = sentryEvaluationIndexEnabled;
+        return this;
+    }
+
+    public boolean isSentryIfPartResultReuseEnabled() {
+        return sentryIfPartResultReuseEnabled;
+    }
+
+    public CmmnEngineConfiguration setSentryIfPartResultReuseEnabled(boolean sentryIfPartResultReuseEnabled) {
+        this.sentryIfPartResultReuseEnabled = sentryIfPartResultReuseEnabled;
+        return this;
+    }
+
     public boolean isDisableCmmnXmlValidation() {
         return disableCmmnXmlValidation;
     }
@@ -2371,6 +2526,19 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public long getCaseDefinitionCacheMaxWeight() {
+        return caseDefinitionCacheMaxWeight;
+    }
+
+    /**
+     * Bounds the case definition cache by the estimated weight of the cached definitions (see {@link CaseDefinitionCacheEntryWeigher}).
+     * Only applies when the concurrent deployment cache is enabled.
+     */
+    public CmmnEngineConfiguration setCaseDefinitionCacheMaxWeight(long caseDefinitionCacheMaxWeight) {
+        this.caseDefinitionCacheMaxWeight = caseDefinitionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<CaseDefinitionCacheEntry> getCaseDefinitionCache() {
         return caseDefinitionCache;
     }
@@ -2510,6 +2678,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public int getExpressionTextLengthCacheLimit() {
         return expressionTextLengthCacheLimit;
     }
@@ -2608,6 +2794,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public SchemaManager getBatchSchemaManager() {
+        return batchSchemaManager;
+    }
+
+    public CmmnEngineConfiguration setBatchSchemaManager(SchemaManager batchSchemaManager) {
+        this.batchSchemaManager = batchSchemaManager;
+        return this;
+    }
+
     @Override
     public VariableTypes getVariableTypes() {
         return variableTypes;
@@ -2655,6 +2850,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public BatchServiceConfiguration getBatchServiceConfiguration() {
+        return batchServiceConfiguration;
+    }
+
+    public CmmnEngineConfiguration setBatchServiceConfiguration(BatchServiceConfiguration batchServiceConfiguration) {
+        this.batchServiceConfiguration = batchServiceConfiguration;
+        return this;
+    }
+
+    public String getBatchStatusTimeCycleConfig() {
+        return batchStatusTimeCycleConfig;
+    }
+
+    public CmmnEngineConfiguration setBatchStatusTimeCycleConfig(String batchStatusTimeCycleConfig) {
+        this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
+        return this;
+    }
+
     @Override
     public VariableServiceConfiguration getVariableServiceConfiguration() {
         return variableServiceConfiguration;
@@ -2763,6 +2976,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public VariableContentStorage getVariableContentStorage() {
+        return variableContentStorage;
+    }
+
+    public CmmnEngineConfiguration setVariableContentStorage(VariableContentStorage variableContentStorage) {
+        this.variableContentStorage = variableContentStorage;
+        return this;
+    }
+
+    public int getVariableContentStorageThreshold() {
+        return variableContentStorageThreshold;
+    }
+
+    public CmmnEngineConfiguration setVariableContentStorageThreshold(int variableContentStorageThreshold) {
+        this.variableContentStorageThreshold = variableContentStorageThreshold;
+        return this;
+    }
+
     public CaseDiagramGenerator getCaseDiagramGenerator() {
         return caseDiagramGenerator;
     }
@@ -3088,6 +3319,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled() {
+        return isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled(boolean isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled) {
+        this.isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled = isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition() {
+        return asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition(int asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition) {
+        this.asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition = asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorMinAsyncJobAcquireWaitTime() {
+        return asyncExecutorMinAsyncJobAcquireWaitTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMinAsyncJobAcquireWaitTime(int asyncExecutorMinAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMinAsyncJobAcquireWaitTime = asyncExecutorMinAsyncJobAcquireWaitTime;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -3497,6 +3755,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return isSkipLockedJobAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setSkipLockedJobAcquisitionEnabled(boolean isSkipLockedJobAcquisitionEnabled) {
+        this.isSkipLockedJobAcquisitionEnabled = isSkipLockedJobAcquisitionEnabled;
+        return this;
+    }
+
     public HttpClientConfig getHttpClientConfig() {
         return httpClientConfig;
     }
@@ -3701,6 +3968,23 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    /**
+     * The batch service, its tables and the batch part and status job handlers are only set up
+     * when the history cleanup deletes in batches.
+     */
+    public boolean isHistoryCleaningBatchEnabled() {
+        return historyCleaningBatchSize > 0;
+    }
+
     public CmmnHistoryCleaningManager getCmmnHistoryCleaningManager() {
         return cmmnHistoryCleaningManager;
     }
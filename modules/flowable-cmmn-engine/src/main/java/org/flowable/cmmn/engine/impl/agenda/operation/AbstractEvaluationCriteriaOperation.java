@@ -28,6 +28,8 @@ import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryIfPartEvaluations;
+import org.flowable.cmmn.engine.impl.criteria.SentryIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
@@ -36,6 +38,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CaseInstanceUtil;
 import org.flowable.cmmn.engine.impl.util.CmmnLoggingSessionUtil;
@@ -74,6 +77,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
+    protected SentryIndex sentryIndex;
+    protected String onPartEvent;
+    protected boolean sentryIndexResolved;
+
     public AbstractEvaluationCriteriaOperation(CommandContext commandContext, String caseInstanceId, CaseInstanceEntity caseInstanceEntity, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         super(commandContext, caseInstanceId, caseInstanceEntity);
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
@@ -488,7 +495,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateEntryCriteria(PlanItemInstanceEntity planItemInstanceEntity, PlanItem planItem) {
         List<Criterion> criteria = planItem.getEntryCriteria();
         if (criteria != null && !criteria.isEmpty()) {
-            return evaluateCriteria(planItemInstanceEntity, criteria);
+            return evaluateCriteria(planItemInstanceEntity, getCriteriaToEvaluate(criteria));
         }
         return null;
     }
@@ -497,7 +504,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateExitCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, HasExitCriteria hasExitCriteria) {
         List<Criterion> criteria = hasExitCriteria.getExitCriteria();
         if (criteria != null && !criteria.isEmpty()) {
-            return evaluateCriteria(entityWithSentryPartInstances, criteria);
+            return evaluateCriteria(entityWithSentryPartInstances, getCriteriaToEvaluate(criteria));
         }
         return null;
     }
@@ -716,25 +723,71 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     }
 
     protected boolean evaluateSentryIfPart(EntityWithSentryPartInstances entityWithSentryPartInstances, Sentry sentry, VariableContainer variableContainer) {
+        SentryIfPart sentryIfPart = sentry.getSentryIfPart();
         try {
-            Expression conditionExpression = CommandContextUtil.getExpressionManager(commandContext).createExpression(sentry.getSentryIfPart().getCondition());
+            // The result of a condition that only depends on variables can be reused as long as the variables don't change
+            SentryIndex sentryIndex = getSentryIndex();
+            Object[] variableValues = null;
+            if (sentryIndex != null && CommandContextUtil.getCmmnEngineConfiguration(commandContext).isSentryIfPartResultReuseEnabled()) {
+                variableValues = sentryIndex.getVariableValues(sentryIfPart, variableContainer);
+            }
+            if (variableValues != null) {
+                Boolean previousResult = SentryIfPartEvaluations.getOrCreate(commandContext).getResult(variableContainer, sentryIfPart, variableValues);
+                if (previousResult != null) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Sentry if condition {} for {} is unchanged, reusing result '{}'", sentryIfPart.getCondition(), entityWithSentryPartInstances, previousResult);
+                    }
+                    return previousResult;
+                }
+            }
+
+            Expression conditionExpression = CommandContextUtil.getExpressionManager(commandContext).createExpression(sentryIfPart.getCondition());
             Object result = conditionExpression.getValue(variableContainer);
 
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Evaluation of sentry if condition {} for {} results in '{}'", sentry.getSentryIfPart().getCondition(), entityWithSentryPartInstances, result);
+                LOGGER.debug("Evaluation of sentry if condition {} for {} results in '{}'", sentryIfPart.getCondition(), entityWithSentryPartInstances, result);
             }
 
-            if (result instanceof Boolean) {
-                return (Boolean) result;
+            boolean satisfied = result instanceof Boolean && (Boolean) result;
+            if (variableValues != null) {
+                SentryIfPartEvaluations.getOrCreate(commandContext).addResult(variableContainer, sentryIfPart, variableValues, satisfied);
             }
+            return satisfied;
+
         } catch (RuntimeException e) {
             if (CommandContextUtil.getCmmnEngineConfiguration(commandContext).isLoggingSessionEnabled()) {
-                CmmnLoggingSessionUtil.addEvaluateSentryFailedLoggingData(sentry.getSentryIfPart(), e, entityWithSentryPartInstances);
+                CmmnLoggingSessionUtil.addEvaluateSentryFailedLoggingData(sentryIfPart, e, entityWithSentryPartInstances);
             }
 
             throw e;
         }
-        return false;
+    }
+
+    /**
+     * @return the criteria that can be satisfied by the lifecycle event of this operation, selected through the sentry index,
+     *         or all given criteria if there is no index.
+     */
+    protected List<Criterion> getCriteriaToEvaluate(List<Criterion> criteria) {
+        SentryIndex sentryIndex = getSentryIndex();
+        return sentryIndex != null ? sentryIndex.getCriteriaToEvaluate(criteria, onPartEvent) : criteria;
+    }
+
+    /**
+     * @return the sentry index of the case definition, or null if it is disabled or the case definition is not cached.
+     */
+    protected SentryIndex getSentryIndex() {
+        if (!sentryIndexResolved) {
+            sentryIndexResolved = true;
+            CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+            if (cmmnEngineConfiguration.isSentryEvaluationIndexEnabled()) {
+                CaseDefinitionCacheEntry cacheEntry = cmmnEngineConfiguration.getCaseDefinitionCache().get(getCaseInstanceEntity().getCaseDefinitionId());
+                if (cacheEntry != null) {
+                    sentryIndex = cacheEntry.getSentryIndex();
+                    onPartEvent = planItemLifeCycleEvent != null ? SentryIndex.getOnPartEvent(planItemLifeCycleEvent) : null;
+                }
+            }
+        }
+        return sentryIndex;
     }
 
     protected Criterion evaluateDependentPlanItemEntryCriteria(PlanItem entryDependentPlanItem) {
@@ -14,6 +14,7 @@ package org.flowable.cmmn.engine.impl.behavior.impl;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.ScriptServiceTask;
 import org.flowable.common.engine.api.FlowableException;
@@ -39,7 +40,9 @@ public class ScriptTaskActivityBehavior extends TaskActivityBehavior {
             throw new FlowableException("Could not execute script task instance: no scripting engines found.");
         }
         String scriptFormat = scriptTask.getScriptFormat() != null ? scriptTask.getScriptFormat() : ScriptingEngines.DEFAULT_SCRIPTING_LANGUAGE;
-        Object result = scriptingEngines.evaluate(scriptTask.getScript(), scriptFormat, planItemInstanceEntity, scriptTask.isAutoStoreVariables());
+        String deploymentId = CaseDefinitionUtil.getCaseDefinition(planItemInstanceEntity.getCaseDefinitionId()).getDeploymentId();
+        Object result = scriptingEngines.evaluate(scriptTask.getScript(), scriptFormat, planItemInstanceEntity, scriptTask.isAutoStoreVariables(),
+                deploymentId, scriptTask.getId());
         String resultVariableName = scriptTask.getResultVariableName();
         if (StringUtils.isNotBlank(scriptTask.getResultVariableName())) {
             planItemInstanceEntity.setVariable(resultVariableName.trim(), result);
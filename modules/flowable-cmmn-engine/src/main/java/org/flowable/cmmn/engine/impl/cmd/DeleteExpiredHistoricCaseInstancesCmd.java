@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.CmmnHistoryHelper;
+import org.flowable.cmmn.engine.impl.task.TaskHelper;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
+
+/**
+ * Deletes at most maxResults of the historic case instances matched by the history cleaning query that ended in the given
+ * period, together with their related historic data. Returns the number of deleted historic case instances.
+ */
+public class DeleteExpiredHistoricCaseInstancesCmd implements Command<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Date finishedAfter;
+    protected Date finishedBefore;
+    protected int maxResults;
+
+    public DeleteExpiredHistoricCaseInstancesCmd(Date finishedAfter, Date finishedBefore, int maxResults) {
+        this.finishedAfter = finishedAfter;
+        this.finishedBefore = finishedBefore;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        List<HistoricCaseInstance> historicCaseInstances = cmmnEngineConfiguration.getCmmnHistoryCleaningManager()
+                .createHistoricCaseInstanceCleaningQuery()
+                .finishedAfter(finishedAfter)
+                .finishedBefore(finishedBefore)
+                .listPage(0, maxResults);
+
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        for (HistoricCaseInstance historicCaseInstance : historicCaseInstances) {
+            List<HistoricTaskInstance> historicTaskInstances = historicTaskService.findHistoricTaskInstancesByQueryCriteria(
+                    new HistoricTaskInstanceQueryImpl().scopeId(historicCaseInstance.getId()).scopeType(ScopeTypes.CMMN));
+            for (HistoricTaskInstance historicTaskInstance : historicTaskInstances) {
+                TaskHelper.deleteHistoricTaskLogEntries(historicTaskInstance.getId());
+                TaskHelper.deleteHistoricTask(historicTaskInstance.getId());
+            }
+
+            // Not deleted through the CmmnHistoryManager, with async history it only schedules the deletion
+            // and the case instance would be found again by the next chunk
+            CmmnHistoryHelper.deleteHistoricCaseInstance(cmmnEngineConfiguration, historicCaseInstance.getId());
+        }
+
+        return historicCaseInstances.size();
+    }
+
+}
@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * The results of the if-part conditions evaluated during a command, together with the values of the variables they depend on
+ * (see {@link SentryIndex#getVariableValues(SentryIfPart, VariableContainer)}).
+ *
+ * A lifecycle event typically leads to several criteria evaluations in the same command, which evaluate the same if-parts again
+ * while the variables they depend on didn't change. The results are kept per variable container, for the duration of the command only.
+ */
+public class SentryIfPartEvaluations {
+
+    protected static final String ATTRIBUTE_KEY = SentryIfPartEvaluations.class.getName();
+
+    protected final Map<VariableContainer, Map<SentryIfPart, Evaluation>> evaluations = new IdentityHashMap<>();
+
+    public static SentryIfPartEvaluations getOrCreate(CommandContext commandContext) {
+        SentryIfPartEvaluations sentryIfPartEvaluations = (SentryIfPartEvaluations) commandContext.getAttribute(ATTRIBUTE_KEY);
+        if (sentryIfPartEvaluations == null) {
+            sentryIfPartEvaluations = new SentryIfPartEvaluations();
+            commandContext.addAttribute(ATTRIBUTE_KEY, sentryIfPartEvaluations);
+        }
+        return sentryIfPartEvaluations;
+    }
+
+    /**
+     * @return the result of the previous evaluation of the if-part for the variable container, or null if the if-part wasn't evaluated
+     *         yet or the values of the variables changed since.
+     */
+    public Boolean getResult(VariableContainer variableContainer, SentryIfPart sentryIfPart, Object[] variableValues) {
+        Map<SentryIfPart, Evaluation> containerEvaluations = evaluations.get(variableContainer);
+        if (containerEvaluations == null) {
+            return null;
+        }
+
+        Evaluation evaluation = containerEvaluations.get(sentryIfPart);
+        if (evaluation == null || !Arrays.equals(evaluation.variableValues, variableValues)) {
+            return null;
+        }
+        return evaluation.result;
+    }
+
+    public void addResult(VariableContainer variableContainer, SentryIfPart sentryIfPart, Object[] variableValues, boolean result) {
+        evaluations.computeIfAbsent(variableContainer, key -> new IdentityHashMap<>()).put(sentryIfPart, new Evaluation(variableValues, result));
+    }
+
+    protected static class Evaluation {
+
+        protected final Object[] variableValues;
+        protected final boolean result;
+
+        public Evaluation(Object[] variableValues, boolean result) {
+            this.variableValues = variableValues;
+            this.result = result;
+        }
+    }
+
+}
@@ -0,0 +1,298 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flowable.cmmn.engine.impl.el.CmmnVariableScopeELResolver;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.HasExitCriteria;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.cmmn.model.SentryOnPart;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.VariableContainerELResolver;
+
+/**
+ * Index of the sentries of a {@link Case}, built once per cached case definition and used during criteria evaluation.
+ *
+ * The index maps the (source plan item, lifecycle transition) of every sentry on-part to the criteria it belongs to.
+ * A criterion consisting of on-parts only can only be satisfied by a lifecycle event that one of its on-parts references,
+ * so for a given event only the criteria referencing it and the criteria with an if-part (or without on-parts) need to be evaluated.
+ *
+ * The index also holds the names of the variables referenced by the if-part conditions that only consist of variables,
+ * literals and operators. The result of such a condition only depends on the values of these variables,
+ * which allows to reuse the result of a previous evaluation within the same command (see {@link SentryIfPartEvaluations}).
+ */
+public class SentryIndex {
+
+    protected static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\s*[$#]\\{([^{}]*)\\}\\s*");
+    protected static final Pattern TOKEN_PATTERN = Pattern.compile(
+            "\\s+|([A-Za-z_$][\\w$]*)|\\d+(\\.\\d+)?([eE][+-]?\\d+)?|\"[^\"\\\\]*\"|'[^'\\\\]*'|==|!=|<=|>=|&&|\\|\\||[<>!+\\-*/%?:()]");
+
+    protected static final Set<String> OPERATOR_WORDS = new HashSet<>(Arrays.asList(
+            "and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "empty", "div", "mod"));
+
+    protected static final Set<String> LITERAL_WORDS = new HashSet<>(Arrays.asList("true", "false", "null"));
+
+    // resolved by the variable el resolver before (or instead of) the variables
+    protected static final Set<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList(
+            "instanceof",
+            VariableContainerELResolver.LOGGED_IN_USER_KEY,
+            VariableContainerELResolver.VARIABLE_CONTAINER_KEY,
+            CmmnVariableScopeELResolver.CASE_INSTANCE_KEY,
+            CmmnVariableScopeELResolver.PLAN_ITEM_INSTANCE_KEY,
+            CmmnVariableScopeELResolver.PLAN_ITEM_INSTANCES_KEY,
+            CmmnVariableScopeELResolver.TASK_KEY));
+
+    protected final Set<Criterion> indexedCriteria;
+    protected final Map<String, List<Criterion>> criteriaByOnPartEvent;
+    protected final Set<Criterion> criteriaEvaluatedOnAnyEvent;
+    protected final Map<String, Set<Criterion>> criteriaToEvaluateByOnPartEvent;
+    protected final Map<SentryIfPart, String[]> ifPartVariableNames;
+
+    protected SentryIndex(Set<Criterion> indexedCriteria, Map<String, List<Criterion>> criteriaByOnPartEvent,
+            Set<Criterion> criteriaEvaluatedOnAnyEvent, Map<SentryIfPart, String[]> ifPartVariableNames) {
+        this.indexedCriteria = indexedCriteria;
+        this.criteriaByOnPartEvent = criteriaByOnPartEvent;
+        this.criteriaEvaluatedOnAnyEvent = criteriaEvaluatedOnAnyEvent;
+        this.ifPartVariableNames = ifPartVariableNames;
+
+        this.criteriaToEvaluateByOnPartEvent = new HashMap<>();
+        for (Map.Entry<String, List<Criterion>> eventCriteria : criteriaByOnPartEvent.entrySet()) {
+            Set<Criterion> criteriaToEvaluate = Collections.newSetFromMap(new IdentityHashMap<>());
+            criteriaToEvaluate.addAll(criteriaEvaluatedOnAnyEvent);
+            criteriaToEvaluate.addAll(eventCriteria.getValue());
+            criteriaToEvaluateByOnPartEvent.put(eventCriteria.getKey(), criteriaToEvaluate);
+        }
+    }
+
+    public static SentryIndex build(Case caze) {
+        Set<Criterion> indexedCriteria = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, List<Criterion>> criteriaByOnPartEvent = new HashMap<>();
+        Set<Criterion> criteriaEvaluatedOnAnyEvent = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<SentryIfPart, String[]> ifPartVariableNames = new IdentityHashMap<>();
+
+        List<Object> elements = new ArrayList<>();
+        if (caze.getPlanModel() != null) {
+            elements.add(caze.getPlanModel());
+        }
+        if (caze.getAllCaseElements() != null) {
+            elements.addAll(caze.getAllCaseElements().values());
+        }
+
+        List<Criterion> criteria = new ArrayList<>();
+        for (Object element : elements) {
+            if (element instanceof PlanItem && ((PlanItem) element).getEntryCriteria() != null) {
+                criteria.addAll(((PlanItem) element).getEntryCriteria());
+            }
+            if (element instanceof HasExitCriteria && ((HasExitCriteria) element).getExitCriteria() != null) {
+                criteria.addAll(((HasExitCriteria) element).getExitCriteria());
+            }
+        }
+
+        for (Criterion criterion : criteria) {
+            if (!indexedCriteria.add(criterion)) {
+                continue;
+            }
+
+            Sentry sentry = criterion.getSentry();
+            if (sentry == null || sentry.getOnParts().isEmpty() || sentry.getSentryIfPart() != null) {
+                // depends on more than the lifecycle event
+                criteriaEvaluatedOnAnyEvent.add(criterion);
+            }
+            if (sentry == null) {
+                continue;
+            }
+
+            for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                List<Criterion> eventCriteria = criteriaByOnPartEvent.computeIfAbsent(
+                        getOnPartEvent(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), key -> new ArrayList<>());
+                if (!eventCriteria.contains(criterion)) {
+                    eventCriteria.add(criterion);
+                }
+            }
+
+            SentryIfPart sentryIfPart = sentry.getSentryIfPart();
+            if (sentryIfPart != null && !ifPartVariableNames.containsKey(sentryIfPart)) {
+                String[] variableNames = parseVariableNames(sentryIfPart.getCondition());
+                if (variableNames != null) {
+                    ifPartVariableNames.put(sentryIfPart, variableNames);
+                }
+            }
+        }
+
+        return new SentryIndex(indexedCriteria, criteriaByOnPartEvent, criteriaEvaluatedOnAnyEvent, ifPartVariableNames);
+    }
+
+    /**
+     * @return the names of the variables referenced by the condition, or null if the condition contains anything else than
+     *         variables, literals and operators (e.g. properties, method or function calls, or implicit objects like the plan item instance).
+     */
+    protected static String[] parseVariableNames(String condition) {
+        if (condition == null) {
+            return null;
+        }
+
+        Matcher expressionMatcher = EXPRESSION_PATTERN.matcher(condition);
+        if (!expressionMatcher.matches()) {
+            return null;
+        }
+
+        String expression = expressionMatcher.group(1);
+        Set<String> variableNames = new LinkedHashSet<>();
+        boolean previousTokenIsVariable = false;
+
+        Matcher tokenMatcher = TOKEN_PATTERN.matcher(expression);
+        int position = 0;
+        while (position < expression.length()) {
+            tokenMatcher.region(position, expression.length());
+            if (!tokenMatcher.lookingAt()) {
+                return null;
+            }
+
+            String token = tokenMatcher.group();
+            position = tokenMatcher.end();
+            if (token.trim().isEmpty()) {
+                continue;
+            }
+
+            String identifier = tokenMatcher.group(1);
+            if (identifier != null) {
+                if (RESERVED_IDENTIFIERS.contains(identifier)) {
+                    return null;
+                }
+                if (OPERATOR_WORDS.contains(identifier) || LITERAL_WORDS.contains(identifier)) {
+                    previousTokenIsVariable = false;
+                } else {
+                    variableNames.add(identifier);
+                    previousTokenIsVariable = true;
+                }
+
+            } else if ("(".equals(token) && previousTokenIsVariable) {
+                // a function call
+                return null;
+
+            } else {
+                previousTokenIsVariable = false;
+            }
+        }
+
+        return variableNames.toArray(new String[0]);
+    }
+
+    public static String getOnPartEvent(String sourceRef, String standardEvent) {
+        return sourceRef + "#" + standardEvent;
+    }
+
+    public static String getOnPartEvent(PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        return getOnPartEvent(planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition());
+    }
+
+    /**
+     * @param criteria the entry or exit criteria of an element of the case
+     * @param onPartEvent the lifecycle event as returned by {@link #getOnPartEvent(PlanItemLifeCycleEvent)}, or null if there is none
+     * @return the criteria that can be satisfied by the lifecycle event: the criteria referencing it in an on-part, the criteria with an if-part
+     *         or without on-parts, and the criteria that are not indexed (e.g. of an element of another version of the model).
+     */
+    public List<Criterion> getCriteriaToEvaluate(List<Criterion> criteria, String onPartEvent) {
+        Set<Criterion> criteriaToEvaluate = onPartEvent != null
+                ? criteriaToEvaluateByOnPartEvent.getOrDefault(onPartEvent, criteriaEvaluatedOnAnyEvent) : criteriaEvaluatedOnAnyEvent;
+
+        List<Criterion> selectedCriteria = null;
+        for (int i = 0; i < criteria.size(); i++) {
+            Criterion criterion = criteria.get(i);
+            boolean evaluate = criteriaToEvaluate.contains(criterion) || !indexedCriteria.contains(criterion);
+            if (selectedCriteria != null) {
+                if (evaluate) {
+                    selectedCriteria.add(criterion);
+                }
+            } else if (!evaluate) {
+                selectedCriteria = new ArrayList<>(criteria.subList(0, i));
+            }
+        }
+        return selectedCriteria != null ? selectedCriteria : criteria;
+    }
+
+    /**
+     * @return the criteria having an on-part that references the given lifecycle event.
+     */
+    public List<Criterion> getCriteria(String onPartEvent) {
+        List<Criterion> criteria = criteriaByOnPartEvent.get(onPartEvent);
+        return criteria != null ? criteria : Collections.emptyList();
+    }
+
+    /**
+     * @return the names of the variables the condition of the if-part depends on, or null if it depends on more than variables.
+     */
+    public String[] getVariableNames(SentryIfPart sentryIfPart) {
+        return ifPartVariableNames.get(sentryIfPart);
+    }
+
+    /**
+     * @return the values of the variables the condition of the if-part depends on, or null if the result of the condition
+     *         can't be derived from the values (the condition depends on more than variables, a variable doesn't exist
+     *         and would be resolved otherwise, or a value is not immutable).
+     */
+    public Object[] getVariableValues(SentryIfPart sentryIfPart, VariableContainer variableContainer) {
+        String[] variableNames = ifPartVariableNames.get(sentryIfPart);
+        if (variableNames == null) {
+            return null;
+        }
+
+        Object[] values = new Object[variableNames.length];
+        for (int i = 0; i < variableNames.length; i++) {
+            if (!variableContainer.hasVariable(variableNames[i])) {
+                return null;
+            }
+            Object value = variableContainer.getVariable(variableNames[i]);
+            if (!isImmutable(value)) {
+                return null;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    protected boolean isImmutable(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof Character
+                || value.getClass() == BigDecimal.class
+                || value.getClass() == BigInteger.class
+                || value instanceof Enum;
+    }
+
+}
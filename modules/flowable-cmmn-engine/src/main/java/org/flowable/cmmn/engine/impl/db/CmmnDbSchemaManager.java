@@ -70,6 +70,9 @@ public class CmmnDbSchemaManager extends LiquibaseBasedSchemaManager {
             getTaskSchemaManager().schemaCreate();
             getVariableSchemaManager().schemaCreate();
             getJobSchemaManager().schemaCreate();
+            if (getBatchSchemaManager() != null) {
+                getBatchSchemaManager().schemaCreate();
+            }
             
             super.schemaCreate();
         } catch (Exception e) {
@@ -85,6 +88,14 @@ public class CmmnDbSchemaManager extends LiquibaseBasedSchemaManager {
             logger.info("Error dropping CMMN engine tables", e);
         }
         
+        if (getBatchSchemaManager() != null) {
+            try {
+                getBatchSchemaManager().schemaDrop();
+            } catch (Exception e) {
+                logger.info("Error dropping batch tables", e);
+            }
+        }
+        
         try {
             getJobSchemaManager().schemaDrop();
         } catch (Exception e) {
@@ -141,6 +152,9 @@ public class CmmnDbSchemaManager extends LiquibaseBasedSchemaManager {
                 getTaskSchemaManager().schemaUpdate();
                 getVariableSchemaManager().schemaUpdate();
                 getJobSchemaManager().schemaUpdate();
+                if (getBatchSchemaManager() != null) {
+                    getBatchSchemaManager().schemaUpdate();
+                }
             }
 
             super.schemaUpdate();
@@ -178,4 +192,8 @@ public class CmmnDbSchemaManager extends LiquibaseBasedSchemaManager {
     protected SchemaManager getJobSchemaManager() {
         return CommandContextUtil.getCmmnEngineConfiguration().getJobSchemaManager();
     }
+
+    protected SchemaManager getBatchSchemaManager() {
+        return CommandContextUtil.getCmmnEngineConfiguration().getBatchSchemaManager();
+    }
 }
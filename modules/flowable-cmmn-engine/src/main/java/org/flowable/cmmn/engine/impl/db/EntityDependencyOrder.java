@@ -16,6 +16,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.flowable.batch.service.impl.persistence.entity.BatchByteArrayEntityImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntityImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityImpl;
@@ -57,6 +60,9 @@ public class EntityDependencyOrder {
 
     static {
 
+        DELETE_ORDER.add(BatchPartEntityImpl.class);
+        DELETE_ORDER.add(BatchEntityImpl.class);
+        DELETE_ORDER.add(BatchByteArrayEntityImpl.class);
         DELETE_ORDER.add(JobEntityImpl.class);
         DELETE_ORDER.add(TimerJobEntityImpl.class);
         DELETE_ORDER.add(SuspendedJobEntityImpl.class);
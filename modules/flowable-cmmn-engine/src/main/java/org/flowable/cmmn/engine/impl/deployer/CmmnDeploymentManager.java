@@ -30,6 +30,7 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 
 public class CmmnDeploymentManager {
 
@@ -105,7 +106,9 @@ public class CmmnDeploymentManager {
         if (cachedCaseDefinition == null) {
             CmmnDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
+            long startTime = System.nanoTime();
             deploy(deployment, null);
+            caseDefinitionCache.recordLoad(System.nanoTime() - startTime);
             cachedCaseDefinition = caseDefinitionCache.get(caseDefinitionId);
 
             if (cachedCaseDefinition == null) {
@@ -130,6 +133,11 @@ public class CmmnDeploymentManager {
         }
         
         deploymentEntityManager.deleteDeploymentAndRelatedData(deploymentId, cascade);
+
+        ScriptingEngines scriptingEngines = cmmnEngineConfiguration.getScriptingEngines();
+        if (scriptingEngines != null && scriptingEngines.getCompiledScriptCache() != null) {
+            scriptingEngines.getCompiledScriptCache().removeDeployment(deploymentId);
+        }
     }
 
     public List<EngineDeployer> getDeployers() {
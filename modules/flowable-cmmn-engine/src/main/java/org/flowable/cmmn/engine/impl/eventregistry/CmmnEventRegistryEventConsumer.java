@@ -72,6 +72,29 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
     }
 
+    @Override
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        handleEventBatch(ScopeTypes.CMMN, eventInstances);
+    }
+
+    @Override
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        handleEventSubscription(cmmnEngineConfiguration.getCmmnRuntimeService(), eventSubscription, eventInstance, correlationKeys);
+    }
+
+    @Override
+    protected boolean isSingleUseEventSubscription(EventSubscription eventSubscription) {
+        if (eventSubscription.getSubScopeId() == null && eventSubscription.getScopeDefinitionId() != null
+                && eventSubscription.getScopeId() == null) {
+
+            // A start event can start multiple case instances in one transaction,
+            // unless only one instance per correlation key is allowed, which is checked with a query
+            return Objects.equals(getStartCorrelationConfiguration(eventSubscription), CmmnXmlConstants.START_EVENT_CORRELATION_STORE_AS_UNIQUE_REFERENCE_ID);
+        }
+
+        return true;
+    }
+
     protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
 
@@ -12,11 +12,27 @@
  */
 package org.flowable.cmmn.engine.impl.job;
 
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
+import org.flowable.cmmn.api.CmmnHistoryCleaningManager;
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
 public class CmmnHistoryCleanupJobHandler implements JobHandler {
@@ -32,7 +48,96 @@ public class CmmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
 
-        cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        if (cmmnEngineConfiguration.getHistoryCleaningBatchSize() > 0) {
+            createHistoryCleanupBatch(cmmnEngineConfiguration, commandContext);
+        } else {
+            cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        }
+    }
+
+    /**
+     * Splits the period in which the expired historic case instances ended into as many parts as needed to delete them in
+     * chunks of the history cleaning batch size, and creates an async job per part. The parts don't overlap, so they can be
+     * executed in parallel.
+     */
+    protected void createHistoryCleanupBatch(CmmnEngineConfiguration cmmnEngineConfiguration, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        if (batchService == null) {
+            throw new FlowableException("The history cleaning batch size was set after the CMMN engine was built, "
+                    + "the batch service is only available when it is set in the engine configuration");
+        }
+        long runningBatchCount = batchService.findBatchCountByQueryCriteria(new BatchQueryImpl()
+                .batchType(Batch.HISTORIC_CASE_DELETE_TYPE)
+                .status(CmmnHistoryCleanupBatchPartJobHandler.STATUS_IN_PROGRESS));
+        if (runningBatchCount > 0) {
+            // the previous cleanup is still deleting its parts
+            return;
+        }
+
+        CmmnHistoryCleaningManager historyCleaningManager = cmmnEngineConfiguration.getCmmnHistoryCleaningManager();
+        long expiredCount = historyCleaningManager.createHistoricCaseInstanceCleaningQuery().count();
+        if (expiredCount == 0) {
+            return;
+        }
+
+        Date firstEndTime = findEndTime(historyCleaningManager, true);
+        Date lastEndTime = findEndTime(historyCleaningManager, false);
+        if (firstEndTime == null || lastEndTime == null) {
+            return;
+        }
+
+        int batchSize = cmmnEngineConfiguration.getHistoryCleaningBatchSize();
+        long period = lastEndTime.getTime() - firstEndTime.getTime() + 1;
+        long numberOfParts = Math.min((expiredCount + batchSize - 1) / batchSize, period);
+        long partPeriod = period / numberOfParts;
+
+        Batch batch = batchService.createBatchBuilder().batchType(Batch.HISTORIC_CASE_DELETE_TYPE)
+                .status(CmmnHistoryCleanupBatchPartJobHandler.STATUS_IN_PROGRESS)
+                .batchDocumentJson(CmmnHistoryCleanupBatchPartJobHandler.getBatchDocumentJson(expiredCount, batchSize))
+                .create();
+
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        for (long i = 0; i < numberOfParts; i++) {
+            long finishedAfter = firstEndTime.getTime() + i * partPeriod;
+            long finishedBefore = i == numberOfParts - 1 ? lastEndTime.getTime() : finishedAfter + partPeriod - 1;
+
+            BatchPart batchPart = batchService.createBatchPart(batch, CmmnHistoryCleanupBatchPartJobHandler.STATUS_WAITING, null, null, ScopeTypes.CMMN);
+
+            JobEntity partJob = jobService.createJob();
+            partJob.setJobHandlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE);
+            partJob.setJobHandlerConfiguration(CmmnHistoryCleanupBatchPartJobHandler.getHandlerCfg(batchPart.getId(), finishedAfter, finishedBefore, 0));
+            partJob.setScopeType(ScopeTypes.CMMN);
+            jobService.createAsyncJob(partJob, false);
+            jobService.scheduleAsyncJob(partJob);
+        }
+
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(CmmnHistoryCleanupBatchStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(CmmnHistoryCleanupBatchStatusJobHandler.getHandlerCfgForBatchId(batch.getId()));
+        timerJob.setScopeType(ScopeTypes.CMMN);
+
+        BusinessCalendar businessCalendar = cmmnEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(cmmnEngineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(cmmnEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+    protected Date findEndTime(CmmnHistoryCleaningManager historyCleaningManager, boolean first) {
+        List<HistoricCaseInstance> historicCaseInstances;
+        if (first) {
+            historicCaseInstances = historyCleaningManager.createHistoricCaseInstanceCleaningQuery()
+                    .orderByEndTime().asc()
+                    .listPage(0, 1);
+        } else {
+            historicCaseInstances = historyCleaningManager.createHistoricCaseInstanceCleaningQuery()
+                    .orderByEndTime().desc()
+                    .listPage(0, 1);
+        }
+        return historicCaseInstances.isEmpty() ? null : historicCaseInstances.get(0).getEndTime();
     }
-    
+
 }
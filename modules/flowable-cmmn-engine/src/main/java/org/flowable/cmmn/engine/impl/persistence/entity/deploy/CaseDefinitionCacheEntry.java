@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.persistence.entity.deploy;
 
 import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.engine.impl.criteria.SentryIndex;
 import org.flowable.cmmn.model.Case;
 import org.flowable.cmmn.model.CmmnModel;
 
@@ -21,6 +22,7 @@ public class CaseDefinitionCacheEntry {
     protected CaseDefinition caseDefinition;
     protected CmmnModel cmmnModel;
     protected Case caze;
+    protected volatile SentryIndex sentryIndex;
 
     public CaseDefinitionCacheEntry(CaseDefinition caseDefinition, CmmnModel cmmnModel, Case caze) {
         this.caseDefinition = caseDefinition;
@@ -50,6 +52,19 @@ public class CaseDefinitionCacheEntry {
 
     public void setCase(Case caze) {
         this.caze = caze;
+        this.sentryIndex = null;
+    }
+
+    /**
+     * @return the index of the sentries of the case, built when first needed.
+     */
+    public SentryIndex getSentryIndex() {
+        SentryIndex sentryIndex = this.sentryIndex;
+        if (sentryIndex == null && caze != null) {
+            sentryIndex = SentryIndex.build(caze);
+            this.sentryIndex = sentryIndex;
+        }
+        return sentryIndex;
     }
 
 }
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.persistence.entity.deploy;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+
+/**
+ * Estimates the weight of a cached case definition as the number of elements of the case.
+ */
+public class CaseDefinitionCacheEntryWeigher implements DeploymentCacheWeigher<CaseDefinitionCacheEntry> {
+
+    @Override
+    public long weigh(CaseDefinitionCacheEntry caseDefinitionCacheEntry) {
+        Case caze = caseDefinitionCacheEntry.getCase();
+        if (caze == null || caze.getAllCaseElements() == null) {
+            return 1L;
+        }
+        return 1L + caze.getAllCaseElements().size();
+    }
+
+}
@@ -15,6 +15,8 @@ package org.flowable.cmmn.engine.impl.util;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.BatchServiceConfiguration;
 import org.flowable.cmmn.api.CmmnHistoryService;
 import org.flowable.cmmn.api.CmmnRepositoryService;
 import org.flowable.cmmn.api.CmmnRuntimeService;
@@ -440,6 +442,31 @@ public class CommandContextUtil {
         return getEntityLinkServiceConfiguration(commandContext).getHistoricEntityLinkService();
     }
     
+    // BATCH SERVICE
+
+    public static BatchServiceConfiguration getBatchServiceConfiguration() {
+        return getBatchServiceConfiguration(getCommandContext());
+    }
+
+    public static BatchServiceConfiguration getBatchServiceConfiguration(CommandContext commandContext) {
+        return (BatchServiceConfiguration) getCmmnEngineConfiguration(commandContext).getServiceConfigurations()
+                        .get(EngineConfigurationConstants.KEY_BATCH_SERVICE_CONFIG);
+    }
+
+    public static BatchService getBatchService() {
+        return getBatchService(getCommandContext());
+    }
+
+    public static BatchService getBatchService(CommandContext commandContext) {
+        BatchService batchService = null;
+        BatchServiceConfiguration batchServiceConfiguration = getBatchServiceConfiguration(commandContext);
+        if (batchServiceConfiguration != null) {
+            batchService = batchServiceConfiguration.getBatchService();
+        }
+
+        return batchService;
+    }
+    
     // EVENT SUBSCRIPTION SERVICE
 
     public static EventSubscriptionServiceConfiguration getEventSubscriptionServiceConfiguration() {
@@ -28,6 +28,8 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.service.impl.BatchQueryImpl;
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
@@ -38,18 +40,23 @@ import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
 import org.flowable.cmmn.api.runtime.UserEventListenerInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchPartJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchStatusJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.entitylink.api.EntityLinkType;
 import org.flowable.entitylink.api.history.HistoricEntityLink;
 import org.flowable.entitylink.api.history.HistoricEntityLinkService;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.api.history.HistoricIdentityLink;
+import org.flowable.job.api.Job;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskLogEntry;
@@ -79,6 +86,7 @@ public class AsyncCmmnHistoryTest extends CustomCmmnConfigurationFlowableTestCas
         cmmnEngineConfiguration.setDefaultFailedJobWaitTime(1);
         cmmnEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
         cmmnEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(1000);
+        cmmnEngineConfiguration.setHistoryCleaningBatchSize(2);
     }
 
     @Test
@@ -1064,4 +1072,67 @@ public class AsyncCmmnHistoryTest extends CustomCmmnConfigurationFlowableTestCas
                 .isEqualTo("newBusinessKey");
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/human-task-milestone-model.cmmn")
+    public void testHistoryCleanupBatchCompletes() {
+        try {
+            Clock clock = cmmnEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 5; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+                cmmnRuntimeService.setVariable(caseInstance.getId(), "testVar", "testValue" + i);
+                cal.add(Calendar.HOUR_OF_DAY, 1);
+                clock.setCurrentCalendar(cal);
+                cmmnTaskService.complete(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult().getId());
+            }
+            cmmnEngineConfiguration.resetClock();
+
+            waitForAsyncHistoryExecutorToProcessAllJobs();
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().finished().count()).isEqualTo(5);
+
+            cmmnManagementService.handleHistoryCleanupTimerJob();
+            Job cleanupJob = cmmnManagementService.moveTimerToExecutableJob(
+                    cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            cmmnManagementService.executeJob(cleanupJob.getId());
+
+            // Every part job deletes a chunk and reschedules itself until a chunk comes back short
+            List<Job> partJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+            for (int i = 0; i < 10 && !partJobs.isEmpty(); i++) {
+                for (Job partJob : partJobs) {
+                    cmmnManagementService.executeJob(partJob.getId());
+                }
+                partJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+            }
+            assertThat(partJobs).isEmpty();
+
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isZero();
+            assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().count()).isZero();
+            assertThat(cmmnHistoryService.createHistoricTaskInstanceQuery().count()).isZero();
+            assertThat(cmmnHistoryService.createHistoricMilestoneInstanceQuery().count()).isZero();
+
+            Job statusJob = cmmnManagementService.moveTimerToExecutableJob(
+                    cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupBatchStatusJobHandler.TYPE).singleResult().getId());
+            cmmnManagementService.executeJob(statusJob.getId());
+
+            CommandExecutor commandExecutor = cmmnEngineConfiguration.getCommandExecutor();
+            List<Batch> batches = commandExecutor.execute(commandContext -> CommandContextUtil.getBatchService(commandContext)
+                    .findBatchesByQueryCriteria(new BatchQueryImpl().batchType(Batch.HISTORIC_CASE_DELETE_TYPE)));
+            assertThat(batches)
+                    .extracting(Batch::getStatus)
+                    .containsExactly(CmmnHistoryCleanupBatchPartJobHandler.STATUS_COMPLETED);
+
+            commandExecutor.execute(commandContext -> {
+                CommandContextUtil.getBatchService(commandContext).deleteBatch(batches.get(0).getId());
+                return null;
+            });
+            cmmnManagementService.deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+
+        } finally {
+            cmmnEngineConfiguration.resetClock();
+        }
+    }
+
 }
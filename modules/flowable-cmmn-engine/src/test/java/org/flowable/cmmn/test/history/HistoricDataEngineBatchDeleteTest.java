@@ -0,0 +1,210 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.service.impl.BatchQueryImpl;
+import org.flowable.cmmn.api.CmmnHistoryService;
+import org.flowable.cmmn.api.CmmnManagementService;
+import org.flowable.cmmn.api.CmmnRuntimeService;
+import org.flowable.cmmn.api.CmmnTaskService;
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchPartJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchStatusJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.CmmnConfigurationResource;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTest;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+@FlowableCmmnTest
+@CmmnConfigurationResource("flowable.historyclean.batch.cmmn.cfg.xml")
+public class HistoricDataEngineBatchDeleteTest {
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/human-task-milestone-model.cmmn")
+    public void testHistoryCleanupTimerJob(CmmnEngineConfiguration cmmnEngineConfiguration, CmmnRuntimeService cmmnRuntimeService,
+            CmmnHistoryService cmmnHistoryService, CmmnTaskService cmmnTaskService, CmmnManagementService cmmnManagementService) {
+
+        try {
+            Clock clock = cmmnEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> caseInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+                caseInstanceIds.add(caseInstance.getId());
+                cmmnRuntimeService.setVariable(caseInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (cmmnEngineConfiguration.getHistoryLevel() != HistoryLevel.NONE) {
+
+                for (int i = 0; i < 10; i++) {
+                    // spread the end times over several hours
+                    cal.add(Calendar.HOUR_OF_DAY, 1);
+                    clock.setCurrentCalendar(cal);
+                    Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstanceIds.get(i)).singleResult();
+                    cmmnTaskService.complete(task.getId());
+                }
+
+                cmmnManagementService.handleHistoryCleanupTimerJob();
+                Job executableJob = cmmnManagementService.moveTimerToExecutableJob(
+                        cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(executableJob.getId());
+
+                // the instances are deleted by the batch part jobs
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(20);
+                List<Batch> batches = getBatches(cmmnEngineConfiguration);
+                assertThat(batches).hasSize(1);
+                String batchId = batches.get(0).getId();
+                assertThat(getBatchParts(cmmnEngineConfiguration, batchId)).hasSize(4);
+
+                List<Job> partJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                while (!partJobs.isEmpty()) {
+                    for (Job partJob : partJobs) {
+                        cmmnManagementService.executeJob(partJob.getId());
+                    }
+                    partJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                }
+
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(10);
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().unfinished().count()).isEqualTo(10);
+                assertThat(cmmnHistoryService.createHistoricTaskInstanceQuery().count()).isEqualTo(10);
+                for (int i = 0; i < 10; i++) {
+                    assertThat(cmmnHistoryService.getHistoricIdentityLinksForCaseInstance(caseInstanceIds.get(i))).isEmpty();
+                    assertThat(cmmnHistoryService.createHistoricTaskLogEntryQuery().caseInstanceId(caseInstanceIds.get(i)).count()).isEqualTo(0);
+                    assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstanceIds.get(i)).count()).isEqualTo(0);
+                    assertThat(cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstanceIds.get(i)).count())
+                            .isEqualTo(0);
+                }
+
+                assertThat(getBatchParts(cmmnEngineConfiguration, batchId))
+                        .extracting(BatchPart::getStatus)
+                        .containsOnly(CmmnHistoryCleanupBatchPartJobHandler.RESULT_SUCCESS);
+
+                Job statusJob = cmmnManagementService.moveTimerToExecutableJob(
+                        cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupBatchStatusJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(statusJob.getId());
+                assertThat(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupBatchStatusJobHandler.TYPE).count()).isEqualTo(0);
+
+                Batch batch = getBatches(cmmnEngineConfiguration).get(0);
+                assertThat(batch.getStatus()).isEqualTo(CmmnHistoryCleanupBatchPartJobHandler.STATUS_COMPLETED);
+                assertThat(batch.getCompleteTime()).isNotNull();
+
+                cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                    CommandContextUtil.getBatchService(commandContext).deleteBatch(batchId);
+                    return null;
+                });
+                cmmnManagementService
+                        .deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            cmmnEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/human-task-milestone-model.cmmn")
+    public void testHistoryCleanupBatchPartWithDeletedJobFails(CmmnEngineConfiguration cmmnEngineConfiguration, CmmnRuntimeService cmmnRuntimeService,
+            CmmnHistoryService cmmnHistoryService, CmmnTaskService cmmnTaskService, CmmnManagementService cmmnManagementService) {
+
+        try {
+            Clock clock = cmmnEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 6; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+                cal.add(Calendar.HOUR_OF_DAY, 1);
+                clock.setCurrentCalendar(cal);
+                cmmnTaskService.complete(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult().getId());
+            }
+
+            if (cmmnEngineConfiguration.getHistoryLevel() != HistoryLevel.NONE) {
+
+                cmmnManagementService.handleHistoryCleanupTimerJob();
+                Job executableJob = cmmnManagementService.moveTimerToExecutableJob(
+                        cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(executableJob.getId());
+
+                String batchId = getBatches(cmmnEngineConfiguration).get(0).getId();
+                List<Job> partJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                assertThat(partJobs).hasSize(2);
+
+                // a part whose job is gone can never complete, the status job has to fail it
+                cmmnManagementService.deleteJob(partJobs.get(0).getId());
+                partJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                while (!partJobs.isEmpty()) {
+                    for (Job partJob : partJobs) {
+                        cmmnManagementService.executeJob(partJob.getId());
+                    }
+                    partJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                }
+
+                Job statusJob = cmmnManagementService.moveTimerToExecutableJob(
+                        cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupBatchStatusJobHandler.TYPE).singleResult().getId());
+                cmmnManagementService.executeJob(statusJob.getId());
+                assertThat(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupBatchStatusJobHandler.TYPE).count()).isEqualTo(0);
+
+                assertThat(getBatches(cmmnEngineConfiguration))
+                        .extracting(Batch::getStatus)
+                        .containsExactly(CmmnHistoryCleanupBatchPartJobHandler.STATUS_COMPLETED);
+                assertThat(getBatchParts(cmmnEngineConfiguration, batchId))
+                        .extracting(BatchPart::getStatus)
+                        .containsExactlyInAnyOrder(CmmnHistoryCleanupBatchPartJobHandler.RESULT_SUCCESS, CmmnHistoryCleanupBatchPartJobHandler.RESULT_FAIL);
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(3);
+
+                cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                    CommandContextUtil.getBatchService(commandContext).deleteBatch(batchId);
+                    return null;
+                });
+                cmmnManagementService
+                        .deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                for (HistoricCaseInstance historicCaseInstance : cmmnHistoryService.createHistoricCaseInstanceQuery().list()) {
+                    cmmnHistoryService.deleteHistoricCaseInstance(historicCaseInstance.getId());
+                }
+            }
+
+        } finally {
+            cmmnEngineConfiguration.resetClock();
+        }
+    }
+
+    protected List<Batch> getBatches(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> CommandContextUtil.getBatchService(commandContext)
+                .findBatchesByQueryCriteria(new BatchQueryImpl().batchType(Batch.HISTORIC_CASE_DELETE_TYPE)));
+    }
+
+    protected List<BatchPart> getBatchParts(CmmnEngineConfiguration cmmnEngineConfiguration, String batchId) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> CommandContextUtil.getBatchService(commandContext)
+                .findBatchPartsByBatchId(batchId));
+    }
+}
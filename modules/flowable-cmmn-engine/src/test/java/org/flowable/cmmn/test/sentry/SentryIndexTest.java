@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.impl.criteria.SentryIndex;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class SentryIndexTest extends FlowableCmmnTestCase {
+
+    @Test
+    @CmmnDeployment
+    public void testSentryIndex() {
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("sentryIndex").singleResult();
+        SentryIndex sentryIndex = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinition.getId()).getSentryIndex();
+        CmmnModel cmmnModel = cmmnRepositoryService.getCmmnModel(caseDefinition.getId());
+
+        List<Criterion> entryCriteriaB = cmmnModel.findPlanItem("planItemB").getEntryCriteria();
+        assertThat(sentryIndex.getCriteriaToEvaluate(entryCriteriaB, "planItemA#complete")).containsExactlyElementsOf(entryCriteriaB);
+        assertThat(sentryIndex.getCriteriaToEvaluate(entryCriteriaB, "planItemA#terminate")).isEmpty();
+        assertThat(sentryIndex.getCriteriaToEvaluate(entryCriteriaB, "planItemC#complete")).isEmpty();
+        assertThat(sentryIndex.getCriteriaToEvaluate(entryCriteriaB, null)).isEmpty();
+
+        PlanItem planItemC = cmmnModel.findPlanItem("planItemC");
+        assertThat(sentryIndex.getCriteriaToEvaluate(planItemC.getEntryCriteria(), null)).containsExactlyElementsOf(planItemC.getEntryCriteria());
+        assertThat(sentryIndex.getCriteriaToEvaluate(planItemC.getExitCriteria(), "planItemD#complete")).containsExactlyElementsOf(planItemC.getExitCriteria());
+        assertThat(sentryIndex.getCriteriaToEvaluate(planItemC.getExitCriteria(), "planItemB#complete")).isEmpty();
+
+        // a criterion with an if-part is evaluated on any event
+        List<Criterion> entryCriteriaD = cmmnModel.findPlanItem("planItemD").getEntryCriteria();
+        assertThat(sentryIndex.getCriteriaToEvaluate(entryCriteriaD, "planItemA#complete")).containsExactlyElementsOf(entryCriteriaD);
+
+        assertThat(sentryIndex.getCriteria("planItemB#complete"))
+                .extracting(Criterion::getId)
+                .containsExactly("entryCriterionD");
+
+        assertThat(sentryIndex.getVariableNames(getEntrySentry(cmmnModel, "planItemC").getSentryIfPart())).containsExactly("amount", "approved");
+        assertThat(sentryIndex.getVariableNames(getEntrySentry(cmmnModel, "planItemD").getSentryIfPart())).containsExactly("level");
+        // depends on the case instance, not only on variables
+        assertThat(sentryIndex.getVariableNames(getEntrySentry(cmmnModel, "planItemE").getSentryIfPart())).isNull();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryIndexTest.testSentryIndex.cmmn")
+    public void testCriteriaEvaluationWithIndex() {
+        assertCriteriaEvaluation();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryIndexTest.testSentryIndex.cmmn")
+    public void testCriteriaEvaluationWithIfPartResultReuse() {
+        cmmnEngineConfiguration.setSentryIfPartResultReuseEnabled(true);
+        try {
+            assertCriteriaEvaluation();
+        } finally {
+            cmmnEngineConfiguration.setSentryIfPartResultReuseEnabled(false);
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryIndexTest.testSentryIndex.cmmn")
+    public void testCriteriaEvaluationWithoutIndex() {
+        cmmnEngineConfiguration.setSentryEvaluationIndexEnabled(false);
+        try {
+            assertCriteriaEvaluation();
+        } finally {
+            cmmnEngineConfiguration.setSentryEvaluationIndexEnabled(true);
+        }
+    }
+
+    protected void assertCriteriaEvaluation() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("sentryIndex")
+                .variable("amount", 50)
+                .variable("approved", true)
+                .variable("level", "low")
+                .start();
+        assertActiveTasks(caseInstance, "A");
+
+        // the if-part of C is satisfied by a variable change, without any lifecycle event of a plan item
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "amount", 150);
+        assertActiveTasks(caseInstance, "A", "C");
+
+        completeTask(caseInstance, "A");
+        assertActiveTasks(caseInstance, "B", "C");
+
+        // the on-part of D is satisfied, but not its if-part
+        completeTask(caseInstance, "B");
+        assertActiveTasks(caseInstance, "C");
+
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "level", "high");
+        assertActiveTasks(caseInstance, "C", "D");
+
+        completeTask(caseInstance, "D");
+        assertActiveTasks(caseInstance);
+        assertThat(cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .planItemInstanceName("E")
+                .singleResult()
+                .getState()).isEqualTo(PlanItemInstanceState.AVAILABLE);
+    }
+
+    protected Sentry getEntrySentry(CmmnModel cmmnModel, String planItemId) {
+        return cmmnModel.findPlanItem(planItemId).getEntryCriteria().get(0).getSentry();
+    }
+
+    protected void completeTask(CaseInstance caseInstance, String name) {
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName(name).singleResult();
+        cmmnTaskService.complete(task.getId());
+    }
+
+    protected void assertActiveTasks(CaseInstance caseInstance, String... names) {
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list())
+                .extracting(Task::getName)
+                .containsExactly(names);
+    }
+
+}
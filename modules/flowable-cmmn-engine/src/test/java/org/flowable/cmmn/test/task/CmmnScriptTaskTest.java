@@ -22,6 +22,7 @@ import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.junit.Test;
 
@@ -258,6 +259,39 @@ public class CmmnScriptTaskTest extends FlowableCmmnTestCase {
         assertCaseInstanceEnded(caseInstance);
     }
 
+    @Test
+    public void testCompiledScriptCache() {
+        CompiledScriptCache compiledScriptCache = cmmnEngineConfiguration.getScriptingEngines().getCompiledScriptCache();
+        int initialSize = compiledScriptCache.size();
+
+        String deploymentId = cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/task/CmmnScriptTaskTest.testGroovyAutoStoreVariables.cmmn")
+                .deploy()
+                .getId();
+
+        try {
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("scriptCase")
+                    .variable("inputArray", new int[] { 1, 2, 3, 4, 5 })
+                    .start();
+            assertThat(((Number) cmmnRuntimeService.getVariable(caseInstance.getId(), "sum")).intValue()).isEqualTo(15);
+            assertThat(compiledScriptCache.size()).isEqualTo(initialSize + 1);
+
+            // The compiled script is reused with the variables of the other case instance
+            caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("scriptCase")
+                    .variable("inputArray", new int[] { 10, 20 })
+                    .start();
+            assertThat(((Number) cmmnRuntimeService.getVariable(caseInstance.getId(), "sum")).intValue()).isEqualTo(30);
+            assertThat(compiledScriptCache.size()).isEqualTo(initialSize + 1);
+
+        } finally {
+            cmmnRepositoryService.deleteDeployment(deploymentId, true);
+        }
+
+        assertThat(compiledScriptCache.size()).isEqualTo(initialSize);
+    }
+
     private void endTestCase() {
         PlanItemInstance planItemInstance = cmmnRuntimeService.createPlanItemInstanceQuery().planItemInstanceElementId("blockerPlanItem").singleResult();
         assertThat(planItemInstance).isNotNull();
@@ -49,10 +49,26 @@ public class DecisionExecutionAuditContainer {
     protected String exceptionMessage;
     protected String validationMessage;
     protected Boolean strictMode;
+    protected DecisionExecutionAuditLevel auditLevel;
 
     public DecisionExecutionAuditContainer() {
     }
 
+    /**
+     * Creates an audit container that doesn't audit the input variables, for audit levels other than {@link DecisionExecutionAuditLevel#FULL}.
+     */
+    public DecisionExecutionAuditContainer(String decisionKey, String decisionName, int decisionVersion, HitPolicy hitPolicy,
+                    Boolean strictMode, DecisionExecutionAuditLevel auditLevel) {
+
+        this.startTime = new Date();
+        this.decisionKey = decisionKey;
+        this.decisionName = decisionName;
+        this.decisionVersion = decisionVersion;
+        this.hitPolicy = hitPolicy.getValue();
+        this.strictMode = strictMode;
+        this.auditLevel = auditLevel;
+    }
+
     public DecisionExecutionAuditContainer(String decisionKey, String decisionName, int decisionVersion, HitPolicy hitPolicy, 
                     Boolean strictMode, Map<String, Object> inputVariables) {
         
@@ -213,6 +229,14 @@ public class DecisionExecutionAuditContainer {
         this.strictMode = strictMode;
     }
 
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+
+    public void setAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+    }
+
     public Map<String, String> getInputVariableTypes() {
         return inputVariableTypes;
     }
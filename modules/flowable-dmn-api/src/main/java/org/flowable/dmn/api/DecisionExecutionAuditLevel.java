@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+/**
+ * The level of detail of the {@link DecisionExecutionAuditContainer} that is built when a decision is executed
+ * (and that is stored as execution json of the historic decision execution).
+ */
+public enum DecisionExecutionAuditLevel {
+
+    /**
+     * Only the decision result and the failure of the execution (if any). Input variables and rule executions are not audited.
+     */
+    NONE,
+
+    /**
+     * The decision result, and the rules that matched with their outputs. Input variables, input entries and rules that didn't match are not audited.
+     */
+    OUTCOME,
+
+    /**
+     * The input variables and every rule that was evaluated, with the result of each of its input and output entries.
+     */
+    FULL
+
+}
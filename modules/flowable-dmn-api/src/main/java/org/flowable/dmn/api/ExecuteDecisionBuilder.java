@@ -77,6 +77,11 @@ public interface ExecuteDecisionBuilder {
      **/
     ExecuteDecisionBuilder variable(String variableName, Object value);
 
+    /**
+     * Don't write a historic decision execution, even if the history is enabled on the DMN engine
+     **/
+    ExecuteDecisionBuilder disableHistory();
+
     /**
      * Executes a decision returning one or more output results with variables
      **/
@@ -92,4 +97,22 @@ public interface ExecuteDecisionBuilder {
      **/
     DecisionExecutionAuditContainer executeWithAuditTrail();
 
+    /**
+     * Executes a decision once for every input, within one command. The variables set on this builder are added to the variables of every input.
+     * The inputs are only iterated once, so a stream of inputs can be passed as an iterable (e.g. stream::iterator).
+     *
+     * When the history is enabled, one historic decision execution is written for all inputs, containing a summary of the executions.
+     *
+     * @return the output results of every input, in the order of the inputs
+     **/
+    List<List<Map<String, Object>>> executeBatch(Iterable<Map<String, Object>> inputs);
+
+    /**
+     * Executes a decision once for every input, within one command, returning a result object including an audit trail for every input
+     * in the order of the inputs.
+     *
+     * @see #executeBatch(Iterable)
+     **/
+    List<DecisionExecutionAuditContainer> executeBatchWithAuditTrail(Iterable<Map<String, Object>> inputs);
+
 }
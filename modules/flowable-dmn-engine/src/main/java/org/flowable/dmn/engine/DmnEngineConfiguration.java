@@ -34,9 +34,9 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.api.DmnEngineConfigurationApi;
 import org.flowable.dmn.api.DmnHistoryService;
 import org.flowable.dmn.api.DmnManagementService;
@@ -181,6 +181,25 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to index the input entries of decision tables when they are deployed, so that only the rules that can match
+     * are evaluated. The decision results are the same, but the audit trail only contains the rules that were evaluated.
+     *
+     * Input entries that compare a variable with a number, string or boolean literal are indexed, other input entries are evaluated with EL.
+     */
+    protected boolean decisionTableIndexEnabled;
+
+    /**
+     * The level of detail of the audit trail that is built when a decision is executed, and that is stored in the history.
+     * Levels lower than {@link DecisionExecutionAuditLevel#FULL} don't build the audit objects that are not needed.
+     */
+    protected DecisionExecutionAuditLevel decisionExecutionAuditLevel = DecisionExecutionAuditLevel.FULL;
+
+    /**
+     * Overrides of the decision execution audit level, by decision key.
+     */
+    protected Map<String, DecisionExecutionAuditLevel> decisionExecutionAuditLevels = new HashMap<>();
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -429,12 +448,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (decisionCache == null) {
-            if (decisionCacheLimit <= 0) {
-                decisionCache = new DefaultDeploymentCache<>();
-            } else {
-                decisionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
-            }
+            decisionCache = createDeploymentCache(decisionCacheLimit);
         }
+        decisionCache = initDeploymentCacheMetrics("decision", decisionCache);
 
         deploymentManager = new DeploymentManager(decisionCache, this);
         deploymentManager.setDeployers(deployers);
@@ -954,6 +970,49 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isDecisionTableIndexEnabled() {
+        return decisionTableIndexEnabled;
+    }
+
+    public DmnEngineConfiguration setDecisionTableIndexEnabled(boolean decisionTableIndexEnabled) {
+        this.decisionTableIndexEnabled = decisionTableIndexEnabled;
+        return this;
+    }
+
+    public DecisionExecutionAuditLevel getDecisionExecutionAuditLevel() {
+        return decisionExecutionAuditLevel;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel decisionExecutionAuditLevel) {
+        this.decisionExecutionAuditLevel = decisionExecutionAuditLevel;
+        return this;
+    }
+
+    /**
+     * @return the audit level of the decision with the given key: its override, or the decision execution audit level of the engine.
+     */
+    public DecisionExecutionAuditLevel getDecisionExecutionAuditLevel(String decisionKey) {
+        DecisionExecutionAuditLevel auditLevel = decisionKey != null && decisionExecutionAuditLevels != null ? decisionExecutionAuditLevels.get(decisionKey) : null;
+        return auditLevel != null ? auditLevel : decisionExecutionAuditLevel;
+    }
+
+    public Map<String, DecisionExecutionAuditLevel> getDecisionExecutionAuditLevels() {
+        return decisionExecutionAuditLevels;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditLevels(Map<String, DecisionExecutionAuditLevel> decisionExecutionAuditLevels) {
+        this.decisionExecutionAuditLevels = decisionExecutionAuditLevels;
+        return this;
+    }
+
+    public DmnEngineConfiguration addDecisionExecutionAuditLevel(String decisionKey, DecisionExecutionAuditLevel decisionExecutionAuditLevel) {
+        if (this.decisionExecutionAuditLevels == null) {
+            this.decisionExecutionAuditLevels = new HashMap<>();
+        }
+        this.decisionExecutionAuditLevels.put(decisionKey, decisionExecutionAuditLevel);
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -12,7 +12,9 @@
  */
 package org.flowable.dmn.engine;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
@@ -28,6 +30,32 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public interface RuleEngineExecutor {
 
     DecisionExecutionAuditContainer execute(Decision decision, ExecuteDecisionInfo executeDecisionInfo);
+
+    /**
+     * Executes the decision once for every input, passing the result of every execution (in the order of the inputs) to the consumer.
+     * The variables of the execute decision info are shared by all inputs, the variables of an input take precedence.
+     *
+     * By default, {@link #execute(Decision, ExecuteDecisionInfo)} is called for every input.
+     */
+    default void executeBatch(Decision decision, ExecuteDecisionInfo executeDecisionInfo, Iterable<Map<String, Object>> inputs,
+            Consumer<DecisionExecutionAuditContainer> auditContainerConsumer) {
+
+        Map<String, Object> batchVariables = executeDecisionInfo.getVariables();
+        try {
+            for (Map<String, Object> input : inputs) {
+                Map<String, Object> variables = batchVariables != null ? new HashMap<>(batchVariables) : new HashMap<>();
+                if (input != null) {
+                    variables.putAll(input);
+                }
+                executeDecisionInfo.setVariables(variables);
+
+                auditContainerConsumer.accept(execute(decision, executeDecisionInfo));
+            }
+
+        } finally {
+            executeDecisionInfo.setVariables(batchVariables);
+        }
+    }
     
     Map<String, AbstractHitPolicy> getHitPolicyBehaviors();
 
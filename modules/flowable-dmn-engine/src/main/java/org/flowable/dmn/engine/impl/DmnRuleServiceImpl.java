@@ -20,6 +20,8 @@ import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DmnRuleService;
 import org.flowable.dmn.api.ExecuteDecisionBuilder;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchWithAuditTrailCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionSingleResultCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionWithAuditTrailCmd;
@@ -117,4 +119,12 @@ public class DmnRuleServiceImpl extends CommonEngineServiceImpl<DmnEngineConfigu
     public DecisionExecutionAuditContainer executeDecisionWithAuditTrail(ExecuteDecisionBuilderImpl executeDecisionBuilder) {
         return commandExecutor.execute(new ExecuteDecisionWithAuditTrailCmd(executeDecisionBuilder));
     }
+
+    public List<List<Map<String, Object>>> executeDecisionBatch(ExecuteDecisionBuilderImpl executeDecisionBuilder, Iterable<Map<String, Object>> inputs) {
+        return commandExecutor.execute(new ExecuteDecisionBatchCmd(executeDecisionBuilder, inputs));
+    }
+
+    public List<DecisionExecutionAuditContainer> executeDecisionBatchWithAuditTrail(ExecuteDecisionBuilderImpl executeDecisionBuilder, Iterable<Map<String, Object>> inputs) {
+        return commandExecutor.execute(new ExecuteDecisionBatchWithAuditTrailCmd(executeDecisionBuilder, inputs));
+    }
 }
\ No newline at end of file
@@ -35,6 +35,7 @@ public class ExecuteDecisionBuilderImpl implements ExecuteDecisionBuilder {
     protected String tenantId;
     protected Map<String, Object> variables;
     protected boolean fallbackToDefaultTenant;
+    protected boolean disableHistory;
 
     public ExecuteDecisionBuilderImpl(DmnRuleServiceImpl ruleService) {
         this.ruleService = ruleService;
@@ -110,6 +111,12 @@ public class ExecuteDecisionBuilderImpl implements ExecuteDecisionBuilder {
         return this;
     }
 
+    @Override
+    public ExecuteDecisionBuilder disableHistory() {
+        this.disableHistory = true;
+        return this;
+    }
+
     @Override
     public List<Map<String, Object>> execute() {
         return ruleService.executeDecision(this);
@@ -125,6 +132,16 @@ public class ExecuteDecisionBuilderImpl implements ExecuteDecisionBuilder {
         return ruleService.executeDecisionWithAuditTrail(this);
     }
 
+    @Override
+    public List<List<Map<String, Object>>> executeBatch(Iterable<Map<String, Object>> inputs) {
+        return ruleService.executeDecisionBatch(this, inputs);
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> executeBatchWithAuditTrail(Iterable<Map<String, Object>> inputs) {
+        return ruleService.executeDecisionBatchWithAuditTrail(this, inputs);
+    }
+
     public String getDecisionKey() {
         return decisionKey;
     }
@@ -161,6 +178,8 @@ public class ExecuteDecisionBuilderImpl implements ExecuteDecisionBuilder {
         return variables;
     }
 
-   
+    public boolean isDisableHistory() {
+        return disableHistory;
+    }
 
 }
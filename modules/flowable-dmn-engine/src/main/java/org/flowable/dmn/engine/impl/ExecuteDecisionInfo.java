@@ -14,6 +14,8 @@ package org.flowable.dmn.engine.impl;
 
 import java.util.Map;
 
+import org.flowable.dmn.engine.impl.index.DecisionTableIndex;
+
 public class ExecuteDecisionInfo {
 
     protected String decisionKey;
@@ -29,6 +31,8 @@ public class ExecuteDecisionInfo {
     protected String tenantId;
     protected boolean fallbackToDefaultTenant;
     protected boolean forceDMN11;
+    protected boolean disableHistory;
+    protected DecisionTableIndex decisionTableIndex;
     
     public String getDecisionKey() {
         return decisionKey;
@@ -108,4 +112,16 @@ public class ExecuteDecisionInfo {
     public void setForceDMN11(boolean forceDMN11) {
         this.forceDMN11 = forceDMN11;
     }
+    public boolean isDisableHistory() {
+        return disableHistory;
+    }
+    public void setDisableHistory(boolean disableHistory) {
+        this.disableHistory = disableHistory;
+    }
+    public DecisionTableIndex getDecisionTableIndex() {
+        return decisionTableIndex;
+    }
+    public void setDecisionTableIndex(DecisionTableIndex decisionTableIndex) {
+        this.decisionTableIndex = decisionTableIndex;
+    }
 }
@@ -12,15 +12,20 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
@@ -32,6 +37,7 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.index.DecisionTableIndex;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -46,6 +52,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * @author Yvo Swillens
@@ -73,6 +80,79 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
      */
     @Override
     public DecisionExecutionAuditContainer execute(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
+        DecisionExecutionAuditContainer auditContainer = evaluateDecision(decision, executeDecisionInfo);
+
+        if (isHistoryEnabled(executeDecisionInfo)) {
+            String executionJson;
+            try {
+                executionJson = objectMapper.writeValueAsString(auditContainer);
+            } catch (Exception e) {
+                throw new FlowableException("Error writing execution json", e);
+            }
+
+            insertHistoricDecisionExecution(executeDecisionInfo, auditContainer.getStartTime(), auditContainer.getEndTime(),
+                    BooleanUtils.isTrue(auditContainer.isFailed()), executionJson);
+        }
+
+        return auditContainer;
+    }
+
+    /**
+     * Executes the given decision table once for every input, in the order of the inputs. The variables of the execute decision info
+     * are added to the variables of every input (the variables of the input take precedence).
+     *
+     * Contrary to {@link #execute(Decision, ExecuteDecisionInfo)}, no history is written per input: one historic decision execution
+     * is written for the whole batch, with a summary of the executions as execution json.
+     */
+    @Override
+    public void executeBatch(Decision decision, ExecuteDecisionInfo executeDecisionInfo, Iterable<Map<String, Object>> inputs,
+            Consumer<DecisionExecutionAuditContainer> auditContainerConsumer) {
+
+        Map<String, Object> batchVariables = executeDecisionInfo.getVariables();
+        Date startTime = new Date();
+        int executionCount = 0;
+        Map<Integer, String> failedExecutions = new LinkedHashMap<>();
+
+        try {
+            for (Map<String, Object> input : inputs) {
+                Map<String, Object> variables = batchVariables != null ? new HashMap<>(batchVariables) : new HashMap<>();
+                if (input != null) {
+                    variables.putAll(input);
+                }
+                executeDecisionInfo.setVariables(variables);
+
+                DecisionExecutionAuditContainer auditContainer = evaluateDecision(decision, executeDecisionInfo);
+                if (BooleanUtils.isTrue(auditContainer.isFailed())) {
+                    failedExecutions.put(executionCount, auditContainer.getExceptionMessage());
+                }
+                executionCount++;
+
+                auditContainerConsumer.accept(auditContainer);
+            }
+
+        } finally {
+            executeDecisionInfo.setVariables(batchVariables);
+        }
+
+        if (isHistoryEnabled(executeDecisionInfo)) {
+            ObjectNode executionNode = objectMapper.createObjectNode();
+            executionNode.put("decisionKey", decision.getId());
+            executionNode.put("decisionName", decision.getName());
+            executionNode.put("decisionVersion", executeDecisionInfo.getDecisionVersion());
+            executionNode.put("hitPolicy", ((DecisionTable) decision.getExpression()).getHitPolicy().getValue());
+            executionNode.put("dmnDeploymentId", executeDecisionInfo.getDeploymentId());
+            executionNode.put("batchSize", executionCount);
+            executionNode.put("failedCount", failedExecutions.size());
+            ObjectNode failedExecutionsNode = executionNode.putObject("failedExecutions");
+            for (Map.Entry<Integer, String> failedExecution : failedExecutions.entrySet()) {
+                failedExecutionsNode.put(String.valueOf(failedExecution.getKey()), failedExecution.getValue());
+            }
+
+            insertHistoricDecisionExecution(executeDecisionInfo, startTime, new Date(), !failedExecutions.isEmpty(), executionNode.toString());
+        }
+    }
+
+    protected DecisionExecutionAuditContainer evaluateDecision(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
 
         if (decision == null) {
             throw new IllegalArgumentException("no decision provided");
@@ -91,7 +171,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             sanityCheckDecisionTable(currentDecisionTable);
 
             // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            evaluateDecisionTable(currentDecisionTable, executeDecisionInfo.getDecisionTableIndex(), executionContext);
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
@@ -101,40 +181,46 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         } finally {
             // end audit trail
             executionContext.getAuditContainer().stopAudit();
+        }
 
-            DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
-            if (dmnEngineConfiguration.isHistoryEnabled()) {
-                HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
-                HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
-                decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
-                decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
-                decisionExecutionEntity.setStartTime(executionContext.getAuditContainer().getStartTime());
-                decisionExecutionEntity.setEndTime(executionContext.getAuditContainer().getEndTime());
-                decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
-                decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
-                decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
-                decisionExecutionEntity.setScopeType(executeDecisionInfo.getScopeType());
-                decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
-
-                Boolean failed = executionContext.getAuditContainer().isFailed();
-                if (BooleanUtils.isTrue(failed)) {
-                    decisionExecutionEntity.setFailed(failed.booleanValue());
-                }
+        return executionContext.getAuditContainer();
+    }
 
-                try {
-                    decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executionContext.getAuditContainer()));
-                } catch (Exception e) {
-                    throw new FlowableException("Error writing execution json", e);
-                }
+    protected boolean isHistoryEnabled(ExecuteDecisionInfo executeDecisionInfo) {
+        return CommandContextUtil.getDmnEngineConfiguration().isHistoryEnabled() && !executeDecisionInfo.isDisableHistory();
+    }
 
-                historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
-            }
+    protected void insertHistoricDecisionExecution(ExecuteDecisionInfo executeDecisionInfo, Date startTime, Date endTime, boolean failed, String executionJson) {
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = CommandContextUtil.getDmnEngineConfiguration().getHistoricDecisionExecutionEntityManager();
+        HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+        decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        decisionExecutionEntity.setStartTime(startTime);
+        decisionExecutionEntity.setEndTime(endTime);
+        decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
+        decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
+        decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
+        decisionExecutionEntity.setScopeType(executeDecisionInfo.getScopeType());
+        decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
+
+        if (failed) {
+            decisionExecutionEntity.setFailed(true);
         }
 
-        return executionContext.getAuditContainer();
+        decisionExecutionEntity.setExecutionJson(executionJson);
+
+        historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
     }
 
     protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
+        evaluateDecisionTable(decisionTable, null, executionContext);
+    }
+
+    /**
+     * @param decisionTableIndex
+     *            the index of the decision table, built when the decision table was deployed, or null if the decision table isn't indexed
+     */
+    protected void evaluateDecisionTable(DecisionTable decisionTable, DecisionTableIndex decisionTableIndex, ELExecutionContext executionContext) {
         LOGGER.debug("Start table evaluation: {}", decisionTable.getId());
 
         if (decisionTable == null || decisionTable.getRules().isEmpty()) {
@@ -149,10 +235,22 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            List<DecisionRule> rules = decisionTable.getRules();
+            BitSet excludedRules = decisionTableIndex != null ? decisionTableIndex.findExcludedRules(executionContext) : null;
+
+            // rules excluded by the index are false, skipping them doesn't change the outcome for any hit policy
+            for (int ruleIndex = nextRuleIndex(excludedRules, 0); ruleIndex < rules.size(); ruleIndex = nextRuleIndex(excludedRules, ruleIndex + 1)) {
+                DecisionRule rule = rules.get(ruleIndex);
+                boolean ruleResult;
+                if (excludedRules != null) {
+                    ruleResult = executeRule(rule, decisionTableIndex.getIndexedInputEntryCount(ruleIndex), executionContext);
+                } else {
+                    ruleResult = executeRule(rule, executionContext);
+                }
 
                 if (ruleResult) {
+                    executionContext.addValidRuleNumber(rule.getRuleNumber());
+
                     // evaluate decision table hit policy validity
                     if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof EvaluateRuleValidityBehavior) {
                         ((EvaluateRuleValidityBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
@@ -191,36 +289,57 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End table evaluation: {}", decisionTable.getId());
     }
 
+    protected int nextRuleIndex(BitSet excludedRules, int ruleIndex) {
+        return excludedRules != null ? excludedRules.nextClearBit(ruleIndex) : ruleIndex;
+    }
+
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
+        return executeRule(rule, 0, executionContext);
+    }
+
+    /**
+     * @param indexedInputEntryCount
+     *            the number of leading input entries that are known to be true, as they are indexed by the {@link DecisionTableIndex}
+     */
+    protected boolean executeRule(DecisionRule rule, int indexedInputEntryCount, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
         }
 
         LOGGER.debug("Start rule {} evaluation", rule.getRuleNumber());
 
+        // only the full audit level audits every evaluated rule and its input entries
+        boolean fullAudit = executionContext.getAuditLevel() == DecisionExecutionAuditLevel.FULL;
+
         // add audit entry
-        executionContext.getAuditContainer().addRuleEntry(rule);
+        if (fullAudit) {
+            executionContext.getAuditContainer().addRuleEntry(rule);
+        }
 
         boolean conditionResult = false;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+        for (int inputEntryIndex = 0; inputEntryIndex < inputEntries.size(); inputEntryIndex++) {
+            RuleInputClauseContainer conditionContainer = inputEntries.get(inputEntryIndex);
 
             // resetting value
             String inputEntryId = conditionContainer.getInputEntry().getId();
             conditionResult = false;
 
             try {
-                // if condition is empty condition or has dash symbol result is TRUE
+                // if condition is empty condition or has dash symbol result is TRUE, as well as when the index has already evaluated it
                 String inputEntryText = conditionContainer.getInputEntry().getText();
-                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText) || inputEntryIndex < indexedInputEntryCount) {
                     conditionResult = true;
                 } else {
                     conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
                 }
 
                 // add audit entry
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
+                }
 
                 LOGGER.debug("input entry {} ( {} {} ): {}", inputEntryId,
                         conditionContainer.getInputClause().getInputExpression().getText(),
@@ -228,12 +347,16 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
             } catch (FlowableException ade) {
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(ade), null);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(ade), null);
+                }
                 throw ade;
 
             } catch (Exception e) {
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(e), null);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(e), null);
+                }
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -243,13 +366,20 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             }
         }
 
-        if (conditionResult) {
+        if (conditionResult && executionContext.getAuditLevel() == DecisionExecutionAuditLevel.OUTCOME) {
+            // the outcome audit level only audits the rules that matched
+            executionContext.getAuditContainer().addRuleEntry(rule);
+        }
+
+        if (conditionResult && executionContext.getAuditLevel() != DecisionExecutionAuditLevel.NONE) {
             // mark rule valid
             executionContext.getAuditContainer().markRuleValid(rule.getRuleNumber());
         }
 
         // mark rule end
-        executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        if (executionContext.getAuditContainer().getRuleExecutions().containsKey(rule.getRuleNumber())) {
+            executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        }
 
         LOGGER.debug("End rule {} evaluation", rule.getRuleNumber());
         return conditionResult;
@@ -292,8 +422,10 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 }
 
                 // add audit entry
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), executionVariable);
-                executionContext.getAuditContainer().addDecisionResultType(outputVariableId, outputVariableType);
+                if (executionContext.getAuditLevel() != DecisionExecutionAuditLevel.NONE) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), executionVariable);
+                    executionContext.getAuditContainer().addDecisionResultType(outputVariableId, outputVariableType);
+                }
 
                 if (executionVariable != null) {
                     LOGGER.debug("Created conclusion result: {} of type: {} with value {}", outputVariableId, resultValue.getClass(), resultValue);
@@ -306,7 +438,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 executionContext.getRuleResults().clear();
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+                if (executionContext.getAuditLevel() != DecisionExecutionAuditLevel.NONE) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+                }
                 throw ade;
 
             } catch (Exception e) {
@@ -314,7 +448,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 executionContext.getRuleResults().clear();
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+                if (executionContext.getAuditLevel() != DecisionExecutionAuditLevel.NONE) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+                }
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -322,7 +458,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             LOGGER.debug("Expression is empty");
 
             // add empty audit entry
-            executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), null);
+            if (executionContext.getAuditLevel() != DecisionExecutionAuditLevel.NONE) {
+                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), null);
+            }
         }
 
         LOGGER.debug("End evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
@@ -13,6 +13,8 @@
 package org.flowable.dmn.engine.impl.audit;
 
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
@@ -41,8 +43,16 @@ public class DecisionExecutionAuditUtil {
             throw new IllegalArgumentException("decision table does not contain a hit policy");
         }
 
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        DecisionExecutionAuditLevel auditLevel = dmnEngineConfiguration.getDecisionExecutionAuditLevel(decision.getId());
+        if (auditLevel != DecisionExecutionAuditLevel.FULL) {
+            // the input variables are not audited, so no copy is made of them
+            return new DecisionExecutionAuditContainer(decision.getId(), decision.getName(), executeDecisionInfo.getDecisionVersion(),
+                            decisionTable.getHitPolicy(), dmnEngineConfiguration.isStrictMode(), auditLevel);
+        }
+
         return new DecisionExecutionAuditContainer(decision.getId(), decision.getName(), executeDecisionInfo.getDecisionVersion(), 
-                        decisionTable.getHitPolicy(), CommandContextUtil.getDmnEngineConfiguration().isStrictMode(), executeDecisionInfo.getVariables());
+                        decisionTable.getHitPolicy(), dmnEngineConfiguration.isStrictMode(), executeDecisionInfo.getVariables());
     }
 
 }
@@ -50,6 +50,7 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
         executeDecisionInfo.setVariables(decisionBuilder.getVariables());
         executeDecisionInfo.setTenantId(decisionBuilder.getTenantId());
         executeDecisionInfo.setFallbackToDefaultTenant(decisionBuilder.isFallbackToDefaultTenant());
+        executeDecisionInfo.setDisableHistory(decisionBuilder.isDisableHistory());
     }
 
     public AbstractExecuteDecisionCmd(String decisionKey, Map<String, Object> variables) {
@@ -179,8 +180,12 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
             throw new FlowableIllegalArgumentException("decisionTable is null");
         }
 
-        DecisionTableCacheEntry decisionTableCacheEntry = CommandContextUtil.getDmnEngineConfiguration().getDeploymentManager().resolveDecisionTable(decisionTable);
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        DecisionTableCacheEntry decisionTableCacheEntry = dmnEngineConfiguration.getDeploymentManager().resolveDecisionTable(decisionTable);
         Decision decision = decisionTableCacheEntry.getDecision();
+        if (dmnEngineConfiguration.isDecisionTableIndexEnabled()) {
+            executeDecisionInfo.setDecisionTableIndex(decisionTableCacheEntry.getDecisionTableIndex());
+        }
 
         return decision;
     }
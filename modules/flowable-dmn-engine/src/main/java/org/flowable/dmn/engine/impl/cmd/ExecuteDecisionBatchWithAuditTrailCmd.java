@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.ExecuteDecisionBuilderImpl;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+
+/**
+ * Executes a decision for a batch of inputs, resolving the decision only once, and returns the audit trail of every execution.
+ */
+public class ExecuteDecisionBatchWithAuditTrailCmd extends AbstractExecuteDecisionCmd implements Command<List<DecisionExecutionAuditContainer>> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient Iterable<Map<String, Object>> inputs;
+
+    public ExecuteDecisionBatchWithAuditTrailCmd(ExecuteDecisionBuilderImpl decisionBuilder, Iterable<Map<String, Object>> inputs) {
+        super(decisionBuilder);
+        this.inputs = inputs;
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> execute(CommandContext commandContext) {
+        if (executeDecisionInfo.getDecisionKey() == null) {
+            throw new FlowableIllegalArgumentException("decisionKey is null");
+        }
+        if (inputs == null) {
+            throw new FlowableIllegalArgumentException("inputs is null");
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        DmnDecisionTable decisionTable = resolveDecisionTable();
+        Decision decision = resolveDecision(decisionTable);
+
+        List<DecisionExecutionAuditContainer> auditContainers = new ArrayList<>();
+        dmnEngineConfiguration.getRuleEngineExecutor().executeBatch(decision, executeDecisionInfo, inputs, auditContainers::add);
+
+        return auditContainers;
+    }
+
+}
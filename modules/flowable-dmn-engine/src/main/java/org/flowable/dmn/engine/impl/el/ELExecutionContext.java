@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl.el;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.model.BuiltinAggregator;
 
 /**
@@ -29,6 +31,8 @@ public class ELExecutionContext {
     protected Map<Integer, Map<String, Object>> ruleResults = new LinkedHashMap<>();
     protected Map<String, Object> stackVariables;
     protected DecisionExecutionAuditContainer auditContainer;
+    protected DecisionExecutionAuditLevel auditLevel = DecisionExecutionAuditLevel.FULL;
+    protected List<Integer> validRuleNumbers = new ArrayList<>();
     protected Map<String, List<Object>> outputValues = new LinkedHashMap<>();
     protected BuiltinAggregator aggregator;
     protected String instanceId;
@@ -78,6 +82,25 @@ public class ELExecutionContext {
         this.auditContainer = auditContainer;
     }
 
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+
+    public void setAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+    }
+
+    /**
+     * @return the numbers of the rules that are valid, in the order in which they were evaluated
+     */
+    public List<Integer> getValidRuleNumbers() {
+        return validRuleNumbers;
+    }
+
+    public void addValidRuleNumber(int ruleNumber) {
+        validRuleNumbers.add(ruleNumber);
+    }
+
     public Map<String, List<Object>> getOutputValues() {
         return outputValues;
     }
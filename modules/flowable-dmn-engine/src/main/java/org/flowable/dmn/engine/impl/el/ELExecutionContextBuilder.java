@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
 import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
 import org.flowable.dmn.model.Decision;
@@ -44,7 +45,11 @@ public class ELExecutionContextBuilder {
         executionContext.setForceDMN11(decision.isForceDMN11());
 
         // initialize audit trail
-        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, executeDecisionInfo));
+        DecisionExecutionAuditContainer auditContainer = DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, executeDecisionInfo);
+        executionContext.setAuditContainer(auditContainer);
+        if (auditContainer.getAuditLevel() != null) {
+            executionContext.setAuditLevel(auditContainer.getAuditLevel());
+        }
 
         DecisionTable decisionTable = (DecisionTable) decision.getExpression();
 
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 
 /**
@@ -55,4 +56,24 @@ public abstract class AbstractHitPolicy implements ContinueEvaluatingBehavior, C
         List<Map<String, Object>> decisionResults = new ArrayList<>(executionContext.getRuleResults().values());
         executionContext.getAuditContainer().setDecisionResult(decisionResults);
     }
+
+    /**
+     * Sets the exception message on the audit entry of the rule, if the rule is audited (depending on the audit level).
+     */
+    protected void setRuleExceptionMessage(int ruleNumber, String exceptionMessage, ELExecutionContext executionContext) {
+        RuleExecutionAuditContainer ruleExecution = executionContext.getAuditContainer().getRuleExecutions().get(ruleNumber);
+        if (ruleExecution != null) {
+            ruleExecution.setExceptionMessage(exceptionMessage);
+        }
+    }
+
+    /**
+     * Sets the validation message on the audit entry of the rule, if the rule is audited (depending on the audit level).
+     */
+    protected void setRuleValidationMessage(int ruleNumber, String validationMessage, ELExecutionContext executionContext) {
+        RuleExecutionAuditContainer ruleExecution = executionContext.getAuditContainer().getRuleExecutions().get(ruleNumber);
+        if (ruleExecution != null) {
+            ruleExecution.setValidationMessage(validationMessage);
+        }
+    }
 }
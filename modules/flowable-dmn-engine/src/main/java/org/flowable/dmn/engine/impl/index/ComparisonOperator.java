@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+
+/**
+ * The comparison operators of indexed input entries, evaluated with the same semantics as the EL operators.
+ */
+public enum ComparisonOperator {
+
+    EQ("=="),
+    LT("<"),
+    LE("<="),
+    GT(">"),
+    GE(">=");
+
+    private final String symbol;
+
+    ComparisonOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Compares the input value (on the left side of the operator) with the literal of an input entry.
+     */
+    public boolean evaluate(TypeConverter converter, Object value, Object literal) {
+        switch (this) {
+            case EQ:
+                return BooleanOperations.eq(converter, value, literal);
+            case LT:
+                return BooleanOperations.lt(converter, value, literal);
+            case LE:
+                return BooleanOperations.le(converter, value, literal);
+            case GT:
+                return BooleanOperations.gt(converter, value, literal);
+            default:
+                return BooleanOperations.ge(converter, value, literal);
+        }
+    }
+
+    public static ComparisonOperator forSymbol(String symbol) {
+        for (ComparisonOperator operator : values()) {
+            if (operator.symbol.equals(symbol)) {
+                return operator;
+            }
+        }
+        throw new IllegalArgumentException("Unknown comparison operator " + symbol);
+    }
+
+}
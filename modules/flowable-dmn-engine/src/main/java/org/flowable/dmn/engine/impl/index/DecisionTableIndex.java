@@ -0,0 +1,230 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.dmn.engine.impl.el.ELExecutionContext;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the input entries of a {@link DecisionTable}, used to find the rules that can match without evaluating
+ * an EL expression for every input entry of every rule.
+ *
+ * An input entry is indexed when its input expression is a (nested) variable reference and the entry is a comparison
+ * (==, &lt;, &lt;=, &gt;, &gt;=) with a number, string or boolean literal. Equality entries are looked up in hash maps,
+ * comparisons with numbers in sorted arrays. Only the leading input entries of a rule (up to the first entry that can't be indexed)
+ * are indexed: the remaining input entries are evaluated with EL, exactly as when the table is not indexed.
+ *
+ * The comparisons follow the EL coercion rules. When the value of an input expression can't be handled by the index
+ * (evaluating the input expression fails, or a comparison would fail), {@link #findExcludedRules(ELExecutionContext)} returns null
+ * and all rules must be evaluated with EL.
+ */
+public class DecisionTableIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableIndex.class);
+
+    protected static final Pattern INPUT_EXPRESSION_PATTERN = Pattern.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*");
+    protected static final Pattern INPUT_ENTRY_PATTERN = Pattern.compile("(==|<=|>=|<|>)?\\s*(-?\\d+|-?\\d+\\.\\d+|\"[^\"\\\\]*\"|'[^'\\\\]*'|true|false)\\s*");
+
+    protected static final Set<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "true", "false", "null", "instanceof", "empty", "div", "mod"));
+
+    protected final List<DecisionRule> rules;
+    protected final int[] indexedInputEntryCounts;
+    protected final List<InputEntryIndex> inputEntryIndexes;
+
+    protected DecisionTableIndex(List<DecisionRule> rules, int[] indexedInputEntryCounts, List<InputEntryIndex> inputEntryIndexes) {
+        this.rules = rules;
+        this.indexedInputEntryCounts = indexedInputEntryCounts;
+        this.inputEntryIndexes = inputEntryIndexes;
+    }
+
+    /**
+     * @return the index of the decision table, or null if none of the input entries can be indexed.
+     */
+    public static DecisionTableIndex build(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        List<DecisionRule> rules = decisionTable.getRules();
+        Map<InputClause, InputEntryIndex> inputEntryIndexes = new IdentityHashMap<>();
+        int[] indexedInputEntryCounts = new int[rules.size()];
+        boolean indexed = false;
+
+        for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+            int indexedInputEntryCount = 0;
+            for (RuleInputClauseContainer inputEntry : rules.get(ruleIndex).getInputEntries()) {
+                String inputEntryText = inputEntry.getInputEntry().getText();
+                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                    // always true, no need to index it
+                    indexedInputEntryCount++;
+                    continue;
+                }
+
+                IndexedInputEntry indexedInputEntry = parseInputEntry(ruleIndex, inputEntry);
+                if (indexedInputEntry == null) {
+                    break;
+                }
+
+                InputClause inputClause = inputEntry.getInputClause();
+                InputEntryIndex inputEntryIndex = inputEntryIndexes.get(inputClause);
+                if (inputEntryIndex == null) {
+                    String inputExpression = inputClause.getInputExpression().getText();
+                    inputEntryIndex = new InputEntryIndex(inputExpression, expressionManager.createExpression("#{" + inputExpression + "}"));
+                    inputEntryIndexes.put(inputClause, inputEntryIndex);
+                }
+                inputEntryIndex.add(indexedInputEntry);
+                indexedInputEntryCount++;
+                indexed = true;
+            }
+            indexedInputEntryCounts[ruleIndex] = indexedInputEntryCount;
+        }
+
+        if (!indexed) {
+            return null;
+        }
+
+        List<InputEntryIndex> indexes = new ArrayList<>(inputEntryIndexes.values());
+        for (InputEntryIndex index : indexes) {
+            index.build(rules.size());
+        }
+        return new DecisionTableIndex(rules, indexedInputEntryCounts, indexes);
+    }
+
+    protected static IndexedInputEntry parseInputEntry(int ruleIndex, RuleInputClauseContainer inputEntry) {
+        InputClause inputClause = inputEntry.getInputClause();
+        if (inputClause == null || inputClause.getInputExpression() == null) {
+            return null;
+        }
+
+        String inputExpression = inputClause.getInputExpression().getText();
+        if (inputExpression == null || !INPUT_EXPRESSION_PATTERN.matcher(inputExpression).matches()) {
+            return null;
+        }
+        for (String identifier : inputExpression.split("\\.")) {
+            if (RESERVED_WORDS.contains(identifier)) {
+                return null;
+            }
+        }
+
+        // the fn_ date functions are replaced anywhere in the entry, also in string literals
+        String inputEntryText = inputEntry.getInputEntry().getText();
+        if (inputEntryText.contains("fn_")) {
+            return null;
+        }
+
+        Matcher matcher = INPUT_ENTRY_PATTERN.matcher(inputEntryText);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String operatorText = matcher.group(1);
+        ComparisonOperator operator = operatorText != null ? ComparisonOperator.forSymbol(operatorText) : ComparisonOperator.EQ;
+        Object literal = parseLiteral(matcher.group(2));
+        if (literal == null || (operator != ComparisonOperator.EQ && !(literal instanceof Number))) {
+            return null;
+        }
+        return new IndexedInputEntry(ruleIndex, operator, literal);
+    }
+
+    protected static Object parseLiteral(String literalText) {
+        if ("true".equals(literalText) || "false".equals(literalText)) {
+            return Boolean.valueOf(literalText);
+        }
+        char first = literalText.charAt(0);
+        if (first == '"' || first == '\'') {
+            return literalText.substring(1, literalText.length() - 1);
+        }
+        // same types as the EL parser: integer literals are longs, floating point literals are doubles, and a minus sign negates them
+        boolean negative = first == '-';
+        String numberText = negative ? literalText.substring(1) : literalText;
+        if (numberText.indexOf('.') >= 0) {
+            double value = Double.parseDouble(numberText);
+            return negative ? -value : value;
+        }
+        try {
+            long value = Long.parseLong(numberText);
+            return negative ? -value : value;
+        } catch (NumberFormatException e) {
+            // too big for a long, the EL parser doesn't accept it either
+            return null;
+        }
+    }
+
+    /**
+     * @return the rules (as bits set at their position in the decision table) that don't match because one of their
+     *         indexed input entries is false, or null if the index can't be used for the current variables.
+     */
+    public BitSet findExcludedRules(ELExecutionContext executionContext) {
+        BitSet excludedRules = new BitSet(rules.size());
+        for (InputEntryIndex inputEntryIndex : inputEntryIndexes) {
+            Object value;
+            try {
+                value = getInputValue(inputEntryIndex, executionContext);
+            } catch (Exception e) {
+                LOGGER.debug("Could not evaluate input expression {} for the decision table index, evaluating all rules", inputEntryIndex.inputExpression, e);
+                return null;
+            }
+
+            BitSet matchingRules = inputEntryIndex.findMatchingRules(value);
+            if (matchingRules == null) {
+                return null;
+            }
+
+            BitSet notMatchingRules = (BitSet) inputEntryIndex.indexedRules.clone();
+            notMatchingRules.andNot(matchingRules);
+            excludedRules.or(notMatchingRules);
+        }
+        return excludedRules;
+    }
+
+    protected Object getInputValue(InputEntryIndex inputEntryIndex, ELExecutionContext executionContext) {
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(executionContext.getStackVariables());
+        variableContainer.setInstanceId(executionContext.getInstanceId());
+        variableContainer.setScopeType(executionContext.getScopeType());
+        variableContainer.setTenantId(executionContext.getTenantId());
+        return inputEntryIndex.expression.getValue(variableContainer);
+    }
+
+    /**
+     * @return the number of leading input entries of the rule (at the given position in the decision table) that are
+     *         empty or indexed, and are true when the rule is not excluded.
+     */
+    public int getIndexedInputEntryCount(int ruleIndex) {
+        return indexedInputEntryCounts[ruleIndex];
+    }
+
+    public List<DecisionRule> getRules() {
+        return rules;
+    }
+
+    public List<InputEntryIndex> getInputEntryIndexes() {
+        return inputEntryIndexes;
+    }
+
+}
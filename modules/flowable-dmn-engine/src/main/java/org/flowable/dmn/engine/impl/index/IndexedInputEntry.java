@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+/**
+ * An input entry of a rule that compares the value of the input expression with a literal.
+ */
+public class IndexedInputEntry {
+
+    protected final int ruleIndex;
+    protected final ComparisonOperator operator;
+    protected final Object literal;
+
+    public IndexedInputEntry(int ruleIndex, ComparisonOperator operator, Object literal) {
+        this.ruleIndex = ruleIndex;
+        this.operator = operator;
+        this.literal = literal;
+    }
+
+    public int getRuleIndex() {
+        return ruleIndex;
+    }
+
+    public ComparisonOperator getOperator() {
+        return operator;
+    }
+
+    public Object getLiteral() {
+        return literal;
+    }
+
+}
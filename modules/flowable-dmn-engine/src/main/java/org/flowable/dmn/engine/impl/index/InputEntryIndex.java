@@ -0,0 +1,339 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+
+/**
+ * Index of the indexed input entries of one input clause of a decision table.
+ *
+ * For the common value types (integer and floating point numbers, strings and booleans) the matching input entries
+ * are found with hash lookups (equality) and binary searches (comparisons with numbers).
+ * For other value types, each input entry is compared with the EL comparison operations.
+ */
+public class InputEntryIndex {
+
+    protected final String inputExpression;
+    protected final Expression expression;
+    protected final List<IndexedInputEntry> inputEntries = new ArrayList<>();
+
+    protected BitSet indexedRules;
+
+    protected boolean hasNumberLiterals;
+    protected boolean hasStringLiterals;
+    protected boolean hasBooleanLiterals;
+
+    protected final Map<Long, BitSet> equalLongs = new HashMap<>();
+    protected final Map<Double, BitSet> equalDoubles = new HashMap<>();
+    protected final Map<Double, BitSet> equalNumbersAsDouble = new HashMap<>();
+    protected final Map<String, BitSet> equalStrings = new HashMap<>();
+    protected final Map<Boolean, BitSet> equalBooleans = new HashMap<>();
+    protected final Map<ComparisonOperator, RangeIndex> rangeIndexes = new EnumMap<>(ComparisonOperator.class);
+
+    public InputEntryIndex(String inputExpression, Expression expression) {
+        this.inputExpression = inputExpression;
+        this.expression = expression;
+    }
+
+    public void add(IndexedInputEntry inputEntry) {
+        inputEntries.add(inputEntry);
+    }
+
+    public void build(int ruleCount) {
+        indexedRules = new BitSet(ruleCount);
+        Map<ComparisonOperator, List<IndexedInputEntry>> rangeInputEntries = new EnumMap<>(ComparisonOperator.class);
+
+        for (IndexedInputEntry inputEntry : inputEntries) {
+            int ruleIndex = inputEntry.getRuleIndex();
+            Object literal = inputEntry.getLiteral();
+            indexedRules.set(ruleIndex);
+
+            if (literal instanceof Number) {
+                hasNumberLiterals = true;
+            } else if (literal instanceof String) {
+                hasStringLiterals = true;
+            } else {
+                hasBooleanLiterals = true;
+            }
+
+            if (inputEntry.getOperator() != ComparisonOperator.EQ) {
+                rangeInputEntries.computeIfAbsent(inputEntry.getOperator(), operator -> new ArrayList<>()).add(inputEntry);
+
+            } else if (literal instanceof Long) {
+                addRule(equalLongs, (Long) literal, ruleIndex);
+                addRule(equalNumbersAsDouble, ((Long) literal).doubleValue(), ruleIndex);
+
+            } else if (literal instanceof Double) {
+                addRule(equalDoubles, (Double) literal, ruleIndex);
+                addRule(equalNumbersAsDouble, (Double) literal, ruleIndex);
+
+            } else if (literal instanceof String) {
+                addRule(equalStrings, (String) literal, ruleIndex);
+
+            } else {
+                addRule(equalBooleans, (Boolean) literal, ruleIndex);
+            }
+        }
+
+        for (Map.Entry<ComparisonOperator, List<IndexedInputEntry>> entry : rangeInputEntries.entrySet()) {
+            rangeIndexes.put(entry.getKey(), new RangeIndex(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    protected <K> void addRule(Map<K, BitSet> index, K literal, int ruleIndex) {
+        index.computeIfAbsent(literal, key -> new BitSet()).set(ruleIndex);
+    }
+
+    /**
+     * @return the rules of which the indexed input entry is true for the given value of the input expression,
+     *         or null if comparing the value fails for at least one input entry.
+     */
+    public BitSet findMatchingRules(Object value) {
+        BitSet matchingRules = new BitSet();
+        if (value == null) {
+            // all comparisons with null are false
+            return matchingRules;
+        }
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            if (hasStringLiterals || hasBooleanLiterals) {
+                return evaluateInputEntries(value);
+            }
+
+            long longValue = ((Number) value).longValue();
+            addRules(matchingRules, equalLongs.get(longValue));
+            addRules(matchingRules, equalDoubles.get((double) longValue));
+            for (RangeIndex rangeIndex : rangeIndexes.values()) {
+                rangeIndex.addMatchingRules(longValue, matchingRules);
+            }
+
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || hasStringLiterals || hasBooleanLiterals) {
+                return evaluateInputEntries(value);
+            }
+
+            addRules(matchingRules, equalNumbersAsDouble.get(doubleValue));
+            for (RangeIndex rangeIndex : rangeIndexes.values()) {
+                rangeIndex.addMatchingRules(doubleValue, matchingRules);
+            }
+
+        } else if (value instanceof String && !hasNumberLiterals && !hasBooleanLiterals) {
+            addRules(matchingRules, equalStrings.get(value));
+
+        } else if (value instanceof Boolean && !hasNumberLiterals && !hasStringLiterals) {
+            addRules(matchingRules, equalBooleans.get(value));
+
+        } else {
+            return evaluateInputEntries(value);
+        }
+
+        return matchingRules;
+    }
+
+    protected BitSet evaluateInputEntries(Object value) {
+        BitSet matchingRules = new BitSet();
+        for (IndexedInputEntry inputEntry : inputEntries) {
+            try {
+                if (inputEntry.getOperator().evaluate(TypeConverter.DEFAULT, value, inputEntry.getLiteral())) {
+                    matchingRules.set(inputEntry.getRuleIndex());
+                }
+            } catch (RuntimeException e) {
+                // the EL evaluation of the input entry fails as well, and must happen in the order of the rules
+                return null;
+            }
+        }
+        return matchingRules;
+    }
+
+    protected void addRules(BitSet matchingRules, BitSet rules) {
+        if (rules != null) {
+            matchingRules.or(rules);
+        }
+    }
+
+    public String getInputExpression() {
+        return inputExpression;
+    }
+
+    public List<IndexedInputEntry> getInputEntries() {
+        return Collections.unmodifiableList(inputEntries);
+    }
+
+    /**
+     * The input entries with the same comparison operator, sorted by their number literal.
+     * Long and double literals are kept apart, as they are compared differently with integer values.
+     */
+    protected static class RangeIndex {
+
+        protected final ComparisonOperator operator;
+
+        protected final long[] longLiterals;
+        protected final double[] longLiteralsAsDouble;
+        protected final int[] longLiteralRules;
+
+        protected final double[] doubleLiterals;
+        protected final int[] doubleLiteralRules;
+
+        public RangeIndex(ComparisonOperator operator, List<IndexedInputEntry> inputEntries) {
+            this.operator = operator;
+
+            List<IndexedInputEntry> longEntries = new ArrayList<>();
+            List<IndexedInputEntry> doubleEntries = new ArrayList<>();
+            for (IndexedInputEntry inputEntry : inputEntries) {
+                if (inputEntry.getLiteral() instanceof Long) {
+                    longEntries.add(inputEntry);
+                } else {
+                    doubleEntries.add(inputEntry);
+                }
+            }
+
+            longEntries.sort((entry1, entry2) -> Long.compare((Long) entry1.getLiteral(), (Long) entry2.getLiteral()));
+            longLiterals = new long[longEntries.size()];
+            longLiteralsAsDouble = new double[longEntries.size()];
+            longLiteralRules = new int[longEntries.size()];
+            for (int i = 0; i < longEntries.size(); i++) {
+                longLiterals[i] = (Long) longEntries.get(i).getLiteral();
+                longLiteralsAsDouble[i] = longLiterals[i];
+                longLiteralRules[i] = longEntries.get(i).getRuleIndex();
+            }
+
+            doubleEntries.sort((entry1, entry2) -> Double.compare((Double) entry1.getLiteral(), (Double) entry2.getLiteral()));
+            doubleLiterals = new double[doubleEntries.size()];
+            doubleLiteralRules = new int[doubleEntries.size()];
+            for (int i = 0; i < doubleEntries.size(); i++) {
+                doubleLiterals[i] = (Double) doubleEntries.get(i).getLiteral();
+                doubleLiteralRules[i] = doubleEntries.get(i).getRuleIndex();
+            }
+        }
+
+        public void addMatchingRules(long value, BitSet matchingRules) {
+            // integer values are compared as longs with long literals, and as doubles with double literals
+            int lowerBound = lowerBound(longLiterals, value);
+            int upperBound = upperBound(longLiterals, value);
+            addMatchingRules(longLiteralRules, lowerBound, upperBound, matchingRules);
+
+            addMatchingRules(doubleLiterals, doubleLiteralRules, value, matchingRules);
+        }
+
+        public void addMatchingRules(double value, BitSet matchingRules) {
+            addMatchingRules(longLiteralsAsDouble, longLiteralRules, value, matchingRules);
+            addMatchingRules(doubleLiterals, doubleLiteralRules, value, matchingRules);
+        }
+
+        protected void addMatchingRules(double[] literals, int[] rules, double value, BitSet matchingRules) {
+            addMatchingRules(rules, lowerBound(literals, value), upperBound(literals, value), matchingRules);
+        }
+
+        /**
+         * @param lowerBound
+         *            the position of the first literal that is not smaller than the value
+         * @param upperBound
+         *            the position of the first literal that is bigger than the value
+         */
+        protected void addMatchingRules(int[] rules, int lowerBound, int upperBound, BitSet matchingRules) {
+            switch (operator) {
+                case GT:
+                    // value > literal
+                    setRules(rules, 0, lowerBound, matchingRules);
+                    break;
+                case GE:
+                    // value >= literal
+                    setRules(rules, 0, upperBound, matchingRules);
+                    break;
+                case LT:
+                    // value < literal
+                    setRules(rules, upperBound, rules.length, matchingRules);
+                    break;
+                case LE:
+                    // value <= literal
+                    setRules(rules, lowerBound, rules.length, matchingRules);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected range operator " + operator);
+            }
+        }
+
+        protected void setRules(int[] rules, int from, int to, BitSet matchingRules) {
+            for (int i = from; i < to; i++) {
+                matchingRules.set(rules[i]);
+            }
+        }
+
+        protected static int lowerBound(long[] literals, long value) {
+            int low = 0;
+            int high = literals.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (literals[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        protected static int upperBound(long[] literals, long value) {
+            int low = 0;
+            int high = literals.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (literals[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        protected static int lowerBound(double[] literals, double value) {
+            int low = 0;
+            int high = literals.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (literals[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        protected static int upperBound(double[] literals, double value) {
+            int low = 0;
+            int high = literals.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (literals[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.history;
+
+import java.util.Collections;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class DecisionExecutionAuditLevelTest extends PluggableFlowableDmnTestCase {
+
+    @Override
+    protected void tearDown() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+        dmnEngineConfiguration.getDecisionExecutionAuditLevels().clear();
+        super.tearDown();
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/DecisionExecutionAuditLevelTest.dmn")
+    public void testFullAuditLevel() {
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 11)
+                .executeWithAuditTrail();
+
+        assertEquals("gt 10", auditContainer.getDecisionResult().get(0).get("outputVariable1"));
+        assertNull(auditContainer.getAuditLevel());
+        assertNotNull(auditContainer.getInputVariables());
+        assertEquals(2, auditContainer.getRuleExecutions().size());
+        assertFalse(auditContainer.getRuleExecutions().get(1).isValid());
+        assertEquals(1, auditContainer.getRuleExecutions().get(1).getConditionResults().size());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/DecisionExecutionAuditLevelTest.dmn")
+    public void testOutcomeAuditLevel() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.OUTCOME);
+
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 11)
+                .executeWithAuditTrail();
+
+        assertEquals("gt 10", auditContainer.getDecisionResult().get(0).get("outputVariable1"));
+        assertEquals(DecisionExecutionAuditLevel.OUTCOME, auditContainer.getAuditLevel());
+        assertNull(auditContainer.getInputVariables());
+
+        // only the rule that matched is audited, with its outputs
+        assertEquals(Collections.singleton(2), auditContainer.getRuleExecutions().keySet());
+        RuleExecutionAuditContainer ruleExecution = auditContainer.getRuleExecutions().get(2);
+        assertTrue(ruleExecution.isValid());
+        assertNotNull(ruleExecution.getEndTime());
+        assertTrue(ruleExecution.getConditionResults().isEmpty());
+        assertEquals(2, ruleExecution.getConclusionResults().size());
+        assertEquals("string", auditContainer.getDecisionResultTypes().get("outputVariable1"));
+
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").singleResult();
+        JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+        assertEquals("OUTCOME", executionNode.get("auditLevel").asText());
+        assertFalse(executionNode.has("inputVariables"));
+        assertEquals(1, executionNode.get("ruleExecutions").size());
+        assertEquals("gt 10", executionNode.get("decisionResult").get(0).get("outputVariable1").asText());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/DecisionExecutionAuditLevelTest.dmn")
+    public void testNoneAuditLevelForDecision() throws Exception {
+        dmnEngineConfiguration.addDecisionExecutionAuditLevel("decision1", DecisionExecutionAuditLevel.NONE);
+
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 5)
+                .executeWithAuditTrail();
+
+        assertEquals("lt 10", auditContainer.getDecisionResult().get(0).get("outputVariable1"));
+        assertEquals(DecisionExecutionAuditLevel.NONE, auditContainer.getAuditLevel());
+        assertNull(auditContainer.getInputVariables());
+        assertTrue(auditContainer.getRuleExecutions().isEmpty());
+        assertTrue(auditContainer.getDecisionResultTypes().isEmpty());
+
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").singleResult();
+        JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+        assertEquals("NONE", executionNode.get("auditLevel").asText());
+        assertEquals("lt 10", executionNode.get("decisionResult").get(0).get("outputVariable1").asText());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyUniqueTest.uniqueHitPolicyViolated.dmn")
+    public void testHitPolicyViolatedWithNoneAuditLevel() {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.NONE);
+
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 9)
+                .executeWithAuditTrail();
+
+        assertTrue(auditContainer.isFailed());
+        assertNotNull(auditContainer.getExceptionMessage());
+        assertTrue(auditContainer.getDecisionResult().isEmpty());
+        assertTrue(auditContainer.getRuleExecutions().isEmpty());
+    }
+
+}
@@ -0,0 +1,206 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.model.Decision;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class BatchExecutionTest extends PluggableFlowableDmnTestCase {
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/BatchExecutionTest.dmn")
+    public void testExecuteBatch() throws Exception {
+        List<Map<String, Object>> inputs = new ArrayList<>();
+        inputs.add(Collections.singletonMap("inputVariable1", 5));
+        inputs.add(Collections.singletonMap("inputVariable1", 15));
+        inputs.add(Collections.singletonMap("inputVariable1", 10));
+
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .executeBatch(inputs);
+
+        assertEquals(3, results.size());
+        assertEquals("lt 10", results.get(0).get(0).get("outputVariable1"));
+        assertEquals("gt 10", results.get(1).get(0).get("outputVariable1"));
+        assertEquals("lt 20", results.get(2).get(0).get("outputVariable1"));
+
+        // one history record for the whole batch
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").singleResult();
+        assertNotNull(decisionExecution);
+        assertFalse(decisionExecution.isFailed());
+        assertNotNull(decisionExecution.getStartTime());
+        assertNotNull(decisionExecution.getEndTime());
+
+        JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+        assertEquals("decision1", executionNode.get("decisionKey").asText());
+        assertEquals("FIRST", executionNode.get("hitPolicy").asText());
+        assertEquals(3, executionNode.get("batchSize").asInt());
+        assertEquals(0, executionNode.get("failedCount").asInt());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/BatchExecutionTest.dmn")
+    public void testExecuteBatchFromStream() {
+        Stream<Map<String, Object>> inputs = IntStream.range(0, 100)
+                .mapToObj(i -> Collections.singletonMap("inputVariable1", i));
+
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .executeBatch(inputs::iterator);
+
+        assertEquals(100, results.size());
+        for (int i = 0; i < 100; i++) {
+            List<Map<String, Object>> result = results.get(i);
+            if (i < 10) {
+                assertEquals("lt 10", result.get(0).get("outputVariable1"));
+            } else if (i > 10) {
+                assertEquals("gt 10", result.get(0).get("outputVariable1"));
+            } else {
+                assertEquals("lt 20", result.get(0).get("outputVariable1"));
+            }
+        }
+
+        assertEquals(1, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/BatchExecutionTest.dmn")
+    public void testExecuteBatchWithAuditTrail() {
+        List<Map<String, Object>> inputs = IntStream.of(15, 5)
+                .mapToObj(i -> Collections.<String, Object> singletonMap("inputVariable1", i))
+                .collect(Collectors.toList());
+
+        List<DecisionExecutionAuditContainer> auditContainers = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("otherVariable", "shared")
+                .executeBatchWithAuditTrail(inputs);
+
+        assertEquals(2, auditContainers.size());
+        assertEquals("gt 10", auditContainers.get(0).getDecisionResult().get(0).get("outputVariable1"));
+        assertEquals("lt 10", auditContainers.get(1).getDecisionResult().get(0).get("outputVariable1"));
+        for (DecisionExecutionAuditContainer auditContainer : auditContainers) {
+            assertEquals("shared", auditContainer.getInputVariables().get("otherVariable"));
+            assertFalse(auditContainer.isFailed());
+        }
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/BatchExecutionTest.dmn")
+    public void testExecuteBatchWithoutHistory() {
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .disableHistory()
+                .executeBatch(Collections.singletonList(Collections.singletonMap("inputVariable1", 5)));
+
+        assertEquals(1, results.size());
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/BatchExecutionTest.dmn")
+    public void testExecuteWithoutHistory() {
+        Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 5)
+                .disableHistory()
+                .executeWithSingleResult();
+
+        assertEquals("lt 10", result.get("outputVariable1"));
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/BatchExecutionTest.dmn")
+    public void testDefaultExecuteBatchExecutesEveryInput() {
+        RuleEngineExecutor originalRuleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+        dmnEngineConfiguration.setRuleEngineExecutor(new ExecuteOnlyRuleEngineExecutor(originalRuleEngineExecutor));
+        try {
+            List<Map<String, Object>> inputs = IntStream.of(15, 5)
+                    .mapToObj(i -> Collections.<String, Object> singletonMap("inputVariable1", i))
+                    .collect(Collectors.toList());
+
+            List<DecisionExecutionAuditContainer> auditContainers = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("otherVariable", "shared")
+                    .executeBatchWithAuditTrail(inputs);
+
+            assertEquals(2, auditContainers.size());
+            assertEquals("gt 10", auditContainers.get(0).getDecisionResult().get(0).get("outputVariable1"));
+            assertEquals("lt 10", auditContainers.get(1).getDecisionResult().get(0).get("outputVariable1"));
+            assertEquals("shared", auditContainers.get(1).getInputVariables().get("otherVariable"));
+
+        } finally {
+            dmnEngineConfiguration.setRuleEngineExecutor(originalRuleEngineExecutor);
+        }
+    }
+
+    /**
+     * Only delegates {@link RuleEngineExecutor#execute(Decision, ExecuteDecisionInfo)}, so the default batch execution is used.
+     */
+    protected static class ExecuteOnlyRuleEngineExecutor implements RuleEngineExecutor {
+
+        protected final RuleEngineExecutor delegate;
+
+        public ExecuteOnlyRuleEngineExecutor(RuleEngineExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public DecisionExecutionAuditContainer execute(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
+            return delegate.execute(decision, executeDecisionInfo);
+        }
+
+        @Override
+        public Map<String, AbstractHitPolicy> getHitPolicyBehaviors() {
+            return delegate.getHitPolicyBehaviors();
+        }
+
+        @Override
+        public void setHitPolicyBehaviors(Map<String, AbstractHitPolicy> hitPolicyBehaviors) {
+            delegate.setHitPolicyBehaviors(hitPolicyBehaviors);
+        }
+
+        @Override
+        public ExpressionManager getExpressionManager() {
+            return delegate.getExpressionManager();
+        }
+
+        @Override
+        public void setExpressionManager(ExpressionManager expressionManager) {
+            delegate.setExpressionManager(expressionManager);
+        }
+
+        @Override
+        public ObjectMapper getObjectMapper() {
+            return delegate.getObjectMapper();
+        }
+
+        @Override
+        public void setObjectMapper(ObjectMapper objectMapper) {
+            delegate.setObjectMapper(objectMapper);
+        }
+    }
+
+}
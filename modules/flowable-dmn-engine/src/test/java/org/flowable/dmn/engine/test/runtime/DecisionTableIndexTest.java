@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnRepositoryService;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DecisionTableIndexTest {
+
+    protected static final List<Object> CUSTOMER_TYPES = Arrays.asList("gold", "silver", "bronze", null, 5);
+    protected static final List<Object> AMOUNTS = Arrays.asList(0, 42, 42.0, 500.5, 501L, 999.99, 1000, 5000, -10, -20.5, "42", null);
+    protected static final List<Object> VIPS = Arrays.asList(true, false, "true", null);
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    protected DmnEngineConfiguration dmnEngineConfiguration;
+    protected DmnRuleService dmnRuleService;
+
+    @Before
+    public void setUp() {
+        dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+
+        // the index is built when the decision table is deployed, clearing the cache deploys the decision table again
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(true);
+        dmnEngineConfiguration.getDeploymentManager().getDecisionCache().clear();
+        DmnRepositoryService dmnRepositoryService = flowableDmnRule.getDmnEngine().getDmnRepositoryService();
+        dmnRepositoryService.getDmnDefinition(dmnRepositoryService.createDecisionTableQuery().decisionTableKey("decision1").singleResult().getId());
+    }
+
+    @After
+    public void tearDown() {
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(false);
+    }
+
+    @Test
+    @DmnDeployment
+    public void collectHitPolicy() {
+        assertSameResultsWithIndex();
+    }
+
+    @Test
+    @DmnDeployment
+    public void firstHitPolicy() {
+        assertSameResultsWithIndex();
+    }
+
+    @Test
+    @DmnDeployment
+    public void uniqueHitPolicy() {
+        assertSameResultsWithIndex();
+    }
+
+    @Test
+    @DmnDeployment
+    public void anyHitPolicy() {
+        assertSameResultsWithIndex();
+    }
+
+    @Test
+    @DmnDeployment
+    public void priorityHitPolicy() {
+        assertSameResultsWithIndex();
+    }
+
+    @Test
+    @DmnDeployment
+    public void ruleOrderHitPolicy() {
+        assertSameResultsWithIndex();
+    }
+
+    @Test
+    @DmnDeployment
+    public void outputOrderHitPolicy() {
+        assertSameResultsWithIndex();
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/DecisionTableIndexTest.collectHitPolicy.dmn")
+    public void indexSkipsNotMatchingRules() {
+        Map<String, Object> variables = createVariables("bronze", 5000, true);
+
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(false);
+        DecisionExecutionAuditContainer withoutIndex = executeWithAuditTrail(variables);
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(true);
+        DecisionExecutionAuditContainer withIndex = executeWithAuditTrail(variables);
+
+        assertEquals(withoutIndex.getDecisionResult(), withIndex.getDecisionResult());
+        assertEquals(7, withoutIndex.getRuleExecutions().size());
+        // only the rules with a matching (or no) customer type, amount and vip entry are evaluated
+        assertEquals(Collections.singleton(6), withIndex.getRuleExecutions().keySet());
+    }
+
+    protected void assertSameResultsWithIndex() {
+        for (Object customerType : CUSTOMER_TYPES) {
+            for (Object amount : AMOUNTS) {
+                for (Object vip : VIPS) {
+                    Map<String, Object> variables = createVariables(customerType, amount, vip);
+
+                    dmnEngineConfiguration.setDecisionTableIndexEnabled(false);
+                    DecisionExecutionAuditContainer withoutIndex = executeWithAuditTrail(variables);
+                    dmnEngineConfiguration.setDecisionTableIndexEnabled(true);
+                    DecisionExecutionAuditContainer withIndex = executeWithAuditTrail(variables);
+
+                    String message = "customer type " + customerType + ", amount " + amount + ", vip " + vip;
+                    assertEquals(message, withoutIndex.getDecisionResult(), withIndex.getDecisionResult());
+                    assertEquals(message, withoutIndex.isFailed(), withIndex.isFailed());
+                    assertTrue(message, withoutIndex.getRuleExecutions().keySet().containsAll(withIndex.getRuleExecutions().keySet()));
+                    for (Integer ruleNumber : withIndex.getRuleExecutions().keySet()) {
+                        assertEquals(message, withoutIndex.getRuleExecutions().get(ruleNumber).isValid(), withIndex.getRuleExecutions().get(ruleNumber).isValid());
+                    }
+                }
+            }
+        }
+    }
+
+    protected DecisionExecutionAuditContainer executeWithAuditTrail(Map<String, Object> variables) {
+        return dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variables(variables)
+                .executeWithAuditTrail();
+    }
+
+    protected Map<String, Object> createVariables(Object customerType, Object amount, Object vip) {
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("type", customerType);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customer", customer);
+        variables.put("amount", amount);
+        variables.put("vip", vip);
+        return variables;
+    }
+
+}
@@ -15,17 +15,9 @@ package org.flowable.dmn.spring;
 
 import java.util.Map;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.el.DefaultExpressionManager;
-import org.flowable.common.engine.impl.el.JsonNodeELResolver;
 import org.flowable.common.engine.impl.el.ReadOnlyMapELResolver;
-import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
-import org.flowable.common.engine.impl.javax.el.BeanELResolver;
-import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
-import org.flowable.common.engine.impl.javax.el.CouldNotResolvePropertyELResolver;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.javax.el.ListELResolver;
-import org.flowable.common.engine.impl.javax.el.MapELResolver;
 import org.springframework.context.ApplicationContext;
 
 /**
@@ -49,25 +41,14 @@ public class SpringDmnExpressionManager extends DefaultExpressionManager {
     }
     
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
-        CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(createVariableElResolver(variableContainer));
-
+    protected ELResolver createBeansElResolver() {
         if (beans != null) {
             // Only expose limited set of beans in expressions
-            compositeElResolver.add(new ReadOnlyMapELResolver(beans));
+            return new ReadOnlyMapELResolver(beans);
         } else {
             // Expose full application-context in expressions
-            compositeElResolver.add(new ApplicationContextElResolver(applicationContext));
+            return new ApplicationContextElResolver(applicationContext);
         }
-
-        compositeElResolver.add(new ArrayELResolver());
-        compositeElResolver.add(new ListELResolver());
-        compositeElResolver.add(new MapELResolver());
-        compositeElResolver.add(new JsonNodeELResolver());
-        compositeElResolver.add(new BeanELResolver());
-        compositeElResolver.add(new CouldNotResolvePropertyELResolver());
-        return compositeElResolver;
     }
 
 	public ApplicationContext getApplicationContext() {
@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.api.delegate.event;
 
+import java.util.function.Supplier;
+
 /**
  * Dispatcher which allows for adding and removing {@link FlowableEventListener} s to the Flowable Engine as well as dispatching {@link FlowableEvent} to all the listeners registered.
  * 
@@ -53,6 +55,30 @@ public interface FlowableEventDispatcher {
      */
     void dispatchEvent(FlowableEvent event);
 
+    /**
+     * @param type
+     *            type of the event.
+     * @return true if an event of the given type would be dispatched to at least one listener.
+     */
+    default boolean hasListeners(FlowableEventType type) {
+        return true;
+    }
+
+    /**
+     * Dispatches the event created by the given supplier to any listeners that are registered. The supplier is only called when a listener is
+     * registered for the given type, so events nobody listens to don't need to be created.
+     * 
+     * @param type
+     *            type of the event the supplier creates.
+     * @param eventSupplier
+     *            creates the event to dispatch.
+     */
+    default void dispatchEvent(FlowableEventType type, Supplier<? extends FlowableEvent> eventSupplier) {
+        if (hasListeners(type)) {
+            dispatchEvent(eventSupplier.get());
+        }
+    }
+
     /**
      * @param enabled
      *            true, if event dispatching should be enabled.
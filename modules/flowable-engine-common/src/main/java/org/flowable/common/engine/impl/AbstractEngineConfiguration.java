@@ -70,6 +70,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContextFactory;
 import org.flowable.common.engine.impl.interceptor.CommandContextInterceptor;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.CommandMetricsInterceptor;
 import org.flowable.common.engine.impl.interceptor.CrDbRetryInterceptor;
 import org.flowable.common.engine.impl.interceptor.DefaultCommandInvoker;
 import org.flowable.common.engine.impl.interceptor.LogInterceptor;
@@ -80,10 +81,13 @@ import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.common.engine.impl.logging.LoggingListener;
 import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
-import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
-import org.flowable.common.engine.impl.persistence.cache.EntityCache;
-import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheSessionFactory;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.MetricsDeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManagerImpl;
@@ -127,6 +131,11 @@ public abstract class AbstractEngineConfiguration {
     protected boolean forceCloseMybatisConnectionPool = true;
 
     protected String databaseType;
+    /**
+     * Whether the database can skip rows locked by other transactions when selecting rows for update.
+     * When not set, it is determined from the database metadata when the database type is detected.
+     */
+    protected Boolean databaseSkipLockedSupported;
     protected String jdbcDriver = "org.h2.Driver";
     protected String jdbcUrl = "jdbc:h2:tcp://localhost/~/flowable";
     protected String jdbcUsername = "sa";
@@ -203,6 +212,26 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, the updates and deletes of a flush are sent to the database as JDBC batches instead of one statement at a time.
+     * Optimistic locking is verified with the update count of every row in the batch,
+     * so the JDBC driver needs to return the actual per-row update counts for batched statements. Default false.
+     */
+    protected boolean isBatchUpdateAndDeleteEnabled;
+
+    /**
+     * If set to true, entities that support it (see {@link org.flowable.common.engine.impl.persistence.entity.AbstractEntity#isDirtyTrackingSupported()})
+     * signal their own changes, instead of a persistent state snapshot being taken when they are loaded and compared when flushing.
+     * The cost of a flush then depends on the number of changed entities instead of the number of loaded entities. Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    /**
+     * If set to true, the definition caches of the engine (e.g. the process definition cache) are {@link ConcurrentDeploymentCache}s,
+     * which don't take a global lock on every lookup and keep hit, miss, eviction and load time statistics. Default false.
+     */
+    protected boolean isConcurrentDeploymentCacheEnabled;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 60; // currently Execution has most params (31). 2000 / 31 = 64.
 
     protected String mybatisMappingFile;
@@ -381,6 +410,11 @@ public abstract class AbstractEngineConfiguration {
     protected IdGenerator idGenerator;
     protected boolean usePrefixId;
 
+    /**
+     * Receives the metrics of the engine (commands, flushes, jobs, deployment cache). No metrics are collected when not set.
+     */
+    protected EngineMetrics engineMetrics;
+
     protected Clock clock;
     protected ObjectMapper objectMapper = new ObjectMapper();
 
@@ -487,6 +521,11 @@ public abstract class AbstractEngineConfiguration {
             }
             logger.debug("using database type: {}", databaseType);
 
+            if (databaseSkipLockedSupported == null) {
+                databaseSkipLockedSupported = isSkipLockedSupported(databaseType, databaseMetaData);
+                logger.debug("database supports skip locked: {}", databaseSkipLockedSupported);
+            }
+
         } catch (SQLException e) {
             logger.error("Exception while initializing Database connection", e);
         } finally {
@@ -506,6 +545,32 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    /**
+     * Skip locked is supported by PostgreSQL 9.5+, MySQL 8+, MariaDB 10.6+ and MS SQL Server (readpast table hint).
+     * Oracle is not supported: it applies a ROWNUM limit before skipping the locked rows, so an acquiring node can get no rows
+     * while unlocked rows exist.
+     */
+    protected boolean isSkipLockedSupported(String databaseType, DatabaseMetaData databaseMetaData) throws SQLException {
+        if (DATABASE_TYPE_POSTGRES.equals(databaseType)) {
+            int majorVersion = databaseMetaData.getDatabaseMajorVersion();
+            return majorVersion > 9 || (majorVersion == 9 && databaseMetaData.getDatabaseMinorVersion() >= 5);
+
+        } else if (DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            String productVersion = databaseMetaData.getDatabaseProductVersion();
+            if (productVersion != null && productVersion.toLowerCase().contains("mariadb")) {
+                // The MySQL driver reports MariaDB versions as '5.5.5-10.6.4-MariaDB'
+                String[] versionParts = StringUtils.removeStart(productVersion, "5.5.5-").split("[.-]");
+                int majorVersion = Integer.parseInt(versionParts[0]);
+                int minorVersion = versionParts.length > 1 && StringUtils.isNumeric(versionParts[1]) ? Integer.parseInt(versionParts[1]) : 0;
+                return majorVersion > 10 || (majorVersion == 10 && minorVersion >= 6);
+            }
+            return databaseMetaData.getDatabaseMajorVersion() >= 8;
+
+        } else {
+            return DATABASE_TYPE_MSSQL.equals(databaseType);
+        }
+    }
+
     public void initSchemaManager() {
         if (this.commonSchemaManager == null) {
             this.commonSchemaManager = new CommonDbSchemaManager();
@@ -576,6 +641,10 @@ public abstract class AbstractEngineConfiguration {
             List<CommandInterceptor> interceptors = new ArrayList<>();
             interceptors.add(new LogInterceptor());
 
+            if (engineMetrics != null) {
+                interceptors.add(new CommandMetricsInterceptor(engineMetrics));
+            }
+
             if (DATABASE_TYPE_COCKROACHDB.equals(databaseType)) {
                 interceptors.add(new CrDbRetryInterceptor());
             }
@@ -644,6 +713,26 @@ public abstract class AbstractEngineConfiguration {
     // id generator
     // /////////////////////////////////////////////////////////////
 
+    protected <T> DeploymentCache<T> createDeploymentCache(int limit) {
+        if (isConcurrentDeploymentCacheEnabled) {
+            return new ConcurrentDeploymentCache<>(limit);
+        } else if (limit <= 0) {
+            return new DefaultDeploymentCache<>();
+        } else {
+            return new DefaultDeploymentCache<>(limit);
+        }
+    }
+
+    /**
+     * Wraps the deployment cache so its hits and misses are recorded in the {@link EngineMetrics}, when these are set.
+     */
+    protected <T> DeploymentCache<T> initDeploymentCacheMetrics(String cacheName, DeploymentCache<T> deploymentCache) {
+        if (engineMetrics != null && deploymentCache != null && !(deploymentCache instanceof MetricsDeploymentCache)) {
+            return new MetricsDeploymentCache<>(cacheName, deploymentCache, engineMetrics);
+        }
+        return deploymentCache;
+    }
+
     public void initIdGenerator() {
         if (idGenerator == null) {
             idGenerator = new StrongUuidGenerator();
@@ -692,7 +781,7 @@ public abstract class AbstractEngineConfiguration {
                 initDbSqlSessionFactory();
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            addSessionFactory(new EntityCacheSessionFactory(isEntityDirtyTrackingEnabled));
             
             if (isLoggingSessionEnabled()) {
                 if (!sessionFactories.containsKey(LoggingSession.class)) {
@@ -725,6 +814,9 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchUpdateAndDeleteEnabled(isBatchUpdateAndDeleteEnabled);
+        dbSqlSessionFactory.setSkipLockedSupported(databaseSkipLockedSupported != null ? databaseSkipLockedSupported
+                : DATABASE_TYPE_POSTGRES.equals(databaseType) || DATABASE_TYPE_MSSQL.equals(databaseType));
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1059,6 +1151,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public Boolean getDatabaseSkipLockedSupported() {
+        return databaseSkipLockedSupported;
+    }
+
+    public AbstractEngineConfiguration setDatabaseSkipLockedSupported(Boolean databaseSkipLockedSupported) {
+        this.databaseSkipLockedSupported = databaseSkipLockedSupported;
+        return this;
+    }
+
     public DataSource getDataSource() {
         return dataSource;
     }
@@ -1248,6 +1349,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public AbstractEngineConfiguration setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+        return this;
+    }
+
     public boolean isUsePrefixId() {
         return usePrefixId;
     }
@@ -1445,6 +1555,33 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchUpdateAndDeleteEnabled() {
+        return isBatchUpdateAndDeleteEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchUpdateAndDeleteEnabled(boolean isBatchUpdateAndDeleteEnabled) {
+        this.isBatchUpdateAndDeleteEnabled = isBatchUpdateAndDeleteEnabled;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public boolean isConcurrentDeploymentCacheEnabled() {
+        return isConcurrentDeploymentCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setConcurrentDeploymentCacheEnabled(boolean isConcurrentDeploymentCacheEnabled) {
+        this.isConcurrentDeploymentCacheEnabled = isConcurrentDeploymentCacheEnabled;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -16,6 +16,7 @@ import java.util.LinkedList;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +29,7 @@ public abstract class AbstractAgenda implements Agenda {
 
     protected CommandContext commandContext;
     protected LinkedList<Runnable> operations = new LinkedList<>();
+    protected int executedOperationCount;
 
     public AbstractAgenda(CommandContext commandContext) {
         this.commandContext = commandContext;
@@ -41,6 +43,7 @@ public abstract class AbstractAgenda implements Agenda {
     @Override
     public Runnable getNextOperation() {
         assertOperationsNotEmpty();
+        executedOperationCount++;
         return operations.poll();
     }
 
@@ -67,6 +70,13 @@ public abstract class AbstractAgenda implements Agenda {
         }
     }
 
+    /**
+     * @return the number of operations that have been taken from this agenda to be executed.
+     */
+    public int getExecutedOperationCount() {
+        return executedOperationCount;
+    }
+
     public LinkedList<Runnable> getOperations() {
         return operations;
     }
@@ -86,7 +96,12 @@ public abstract class AbstractAgenda implements Agenda {
 
     @Override
     public void close() {
-
+        if (executedOperationCount > 0 && commandContext != null && commandContext.getCurrentEngineConfiguration() != null) {
+            EngineMetrics engineMetrics = commandContext.getCurrentEngineConfiguration().getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordAgendaOperations(executedOperationCount);
+            }
+        }
     }
 
 }
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -25,13 +26,21 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import org.apache.ibatis.exceptions.ExceptionFactory;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
@@ -60,6 +69,12 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    /**
+     * Set when statements were executed through a batch executor. The regular {@link SqlSession} doesn't know about these,
+     * so commit and rollback need to be forced.
+     */
+    protected boolean batchStatementsExecuted;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -354,6 +369,11 @@ public class DbSqlSession implements Session {
 
     @Override
     public void flush() {
+        EngineMetrics engineMetrics = getEngineMetrics();
+        if (engineMetrics != null) {
+            engineMetrics.recordEntityCacheSize(getCachedEntityCount());
+        }
+
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
@@ -361,9 +381,57 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        int insertCount = 0;
+        int updateCount = 0;
+        int deleteCount = 0;
+        long startTime = 0L;
+        if (engineMetrics != null) {
+            // counted upfront, as the flush clears the inserted and deleted objects
+            insertCount = countEntities(insertedObjects);
+            updateCount = updatedObjects.size();
+            deleteCount = countEntities(deletedObjects) + countBulkDeleteOperations();
+            startTime = System.nanoTime();
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        if (engineMetrics != null) {
+            engineMetrics.recordFlush(insertCount, updateCount, deleteCount, System.nanoTime() - startTime);
+        }
+    }
+
+    protected EngineMetrics getEngineMetrics() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null && commandContext.getCurrentEngineConfiguration() != null) {
+            return commandContext.getCurrentEngineConfiguration().getEngineMetrics();
+        }
+        return null;
+    }
+
+    protected int getCachedEntityCount() {
+        int cachedEntityCount = 0;
+        for (Map<String, CachedEntity> classCache : entityCache.getAllCachedEntities().values()) {
+            cachedEntityCount += classCache.size();
+        }
+        return cachedEntityCount;
+    }
+
+    protected int countEntities(Map<Class<? extends Entity>, Map<String, Entity>> entitiesByClass) {
+        int count = 0;
+        for (Map<String, Entity> entities : entitiesByClass.values()) {
+            count += entities.size();
+        }
+        return count;
+    }
+
+    protected int countBulkDeleteOperations() {
+        int count = 0;
+        for (List<BulkDeleteOperation> bulkDeleteOperationList : bulkDeleteOperations.values()) {
+            count += bulkDeleteOperationList.size();
+        }
+        return count;
     }
 
     /**
@@ -563,6 +631,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
+        if (dbSqlSessionFactory.isBatchUpdateAndDeleteEnabled() && updatedObjects.size() > 1) {
+            flushBatchUpdates();
+            return;
+        }
+
         for (Entity updatedObject : updatedObjects) {
             String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
             updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
@@ -587,6 +660,71 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Sends all updates to the database as JDBC batches (one batch per consecutive group of identical statements),
+     * instead of executing them one by one. The per-row update counts of the batch are used to detect optimistic locking failures.
+     */
+    protected void flushBatchUpdates() {
+        List<String> updateStatements = new ArrayList<>(updatedObjects.size());
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+            if (updateStatement == null) {
+                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+            }
+
+            LOGGER.debug("updating (batched): {}", updatedObject);
+            updateStatements.add(updateStatement);
+        }
+
+        List<BatchResult> batchResults = executeBatch(updateStatements, updatedObjects);
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(parameterObjects.get(i) + " was updated by another transaction concurrently");
+                }
+            }
+        }
+
+        for (Entity updatedObject : updatedObjects) {
+            // See https://activiti.atlassian.net/browse/ACT-1290
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    /**
+     * Executes the given statements through a MyBatis batch executor that runs on the connection of the current {@link SqlSession}.
+     * The statement at index i is executed with the parameter at index i.
+     * The executor groups consecutive executions of the same statement into one JDBC batch.
+     */
+    protected List<BatchResult> executeBatch(List<String> statements, List<? extends Object> parameters) {
+        Configuration configuration = sqlSession.getConfiguration();
+        Executor batchExecutor = configuration.newExecutor(new SharedConnectionTransaction(sqlSession.getConnection()), ExecutorType.BATCH);
+        batchStatementsExecuted = true;
+        try {
+            for (int i = 0; i < statements.size(); i++) {
+                MappedStatement mappedStatement = configuration.getMappedStatement(statements.get(i));
+                batchExecutor.update(mappedStatement, parameters.get(i));
+            }
+            return batchExecutor.flushStatements();
+
+        } catch (SQLException | RuntimeException e) {
+            throw ExceptionFactory.wrapException("Error executing batched statements", e);
+
+        } finally {
+            batchExecutor.close(false);
+
+            // The regular session has not seen these statements, so its local cache could contain stale data
+            sqlSession.clearCache();
+        }
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -629,6 +767,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchUpdateAndDeleteEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
@@ -649,17 +792,45 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Sends the deletes of one entity type to the database as a JDBC batch.
+     * As with the non-batched deletes, optimistic locking is only checked for entities that have a revision.
+     */
+    protected void flushBatchDeleteEntities(Collection<Entity> entitiesToDelete) {
+        List<String> deleteStatements = new ArrayList<>(entitiesToDelete.size());
+        List<Entity> entities = new ArrayList<>(entitiesToDelete);
+        for (Entity entity : entities) {
+            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+            if (deleteStatement == null) {
+                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+            }
+            deleteStatements.add(deleteStatement);
+        }
+
+        List<BatchResult> batchResults = executeBatch(deleteStatements, entities);
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == 0 && parameterObjects.get(i) instanceof HasRevision) {
+                    throw new FlowableOptimisticLockingException(parameterObjects.get(i) + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
     @Override
     public void close() {
         sqlSession.close();
     }
 
     public void commit() {
-        sqlSession.commit();
+        sqlSession.commit(batchStatementsExecuted);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchStatementsExecuted);
     }
 
     public <T> T getCustomMapper(Class<T> type) {
@@ -62,6 +62,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean batchUpdateAndDeleteEnabled;
+
+    protected boolean skipLockedSupported;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -177,6 +181,19 @@ public class DbSqlSessionFactory implements SessionFactory {
         return getDatabaseType().equals("oracle");
     }
 
+    /**
+     * @return whether rows that are locked by other transactions can be skipped when selecting rows for update
+     *         ('for update skip locked', or the 'readpast' table hint on MS SQL Server).
+     *         For MySQL this requires MySQL 8 or MariaDB 10.6 or higher.
+     */
+    public boolean isSkipLockedSupported() {
+        return skipLockedSupported;
+    }
+
+    public void setSkipLockedSupported(boolean skipLockedSupported) {
+        this.skipLockedSupported = skipLockedSupported;
+    }
+
     public Boolean isBulkInsertable(Class<? extends Entity> entityClass) {
         return bulkInserteableEntityClasses != null && bulkInserteableEntityClasses.contains(entityClass);
     }
@@ -202,6 +219,14 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchUpdateAndDeleteEnabled() {
+        return batchUpdateAndDeleteEnabled;
+    }
+
+    public void setBatchUpdateAndDeleteEnabled(boolean batchUpdateAndDeleteEnabled) {
+        this.batchUpdateAndDeleteEnabled = batchUpdateAndDeleteEnabled;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.sql.Connection;
+
+import org.apache.ibatis.transaction.Transaction;
+
+/**
+ * A MyBatis {@link Transaction} that exposes a connection that is owned by another {@link org.apache.ibatis.session.SqlSession}.
+ * Committing, rolling back and closing are no-ops: the lifecycle of the connection stays with the owning session.
+ *
+ * Used to run a batch executor on the same connection (and thus the same database transaction) as the {@link DbSqlSession}.
+ */
+public class SharedConnectionTransaction implements Transaction {
+
+    protected Connection connection;
+
+    public SharedConnectionTransaction(Connection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public Connection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public void commit() {
+        // Owned by the session that opened the connection
+    }
+
+    @Override
+    public void rollback() {
+        // Owned by the session that opened the connection
+    }
+
+    @Override
+    public void close() {
+        // Owned by the session that opened the connection
+    }
+
+    @Override
+    public Integer getTimeout() {
+        return null;
+    }
+
+}
@@ -48,6 +48,7 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
+    protected volatile VariableContainerBoundELResolver sharedElResolver;
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
@@ -108,10 +109,26 @@ public class DefaultExpressionManager implements ExpressionManager {
     }
     
     protected ELResolver createElResolver(VariableContainer variableContainer) {
+        VariableContainerBoundELResolver sharedElResolver = this.sharedElResolver;
+        if (sharedElResolver == null) {
+            sharedElResolver = createSharedElResolver();
+            this.sharedElResolver = sharedElResolver;
+        }
+        return sharedElResolver.bind(createVariableElResolver(variableContainer));
+    }
+
+    /**
+     * Creates the chain of resolvers that is shared by all expression evaluations. Only the resolver for the variables
+     * is created for each evaluation, hence all other resolvers (including the ones added in {@link #configureResolvers(List)})
+     * need to be stateless.
+     */
+    protected VariableContainerBoundELResolver createSharedElResolver() {
+        ELResolver variableElResolverPlaceholder = new CompositeELResolver();
         List<ELResolver> elResolvers = new ArrayList<>();
-        elResolvers.add(createVariableElResolver(variableContainer));
-        if (beans != null) {
-            elResolvers.add(new ReadOnlyMapELResolver(beans));
+        elResolvers.add(variableElResolverPlaceholder);
+        ELResolver beansElResolver = createBeansElResolver();
+        if (beansElResolver != null) {
+            elResolvers.add(beansElResolver);
         }
         elResolvers.add(new ArrayELResolver());
         elResolvers.add(new ListELResolver());
@@ -124,12 +141,11 @@ public class DefaultExpressionManager implements ExpressionManager {
         
         configureResolvers(elResolvers);
         
-        CompositeELResolver compositeELResolver = new CompositeELResolver();
-        for (ELResolver elResolver : elResolvers) {
-            compositeELResolver.add(elResolver);
+        if (!elResolvers.contains(variableElResolverPlaceholder)) {
+            elResolvers.add(0, variableElResolverPlaceholder);
         }
-        compositeELResolver.add(new CouldNotResolvePropertyELResolver());
-        return compositeELResolver;
+        elResolvers.add(new CouldNotResolvePropertyELResolver());
+        return new VariableContainerBoundELResolver(elResolvers, variableElResolverPlaceholder);
     }
     
     protected void configureResolvers(List<ELResolver> elResolvers) {
@@ -144,6 +160,21 @@ public class DefaultExpressionManager implements ExpressionManager {
         return new BeanELResolver();
     }
 
+    protected ELResolver createBeansElResolver() {
+        if (beans != null) {
+            return new ReadOnlyMapELResolver(beans);
+        }
+        return null;
+    }
+
+    /**
+     * Discards the shared chain of resolvers, it is created again on the next expression evaluation.
+     * Needs to be called when a property that is used for creating the resolvers is changed.
+     */
+    public void resetSharedElResolver() {
+        this.sharedElResolver = null;
+    }
+
     @Override
     public Map<Object, Object> getBeans() {
         return beans;
@@ -152,6 +183,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        resetSharedElResolver();
     }
 
     @Override
@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.beans.FeatureDescriptor;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ELResolver;
+
+/**
+ * Composite {@link ELResolver} that combines an immutable chain of stateless resolvers, shared by all evaluations,
+ * with the resolver for the variables of a single {@link org.flowable.common.engine.api.variable.VariableContainer}.
+ *
+ * A template instance (without a variable resolver) is created once by the {@link DefaultExpressionManager}.
+ * Every evaluation then only {@link #bind(ELResolver) binds} its variable resolver to the slot reserved for it,
+ * without copying the shared chain.
+ */
+public class VariableContainerBoundELResolver extends ELResolver {
+
+    protected final ELResolver[] resolvers;
+    protected final int variableElResolverIndex;
+    protected final ELResolver variableElResolver;
+
+    /**
+     * @param resolvers
+     *            the resolvers of the chain, in order of evaluation.
+     * @param variableElResolverPlaceholder
+     *            the element of the resolvers that marks the slot of the variable resolver.
+     */
+    public VariableContainerBoundELResolver(List<ELResolver> resolvers, ELResolver variableElResolverPlaceholder) {
+        this(resolvers.toArray(new ELResolver[0]), resolvers.indexOf(variableElResolverPlaceholder), null);
+    }
+
+    protected VariableContainerBoundELResolver(ELResolver[] resolvers, int variableElResolverIndex, ELResolver variableElResolver) {
+        this.resolvers = resolvers;
+        this.variableElResolverIndex = variableElResolverIndex;
+        this.variableElResolver = variableElResolver;
+    }
+
+    /**
+     * @return a resolver sharing the chain of this one, with the given resolver in the slot of the variable resolver.
+     */
+    public VariableContainerBoundELResolver bind(ELResolver variableElResolver) {
+        return new VariableContainerBoundELResolver(resolvers, variableElResolverIndex, variableElResolver);
+    }
+
+    protected ELResolver getResolver(int index) {
+        return index == variableElResolverIndex ? variableElResolver : resolvers[index];
+    }
+
+    @Override
+    public Class<?> getCommonPropertyType(ELContext context, Object base) {
+        Class<?> result = null;
+        for (int i = 0; i < resolvers.length; i++) {
+            Class<?> type = getResolver(i).getCommonPropertyType(context, base);
+            if (type != null) {
+                if (result == null || type.isAssignableFrom(result)) {
+                    result = type;
+                } else if (!result.isAssignableFrom(type)) {
+                    result = Object.class;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+        List<FeatureDescriptor> featureDescriptors = new ArrayList<>();
+        for (int i = 0; i < resolvers.length; i++) {
+            Iterator<FeatureDescriptor> resolverFeatureDescriptors = getResolver(i).getFeatureDescriptors(context, base);
+            if (resolverFeatureDescriptors != null) {
+                resolverFeatureDescriptors.forEachRemaining(featureDescriptors::add);
+            }
+        }
+        return featureDescriptors.iterator();
+    }
+
+    @Override
+    public Class<?> getType(ELContext context, Object base, Object property) {
+        context.setPropertyResolved(false);
+        for (int i = 0; i < resolvers.length; i++) {
+            Class<?> type = getResolver(i).getType(context, base, property);
+            if (context.isPropertyResolved()) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object getValue(ELContext context, Object base, Object property) {
+        context.setPropertyResolved(false);
+        for (int i = 0; i < resolvers.length; i++) {
+            Object value = getResolver(i).getValue(context, base, property);
+            if (context.isPropertyResolved()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context, Object base, Object property) {
+        context.setPropertyResolved(false);
+        for (int i = 0; i < resolvers.length; i++) {
+            boolean readOnly = getResolver(i).isReadOnly(context, base, property);
+            if (context.isPropertyResolved()) {
+                return readOnly;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void setValue(ELContext context, Object base, Object property, Object value) {
+        context.setPropertyResolved(false);
+        for (int i = 0; i < resolvers.length; i++) {
+            getResolver(i).setValue(context, base, property, value);
+            if (context.isPropertyResolved()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Object invoke(ELContext context, Object base, Object method, Class<?>[] paramTypes, Object[] params) {
+        context.setPropertyResolved(false);
+        for (int i = 0; i < resolvers.length; i++) {
+            Object result = getResolver(i).invoke(context, base, method, paramTypes, params);
+            if (context.isPropertyResolved()) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    public ELResolver getVariableElResolver() {
+        return variableElResolver;
+    }
+
+}
@@ -13,10 +13,19 @@
 package org.flowable.common.engine.impl.event;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 
 public interface EventDispatchAction {
     
     void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event); 
 
+    /**
+     * @return true if this action could do something with an event of the given type.
+     *         When false is returned for all actions and no listener is registered, the event isn't created at all.
+     */
+    default boolean hasListeners(CommandContext commandContext, FlowableEventType type) {
+        return true;
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.event;
 
+import java.util.function.Supplier;
+
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
@@ -76,6 +78,34 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         }
     }
 
+    @Override
+    public boolean hasListeners(FlowableEventType type) {
+        if (enabled && eventSupport.hasListeners(type)) {
+            return true;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            AbstractEngineConfiguration engineConfiguration = commandContext.getCurrentEngineConfiguration();
+            if (engineConfiguration != null && engineConfiguration.getAdditionalEventDispatchActions() != null) {
+                for (EventDispatchAction eventDispatchAction : engineConfiguration.getAdditionalEventDispatchActions()) {
+                    if (eventDispatchAction.hasListeners(commandContext, type)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void dispatchEvent(FlowableEventType type, Supplier<? extends FlowableEvent> eventSupplier) {
+        if (hasListeners(type)) {
+            dispatchEvent(eventSupplier.get());
+        }
+    }
+
     public FlowableEventSupport getEventSupport() {
         return eventSupport;
     }
@@ -12,12 +12,14 @@
  */
 package org.flowable.common.engine.impl.event;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
@@ -36,12 +38,26 @@ public class FlowableEventSupport {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FlowableEventSupport.class);
 
+    protected static final FlowableEventListener[] NO_LISTENERS = new FlowableEventListener[0];
+
     protected List<FlowableEventListener> eventListeners;
-    protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+
+    /**
+     * Listeners for the {@link FlowableEngineEventType}s, indexed by the ordinal of the type. The arrays are never modified once published:
+     * adding or removing a listener replaces them, so dispatching doesn't need any locking.
+     */
+    protected volatile FlowableEventListener[][] engineEventTypeListeners;
+
+    /**
+     * Listeners for all other event types (e.g. the idm event types), copy-on-write as well.
+     */
+    protected Map<FlowableEventType, FlowableEventListener[]> typedListeners;
 
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
-        typedListeners = new HashMap<>();
+        engineEventTypeListeners = new FlowableEventListener[FlowableEngineEventType.values().length][];
+        Arrays.fill(engineEventTypeListeners, NO_LISTENERS);
+        typedListeners = new ConcurrentHashMap<>();
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
@@ -68,12 +84,26 @@ public class FlowableEventSupport {
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
         eventListeners.remove(listenerToRemove);
 
-        for (List<FlowableEventListener> listeners : typedListeners.values()) {
-            listeners.remove(listenerToRemove);
+        FlowableEventListener[][] newEngineEventTypeListeners = engineEventTypeListeners.clone();
+        for (int i = 0; i < newEngineEventTypeListeners.length; i++) {
+            newEngineEventTypeListeners[i] = removeListener(newEngineEventTypeListeners[i], listenerToRemove);
         }
+        engineEventTypeListeners = newEngineEventTypeListeners;
+
+        for (Map.Entry<FlowableEventType, FlowableEventListener[]> entry : typedListeners.entrySet()) {
+            entry.setValue(removeListener(entry.getValue(), listenerToRemove));
+        }
+    }
+
+    /**
+     * @return true if a listener is registered that would be notified of an event of the given type.
+     *         This doesn't create the event, so callers can skip building it when nobody is interested.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return !eventListeners.isEmpty() || getTypedListeners(type).length > 0;
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -93,12 +123,22 @@ public class FlowableEventSupport {
         }
 
         // Call typed listeners, if any
-        List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
-            for (FlowableEventListener listener : typed) {
-                dispatchEvent(event, listener);
-            }
+        for (FlowableEventListener listener : getTypedListeners(event.getType())) {
+            dispatchEvent(event, listener);
+        }
+    }
+
+    protected FlowableEventListener[] getTypedListeners(FlowableEventType type) {
+        if (type == null) {
+            // No event has a null type, so a listener registered for it is never called
+            return NO_LISTENERS;
+
+        } else if (type instanceof FlowableEngineEventType) {
+            return engineEventTypeListeners[((FlowableEngineEventType) type).ordinal()];
         }
+
+        FlowableEventListener[] listeners = typedListeners.get(type);
+        return listeners != null ? listeners : NO_LISTENERS;
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
@@ -148,15 +188,38 @@ public class FlowableEventSupport {
     }
 
     protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
-        List<FlowableEventListener> listeners = typedListeners.get(type);
-        if (listeners == null) {
-            // Add an empty list of listeners for this type
-            listeners = new CopyOnWriteArrayList<>();
-            typedListeners.put(type, listeners);
+        if (type == null) {
+            return;
+        }
+
+        FlowableEventListener[] listeners = getTypedListeners(type);
+        for (FlowableEventListener existingListener : listeners) {
+            if (existingListener.equals(listener)) {
+                return;
+            }
         }
 
-        if (!listeners.contains(listener)) {
-            listeners.add(listener);
+        FlowableEventListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+
+        if (type instanceof FlowableEngineEventType) {
+            FlowableEventListener[][] newEngineEventTypeListeners = engineEventTypeListeners.clone();
+            newEngineEventTypeListeners[((FlowableEngineEventType) type).ordinal()] = newListeners;
+            engineEventTypeListeners = newEngineEventTypeListeners;
+        } else {
+            typedListeners.put(type, newListeners);
+        }
+    }
+
+    protected FlowableEventListener[] removeListener(FlowableEventListener[] listeners, FlowableEventListener listenerToRemove) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listenerToRemove)) {
+                FlowableEventListener[] newListeners = new FlowableEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                return newListeners;
+            }
         }
+        return listeners;
     }
 }
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.interceptor;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+
+/**
+ * Records the execution time of every command in the {@link EngineMetrics} of the engine.
+ * It is added in front of the transaction interceptor, so the time includes the flush and the commit.
+ */
+public class CommandMetricsInterceptor extends AbstractCommandInterceptor {
+
+    protected EngineMetrics engineMetrics;
+
+    public CommandMetricsInterceptor(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        long startTime = System.nanoTime();
+        boolean successful = false;
+        try {
+            T result = next.execute(config, command);
+            successful = true;
+            return result;
+
+        } finally {
+            engineMetrics.recordCommand(getCommandName(command), System.nanoTime() - startTime, successful);
+        }
+    }
+
+    protected String getCommandName(Command<?> command) {
+        Class<?> commandClass = command.getClass();
+        String commandName = commandClass.getSimpleName();
+        // anonymous command classes don't have a simple name
+        return commandName.isEmpty() ? commandClass.getName() : commandName;
+    }
+
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+}
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.Collection;
+
+/**
+ * Receives the metrics of one engine: the executed commands, the agenda operations and database flushes of these commands,
+ * the async job acquisition and execution and the usage of the deployment cache.
+ *
+ * An implementation is set with {@link org.flowable.common.engine.impl.AbstractEngineConfiguration#setEngineMetrics(EngineMetrics)}.
+ * When none is set, the engine doesn't collect any metrics. The methods are called from all engine threads, on the hot path of
+ * the command execution, so implementations need to be thread safe and must not block.
+ */
+public interface EngineMetrics {
+
+    /**
+     * Called after each command execution, including nested commands.
+     *
+     * @param commandName the simple class name of the command
+     * @param durationInNanos the time spent executing the command, including the flush and the transaction commit
+     * @param successful false when the command threw an exception
+     */
+    void recordCommand(String commandName, long durationInNanos, boolean successful);
+
+    /**
+     * Called when the agenda of a command context is closed, with the number of operations that were executed from it.
+     */
+    void recordAgendaOperations(int operationCount);
+
+    /**
+     * Called after each flush of the changes of a command context to the database.
+     */
+    void recordFlush(int insertCount, int updateCount, int deleteCount, long durationInNanos);
+
+    /**
+     * Called before each flush with the number of entities in the entity cache of the command context.
+     */
+    void recordEntityCacheSize(int cachedEntityCount);
+
+    /**
+     * Called after each async job acquire cycle with the number of jobs that were acquired.
+     */
+    void recordJobsAcquired(int acquiredJobCount);
+
+    /**
+     * Called after each timer job acquire cycle with the number of timer jobs that were acquired.
+     */
+    void recordTimerJobsAcquired(int acquiredTimerJobCount);
+
+    /**
+     * Called when a job couldn't be acquired or locked because another async executor changed it first.
+     */
+    void recordJobLockConflict();
+
+    /**
+     * Called when an acquired job couldn't be handed to the async executor because its queue is full.
+     */
+    void recordJobRejected();
+
+    /**
+     * Called when the async executor is started, with the queue of the jobs that are waiting to be executed.
+     * The queue is used concurrently by the async executor, so implementations must only read its size.
+     */
+    void registerJobQueue(Collection<?> jobQueue);
+
+    /**
+     * Called after the execution of a job by the async executor.
+     *
+     * @param successful false when the execution failed and the job was handled by the exception handlers
+     */
+    void recordJobExecution(String jobHandlerType, long durationInNanos, boolean successful);
+
+    /**
+     * Called when a definition is looked up in a deployment cache of the engine.
+     *
+     * @param cacheName the name of the cache, e.g. processDefinition
+     * @param hit true when the definition was found in the cache
+     */
+    void recordDeploymentCacheAccess(String cacheName, boolean hit);
+
+}
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+
+/**
+ * {@link IdGenerator} implementation that generates time-ordered, lexicographically sortable ids in the ULID format:
+ * 26 characters in Crockford's base 32 encoding.
+ *
+ * The 128 bits of an id consist of a 48 bit timestamp (in milliseconds), a 16 bit sequence and a 64 bit node identifier.
+ * The timestamp and the sequence are updated atomically (without locking): ids generated by the same generator are strictly increasing,
+ * even when more ids than the sequence can hold are generated within the same millisecond or when the clock moves backwards.
+ * The node identifier is random (or can be set explicitly) so that ids of different engines don't collide.
+ *
+ * Contrary to the (string form of the) ids of the {@link StrongUuidGenerator}, newly generated ids are always appended at the end of the primary key indexes,
+ * which avoids random page splits in the index of big tables.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    protected static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    protected static final int SEQUENCE_BITS = 16;
+
+    // different ProcessEngines on the same classloader share the node identifier, so that they share one sequence.
+    protected static final Sequence SHARED_SEQUENCE = new Sequence(new SecureRandom().nextLong());
+
+    protected final Sequence sequence;
+
+    public TimeOrderedIdGenerator() {
+        this.sequence = SHARED_SEQUENCE;
+    }
+
+    /**
+     * @param nodeId
+     *            the identifier of the node, which must be unique for all generators that generate ids for the same database.
+     */
+    public TimeOrderedIdGenerator(long nodeId) {
+        this.sequence = new Sequence(nodeId);
+    }
+
+    @Override
+    public String getNextId() {
+        long timestampAndSequence = sequence.next(currentTimeMillis());
+        return encode(timestampAndSequence, sequence.nodeId);
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Encodes the 128 bits (the 64 high bits first) as 26 characters of 5 bits each, the first character only holds the 3 highest bits.
+     */
+    protected static String encode(long high, long low) {
+        char[] chars = new char[26];
+        for (int i = 25; i >= 0; i--) {
+            chars[i] = ENCODING[(int) (low & 0x1F)];
+            low = (low >>> 5) | (high << 59);
+            high >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    public long getNodeId() {
+        return sequence.nodeId;
+    }
+
+    protected static class Sequence {
+
+        protected final long nodeId;
+
+        // The timestamp in the 48 high bits, the sequence within that millisecond in the 16 low bits
+        protected final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+        public Sequence(long nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        public long next(long currentTimeMillis) {
+            long timestampAndSequence = currentTimeMillis << SEQUENCE_BITS;
+            while (true) {
+                long last = lastTimestampAndSequence.get();
+                // When the sequence of the current millisecond is exhausted, or the clock moved backwards, the timestamp moves ahead of the clock
+                long next = Math.max(timestampAndSequence, last + 1);
+                if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                    return next;
+                }
+            }
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -32,9 +33,22 @@ public class CachedEntity {
      */
     protected Object originalPersistentState;
 
+    /**
+     * True if changes to the {@link Entity} are tracked by the entity itself (see {@link AbstractEntity#markDirty()}).
+     * In that case, no persistent state snapshot is taken when the entity is loaded.
+     */
+    protected boolean dirtyTracked;
+
     public CachedEntity(Entity entity, boolean storeState) {
+        this(entity, storeState, false);
+    }
+
+    public CachedEntity(Entity entity, boolean storeState, boolean dirtyTrackingEnabled) {
         this.entity = entity;
-        if (storeState) {
+        if (storeState && dirtyTrackingEnabled && entity instanceof AbstractEntity && ((AbstractEntity) entity).isDirtyTrackingSupported()) {
+            ((AbstractEntity) entity).startDirtyTracking();
+            this.dirtyTracked = true;
+        } else if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
@@ -51,6 +65,9 @@ public class CachedEntity {
     }
 
     public Object getOriginalPersistentState() {
+        if (dirtyTracked) {
+            return entity.getOriginalPersistentState();
+        }
         return originalPersistentState;
     }
 
@@ -59,7 +76,15 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
+        if (dirtyTracked) {
+            // Only entities that were touched need the (more expensive) persistent state comparison
+            return ((AbstractEntity) entity).isDirty() && !entity.getPersistentState().equals(entity.getOriginalPersistentState());
+        }
         return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
     }
 
+    public boolean isDirtyTracked() {
+        return dirtyTracked;
+    }
+
 }
\ No newline at end of file
@@ -28,6 +28,16 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    protected boolean dirtyTrackingEnabled;
+
+    public EntityCacheImpl() {
+
+    }
+
+    public EntityCacheImpl(boolean dirtyTrackingEnabled) {
+        this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+    }
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -35,7 +45,7 @@ public class EntityCacheImpl implements EntityCache {
             classCache = new HashMap<>();
             cachedObjects.put(entity.getClass(), classCache);
         }
-        CachedEntity cachedObject = new CachedEntity(entity, storeState);
+        CachedEntity cachedObject = new CachedEntity(entity, storeState, dirtyTrackingEnabled);
         classCache.put(entity.getId(), cachedObject);
         return cachedObject;
     }
@@ -113,6 +123,10 @@ public class EntityCacheImpl implements EntityCache {
         return cachedObjects;
     }
 
+    public boolean isDirtyTrackingEnabled() {
+        return dirtyTrackingEnabled;
+    }
+
     @Override
     public void close() {
 
@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.interceptor.SessionFactory;
+
+/**
+ * {@link SessionFactory} for the {@link EntityCache}, passing the engine wide dirty tracking setting to every new {@link EntityCacheImpl}.
+ */
+public class EntityCacheSessionFactory implements SessionFactory {
+
+    protected boolean dirtyTrackingEnabled;
+
+    public EntityCacheSessionFactory(boolean dirtyTrackingEnabled) {
+        this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+    }
+
+    @Override
+    public Class<?> getSessionType() {
+        return EntityCache.class;
+    }
+
+    @Override
+    public Session openSession(CommandContext commandContext) {
+        return new EntityCacheImpl(dirtyTrackingEnabled);
+    }
+
+    public boolean isDirtyTrackingEnabled() {
+        return dirtyTrackingEnabled;
+    }
+
+}
@@ -0,0 +1,281 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DeploymentCache} that can be used concurrently by all engine threads without a global lock on reads.
+ *
+ * Contrary to the {@link DefaultDeploymentCache}, a {@link #get(String)} does not reorder the entries: it only marks the entry as referenced.
+ * When a bound is set (a maximum number of entries and/or a maximum total weight, see {@link DeploymentCacheWeigher}), entries are evicted
+ * with the CLOCK (second chance) algorithm: the oldest entry is evicted, unless it has been referenced since it was last considered,
+ * in which case it is moved to the back of the queue. Only adding entries takes the eviction lock.
+ *
+ * Next to the cached objects, the cache keeps track of the number of hits, misses and evictions, and of the time spent loading
+ * the objects that were not found (see {@link #recordLoad(long)}).
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected final ConcurrentHashMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+    protected final Queue<CacheEntry<T>> evictionQueue = new ConcurrentLinkedQueue<>();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+    protected final AtomicInteger staleEvictionQueueEntries = new AtomicInteger();
+
+    protected final int maxEntries;
+    protected final long maxWeight;
+    protected final DeploymentCacheWeigher<T> weigher;
+    protected final AtomicLong weight = new AtomicLong();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+    protected final LongAdder loadCount = new LongAdder();
+    protected final LongAdder totalLoadTime = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit. A limit of zero or less means no limit.
+     */
+    public ConcurrentDeploymentCache(int maxEntries) {
+        this(maxEntries, -1, null);
+    }
+
+    /**
+     * Cache which is bounded by the number of entries and the total weight of the cached objects, as estimated by the weigher.
+     * A maximum of zero or less means that the cache is not bounded by it.
+     */
+    public ConcurrentDeploymentCache(int maxEntries, long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        if (maxWeight > 0 && weigher == null) {
+            throw new IllegalArgumentException("A weigher is needed for a cache that is bounded by weight");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        // Avoid writing to the entry (and invalidating it in the caches of the other cores) when it is already marked
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        if (object == null) {
+            remove(id);
+            return;
+        }
+
+        CacheEntry<T> entry = new CacheEntry<>(id, object, weigher != null ? weigher.weigh(object) : 1L);
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        weight.addAndGet(entry.weight);
+        if (previousEntry != null) {
+            weight.addAndGet(-previousEntry.weight);
+        }
+
+        if (isBounded()) {
+            if (previousEntry != null) {
+                staleEvictionQueueEntries.incrementAndGet();
+            }
+            evictionQueue.offer(entry);
+            evictIfNeeded(entry);
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            weight.addAndGet(-entry.weight);
+            if (isBounded()) {
+                staleEvictionQueueEntries.incrementAndGet();
+                purgeEvictionQueueIfNeeded();
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            cache.clear();
+            evictionQueue.clear();
+            staleEvictionQueueEntries.set(0);
+            weight.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void recordLoad(long loadTimeNanos) {
+        loadCount.increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    protected boolean isBounded() {
+        return maxEntries > 0 || maxWeight > 0;
+    }
+
+    protected boolean isOverLimit() {
+        return (maxEntries > 0 && cache.size() > maxEntries) || (maxWeight > 0 && weight.get() > maxWeight);
+    }
+
+    protected void evictIfNeeded(CacheEntry<T> addedEntry) {
+        if (!isOverLimit()) {
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+            while (isOverLimit()) {
+                CacheEntry<T> candidate = evictionQueue.poll();
+                if (candidate == null) {
+                    break;
+                }
+
+                if (cache.get(candidate.id) != candidate) {
+                    // Removed or replaced in the meantime
+                    staleEvictionQueueEntries.decrementAndGet();
+
+                } else if (candidate == addedEntry) {
+                    // Never evict the entry that is being added, the caller typically needs it right away
+                    evictionQueue.offer(candidate);
+                    if (cache.size() <= 1) {
+                        break;
+                    }
+
+                } else if (candidate.referenced) {
+                    candidate.referenced = false;
+                    evictionQueue.offer(candidate);
+
+                } else if (cache.remove(candidate.id, candidate)) {
+                    weight.addAndGet(-candidate.weight);
+                    evictionCount.increment();
+                    LOGGER.trace("Cache limit is reached, {} will be evicted", candidate.id);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected void purgeEvictionQueueIfNeeded() {
+        if (staleEvictionQueueEntries.get() > cache.size() && evictionLock.tryLock()) {
+            try {
+                evictionQueue.removeIf(entry -> cache.get(entry.id) != entry);
+                staleEvictionQueueEntries.set(0);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getTotalLoadTime(TimeUnit timeUnit) {
+        return timeUnit.convert(totalLoadTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String id;
+        protected final T value;
+        protected final long weight;
+
+        // Newly added entries start referenced, so they are not the first to be evicted
+        protected volatile boolean referenced = true;
+
+        public CacheEntry(String id, T value, long weight) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+}
@@ -34,4 +34,10 @@ public interface DeploymentCache<T> {
     Collection<T> getAll();
 
     int size();
+
+    /**
+     * Records the time it took to load (e.g. parse) an object that was not found in the cache. Ignored by default.
+     */
+    default void recordLoad(long loadTimeNanos) {
+    }
 }
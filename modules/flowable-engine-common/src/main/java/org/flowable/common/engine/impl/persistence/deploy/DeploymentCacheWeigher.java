@@ -0,0 +1,26 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+/**
+ * Estimates the weight of a cached object (e.g. the number of elements of a parsed model),
+ * used by a {@link ConcurrentDeploymentCache} that is bounded by weight instead of (or next to) the number of entries.
+ */
+public interface DeploymentCacheWeigher<T> {
+
+    /**
+     * @return the weight of the object, must not be negative.
+     */
+    long weigh(T object);
+
+}
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.Collection;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+
+/**
+ * {@link DeploymentCache} that records the hits and misses of the wrapped cache in the {@link EngineMetrics} of the engine.
+ */
+public class MetricsDeploymentCache<T> implements DeploymentCache<T> {
+
+    protected final String cacheName;
+    protected final DeploymentCache<T> deploymentCache;
+    protected final EngineMetrics engineMetrics;
+
+    public MetricsDeploymentCache(String cacheName, DeploymentCache<T> deploymentCache, EngineMetrics engineMetrics) {
+        this.cacheName = cacheName;
+        this.deploymentCache = deploymentCache;
+        this.engineMetrics = engineMetrics;
+    }
+
+    @Override
+    public T get(String id) {
+        T object = deploymentCache.get(id);
+        engineMetrics.recordDeploymentCacheAccess(cacheName, object != null);
+        return object;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return deploymentCache.contains(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        deploymentCache.add(id, object);
+    }
+
+    @Override
+    public void remove(String id) {
+        deploymentCache.remove(id);
+    }
+
+    @Override
+    public void clear() {
+        deploymentCache.clear();
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        return deploymentCache.getAll();
+    }
+
+    @Override
+    public int size() {
+        return deploymentCache.size();
+    }
+
+    @Override
+    public void recordLoad(long loadTimeNanos) {
+        deploymentCache.recordLoad(loadTimeNanos);
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public DeploymentCache<T> getDeploymentCache() {
+        return deploymentCache;
+    }
+
+}
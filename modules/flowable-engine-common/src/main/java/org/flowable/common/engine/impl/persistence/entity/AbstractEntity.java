@@ -30,6 +30,9 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     
     protected Object originalPersistentState;
 
+    protected boolean isDirtyTrackingActive;
+    protected boolean isDirty;
+
     @Override
     public String getId() {
         return id;
@@ -87,6 +90,10 @@ public abstract class AbstractEntity implements Entity, HasRevision {
 
     @Override
     public Object getOriginalPersistentState() {
+        if (isDirtyTrackingActive && !isDirty) {
+            // Nothing has changed since the entity was loaded, so the current state is the original state
+            return getPersistentState();
+        }
         return originalPersistentState;
     }
 
@@ -94,4 +101,43 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    // dirty tracking ///////////////////////////////////////////////////////////
+
+    /**
+     * Returns true if every change to the persistent state of this entity is signalled through {@link #markDirty()}.
+     * Only for these entities the entity cache can use dirty tracking instead of comparing persistent state snapshots.
+     */
+    public boolean isDirtyTrackingSupported() {
+        return false;
+    }
+
+    /**
+     * Called when the entity is loaded in the entity cache with dirty tracking enabled.
+     * From now on, the original persistent state is only captured when the entity is first changed.
+     */
+    public void startDirtyTracking() {
+        this.isDirtyTrackingActive = true;
+        this.isDirty = false;
+        this.originalPersistentState = null;
+    }
+
+    public boolean isDirtyTrackingActive() {
+        return isDirtyTrackingActive;
+    }
+
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    /**
+     * Needs to be called before a field that is part of the persistent state is changed.
+     * The first call captures the original persistent state, which is used at flush time to check whether the entity really changed.
+     */
+    protected void markDirty() {
+        if (isDirtyTrackingActive && !isDirty) {
+            this.originalPersistentState = getPersistentState();
+            this.isDirty = true;
+        }
+    }
 }
@@ -61,8 +61,8 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity, DM extend
     protected void fireEntityInsertedEvent(Entity entity) {
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
-            eventDispatcher.dispatchEvent(createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED, () -> createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED, () -> createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
         }
     }
 
@@ -83,7 +83,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity, DM extend
     protected void fireEntityUpdatedEvent(Entity entity) {
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            getEventDispatcher().dispatchEvent(createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity));
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_UPDATED, () -> createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity));
         }
     }
 
@@ -111,7 +111,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity, DM extend
     protected void fireEntityDeletedEvent(Entity entity) {
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity));
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED, () -> createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity));
         }
     }
 
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.scripting;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.script.CompiledScript;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LRU cache of {@link CompiledScript} instances, keyed by the deployment, the element that defines the script (activity, listener, plan item),
+ * the language and the script text.
+ *
+ * The entries of a deployment are removed with {@link #removeDeployment(String)} when the deployment is deleted.
+ */
+public class CompiledScriptCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledScriptCache.class);
+
+    protected Map<CompiledScriptKey, CompiledScript> cache;
+
+    /**
+     * Cache which has a hard limit: no more compiled scripts will be cached than the limit.
+     */
+    public CompiledScriptCache(final int limit) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<CompiledScriptKey, CompiledScript>(limit + 1, 0.75f, true) {
+            // +1 is needed, because the entry is inserted first, before it is removed
+            // true will keep the 'access-order', which is needed to have a real LRU cache
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CompiledScriptKey, CompiledScript> eldest) {
+                boolean removeEldest = size() > limit;
+                if (removeEldest && LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Compiled script cache limit is reached, {} will be evicted", eldest.getKey());
+                }
+                return removeEldest;
+            }
+
+        });
+    }
+
+    public CompiledScript get(String deploymentId, String scriptId, String language, String script) {
+        return cache.get(new CompiledScriptKey(deploymentId, scriptId, language, script));
+    }
+
+    public void add(String deploymentId, String scriptId, String language, String script, CompiledScript compiledScript) {
+        cache.put(new CompiledScriptKey(deploymentId, scriptId, language, script), compiledScript);
+    }
+
+    public void removeDeployment(String deploymentId) {
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.deploymentId.equals(deploymentId));
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    protected static class CompiledScriptKey {
+
+        protected final String deploymentId;
+        protected final String scriptId;
+        protected final String language;
+        protected final String script;
+
+        public CompiledScriptKey(String deploymentId, String scriptId, String language, String script) {
+            this.deploymentId = deploymentId;
+            this.scriptId = scriptId;
+            this.language = language;
+            this.script = script;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CompiledScriptKey that = (CompiledScriptKey) o;
+            return deploymentId.equals(that.deploymentId)
+                    && Objects.equals(scriptId, that.scriptId)
+                    && language.equals(that.language)
+                    && script.equals(that.script);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(deploymentId, scriptId, language, script);
+        }
+
+        @Override
+        public String toString() {
+            return "CompiledScriptKey[deploymentId=" + deploymentId + ", scriptId=" + scriptId + ", language=" + language + "]";
+        }
+    }
+
+}
@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -42,6 +44,8 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    protected CompiledScriptCache compiledScriptCache;
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -73,6 +77,14 @@ public class ScriptingEngines {
         return evaluate(script, language, createBindings(variableScope, storeScriptVariables));
     }
 
+    /**
+     * Evaluates a script that is defined in a deployment. When a {@link CompiledScriptCache} is set, the script is compiled once
+     * for the given deployment and script id (e.g. the id of the activity or plan item) and the compiled script is reused afterwards.
+     */
+    public Object evaluate(String script, String language, VariableScope variableScope, boolean storeScriptVariables, String deploymentId, String scriptId) {
+        return evaluate(script, language, createBindings(variableScope, storeScriptVariables), deploymentId, scriptId);
+    }
+
     public void setCacheScriptingEngines(boolean cacheScriptingEngines) {
         this.cacheScriptingEngines = cacheScriptingEngines;
     }
@@ -82,14 +94,43 @@ public class ScriptingEngines {
     }
 
     protected Object evaluate(String script, String language, Bindings bindings) {
+        return evaluate(script, language, bindings, null, null);
+    }
+
+    protected Object evaluate(String script, String language, Bindings bindings, String deploymentId, String scriptId) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            CompiledScript compiledScript = getCompiledScript(scriptEngine, script, language, deploymentId, scriptId);
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    protected CompiledScript getCompiledScript(ScriptEngine scriptEngine, String script, String language, String deploymentId, String scriptId) throws ScriptException {
+        if (compiledScriptCache == null || deploymentId == null || !isCompilable(scriptEngine, language)) {
+            return null;
+        }
+
+        CompiledScript compiledScript = compiledScriptCache.get(deploymentId, scriptId, language, script);
+        if (compiledScript == null) {
+            compiledScript = ((Compilable) scriptEngine).compile(script);
+            compiledScriptCache.add(deploymentId, scriptId, language, script, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    protected boolean isCompilable(ScriptEngine scriptEngine, String language) {
+        // JUEL binds the variables when the expression is parsed, hence a compiled JUEL script can't be reused with other bindings.
+        // Only engines that allow multi-threaded access (and are therefore cached) are compiled, as the compiled script is bound to its engine.
+        return scriptEngine instanceof Compilable
+                && !DEFAULT_SCRIPTING_LANGUAGE.equals(language)
+                && cacheScriptingEngines && cachedEngines.get(language) == scriptEngine;
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -139,6 +180,14 @@ public class ScriptingEngines {
         return scriptBindingsFactory.createBindings(variableScope, storeScriptVariables);
     }
 
+    public CompiledScriptCache getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(CompiledScriptCache compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
     public ScriptBindingsFactory getScriptBindingsFactory() {
         return scriptBindingsFactory;
     }
@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.cfg.TransactionContext;
@@ -208,6 +209,52 @@ class FlowableEventSupportTest {
             .containsExactly(type1Event);
     }
 
+    @Test
+    void shouldDispatchEngineEventTypesToTypedListeners() {
+        TestFlowableEventListener createdListener = new TestFlowableEventListener();
+        TestFlowableEventListener createdOrDeletedListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(createdListener, FlowableEngineEventType.ENTITY_CREATED);
+        flowableEventSupport.addEventListener(createdOrDeletedListener, FlowableEngineEventType.ENTITY_CREATED, FlowableEngineEventType.ENTITY_DELETED);
+
+        FlowableEvent createdEvent = new TestFlowableEvent(FlowableEngineEventType.ENTITY_CREATED);
+        FlowableEvent deletedEvent = new TestFlowableEvent(FlowableEngineEventType.ENTITY_DELETED);
+        flowableEventSupport.dispatchEvent(createdEvent);
+        flowableEventSupport.dispatchEvent(deletedEvent);
+        flowableEventSupport.removeEventListener(createdOrDeletedListener);
+        flowableEventSupport.dispatchEvent(deletedEvent);
+
+        assertThat(createdListener.getReceivedEvents())
+            .as("created listener")
+            .containsExactly(createdEvent);
+
+        assertThat(createdOrDeletedListener.getReceivedEvents())
+            .as("created or deleted listener")
+            .containsExactly(createdEvent, deletedEvent);
+    }
+
+    @Test
+    void hasListenersShouldOnlyBeTrueForTypesWithListeners() {
+        TestFlowableEventType testEventType = new TestFlowableEventType("test");
+        assertThat(flowableEventSupport.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isFalse();
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isFalse();
+
+        TestFlowableEventListener typedListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(typedListener, FlowableEngineEventType.ENTITY_CREATED, testEventType);
+        assertThat(flowableEventSupport.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isTrue();
+        assertThat(flowableEventSupport.hasListeners(FlowableEngineEventType.ENTITY_DELETED)).isFalse();
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isTrue();
+        assertThat(flowableEventSupport.hasListeners(new TestFlowableEventType("other"))).isFalse();
+
+        flowableEventSupport.removeEventListener(typedListener);
+        assertThat(flowableEventSupport.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isFalse();
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isFalse();
+
+        // global listeners are notified of every type
+        flowableEventSupport.addEventListener(new TestFlowableEventListener());
+        assertThat(flowableEventSupport.hasListeners(FlowableEngineEventType.ENTITY_DELETED)).isTrue();
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isTrue();
+    }
+
     @Test
     void shouldProperlyDispatchOnTransactionLifecycleListeners() {
         TestFlowableEventListener rolledBackListener = new TestFlowableEventListener();
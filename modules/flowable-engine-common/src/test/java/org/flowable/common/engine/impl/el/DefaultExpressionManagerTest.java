@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.junit.jupiter.api.Test;
+
+class DefaultExpressionManagerTest {
+
+    @Test
+    void evaluateGatewayConditions() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.singletonMap("limits", new Limits(100)));
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("vip", true);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 150);
+        variables.put("customer", customer);
+        variables.put("items", Arrays.asList("a", "b"));
+        variables.put("codes", new String[] { "x", "y" });
+
+        assertThat(expressionManager.createExpression("${amount > limits.max && customer.vip}").getValue(new VariableContainerWrapper(variables)))
+                .isEqualTo(true);
+        assertThat(expressionManager.createExpression("${items[1] == 'b' && codes[0] == 'x'}").getValue(new VariableContainerWrapper(variables)))
+                .isEqualTo(true);
+
+        variables.put("amount", 50);
+        assertThat(expressionManager.createExpression("${amount > limits.max && customer.vip}").getValue(new VariableContainerWrapper(variables)))
+                .isEqualTo(false);
+
+        assertThatThrownBy(() -> expressionManager.createExpression("${unknown > 10}").getValue(new VariableContainerWrapper(variables)))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Unknown property used in expression");
+    }
+
+    @Test
+    void setValueThroughVariableResolver() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 150);
+
+        Expression expression = expressionManager.createExpression("${amount}");
+        expression.setValue(200, new VariableContainerWrapper(variables));
+
+        assertThat(variables).containsEntry("amount", 200);
+    }
+
+    @Test
+    void sharedResolversAreReusedBetweenEvaluations() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        VariableContainerWrapper firstContainer = new VariableContainerWrapper(Collections.singletonMap("amount", 1));
+        VariableContainerWrapper secondContainer = new VariableContainerWrapper(Collections.singletonMap("amount", 2));
+
+        VariableContainerBoundELResolver firstResolver = (VariableContainerBoundELResolver) expressionManager.getElContext(firstContainer).getELResolver();
+        VariableContainerBoundELResolver secondResolver = (VariableContainerBoundELResolver) expressionManager.getElContext(secondContainer).getELResolver();
+
+        assertThat(firstResolver.getVariableElResolver()).isNotSameAs(secondResolver.getVariableElResolver());
+        assertThat(firstResolver.resolvers).isSameAs(secondResolver.resolvers);
+
+        assertThat(expressionManager.createExpression("${amount}").getValue(firstContainer)).isEqualTo(1);
+        assertThat(expressionManager.createExpression("${amount}").getValue(secondContainer)).isEqualTo(2);
+    }
+
+    @Test
+    void sharedResolversAreRecreatedWhenBeansChange() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.singletonMap("limits", new Limits(100)));
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(Collections.emptyMap());
+        Expression expression = expressionManager.createExpression("${limits.max}");
+
+        assertThat(expression.getValue(variableContainer)).isEqualTo(100);
+
+        expressionManager.setBeans(Collections.singletonMap("limits", new Limits(200)));
+
+        assertThat(expression.getValue(variableContainer)).isEqualTo(200);
+    }
+
+    @Test
+    void configuredResolversKeepTheirPosition() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager() {
+
+            @Override
+            protected void configureResolvers(List<ELResolver> elResolvers) {
+                // Resolves all properties before the variables are consulted
+                elResolvers.add(0, new ReadOnlyMapELResolver(Collections.singletonMap("amount", 42)));
+            }
+        };
+
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(Collections.singletonMap("amount", 1));
+        assertThat(expressionManager.createExpression("${amount}").getValue(variableContainer)).isEqualTo(42);
+    }
+
+    public static class Limits {
+
+        protected final int max;
+
+        public Limits(int max) {
+            this.max = max;
+        }
+
+        public int getMax() {
+            return max;
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void idsAreSortableAndCompact() {
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+        String previousId = idGenerator.getNextId();
+        assertThat(previousId).hasSize(26).matches("[0-9A-HJKMNP-TV-Z]+");
+        for (int i = 0; i < 100000; i++) {
+            String id = idGenerator.getNextId();
+            assertThat(id).isGreaterThan(previousId);
+            previousId = id;
+        }
+    }
+
+    @Test
+    void timestampIsEncodedFirst() {
+        TimeOrderedIdGenerator idGenerator = new FixedClockIdGenerator(1L, 1L);
+        assertThat(idGenerator.getNextId()).isEqualTo("0000000001" + "0000000000000001");
+        // Second id in the same millisecond
+        assertThat(idGenerator.getNextId()).isEqualTo("0000000001" + "000G000000000001");
+
+        // The ULID specification example timestamp
+        idGenerator = new FixedClockIdGenerator(1469918176385L, 0L);
+        assertThat(idGenerator.getNextId()).startsWith("01ARYZ6S41");
+    }
+
+    @Test
+    void idsStayOrderedWhenClockMovesBackwards() {
+        FixedClockIdGenerator idGenerator = new FixedClockIdGenerator(1000L, 42L);
+        String first = idGenerator.getNextId();
+
+        idGenerator.time = 500L;
+        String second = idGenerator.getNextId();
+
+        idGenerator.time = 2000L;
+        String third = idGenerator.getNextId();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+    }
+
+    @Test
+    void sequenceOverflowMovesToNextMillisecond() {
+        FixedClockIdGenerator idGenerator = new FixedClockIdGenerator(1000L, 42L);
+        Set<String> ids = new HashSet<>();
+        String previousId = "";
+        for (int i = 0; i < 70000; i++) {
+            String id = idGenerator.getNextId();
+            assertThat(id).isGreaterThan(previousId);
+            ids.add(id);
+            previousId = id;
+        }
+        assertThat(ids).hasSize(70000);
+    }
+
+    @Test
+    void idsAreUniqueWhenGeneratedConcurrently() throws Exception {
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(7L);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executorService.submit(() -> {
+                    List<String> ids = new ArrayList<>();
+                    for (int j = 0; j < 25000; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<String> ids = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                List<String> threadIds = future.get(30, TimeUnit.SECONDS);
+                assertThat(threadIds).isSorted();
+                ids.addAll(threadIds);
+            }
+            assertThat(ids).hasSize(100000);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected static class FixedClockIdGenerator extends TimeOrderedIdGenerator {
+
+        protected long time;
+
+        public FixedClockIdGenerator(long time, long nodeId) {
+            super(nodeId);
+            this.time = time;
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return time;
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void unboundedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("id0")).isEqualTo("value0");
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    void boundedByNumberOfEntries() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.add("c", "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void referencedEntriesGetSecondChance() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.add("c", "C");
+
+        // Clears the reference bits of all entries and evicts 'a'
+        cache.add("d", "D");
+        assertThat(cache.contains("a")).isFalse();
+
+        cache.get("b");
+        cache.add("e", "E");
+
+        assertThat(cache.contains("b")).isTrue();
+        assertThat(cache.contains("c")).isFalse();
+        assertThat(cache.contains("d")).isTrue();
+        assertThat(cache.contains("e")).isTrue();
+    }
+
+    @Test
+    void boundedByWeight() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, 10, String::length);
+        cache.add("a", "aaaa");
+        cache.add("b", "bbbb");
+        assertThat(cache.getWeight()).isEqualTo(8);
+
+        cache.add("c", "cccc");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getWeight()).isEqualTo(8);
+        assertThat(cache.contains("c")).isTrue();
+
+        // An entry heavier than the maximum weight is kept, as it is needed by the caller
+        cache.add("d", "dddddddddddd");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("d")).isEqualTo("dddddddddddd");
+    }
+
+    @Test
+    void replaceAndRemoveUpdateWeight() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, 100, String::length);
+        cache.add("a", "aaaa");
+        cache.add("a", "aa");
+        assertThat(cache.getWeight()).isEqualTo(2);
+
+        cache.add("a", null);
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.getWeight()).isZero();
+
+        cache.add("b", "bbb");
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getWeight()).isZero();
+        assertThat(cache.getAll()).isEmpty();
+    }
+
+    @Test
+    void weightBoundNeedsWeigher() {
+        assertThatThrownBy(() -> new ConcurrentDeploymentCache<String>(-1, 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void statistics() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        cache.add("a", "A");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.recordLoad(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getLoadCount()).isEqualTo(1);
+        assertThat(cache.getTotalLoadTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+    }
+
+    @Test
+    void concurrentAccessRespectsBound() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(50);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        String id = "id" + ((i * 4 + offset) % 200);
+                        if (cache.get(id) == null) {
+                            cache.add(id, id);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.getAll()).hasSize(cache.size());
+    }
+
+}
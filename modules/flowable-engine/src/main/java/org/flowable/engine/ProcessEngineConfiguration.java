@@ -150,6 +150,13 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
     protected HistoryCleaningManager historyCleaningManager;
 
+    /**
+     * The maximum number of historic process instances deleted in one transaction by the history cleanup.
+     * When set to a value higher than 0, the history cleanup job splits the expired instances into a batch of parts,
+     * each deleted by its own async job in chunks of this size. By default, all expired instances are deleted at once.
+     */
+    protected int historyCleaningBatchSize = 0;
+
 
     /** postprocessor for a task builder */
     protected TaskPostProcessor taskPostProcessor = null;
@@ -782,6 +789,15 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public ProcessEngineConfiguration setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
     public HistoryCleaningManager getHistoryCleaningManager() {
         return historyCleaningManager;
     }
@@ -13,6 +13,8 @@
 package org.flowable.engine.cfg;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * @author Harsha Teja Kanna
@@ -29,6 +31,24 @@ public class HttpClientConfig {
 
     protected boolean useSystemProperties = false;
 
+    // connection pool settings
+    protected int maxConnectionsTotal = 200;
+    protected int maxConnectionsPerRoute = 20;
+    // max connections for specific routes, keyed by scheme://host:port (for example https://example.org:443)
+    protected Map<String, Integer> routeMaxConnections = new HashMap<>();
+    // keep-alive time used when the server doesn't send a Keep-Alive header, a value <= 0 keeps connections alive indefinitely
+    protected long keepAliveTime = 30000;
+    // connections that are idle for longer than this time are closed by a background thread
+    protected long idleConnectionEvictionTime = 30000;
+    // the maximum time a pooled connection is reused, a value <= 0 means no limit
+    protected long connectionTimeToLive = -1;
+
+    // non-blocking request settings
+    // the time a non-blocking http task waits for the response before it fails, when the request timeout is not longer
+    protected long nonBlockingResponseTimeout = 300000;
+    // the number of threads handing the responses of non-blocking requests over to the engine
+    protected int nonBlockingCallbackThreads = 2;
+
     public int getConnectTimeout() {
         return connectTimeout;
     }
@@ -77,6 +97,74 @@ public class HttpClientConfig {
         return useSystemProperties;
     }
 
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public Map<String, Integer> getRouteMaxConnections() {
+        return routeMaxConnections;
+    }
+
+    public void setRouteMaxConnections(Map<String, Integer> routeMaxConnections) {
+        this.routeMaxConnections = routeMaxConnections;
+    }
+
+    public void setMaxConnectionsForRoute(String route, int maxConnections) {
+        this.routeMaxConnections.put(route, maxConnections);
+    }
+
+    public long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    public void setKeepAliveTime(long keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+    }
+
+    public long getIdleConnectionEvictionTime() {
+        return idleConnectionEvictionTime;
+    }
+
+    public void setIdleConnectionEvictionTime(long idleConnectionEvictionTime) {
+        this.idleConnectionEvictionTime = idleConnectionEvictionTime;
+    }
+
+    public long getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    public void setConnectionTimeToLive(long connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+    }
+
+    public long getNonBlockingResponseTimeout() {
+        return nonBlockingResponseTimeout;
+    }
+
+    public void setNonBlockingResponseTimeout(long nonBlockingResponseTimeout) {
+        this.nonBlockingResponseTimeout = nonBlockingResponseTimeout;
+    }
+
+    public int getNonBlockingCallbackThreads() {
+        return nonBlockingCallbackThreads;
+    }
+
+    public void setNonBlockingCallbackThreads(int nonBlockingCallbackThreads) {
+        this.nonBlockingCallbackThreads = nonBlockingCallbackThreads;
+    }
+
     public void merge(HttpClientConfig other) {
         if (this.connectTimeout != other.getConnectTimeout()) {
             setConnectTimeout(other.getConnectTimeout());
@@ -101,6 +189,38 @@ public class HttpClientConfig {
         if (this.useSystemProperties != other.isUseSystemProperties()) {
             setUseSystemProperties(other.isUseSystemProperties());
         }
+
+        if (this.maxConnectionsTotal != other.getMaxConnectionsTotal()) {
+            setMaxConnectionsTotal(other.getMaxConnectionsTotal());
+        }
+
+        if (this.maxConnectionsPerRoute != other.getMaxConnectionsPerRoute()) {
+            setMaxConnectionsPerRoute(other.getMaxConnectionsPerRoute());
+        }
+
+        if (other.getRouteMaxConnections() != null) {
+            this.routeMaxConnections.putAll(other.getRouteMaxConnections());
+        }
+
+        if (this.keepAliveTime != other.getKeepAliveTime()) {
+            setKeepAliveTime(other.getKeepAliveTime());
+        }
+
+        if (this.idleConnectionEvictionTime != other.getIdleConnectionEvictionTime()) {
+            setIdleConnectionEvictionTime(other.getIdleConnectionEvictionTime());
+        }
+
+        if (this.connectionTimeToLive != other.getConnectionTimeToLive()) {
+            setConnectionTimeToLive(other.getConnectionTimeToLive());
+        }
+
+        if (this.nonBlockingResponseTimeout != other.getNonBlockingResponseTimeout()) {
+            setNonBlockingResponseTimeout(other.getNonBlockingResponseTimeout());
+        }
+
+        if (this.nonBlockingCallbackThreads != other.getNonBlockingCallbackThreads()) {
+            setNonBlockingCallbackThreads(other.getNonBlockingCallbackThreads());
+        }
     }
 
     public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
@@ -12,11 +12,17 @@
  */
 package org.flowable.engine.delegate.event.impl;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EventListener;
+import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -26,6 +32,37 @@ import org.flowable.engine.repository.ProcessDefinition;
 
 public class BpmnModelEventDispatchAction implements EventDispatchAction {
 
+    /**
+     * The event types for which an event listener is defined in one of the cached process definitions.
+     * Types are never removed, a listener of a process definition that is no longer used only makes the check less precise.
+     */
+    protected final Set<FlowableEventType> eventListenerTypes = ConcurrentHashMap.newKeySet();
+    protected volatile boolean hasGlobalEventListeners;
+
+    public void addEventListenerTypes(FlowableEventType... types) {
+        if (types == null || types.length == 0) {
+            hasGlobalEventListeners = true;
+        } else {
+            for (FlowableEventType type : types) {
+                eventListenerTypes.add(type);
+            }
+        }
+    }
+
+    /**
+     * Registers the event types of the event listeners defined in the given process, called when its process definition is added to the deployment cache.
+     */
+    public void addEventListenerTypes(Process process) {
+        for (EventListener eventListener : process.getEventListeners()) {
+            addEventListenerTypes(FlowableEngineEventType.getTypesFromString(eventListener.getEvents()));
+        }
+    }
+
+    @Override
+    public boolean hasListeners(CommandContext commandContext, FlowableEventType type) {
+        return hasGlobalEventListeners || eventListenerTypes.contains(type);
+    }
+
     @Override
     public void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event) {
         if (event.getType() == FlowableEngineEventType.ENTITY_DELETED && event instanceof FlowableEntityEvent) {
@@ -15,11 +15,16 @@ package org.flowable.engine.impl;
 
 import java.util.List;
 
+import org.flowable.bpmn.model.Process;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.query.AbstractQuery;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.engine.runtime.ActivityInstanceQuery;
 
@@ -58,14 +63,52 @@ public class ActivityInstanceQueryImpl extends AbstractQuery<ActivityInstanceQue
 
     @Override
     public long executeCount(CommandContext commandContext) {
+        ensureRuntimeActivityInstancesEnabled(commandContext);
         return CommandContextUtil.getActivityInstanceEntityManager(commandContext).findActivityInstanceCountByQueryCriteria(this);
     }
 
     @Override
     public List<ActivityInstance> executeList(CommandContext commandContext) {
+        ensureRuntimeActivityInstancesEnabled(commandContext);
         return CommandContextUtil.getActivityInstanceEntityManager(commandContext).findActivityInstancesByQueryCriteria(this);
     }
 
+    protected void ensureRuntimeActivityInstancesEnabled(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (!processEngineConfiguration.getPerformanceSettings().isEnableRuntimeActivityInstances()) {
+            throw new FlowableException("Runtime activity instances are disabled, use the historic activity instance query instead");
+        }
+
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            String queriedProcessDefinitionId = getQueriedProcessDefinitionId(commandContext);
+            if (queriedProcessDefinitionId != null) {
+                Process process = ProcessDefinitionUtil.getProcess(queriedProcessDefinitionId);
+                if (process != null && process.isDisableRuntimeActivityInstances()) {
+                    throw new FlowableException("Runtime activity instances are disabled for process definition " + queriedProcessDefinitionId
+                            + ", use the historic activity instance query instead");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the process definition the query is restricted to, directly or through the queried process instance or execution.
+     */
+    protected String getQueriedProcessDefinitionId(CommandContext commandContext) {
+        if (processDefinitionId != null) {
+            return CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId) != null ? processDefinitionId : null;
+        }
+
+        String queriedExecutionId = processInstanceId != null ? processInstanceId : executionId;
+        if (queriedExecutionId != null) {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(queriedExecutionId);
+            if (execution != null) {
+                return execution.getProcessDefinitionId();
+            }
+        }
+        return null;
+    }
+
     @Override
     public ActivityInstanceQueryImpl processInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
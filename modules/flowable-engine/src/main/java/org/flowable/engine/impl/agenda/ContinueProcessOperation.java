@@ -270,12 +270,12 @@ public class ContinueProcessOperation extends AbstractOperation {
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
 
             if (flowNode instanceof Activity && ((Activity) flowNode).hasMultiInstanceLoopCharacteristics()) {
-                processEngineConfiguration.getEventDispatcher().dispatchEvent(
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_STARTED, () ->
                         FlowableEventBuilder.createMultiInstanceActivityEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_STARTED, flowNode.getId(),
                                 flowNode.getName(), execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode));
             }
             else {
-                processEngineConfiguration.getEventDispatcher().dispatchEvent(
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.ACTIVITY_STARTED, () ->
                         FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, flowNode.getId(), flowNode.getName(), execution.getId(),
                                 execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode));
             }
@@ -313,7 +313,7 @@ public class ContinueProcessOperation extends AbstractOperation {
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             FlowElement sourceFlowElement = sequenceFlow.getSourceFlowElement();
             FlowElement targetFlowElement = sequenceFlow.getTargetFlowElement();
-            processEngineConfiguration.getEventDispatcher().dispatchEvent(
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.SEQUENCEFLOW_TAKEN, () ->
                     FlowableEventBuilder.createSequenceFlowTakenEvent(
                             execution,
                             FlowableEngineEventType.SEQUENCEFLOW_TAKEN,
@@ -22,6 +22,7 @@ import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
 import org.flowable.engine.impl.context.BpmnOverrideContext;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,7 +76,8 @@ public class ScriptTaskActivityBehavior extends TaskActivityBehavior {
 
         boolean noErrors = true;
         try {
-            Object result = scriptingEngines.evaluate(script, language, execution, storeScriptVariables);
+            String deploymentId = ProcessDefinitionUtil.getProcessDefinition(execution.getProcessDefinitionId()).getDeploymentId();
+            Object result = scriptingEngines.evaluate(script, language, execution, storeScriptVariables, deploymentId, scriptTaskId);
 
             if (null != result) {
                 if (language.equalsIgnoreCase("juel") && (result instanceof String) && script.equals(result.toString())) {
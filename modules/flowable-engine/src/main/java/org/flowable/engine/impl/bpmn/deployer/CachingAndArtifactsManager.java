@@ -12,12 +12,16 @@
  */
 package org.flowable.engine.impl.bpmn.deployer;
 
+import java.util.List;
+
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
@@ -51,6 +55,7 @@ public class CachingAndArtifactsManager {
             Process process = parsedDeployment.getProcessModelForProcessDefinition(processDefinition);
             ProcessDefinitionCacheEntry cacheEntry = new ProcessDefinitionCacheEntry(processDefinition, bpmnModel, process);
             processDefinitionCache.add(processDefinition.getId(), cacheEntry);
+            registerEventListenerTypes(process, processEngineConfiguration);
             addDefinitionInfoToCache(processDefinition, processEngineConfiguration, commandContext);
 
             // Add to deployment for further usage
@@ -70,6 +75,26 @@ public class CachingAndArtifactsManager {
             Process process = parsedDeployment.getProcessModelForProcessDefinition(processDefinition);
             ProcessDefinitionCacheEntry cacheEntry = new ProcessDefinitionCacheEntry(processDefinition, bpmnModel, process);
             processDefinitionCache.add(processDefinition.getId(), cacheEntry);
+            registerEventListenerTypes(process, processEngineConfiguration);
+        }
+    }
+
+    /**
+     * Lets the {@link BpmnModelEventDispatchAction} know which event types the event listeners of the cached process definition listen to,
+     * so these events are still created when no listener is registered on the engine itself.
+     */
+    protected void registerEventListenerTypes(Process process, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (process == null || process.getEventListeners().isEmpty()) {
+            return;
+        }
+
+        List<EventDispatchAction> eventDispatchActions = processEngineConfiguration.getAdditionalEventDispatchActions();
+        if (eventDispatchActions != null) {
+            for (EventDispatchAction eventDispatchAction : eventDispatchActions) {
+                if (eventDispatchAction instanceof BpmnModelEventDispatchAction) {
+                    ((BpmnModelEventDispatchAction) eventDispatchAction).addEventListenerTypes(process);
+                }
+            }
         }
     }
 
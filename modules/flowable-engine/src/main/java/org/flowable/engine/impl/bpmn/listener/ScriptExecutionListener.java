@@ -16,6 +16,7 @@ package org.flowable.engine.impl.bpmn.listener;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.ExecutionListener;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 
@@ -35,7 +36,8 @@ public class ScriptExecutionListener implements ExecutionListener {
         validateParameters();
 
         ScriptingEngines scriptingEngines = CommandContextUtil.getProcessEngineConfiguration().getScriptingEngines();
-        Object result = scriptingEngines.evaluate(script.getExpressionText(), language.getExpressionText(), execution);
+        String deploymentId = ProcessDefinitionUtil.getProcessDefinition(execution.getProcessDefinitionId()).getDeploymentId();
+        Object result = scriptingEngines.evaluate(script.getExpressionText(), language.getExpressionText(), execution, true, deploymentId, execution.getCurrentActivityId());
 
         if (resultVariable != null) {
             execution.setVariable(resultVariable.getExpressionText(), result);
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.bpmn.listener;
 
 import org.flowable.engine.delegate.TaskListener;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.task.service.delegate.DelegateTask;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
@@ -40,7 +41,12 @@ public class ScriptTaskListener implements TaskListener {
         validateParameters();
 
         ScriptingEngines scriptingEngines = CommandContextUtil.getProcessEngineConfiguration().getScriptingEngines();
-        Object result = scriptingEngines.evaluate(script.getExpressionText(), language.getExpressionText(), delegateTask, autoStoreVariables);
+        String deploymentId = null;
+        if (delegateTask.getProcessDefinitionId() != null) {
+            deploymentId = ProcessDefinitionUtil.getProcessDefinition(delegateTask.getProcessDefinitionId()).getDeploymentId();
+        }
+        Object result = scriptingEngines.evaluate(script.getExpressionText(), language.getExpressionText(), delegateTask, autoStoreVariables,
+                deploymentId, delegateTask.getTaskDefinitionKey());
 
         if (resultVariable != null) {
             delegateTask.setVariable(resultVariable.getExpressionText(), result);
@@ -61,6 +61,27 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * Keeps track of the runtime activity instances (ACT_RU_ACTINST) of each execution. Every start and end of an activity
+     * inserts or updates a row in that table, next to the historic activity instance.
+     *
+     * When false, no runtime activity instances are written and the runtime activity instance query can't be used.
+     * Changes to the activity instance of an execution (e.g. the task or assignee) are applied to the historic activity instance directly.
+     * The tracking can also be disabled for a single process definition, through the <code>flowable:disableRuntimeActivityInstances</code> attribute of the process.
+     *
+     * With async history, these changes are applied when the history job is executed, using the execution and activity id.
+     */
+    protected boolean enableRuntimeActivityInstances = true;
+
+    /**
+     * Resolves the variables used in expressions by fetching only the requested variable, from the execution and all its parent executions
+     * with a single query, instead of fetching all variables of each execution in the hierarchy.
+     *
+     * When false, expressions fetch and cache all variables of the executions, which can be faster when
+     * many different variables of the same executions are used in the same transaction.
+     */
+    protected boolean enableHierarchicalVariableLookupForExpressions = true;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +130,20 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableRuntimeActivityInstances() {
+        return enableRuntimeActivityInstances;
+    }
+
+    public void setEnableRuntimeActivityInstances(boolean enableRuntimeActivityInstances) {
+        this.enableRuntimeActivityInstances = enableRuntimeActivityInstances;
+    }
+
+    public boolean isEnableHierarchicalVariableLookupForExpressions() {
+        return enableHierarchicalVariableLookupForExpressions;
+    }
+
+    public void setEnableHierarchicalVariableLookupForExpressions(boolean enableHierarchicalVariableLookupForExpressions) {
+        this.enableHierarchicalVariableLookupForExpressions = enableHierarchicalVariableLookupForExpressions;
+    }
+
 }
@@ -83,15 +83,16 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
-import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
-import org.flowable.common.engine.impl.persistence.cache.EntityCache;
-import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheSessionFactory;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
 import org.flowable.common.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
@@ -197,6 +198,7 @@ import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
 import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.db.DbIdGenerator;
 import org.flowable.engine.impl.db.EntityDependencyOrder;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
 import org.flowable.engine.impl.db.ProcessDbSchemaManager;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
 import org.flowable.engine.impl.dynamic.DefaultDynamicStateManager;
@@ -261,6 +263,8 @@ import org.flowable.engine.impl.jobexecutor.AsyncCompleteCallActivityJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncSendEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchPartJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchStatusJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
@@ -273,6 +277,7 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
@@ -400,6 +405,7 @@ import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
 import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
+import org.flowable.variable.service.impl.storage.VariableContentStorage;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
 import org.flowable.variable.service.impl.types.DateType;
@@ -408,6 +414,7 @@ import org.flowable.variable.service.impl.types.DoubleType;
 import org.flowable.variable.service.impl.types.EntityManagerSession;
 import org.flowable.variable.service.impl.types.EntityManagerSessionFactory;
 import org.flowable.variable.service.impl.types.InstantType;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
 import org.flowable.variable.service.impl.types.JPAEntityVariableType;
@@ -542,7 +549,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ProcessDefinitionDiagramHelper processDefinitionDiagramHelper;
     protected DeploymentManager deploymentManager;
 
+    /**
+     * Use the {@link PrefetchingDbIdGenerator} instead of the {@link DbIdGenerator} when no id generator is configured:
+     * ids are handed out without locking and the next id block is fetched in the background, with a block size that adapts to the load.
+     */
+    protected boolean isDbIdGeneratorPrefetchEnabled;
+
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+    protected long processDefinitionCacheMaxWeight = -1; // Only used by a concurrent deployment cache, see ProcessDefinitionCacheEntryWeigher
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
@@ -670,6 +684,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * Enables adaptive async job acquisition: after an acquisition that returned a full page, the next page is twice as large
+     * (up to {@link #asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition}), after an acquisition without jobs the wait time doubles
+     * (from {@link #asyncExecutorMinAsyncJobAcquireWaitTime} up to {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}),
+     * and adding a job on this node wakes up the acquisition thread. Disabled by default.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled;
+
+    /**
+     * The maximum number of async jobs acquired in one query when adaptive async job acquisition is enabled. Default value = 64.
+     */
+    protected int asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition = 64;
+
+    /**
+     * The time (in milliseconds) the async job acquisition thread waits after the first acquisition without jobs
+     * when adaptive async job acquisition is enabled. Default value = 100 milliseconds.
+     */
+    protected int asyncExecutorMinAsyncJobAcquireWaitTime = 100;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      * <p>
@@ -763,6 +798,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected String jobExecutionScope;
     protected String historyJobExecutionScope;
+
+    /**
+     * Acquire async, timer and history jobs with 'select ... for update skip locked' (or the 'readpast' table hint on MS SQL Server),
+     * so that async executors on different nodes don't try to lock the same jobs. Only used on PostgreSQL, MySQL 8+, Oracle and MS SQL Server,
+     * on other databases the regular acquisition queries are used.
+     */
+    protected boolean isSkipLockedJobAcquisitionEnabled;
     
     protected String asyncExecutorTenantId = AbstractEngineConfiguration.NO_TENANT_ID;
     
@@ -842,10 +884,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * When set, the content of variable byte arrays (e.g. of serializable, long json or byte array variables) that is larger
+     * than the threshold (in bytes) is stored in this storage instead of the database, which then only keeps a reference to it.
+     */
+    protected VariableContentStorage variableContentStorage;
+    protected int variableContentStorageThreshold = 64 * 1024;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
+    protected boolean isCompiledScriptCacheEnabled = true;
+    protected int compiledScriptCacheSize = 1024;
 
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
@@ -1396,7 +1447,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 addSessionFactory(new AgendaSessionFactory(agendaFactory));
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            addSessionFactory(new EntityCacheSessionFactory(isEntityDirtyTrackingEnabled));
 
             commandContextFactory.setSessionFactories(sessionFactories);
 
@@ -1475,6 +1526,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setVariableContentStorage(this.variableContentStorage);
+        this.variableServiceConfiguration.setVariableContentStorageThreshold(this.variableContentStorageThreshold);
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
 
         this.variableServiceConfiguration.init();
@@ -1625,6 +1678,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setEngineMetrics(this.engineMetrics);
 
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1655,6 +1709,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
+            this.jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(this.isSkipLockedJobAcquisitionEnabled);
 
             this.jobServiceConfiguration.init();
         }
@@ -1752,12 +1807,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
+            if (isConcurrentDeploymentCacheEnabled && processDefinitionCacheMaxWeight > 0) {
+                processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheLimit, processDefinitionCacheMaxWeight, new ProcessDefinitionCacheEntryWeigher());
             } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
+                processDefinitionCache = createDeploymentCache(processDefinitionCacheLimit);
             }
         }
+        processDefinitionCache = initDeploymentCacheMetrics("processDefinition", processDefinitionCache);
     }
 
     public void initProcessDefinitionInfoCache() {
@@ -1900,6 +1956,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    @Override
+    public void close() {
+        super.close();
+        if (idGenerator instanceof PrefetchingDbIdGenerator) {
+            ((PrefetchingDbIdGenerator) idGenerator).shutdown();
+        }
+    }
+
     public void initBehaviorFactory() {
         if (activityBehaviorFactory == null) {
             DefaultActivityBehaviorFactory defaultActivityBehaviorFactory = new DefaultActivityBehaviorFactory();
@@ -2050,6 +2114,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         BpmnHistoryCleanupJobHandler bpmnHistoryCleanupJobHandler = new BpmnHistoryCleanupJobHandler();
         jobHandlers.put(bpmnHistoryCleanupJobHandler.getType(), bpmnHistoryCleanupJobHandler);
 
+        BpmnHistoryCleanupBatchPartJobHandler bpmnHistoryCleanupBatchPartJobHandler = new BpmnHistoryCleanupBatchPartJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupBatchPartJobHandler.getType(), bpmnHistoryCleanupBatchPartJobHandler);
+
+        BpmnHistoryCleanupBatchStatusJobHandler bpmnHistoryCleanupBatchStatusJobHandler = new BpmnHistoryCleanupBatchStatusJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupBatchStatusJobHandler.getType(), bpmnHistoryCleanupBatchStatusJobHandler);
+
         ProcessInstanceMigrationJobHandler processInstanceMigrationJobHandler = new ProcessInstanceMigrationJobHandler();
         jobHandlers.put(processInstanceMigrationJobHandler.getType(), processInstanceMigrationJobHandler);
         
@@ -2167,6 +2237,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
+            // Adaptive acquisition
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisitionEnabled(isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled);
+            defaultAsyncExecutor.setMaxAdaptiveAsyncJobsDuePerAcquisition(asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition);
+            defaultAsyncExecutor.setMinAsyncJobAcquireWaitTimeInMillis(asyncExecutorMinAsyncJobAcquireWaitTime);
+
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
@@ -2282,7 +2357,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     public void initIdGenerator() {
         if (idGenerator == null) {
-            DbIdGenerator dbIdGenerator = new DbIdGenerator();
+            DbIdGenerator dbIdGenerator = isDbIdGeneratorPrefetchEnabled ? new PrefetchingDbIdGenerator() : new DbIdGenerator();
             dbIdGenerator.setIdBlockSize(idBlockSize);
             idGenerator = dbIdGenerator;
         }
@@ -2354,6 +2429,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // longJsonType only needed for reading purposes
             variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
             variableTypes.addType(new ByteArrayType());
+            variableTypes.addType(new InputStreamType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
@@ -2403,6 +2479,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (isCompiledScriptCacheEnabled && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(new CompiledScriptCache(compiledScriptCacheSize));
+        }
     }
 
     public void initExpressionManager() {
@@ -2932,6 +3011,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    @Override
+    public ProcessEngineConfigurationImpl setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+        return this;
+    }
+
     public String getWsSyncFactoryClassName() {
         return wsSyncFactoryClassName;
     }
@@ -3130,6 +3215,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public VariableContentStorage getVariableContentStorage() {
+        return variableContentStorage;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableContentStorage(VariableContentStorage variableContentStorage) {
+        this.variableContentStorage = variableContentStorage;
+        return this;
+    }
+
+    public int getVariableContentStorageThreshold() {
+        return variableContentStorageThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableContentStorageThreshold(int variableContentStorageThreshold) {
+        this.variableContentStorageThreshold = variableContentStorageThreshold;
+        return this;
+    }
+
     @Override
     public ExpressionManager getExpressionManager() {
         return expressionManager;
@@ -3159,6 +3262,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public int getExpressionTextLengthCacheLimit() {
         return expressionTextLengthCacheLimit;
     }
@@ -3582,6 +3703,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    /**
+     * Bounds the process definition cache by the estimated weight of the cached definitions (see {@link ProcessDefinitionCacheEntryWeigher}).
+     * Only applies when the concurrent deployment cache is enabled.
+     */
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3801,6 +3935,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableRuntimeActivityInstances(boolean enableRuntimeActivityInstances) {
+        this.performanceSettings.setEnableRuntimeActivityInstances(enableRuntimeActivityInstances);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHierarchicalVariableLookupForExpressions(boolean enableHierarchicalVariableLookupForExpressions) {
+        this.performanceSettings.setEnableHierarchicalVariableLookupForExpressions(enableHierarchicalVariableLookupForExpressions);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -4602,6 +4746,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled() {
+        return isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled(boolean isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled) {
+        this.isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled = isAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition() {
+        return asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition(int asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition) {
+        this.asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition = asyncExecutorMaxAdaptiveAsyncJobsDuePerAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorMinAsyncJobAcquireWaitTime() {
+        return asyncExecutorMinAsyncJobAcquireWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMinAsyncJobAcquireWaitTime(int asyncExecutorMinAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMinAsyncJobAcquireWaitTime = asyncExecutorMinAsyncJobAcquireWaitTime;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -4701,6 +4872,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isDbIdGeneratorPrefetchEnabled() {
+        return isDbIdGeneratorPrefetchEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setDbIdGeneratorPrefetchEnabled(boolean isDbIdGeneratorPrefetchEnabled) {
+        this.isDbIdGeneratorPrefetchEnabled = isDbIdGeneratorPrefetchEnabled;
+        return this;
+    }
+
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return isSkipLockedJobAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setSkipLockedJobAcquisitionEnabled(boolean isSkipLockedJobAcquisitionEnabled) {
+        this.isSkipLockedJobAcquisitionEnabled = isSkipLockedJobAcquisitionEnabled;
+        return this;
+    }
+
     public int getAsyncHistoryExecutorCorePoolSize() {
         return asyncHistoryExecutorCorePoolSize;
     }
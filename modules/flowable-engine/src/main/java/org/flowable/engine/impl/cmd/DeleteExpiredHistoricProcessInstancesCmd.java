@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.DefaultHistoryManager;
+import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+
+/**
+ * Deletes at most maxResults of the historic process instances matched by the history cleaning query that ended in the given
+ * period, together with their related historic data. Returns the number of deleted historic process instances.
+ */
+public class DeleteExpiredHistoricProcessInstancesCmd implements Command<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Date finishedAfter;
+    protected Date finishedBefore;
+    protected int maxResults;
+
+    public DeleteExpiredHistoricProcessInstancesCmd(Date finishedAfter, Date finishedBefore, int maxResults) {
+        this.finishedAfter = finishedAfter;
+        this.finishedBefore = finishedBefore;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        List<HistoricProcessInstance> historicProcessInstances = processEngineConfiguration.getHistoryCleaningManager()
+                .createHistoricProcessInstanceCleaningQuery()
+                .finishedAfter(finishedAfter)
+                .finishedBefore(finishedBefore)
+                .listPage(0, maxResults);
+
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+
+        // With async history, the history manager of the engine only schedules the deletion,
+        // which would leave the instance to be found again by the next chunk
+        HistoryManager historyManager = processEngineConfiguration.getHistoryManager();
+        if (!(historyManager instanceof DefaultHistoryManager)) {
+            historyManager = new DefaultHistoryManager(processEngineConfiguration, processEngineConfiguration.getHistoryLevel(),
+                    processEngineConfiguration.isUsePrefixId());
+        }
+
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+            if (processEngineConfiguration.isEnableHistoricTaskLogging()) {
+                for (HistoricTaskInstanceEntity historicTaskInstance : historicTaskService.findHistoricTasksByProcessInstanceId(historicProcessInstance.getId())) {
+                    historicTaskService.deleteHistoricTaskLogEntriesForTaskId(historicTaskInstance.getId());
+                }
+            }
+            historyManager.recordProcessInstanceDeleted(historicProcessInstance.getId(), historicProcessInstance.getProcessDefinitionId(),
+                    historicProcessInstance.getTenantId());
+        }
+
+        return historicProcessInstances.size();
+    }
+
+}
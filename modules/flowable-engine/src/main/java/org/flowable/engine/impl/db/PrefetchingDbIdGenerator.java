@@ -0,0 +1,233 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DbIdGenerator} that hands out ids without locking and fetches the next id block in the background,
+ * before the current one is exhausted.
+ *
+ * Ids are taken from the current block with an atomic counter. When the remaining ids of the current block drop below
+ * the prefetch threshold, the next block is claimed by a background thread (in a separate transaction, as with the {@link DbIdGenerator}).
+ * Threads only wait when the current block is exhausted before the prefetched block is available.
+ *
+ * The size of the claimed blocks adapts to the consumption rate: it doubles (up to the maximum block size) when a block is used up
+ * faster than the target block lifetime, and halves (down to the configured id block size) when a block lasts much longer.
+ * This reduces the number of updates of the shared id property when the engine is busy, without wasting ids when it is not.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    protected int maxIdBlockSize = -1; // By default 16 times the id block size
+    protected double prefetchThreshold = 0.25; // Fraction of the block that is left when the next block is prefetched
+    protected long targetBlockLifetime = 10000L; // In milliseconds
+
+    protected Executor prefetchExecutor;
+    protected ExecutorService defaultPrefetchExecutor;
+
+    protected volatile IdRange currentRange;
+    protected final AtomicReference<CompletableFuture<IdRange>> prefetchedRange = new AtomicReference<>();
+    protected volatile int currentIdBlockSize;
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            IdRange range = currentRange;
+            if (range != null) {
+                long id = range.nextId.getAndIncrement();
+                if (id <= range.lastId) {
+                    if (id == range.prefetchId) {
+                        prefetchNextRange();
+                    }
+                    return Long.toString(id);
+                }
+            }
+            switchRange(range);
+        }
+    }
+
+    @Override
+    protected synchronized void getNewBlock() {
+        switchRange(currentRange);
+    }
+
+    protected synchronized void switchRange(IdRange exhaustedRange) {
+        if (currentRange != exhaustedRange) {
+            // Another thread already switched to a new range
+            return;
+        }
+
+        if (exhaustedRange != null) {
+            adaptIdBlockSize(exhaustedRange);
+        }
+
+        IdRange nextRange = null;
+        CompletableFuture<IdRange> prefetchedRangeFuture = prefetchedRange.getAndSet(null);
+        if (prefetchedRangeFuture != null) {
+            try {
+                nextRange = prefetchedRangeFuture.join();
+            } catch (CompletionException e) {
+                LOGGER.warn("Prefetching the next id block failed, fetching it again", e.getCause());
+            }
+        }
+
+        if (nextRange == null) {
+            nextRange = fetchRange();
+        }
+
+        nextRange.startTime = System.currentTimeMillis();
+        currentRange = nextRange;
+    }
+
+    protected void prefetchNextRange() {
+        CompletableFuture<IdRange> future = new CompletableFuture<>();
+        if (prefetchedRange.compareAndSet(null, future)) {
+            try {
+                getPrefetchExecutor().execute(() -> {
+                    try {
+                        future.complete(fetchRange());
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // The block will be fetched when the current one is exhausted
+                prefetchedRange.compareAndSet(future, null);
+                LOGGER.debug("Could not schedule the prefetch of the next id block", e);
+            }
+        }
+    }
+
+    protected IdRange fetchRange() {
+        int blockSize = getCurrentIdBlockSize();
+        IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(blockSize));
+        return new IdRange(idBlock.getNextId(), idBlock.getLastId(), prefetchThreshold);
+    }
+
+    protected void adaptIdBlockSize(IdRange exhaustedRange) {
+        long lifetime = System.currentTimeMillis() - exhaustedRange.startTime;
+        int blockSize = getCurrentIdBlockSize();
+        int newBlockSize = blockSize;
+        if (lifetime < targetBlockLifetime) {
+            newBlockSize = (int) Math.min((long) blockSize * 2, getMaxIdBlockSize());
+        } else if (lifetime > 4 * targetBlockLifetime) {
+            newBlockSize = Math.max(blockSize / 2, idBlockSize);
+        }
+
+        if (newBlockSize != blockSize) {
+            LOGGER.debug("Id block of {} ids was used in {} ms, changing the id block size to {}", blockSize, lifetime, newBlockSize);
+            currentIdBlockSize = newBlockSize;
+        }
+    }
+
+    public Executor getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            synchronized (this) {
+                if (prefetchExecutor == null) {
+                    // A single thread that is only kept while ids are being prefetched
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "flowable-id-block-prefetch");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    defaultPrefetchExecutor = executor;
+                    prefetchExecutor = executor;
+                }
+            }
+        }
+        return prefetchExecutor;
+    }
+
+    /**
+     * Shuts down the prefetch executor created by this id generator. An executor set through {@link #setPrefetchExecutor(Executor)} is not shut down.
+     * Ids are still handed out after the shutdown, but the next blocks are no longer prefetched.
+     */
+    public synchronized void shutdown() {
+        if (defaultPrefetchExecutor != null) {
+            defaultPrefetchExecutor.shutdown();
+        }
+    }
+
+    public int getCurrentIdBlockSize() {
+        int blockSize = currentIdBlockSize;
+        return blockSize > 0 ? blockSize : idBlockSize;
+    }
+
+    public int getMaxIdBlockSize() {
+        return maxIdBlockSize > 0 ? Math.max(maxIdBlockSize, idBlockSize) : idBlockSize * 16;
+    }
+
+    public void setMaxIdBlockSize(int maxIdBlockSize) {
+        this.maxIdBlockSize = maxIdBlockSize;
+    }
+
+    public double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    /**
+     * @param prefetchThreshold
+     *            the fraction of the current block (between 0 and 1) that is left when the next block is prefetched.
+     */
+    public void setPrefetchThreshold(double prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public long getTargetBlockLifetime() {
+        return targetBlockLifetime;
+    }
+
+    /**
+     * @param targetBlockLifetime
+     *            the time (in milliseconds) an id block should last, used to adapt the size of the claimed blocks.
+     */
+    public void setTargetBlockLifetime(long targetBlockLifetime) {
+        this.targetBlockLifetime = targetBlockLifetime;
+    }
+
+    public void setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    protected static class IdRange {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long prefetchId;
+        protected volatile long startTime;
+
+        public IdRange(long nextId, long lastId, double prefetchThreshold) {
+            this.nextId = new AtomicLong(nextId);
+            this.lastId = lastId;
+            // The id at which the next block is prefetched, it is handed out exactly once
+            long remaining = (long) ((lastId - nextId + 1) * prefetchThreshold);
+            this.prefetchId = Math.max(nextId, lastId - remaining);
+        }
+    }
+
+}
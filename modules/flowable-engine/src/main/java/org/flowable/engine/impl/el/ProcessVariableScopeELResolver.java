@@ -13,11 +13,14 @@
 package org.flowable.engine.impl.el;
 
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.el.VariableContainerELResolver;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 
 /**
  * @author Joram Barrez
@@ -47,6 +50,18 @@ public class ProcessVariableScopeELResolver extends VariableContainerELResolver
                 }
                 return executionEntity;
                 
+            } else if (!LOGGED_IN_USER_KEY.equals(property) && variableContainer instanceof VariableScopeImpl && isHierarchicalVariableLookupEnabled()) {
+                // only the requested variable is fetched, instead of all variables of the scope and its parents
+                VariableInstance variable = ((VariableScopeImpl) variableContainer).getVariableInstanceFromHierarchy((String) property);
+                if (variable != null) {
+                    context.setPropertyResolved(true);
+                    return variable.getValue();
+                    
+                } else if (VARIABLE_CONTAINER_KEY.equals(property)) {
+                    context.setPropertyResolved(true);
+                    return variableContainer;
+                }
+                
             } else {
                 return super.getValue(context, base, property);
             }
@@ -54,4 +69,9 @@ public class ProcessVariableScopeELResolver extends VariableContainerELResolver
         return null;
     }
 
+    protected boolean isHierarchicalVariableLookupEnabled() {
+        return Context.getCommandContext() != null
+                && CommandContextUtil.getProcessEngineConfiguration().getPerformanceSettings().isEnableHierarchicalVariableLookupForExpressions();
+    }
+
 }
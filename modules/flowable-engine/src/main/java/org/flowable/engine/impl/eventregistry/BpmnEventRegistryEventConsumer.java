@@ -72,6 +72,34 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         }
     }
 
+    @Override
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        handleEventBatch(ScopeTypes.BPMN, eventInstances);
+    }
+
+    @Override
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        handleEventSubscription(processEngineConfiguration.getRuntimeService(), eventSubscription, eventInstance, correlationKeys);
+    }
+
+    @Override
+    protected boolean isSingleUseEventSubscription(EventSubscription eventSubscription) {
+        if (eventSubscription.getExecutionId() == null && eventSubscription.getProcessDefinitionId() != null
+                && eventSubscription.getProcessInstanceId() == null) {
+
+            // A start event can start multiple process instances in one transaction,
+            // unless only one instance per correlation key is allowed, which is checked with a query
+            return Objects.equals(getStartCorrelationConfiguration(eventSubscription), BpmnXMLConstants.START_EVENT_CORRELATION_STORE_AS_UNIQUE_REFERENCE_ID);
+        }
+
+        return true;
+    }
+
+    @Override
+    protected String getEventSubscriptionInstanceId(EventSubscription eventSubscription) {
+        return eventSubscription.getProcessInstanceId();
+    }
+
     protected void handleEventSubscription(RuntimeService runtimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
 
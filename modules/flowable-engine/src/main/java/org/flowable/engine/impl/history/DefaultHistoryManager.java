@@ -81,7 +81,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED, () -> FlowableEventBuilder.createEntityEvent(
                             FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED, historicProcessInstance));
                 }
 
@@ -111,7 +111,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
             // Fire event
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, () -> FlowableEventBuilder.createEntityEvent(
                         FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, historicProcessInstance));
             }
 
@@ -171,9 +171,8 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(
-                        FlowableEventBuilder
-                            .createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, historicActivityInstanceEntity));
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, historicActivityInstanceEntity));
                 }
             }
         }
@@ -190,8 +189,8 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
             // Fire event
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(
-                    FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance));
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance));
             }
         }
     }
@@ -206,8 +205,8 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(
-                        FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance));
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance));
                 }
             }
         }
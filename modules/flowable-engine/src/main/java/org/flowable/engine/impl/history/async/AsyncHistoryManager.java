@@ -473,6 +473,8 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
             if (activityInstance.getExecutionId() != null) {
                 ObjectNode data = processEngineConfiguration.getObjectMapper().createObjectNode();
                 putIfNotNull(data, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID, activityInstance.getId());
+                putIfNotNull(data, HistoryJsonConstants.EXECUTION_ID, activityInstance.getExecutionId());
+                putIfNotNull(data, HistoryJsonConstants.ACTIVITY_ID, activityInstance.getActivityId());
                 putIfNotNull(data, HistoryJsonConstants.TASK_ID, activityInstance.getTaskId());
                 putIfNotNull(data, HistoryJsonConstants.ASSIGNEE, activityInstance.getAssignee());
                 putIfNotNull(data, HistoryJsonConstants.CALLED_PROCESS_INSTANCE_ID, activityInstance.getCalledProcessInstanceId());
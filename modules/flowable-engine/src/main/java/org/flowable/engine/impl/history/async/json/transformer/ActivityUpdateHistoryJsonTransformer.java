@@ -45,9 +45,11 @@ public class ActivityUpdateHistoryJsonTransformer extends AbstractHistoryJsonTra
             if (historicActivityInstance == null) {
                 return false;
             }
+            return true;
         }
-        return true;
 
+        // without runtime activity instances, the historic activity instance is found through the execution and activity id
+        return historicActivityInstanceExistsForDataIncludingFinished(historicalData, commandContext);
     }
 
     @Override
@@ -66,6 +68,25 @@ public class ActivityUpdateHistoryJsonTransformer extends AbstractHistoryJsonTra
                 historicActivityInstance.setCalledProcessInstanceId(calledProcessInstanceId);
             }
 
+        } else {
+            String executionId = getStringFromJson(historicalData, HistoryJsonConstants.EXECUTION_ID);
+            String activityId = getStringFromJson(historicalData, HistoryJsonConstants.ACTIVITY_ID);
+            HistoricActivityInstanceEntity historicActivityInstance = findHistoricActivityInstance(commandContext, executionId, activityId);
+            if (historicActivityInstance != null) {
+                // only the changed values are known here, the other values are kept
+                String taskId = getStringFromJson(historicalData, HistoryJsonConstants.TASK_ID);
+                if (taskId != null) {
+                    historicActivityInstance.setTaskId(taskId);
+                }
+                String assigneeId = getStringFromJson(historicalData, HistoryJsonConstants.ASSIGNEE);
+                if (assigneeId != null) {
+                    historicActivityInstance.setAssignee(assigneeId);
+                }
+                String calledProcessInstanceId = getStringFromJson(historicalData, HistoryJsonConstants.CALLED_PROCESS_INSTANCE_ID);
+                if (calledProcessInstanceId != null) {
+                    historicActivityInstance.setCalledProcessInstanceId(calledProcessInstanceId);
+                }
+            }
         }
 
     }
@@ -20,7 +20,9 @@ import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
- * 
+ * Triggers the execution of the job. When the job has a handler configuration, the custom values of the job are passed
+ * to the trigger as a transient variable named after the configuration.
+ *
  * @author Tijs Rademakers
  */
 public class AsyncTriggerJobHandler implements JobHandler {
@@ -35,6 +37,9 @@ public class AsyncTriggerJobHandler implements JobHandler {
     @Override
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ExecutionEntity executionEntity = (ExecutionEntity) variableScope;
+        if (configuration != null) {
+            executionEntity.setTransientVariable(configuration, job.getCustomValues());
+        }
 
         CommandContextUtil.getAgenda(commandContext).planTriggerExecutionOperation(executionEntity);
     }
@@ -0,0 +1,150 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.Date;
+
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.DeleteExpiredHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the expired historic process instances that ended in the period of a history cleanup batch part. Every execution deletes
+ * one chunk of the history cleaning batch size in its own transaction, and schedules a new job for the next chunk as long as
+ * full chunks are deleted.
+ */
+public class BpmnHistoryCleanupBatchPartJobHandler implements JobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup-batch-part";
+
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_FAIL = "fail";
+
+    public static final String BATCH_RESULT_STATUS_LABEL = "resultStatus";
+    public static final String BATCH_RESULT_MESSAGE_LABEL = "resultMessage";
+    public static final String BATCH_RESULT_DELETED_COUNT_LABEL = "deletedCount";
+
+    protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
+    protected static final String CFG_LABEL_FINISHED_AFTER = "finishedAfter";
+    protected static final String CFG_LABEL_FINISHED_BEFORE = "finishedBefore";
+    protected static final String CFG_LABEL_DELETED_COUNT = "deletedCount";
+    protected static final String CFG_LABEL_EXPIRED_COUNT = "expiredCount";
+    protected static final String CFG_LABEL_BATCH_SIZE = "batchSize";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+
+        JsonNode cfgAsJson = readHandlerCfg(configuration);
+        String batchPartId = cfgAsJson.path(CFG_LABEL_BATCH_PART_ID).asText(null);
+        Date finishedAfter = new Date(cfgAsJson.path(CFG_LABEL_FINISHED_AFTER).asLong());
+        Date finishedBefore = new Date(cfgAsJson.path(CFG_LABEL_FINISHED_BEFORE).asLong());
+        long deletedCount = cfgAsJson.path(CFG_LABEL_DELETED_COUNT).asLong();
+        int batchSize = processEngineConfiguration.getHistoryCleaningBatchSize();
+
+        int chunkDeletedCount;
+        try {
+            // the chunk is committed on its own, a failure rolls back this chunk only
+            chunkDeletedCount = processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(),
+                    new DeleteExpiredHistoricProcessInstancesCmd(finishedAfter, finishedBefore, batchSize));
+        } catch (RuntimeException e) {
+            // any failure completes the part, otherwise the batch would never complete and no new cleanup would be planned
+            batchService.completeBatchPart(batchPartId, RESULT_FAIL, prepareResultAsJsonString(deletedCount, getExceptionMessage(e)));
+            return;
+        }
+        deletedCount += chunkDeletedCount;
+
+        if (chunkDeletedCount > 0 && chunkDeletedCount >= batchSize) {
+            JobService jobService = CommandContextUtil.getJobService(commandContext);
+            JobEntity nextChunkJob = jobService.createJob();
+            nextChunkJob.setJobHandlerType(TYPE);
+            nextChunkJob.setJobHandlerConfiguration(getHandlerCfg(batchPartId, finishedAfter.getTime(), finishedBefore.getTime(), deletedCount));
+            jobService.createAsyncJob(nextChunkJob, false);
+            jobService.scheduleAsyncJob(nextChunkJob);
+
+        } else {
+            batchService.completeBatchPart(batchPartId, RESULT_SUCCESS, prepareResultAsJsonString(deletedCount, null));
+        }
+    }
+
+    public static String getHandlerCfg(String batchPartId, long finishedAfter, long finishedBefore, long deletedCount) {
+        ObjectNode handlerCfg = getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_PART_ID, batchPartId);
+        handlerCfg.put(CFG_LABEL_FINISHED_AFTER, finishedAfter);
+        handlerCfg.put(CFG_LABEL_FINISHED_BEFORE, finishedBefore);
+        handlerCfg.put(CFG_LABEL_DELETED_COUNT, deletedCount);
+        return handlerCfg.toString();
+    }
+
+    public static String getBatchDocumentJson(long expiredCount, int batchSize) {
+        ObjectNode batchDocument = getObjectMapper().createObjectNode();
+        batchDocument.put(CFG_LABEL_EXPIRED_COUNT, expiredCount);
+        batchDocument.put(CFG_LABEL_BATCH_SIZE, batchSize);
+        return batchDocument.toString();
+    }
+
+    protected static String prepareResultAsJsonString(long deletedCount, String exceptionMessage) {
+        ObjectNode objectNode = getObjectMapper().createObjectNode();
+        objectNode.put(BATCH_RESULT_DELETED_COUNT_LABEL, deletedCount);
+        if (exceptionMessage == null) {
+            objectNode.put(BATCH_RESULT_STATUS_LABEL, RESULT_SUCCESS);
+        } else {
+            objectNode.put(BATCH_RESULT_STATUS_LABEL, RESULT_FAIL);
+            objectNode.put(BATCH_RESULT_MESSAGE_LABEL, exceptionMessage);
+        }
+        return objectNode.toString();
+    }
+
+    protected static String getExceptionMessage(Throwable exception) {
+        return exception.getMessage() != null ? exception.getMessage() : exception.getClass().getName();
+    }
+
+    protected static JsonNode readHandlerCfg(String handlerCfg) {
+        try {
+            return getObjectMapper().readTree(handlerCfg);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read history cleanup batch part job configuration " + handlerCfg, e);
+        }
+    }
+
+    protected static ObjectMapper getObjectMapper() {
+        if (CommandContextUtil.getCommandContext() != null) {
+            return CommandContextUtil.getProcessEngineConfiguration().getObjectMapper();
+        } else {
+            return new ObjectMapper();
+        }
+    }
+
+}
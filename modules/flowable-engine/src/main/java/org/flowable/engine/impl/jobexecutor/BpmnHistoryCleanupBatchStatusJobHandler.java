@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
+import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Completes a history cleanup batch once all its parts are completed. A part whose job ended up as a dead letter job,
+ * or was deleted, is completed as failed.
+ */
+public class BpmnHistoryCleanupBatchStatusJobHandler implements JobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup-batch-status";
+
+    protected static final String CFG_LABEL_BATCH_ID = "batchId";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+
+        JsonNode cfgAsJson = BpmnHistoryCleanupBatchPartJobHandler.readHandlerCfg(configuration);
+        String batchId = cfgAsJson.path(CFG_LABEL_BATCH_ID).asText(null);
+
+        // The jobs are read before the parts, so a part job finishing in between shows up as a completed part
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration();
+        Set<String> runningBatchPartIds = new HashSet<>();
+        for (Job partJob : jobServiceConfiguration.getJobEntityManager().findJobsByQueryCriteria(new JobQueryImpl().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE))) {
+            runningBatchPartIds.add(getBatchPartId(partJob));
+        }
+        // a failed job waiting for its next retry is a timer job
+        for (Job partJob : jobServiceConfiguration.getTimerJobEntityManager().findJobsByQueryCriteria(new TimerJobQueryImpl().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE))) {
+            runningBatchPartIds.add(getBatchPartId(partJob));
+        }
+        Map<String, Job> deadLetterPartJobs = new HashMap<>();
+        for (Job partJob : jobServiceConfiguration.getDeadLetterJobEntityManager().findJobsByQueryCriteria(new DeadLetterJobQueryImpl().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE))) {
+            deadLetterPartJobs.put(getBatchPartId(partJob), partJob);
+        }
+
+        boolean completed = true;
+        List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batchId);
+        for (BatchPart batchPart : batchParts) {
+            if (batchPart.getCompleteTime() == null) {
+                if (runningBatchPartIds.contains(batchPart.getId())) {
+                    completed = false;
+                } else {
+                    // The part job ran out of retries or was deleted, so the part would never be completed
+                    failBatchPart(batchService, batchPart, deadLetterPartJobs.get(batchPart.getId()));
+                }
+            }
+        }
+
+        if (!completed) {
+            return;
+        }
+
+        batchService.completeBatch(batchId, BpmnHistoryCleanupBatchPartJobHandler.STATUS_COMPLETED);
+        job.setRepeat(null);
+    }
+
+    protected void failBatchPart(BatchService batchService, BatchPart batchPart, Job deadLetterPartJob) {
+        long deletedCount = 0;
+        String message = "The job of the history cleanup batch part was deleted";
+        if (deadLetterPartJob != null) {
+            deletedCount = BpmnHistoryCleanupBatchPartJobHandler.readHandlerCfg(deadLetterPartJob.getJobHandlerConfiguration())
+                    .path(BpmnHistoryCleanupBatchPartJobHandler.CFG_LABEL_DELETED_COUNT).asLong();
+            message = deadLetterPartJob.getExceptionMessage() != null ? deadLetterPartJob.getExceptionMessage() : "The job of the history cleanup batch part failed";
+        }
+        batchService.completeBatchPart(batchPart.getId(), BpmnHistoryCleanupBatchPartJobHandler.RESULT_FAIL, BpmnHistoryCleanupBatchPartJobHandler.prepareResultAsJsonString(deletedCount, message));
+    }
+
+    protected String getBatchPartId(Job partJob) {
+        return BpmnHistoryCleanupBatchPartJobHandler.readHandlerCfg(partJob.getJobHandlerConfiguration()).path(BpmnHistoryCleanupBatchPartJobHandler.CFG_LABEL_BATCH_PART_ID).asText(null);
+    }
+
+    public static String getHandlerCfgForBatchId(String batchId) {
+        ObjectNode handlerCfg = BpmnHistoryCleanupBatchPartJobHandler.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_ID, batchId);
+        return handlerCfg.toString();
+    }
+
+}
@@ -12,11 +12,26 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.HistoryCleaningManager;
+import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
 public class BpmnHistoryCleanupJobHandler implements JobHandler {
@@ -32,7 +47,90 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
 
-        processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        if (processEngineConfiguration.getHistoryCleaningBatchSize() > 0) {
+            createHistoryCleanupBatch(processEngineConfiguration, commandContext);
+        } else {
+            processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        }
+    }
+
+    /**
+     * Splits the period in which the expired historic process instances ended into as many parts as needed to delete them in
+     * chunks of the history cleaning batch size, and creates an async job per part. The parts don't overlap, so they can be
+     * executed in parallel.
+     */
+    protected void createHistoryCleanupBatch(ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        long runningBatchCount = batchService.findBatchCountByQueryCriteria(new BatchQueryImpl()
+                .batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .status(BpmnHistoryCleanupBatchPartJobHandler.STATUS_IN_PROGRESS));
+        if (runningBatchCount > 0) {
+            // the previous cleanup is still deleting its parts
+            return;
+        }
+
+        HistoryCleaningManager historyCleaningManager = processEngineConfiguration.getHistoryCleaningManager();
+        long expiredCount = historyCleaningManager.createHistoricProcessInstanceCleaningQuery().count();
+        if (expiredCount == 0) {
+            return;
+        }
+
+        Date firstEndTime = findEndTime(historyCleaningManager, true);
+        Date lastEndTime = findEndTime(historyCleaningManager, false);
+        if (firstEndTime == null || lastEndTime == null) {
+            return;
+        }
+
+        int batchSize = processEngineConfiguration.getHistoryCleaningBatchSize();
+        long period = lastEndTime.getTime() - firstEndTime.getTime() + 1;
+        long numberOfParts = Math.min((expiredCount + batchSize - 1) / batchSize, period);
+        long partPeriod = period / numberOfParts;
+
+        Batch batch = batchService.createBatchBuilder().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .status(BpmnHistoryCleanupBatchPartJobHandler.STATUS_IN_PROGRESS)
+                .batchDocumentJson(BpmnHistoryCleanupBatchPartJobHandler.getBatchDocumentJson(expiredCount, batchSize))
+                .create();
+
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        for (long i = 0; i < numberOfParts; i++) {
+            long finishedAfter = firstEndTime.getTime() + i * partPeriod;
+            long finishedBefore = i == numberOfParts - 1 ? lastEndTime.getTime() : finishedAfter + partPeriod - 1;
+
+            BatchPart batchPart = batchService.createBatchPart(batch, BpmnHistoryCleanupBatchPartJobHandler.STATUS_WAITING, null, null, ScopeTypes.BPMN);
+
+            JobEntity partJob = jobService.createJob();
+            partJob.setJobHandlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE);
+            partJob.setJobHandlerConfiguration(BpmnHistoryCleanupBatchPartJobHandler.getHandlerCfg(batchPart.getId(), finishedAfter, finishedBefore, 0));
+            jobService.createAsyncJob(partJob, false);
+            jobService.scheduleAsyncJob(partJob);
+        }
+
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(BpmnHistoryCleanupBatchStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(BpmnHistoryCleanupBatchStatusJobHandler.getHandlerCfgForBatchId(batch.getId()));
+
+        BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+    protected Date findEndTime(HistoryCleaningManager historyCleaningManager, boolean first) {
+        List<HistoricProcessInstance> historicProcessInstances;
+        if (first) {
+            historicProcessInstances = historyCleaningManager.createHistoricProcessInstanceCleaningQuery()
+                    .orderByProcessInstanceEndTime().asc()
+                    .listPage(0, 1);
+        } else {
+            historicProcessInstances = historyCleaningManager.createHistoricProcessInstanceCleaningQuery()
+                    .orderByProcessInstanceEndTime().desc()
+                    .listPage(0, 1);
+        }
+        return historicProcessInstances.isEmpty() ? null : historicProcessInstances.get(0).getEndTime();
     }
-    
+
 }
@@ -24,6 +24,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.app.AppModel;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
@@ -127,7 +128,9 @@ public class DeploymentManager {
 
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
+            long startTime = System.nanoTime();
             deploy(deployment, null);
+            processDefinitionCache.recordLoad(System.nanoTime() - startTime);
             cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
             if (cachedProcessDefinition == null) {
@@ -216,6 +219,11 @@ public class DeploymentManager {
 
         appResourceCache.remove(deploymentId);
         knowledgeBaseCache.remove(deploymentId);
+
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        if (scriptingEngines != null && scriptingEngines.getCompiledScriptCache() != null) {
+            scriptingEngines.getCompiledScriptCache().removeDeployment(deploymentId);
+        }
     }
 
     // getters and setters
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity;
 
 import static org.flowable.engine.impl.util.CommandContextUtil.getEntityCache;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -22,14 +23,17 @@ import java.util.Objects;
 
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
 import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.ActivityInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.persistence.entity.data.ActivityInstanceDataManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
@@ -42,6 +46,7 @@ public class ActivityInstanceEntityManagerImpl
 
     protected static final String NO_ACTIVITY_ID_PREFIX = "_flow_";
     protected static final String NO_ACTIVITY_ID_SEPARATOR = "__";
+    protected static final String ATTRIBUTE_NOT_INSERTED_ACTIVITY_INSTANCES = "ctx.attribute.notInsertedActivityInstances";
 
     protected final boolean usePrefixId;
 
@@ -133,6 +138,14 @@ public class ActivityInstanceEntityManagerImpl
             if (activityInstance != null) {
                 activityInstance.setTaskId(task.getId());
                 getHistoryManager().updateHistoricActivityInstance(activityInstance);
+
+            } else if (engineConfiguration.isAsyncHistoryEnabled() && !isRuntimeActivityInstancesEnabled(execution.getProcessDefinitionId())) {
+                // the historic activity instance is resolved through the execution and activity id when the history job is executed
+                activityInstance = createActivityInstanceReference(execution);
+                if (activityInstance != null) {
+                    activityInstance.setTaskId(task.getId());
+                    getHistoryManager().updateHistoricActivityInstance(activityInstance);
+                }
             }
         }
     }
@@ -165,6 +178,10 @@ public class ActivityInstanceEntityManagerImpl
 
     protected void syncUserTaskExecutionActivityInstance(ExecutionEntity childExecution, String oldActivityId,
         FlowElement newFlowElement) {
+        if (!isRuntimeActivityInstancesEnabled(childExecution.getProcessDefinitionId())) {
+            return;
+        }
+
         ActivityInstanceEntityManager activityInstanceEntityManager = CommandContextUtil.getActivityInstanceEntityManager();
         List<ActivityInstanceEntity> activityInstances = activityInstanceEntityManager.findActivityInstancesByExecutionAndActivityId(childExecution.getId(), oldActivityId);
         for (ActivityInstanceEntity activityInstance : activityInstances) {
@@ -180,7 +197,7 @@ public class ActivityInstanceEntityManagerImpl
         if (executionEntity != null) {
             if (!Objects.equals(getOriginalAssignee(taskEntity), taskEntity.getAssignee())) {
                 activityInstance = findUnfinishedActivityInstance(executionEntity);
-                if (activityInstance == null) {
+                if (activityInstance == null && isRuntimeActivityInstancesEnabled(executionEntity.getProcessDefinitionId())) {
                     HistoricActivityInstanceEntity historicActivityInstance = getHistoryManager().findHistoricActivityInstance(executionEntity, true);
                     if (historicActivityInstance != null) {
                         activityInstance = createActivityInstance(historicActivityInstance);
@@ -238,7 +255,7 @@ public class ActivityInstanceEntityManagerImpl
         ActivityInstanceEntity activityInstance = findUnfinishedActivityInstance(executionEntity);
         if (activityInstance != null) {
             activityInstance.markEnded(deleteReason);
-        } else {
+        } else if (isRuntimeActivityInstancesEnabled(executionEntity.getProcessDefinitionId())) {
             // in the case of upgrade from 6.4.1.1 to 6.4.1.2 we have to create activityInstance for all already unfinished historicActivities
             // which are going to be ended
             HistoricActivityInstanceEntity historicActivityInstance = getHistoryManager().findHistoricActivityInstance(executionEntity, true);
@@ -252,6 +269,10 @@ public class ActivityInstanceEntityManagerImpl
 
     @Override
     public ActivityInstanceEntity findUnfinishedActivityInstance(ExecutionEntity execution) {
+        if (!isRuntimeActivityInstancesEnabled(execution.getProcessDefinitionId())) {
+            return findUnfinishedActivityInstanceFromHistory(execution);
+        }
+
         String activityId = getActivityIdForExecution(execution);
         if (activityId != null) {
             // No use looking for the ActivityInstance when no activityId is provided.
@@ -322,10 +343,93 @@ public class ActivityInstanceEntityManagerImpl
             activityInstanceEntity.setTenantId(execution.getTenantId());
         }
 
-        insert(activityInstanceEntity);
+        if (isRuntimeActivityInstancesEnabled(processDefinitionId)) {
+            insert(activityInstanceEntity);
+        } else if (engineConfiguration.isAsyncHistoryEnabled()) {
+            addNotInsertedActivityInstance(activityInstanceEntity);
+        }
+        return activityInstanceEntity;
+    }
+
+    /**
+     * Without runtime activity instances, the historic activity instance (which has the same id) is the only place where the
+     * unfinished activity instance is kept. The returned activity instance is only used to pass the changes on to the history manager,
+     * it is never inserted.
+     *
+     * With async history the historic activity instance isn't written yet, so only the activity instances created in the current
+     * command context are found. Otherwise the history manager records the changes for the execution and its current activity,
+     * which are used to look up the historic activity instance when the history job is executed.
+     */
+    protected ActivityInstanceEntity findUnfinishedActivityInstanceFromHistory(ExecutionEntity execution) {
+        if (engineConfiguration.isAsyncHistoryEnabled()) {
+            return getNotInsertedActivityInstance(execution.getId(), getActivityIdForExecution(execution));
+        }
+
+        HistoricActivityInstanceEntity historicActivityInstance = getHistoryManager().findHistoricActivityInstance(execution, true);
+        if (historicActivityInstance != null) {
+            return copyHistoricActivityInstance(historicActivityInstance);
+        }
+        return null;
+    }
+
+    /**
+     * Creates an activity instance (without id) for the current activity of the execution. It is never inserted and only passed on
+     * to the async history manager, which looks up the historic activity instance through its execution and activity id.
+     */
+    protected ActivityInstanceEntity createActivityInstanceReference(ExecutionEntity execution) {
+        String activityId = getActivityIdForExecution(execution);
+        if (activityId == null) {
+            return null;
+        }
+
+        ActivityInstanceEntity activityInstanceEntity = create();
+        activityInstanceEntity.setProcessDefinitionId(execution.getProcessDefinitionId());
+        activityInstanceEntity.setProcessInstanceId(execution.getProcessInstanceId());
+        activityInstanceEntity.setExecutionId(execution.getId());
+        activityInstanceEntity.setActivityId(activityId);
+        activityInstanceEntity.setTenantId(execution.getTenantId());
         return activityInstanceEntity;
     }
 
+    protected boolean isRuntimeActivityInstancesEnabled(String processDefinitionId) {
+        if (!engineConfiguration.getPerformanceSettings().isEnableRuntimeActivityInstances()) {
+            return false;
+        }
+
+        if (processDefinitionId != null) {
+            Process process = ProcessDefinitionUtil.getProcess(processDefinitionId);
+            return process == null || !process.isDisableRuntimeActivityInstances();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void addNotInsertedActivityInstance(ActivityInstanceEntity activityInstance) {
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        List<ActivityInstanceEntity> activityInstances = (List<ActivityInstanceEntity>) commandContext.getAttribute(ATTRIBUTE_NOT_INSERTED_ACTIVITY_INSTANCES);
+        if (activityInstances == null) {
+            activityInstances = new ArrayList<>();
+            commandContext.addAttribute(ATTRIBUTE_NOT_INSERTED_ACTIVITY_INSTANCES, activityInstances);
+        }
+        activityInstances.add(activityInstance);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected ActivityInstanceEntity getNotInsertedActivityInstance(String executionId, String activityId) {
+        List<ActivityInstanceEntity> activityInstances = (List<ActivityInstanceEntity>) CommandContextUtil.getCommandContext()
+            .getAttribute(ATTRIBUTE_NOT_INSERTED_ACTIVITY_INSTANCES);
+        if (activityInstances != null && activityId != null) {
+            for (ActivityInstanceEntity activityInstance : activityInstances) {
+                if (activityId.equals(activityInstance.getActivityId())
+                    && executionId.equals(activityInstance.getExecutionId())
+                    && activityInstance.getEndTime() == null) {
+                    return activityInstance;
+                }
+            }
+        }
+        return null;
+    }
+
     protected ActivityInstanceEntity getActivityInstanceFromCache(String executionId, String activityId, boolean endTimeMustBeNull) {
         List<ActivityInstanceEntity> cachedActivityInstances = getEntityCache().findInCache(ActivityInstanceEntity.class);
         for (ActivityInstanceEntity cachedActivityInstance : cachedActivityInstances) {
@@ -359,6 +463,12 @@ public class ActivityInstanceEntityManagerImpl
     }
 
     protected ActivityInstanceEntity createActivityInstance(HistoricActivityInstance historicActivityInstance) {
+        ActivityInstanceEntity activityInstanceEntity = copyHistoricActivityInstance(historicActivityInstance);
+        insert(activityInstanceEntity);
+        return activityInstanceEntity;
+    }
+
+    protected ActivityInstanceEntity copyHistoricActivityInstance(HistoricActivityInstance historicActivityInstance) {
         ActivityInstanceEntity activityInstanceEntity = create();
         activityInstanceEntity.setId(historicActivityInstance.getId());
 
@@ -376,8 +486,6 @@ public class ActivityInstanceEntityManagerImpl
         activityInstanceEntity.setDeleteReason(historicActivityInstance.getDeleteReason());
         activityInstanceEntity.setDurationInMillis(historicActivityInstance.getDurationInMillis());
         activityInstanceEntity.setTenantId(historicActivityInstance.getTenantId());
-
-        insert(activityInstanceEntity);
         return activityInstanceEntity;
     }
 
@@ -19,6 +19,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowableListener;
@@ -305,6 +306,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
+        markDirty();
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
             this.activityId = currentFlowElement.getId();
@@ -367,6 +369,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setBusinessKey(String businessKey) {
+        markDirty();
         this.businessKey = businessKey;
     }
 
@@ -379,6 +382,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -472,6 +476,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParent(ExecutionEntity parent) {
+        markDirty();
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
@@ -489,6 +494,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setSuperExecutionId(String superExecutionId) {
+        markDirty();
         this.superExecutionId = superExecutionId;
     }
 
@@ -500,6 +506,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuperExecution(ExecutionEntity superExecution) {
+        markDirty();
         this.superExecution = (ExecutionEntityImpl) superExecution;
         if (superExecution != null) {
             superExecution.setSubProcessInstance(null);
@@ -549,6 +556,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstance(ExecutionEntity rootProcessInstance) {
+        markDirty();
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
         if (rootProcessInstance != null) {
@@ -565,6 +573,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        markDirty();
         this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
@@ -577,14 +586,21 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setScope(boolean isScope) {
+        markDirty();
         this.isScope = isScope;
     }
 
     @Override
     public void forceUpdate() {
+        markDirty();
         this.forcedUpdate = true;
     }
 
+    @Override
+    public boolean isDirtyTrackingSupported() {
+        return true;
+    }
+
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
 
     // TODO: this should ideally move to another place
@@ -829,6 +845,43 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         return variableInstance;
     }
 
+    @Override
+    protected VariableInstanceEntity fetchNearestVariableInstance(String variableName, List<VariableScopeImpl> scopes) {
+        // The variables of the executions of this process instance are fetched with a single query
+        List<ExecutionEntityImpl> executions = new ArrayList<>(scopes.size());
+        for (VariableScopeImpl scope : scopes) {
+            if (!(scope instanceof ExecutionEntityImpl) || !Objects.equals(processInstanceId, ((ExecutionEntityImpl) scope).getProcessInstanceId())) {
+                break;
+            }
+            executions.add((ExecutionEntityImpl) scope);
+        }
+
+        if (executions.size() < 2) {
+            return super.fetchNearestVariableInstance(variableName, scopes);
+        }
+
+        List<String> executionIds = new ArrayList<>(executions.size());
+        for (ExecutionEntityImpl execution : executions) {
+            executionIds.add(execution.getId());
+        }
+
+        Map<String, VariableInstanceEntity> variablesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variable : CommandContextUtil.getVariableService()
+                .findVariableInstancesByProcessInstanceAndExecutionsAndName(processInstanceId, executionIds, variableName)) {
+            variablesByExecutionId.put(variable.getExecutionId(), variable);
+        }
+
+        for (ExecutionEntityImpl execution : executions) {
+            VariableInstanceEntity variable = variablesByExecutionId.get(execution.getId());
+            if (variable != null) {
+                execution.usedVariablesCache.put(variableName, variable);
+                return variable;
+            }
+        }
+
+        return fetchNearestVariableInstance(variableName, scopes, executions.size());
+    }
+
     @Override
     protected List<VariableInstanceEntity> getSpecificVariables(Collection<String> variableNames) {
         CommandContext commandContext = Context.getCommandContext();
@@ -925,6 +978,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
+        markDirty();
         this.parentId = parentId;
     }
 
@@ -934,6 +988,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setActivityId(String activityId) {
+        markDirty();
         this.activityId = activityId;
     }
 
@@ -944,6 +999,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setConcurrent(boolean isConcurrent) {
+        markDirty();
         this.isConcurrent = isConcurrent;
     }
 
@@ -954,11 +1010,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setActive(boolean isActive) {
+        markDirty();
         this.isActive = isActive;
     }
 
     @Override
     public void inactivate() {
+        markDirty();
         this.isActive = false;
     }
 
@@ -999,6 +1057,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty();
         this.suspensionState = suspensionState;
     }
 
@@ -1014,6 +1073,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventScope(boolean isEventScope) {
+        markDirty();
         this.isEventScope = isEventScope;
     }
 
@@ -1024,6 +1084,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirty();
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
@@ -1034,6 +1095,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty();
         this.isCountEnabled = isCountEnabled;
     }
 
@@ -1053,6 +1115,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -1107,6 +1170,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setLockTime(Date lockTime) {
+        markDirty();
         this.lockTime = lockTime;
     }
 
@@ -1160,6 +1224,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartActivityId(String startActivityId) {
+        markDirty();
         this.startActivityId = startActivityId;
     }
 
@@ -1170,6 +1235,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartUserId(String startUserId) {
+        markDirty();
         this.startUserId = startUserId;
     }
 
@@ -1180,6 +1246,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartTime(Date startTime) {
+        markDirty();
         this.startTime = startTime;
     }
 
@@ -1190,6 +1257,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        markDirty();
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -1200,6 +1268,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTaskCount(int taskCount) {
+        markDirty();
         this.taskCount = taskCount;
     }
 
@@ -1210,6 +1279,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setJobCount(int jobCount) {
+        markDirty();
         this.jobCount = jobCount;
     }
 
@@ -1220,6 +1290,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTimerJobCount(int timerJobCount) {
+        markDirty();
         this.timerJobCount = timerJobCount;
     }
 
@@ -1230,6 +1301,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
+        markDirty();
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -1240,6 +1312,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        markDirty();
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -1250,6 +1323,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty();
         this.variableCount = variableCount;
     }
 
@@ -1260,6 +1334,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty();
         this.identityLinkCount = identityLinkCount;
     }
     
@@ -1270,6 +1345,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackId(String callbackId) {
+        markDirty();
         this.callbackId = callbackId;
     }
 
@@ -1280,6 +1356,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackType(String callbackType) {
+        markDirty();
         this.callbackType = callbackType;
     }
 
@@ -1290,6 +1367,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setReferenceId(String referenceId) {
+        markDirty();
         this.referenceId = referenceId;
     }
 
@@ -1300,11 +1378,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setReferenceType(String referenceType) {
+        markDirty();
         this.referenceType = referenceType;
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        markDirty();
         this.propagatedStageInstanceId = propagatedStageInstanceId;
     }
 
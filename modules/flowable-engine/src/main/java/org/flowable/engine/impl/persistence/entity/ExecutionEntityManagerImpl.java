@@ -303,7 +303,8 @@ public class ExecutionEntityManagerImpl
 
         // Fire events
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution));
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution));
         }
 
         return processInstanceExecution;
@@ -334,8 +335,10 @@ public class ExecutionEntityManagerImpl
         }
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution));
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution));
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution));
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution));
         }
 
         return childExecution;
@@ -379,7 +382,8 @@ public class ExecutionEntityManagerImpl
 
         FlowableEventDispatcher flowableEventDispatcher = engineConfiguration.getEventDispatcher();
         if (flowableEventDispatcher != null && flowableEventDispatcher.isEnabled()) {
-            flowableEventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, subProcessInstance));
+            flowableEventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, subProcessInstance));
         }
 
         return subProcessInstance;
@@ -605,7 +609,8 @@ public class ExecutionEntityManagerImpl
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled() && fireEvents) {
             if (!cancel) {
-                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_COMPLETED, processInstanceEntity));
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.PROCESS_COMPLETED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_COMPLETED, processInstanceEntity));
             } else {
                 getEventDispatcher().dispatchEvent(FlowableEventBuilder.createCancelledEvent(processInstanceEntity.getId(),
                         processInstanceEntity.getId(), processInstanceEntity.getProcessDefinitionId(), deleteReason));
@@ -885,7 +890,8 @@ public class ExecutionEntityManagerImpl
                             FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher(commandContext);
                             if (eventDispatcher != null) {
                                 eventDispatcher.dispatchEvent(EventUtil.createVariableDeleteEvent(variableInstanceEntity));
-                                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance));
+                                eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance));
                             }
                         }
                     }
@@ -893,7 +899,7 @@ public class ExecutionEntityManagerImpl
                 
                 // First byte arrays that reference variable, then variables in bulk
                 for (VariableByteArrayRef variableByteArrayRef : variableByteArrayRefs) {
-                    getByteArrayEntityManager().deleteByteArrayById(variableByteArrayRef.getId());
+                    CommandContextUtil.getVariableServiceConfiguration(commandContext).getByteArrayEntityManager().deleteByteArrayById(variableByteArrayRef.getId());
                 }
                 
                 CommandContextUtil.getVariableService(commandContext).deleteVariablesByExecutionId(executionEntity.getId());
@@ -992,7 +998,8 @@ public class ExecutionEntityManagerImpl
             getHistoryManager().updateProcessBusinessKeyInHistory(executionEntity);
 
             if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, executionEntity));
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_UPDATED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, executionEntity));
             }
 
             return businessKey;
@@ -132,7 +132,12 @@ public class HistoricDetailEntityManagerImpl
     
     @Override
     public void deleteHistoricDetailForNonExistingProcessInstances() {
+        // the byte arrays of the removed details are selected before the bulk delete removes the references to them
+        List<String> byteArrayIds = dataManager.findHistoricDetailByteArrayIdsForNonExistingProcessInstances();
         dataManager.deleteHistoricDetailForNonExistingProcessInstances();
+        for (String byteArrayId : byteArrayIds) {
+            getByteArrayEntityManager().deleteByteArrayById(byteArrayId);
+        }
     }
 
     @Override
@@ -153,4 +158,8 @@ public class HistoricDetailEntityManagerImpl
         return engineConfiguration.getHistoryManager();
     }
 
+    protected ByteArrayEntityManager getByteArrayEntityManager() {
+        return engineConfiguration.getByteArrayEntityManager();
+    }
+
 }
@@ -46,5 +46,7 @@ public interface HistoricDetailDataManager extends DataManager<HistoricDetailEnt
 
     long findHistoricDetailCountByNativeQuery(Map<String, Object> parameterMap);
 
+    List<String> findHistoricDetailByteArrayIdsForNonExistingProcessInstances();
+
     void deleteHistoricDetailForNonExistingProcessInstances();
 }
@@ -98,6 +98,12 @@ public class MybatisHistoricDetailDataManager extends AbstractProcessDataManager
         return (Long) getDbSqlSession().selectOne("selectHistoricDetailCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricDetailByteArrayIdsForNonExistingProcessInstances() {
+        return getDbSqlSession().selectList("selectHistoricDetailByteArrayIdsForNonExistingProcessInstances");
+    }
+
     @Override
     public void deleteHistoricDetailForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricDetailForNonExistingProcessInstances", null, HistoricDetailEntity.class);
@@ -103,11 +103,11 @@ public class TaskHelper {
         FlowableEventDispatcher eventDispatcher = CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             if (variables != null) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityWithVariablesEvent(
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.TASK_COMPLETED, () -> FlowableEventBuilder.createEntityWithVariablesEvent(
                         FlowableEngineEventType.TASK_COMPLETED, taskEntity, variables, localScope));
             } else {
-                eventDispatcher.dispatchEvent(
-                        FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_COMPLETED, taskEntity));
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.TASK_COMPLETED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_COMPLETED, taskEntity));
             }
         }
         
@@ -330,7 +330,8 @@ public class TaskHelper {
             if (fireEvents) {
                 List<IdentityLinkEntity> identityLinks = CommandContextUtil.getIdentityLinkService(commandContext).findIdentityLinksByTaskId(task.getId());
                 for (IdentityLinkEntity identityLinkEntity : identityLinks) {
-                    eventDispatcher.dispatchEvent(FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, identityLinkEntity));
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                            () -> FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, identityLinkEntity));
                 }
                 deleteIdentityLinks = !identityLinks.isEmpty();
             }
@@ -348,7 +349,8 @@ public class TaskHelper {
             ArrayList<VariableByteArrayRef> variableByteArrayRefs = new ArrayList<>();
             for (VariableInstanceEntity variableInstanceEntity : taskVariables.values()) {
                 if (fireEvents) {
-                    eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstanceEntity));
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                            () -> FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstanceEntity));
                 }
                 if (variableInstanceEntity.getByteArrayRef() != null && variableInstanceEntity.getByteArrayRef().getId() != null) {
                     variableByteArrayRefs.add(variableInstanceEntity.getByteArrayRef());
@@ -356,7 +358,7 @@ public class TaskHelper {
             }
             
             for (VariableByteArrayRef variableByteArrayRef : variableByteArrayRefs) {
-                CommandContextUtil.getByteArrayEntityManager(commandContext).deleteByteArrayById(variableByteArrayRef.getId());
+                CommandContextUtil.getVariableServiceConfiguration(commandContext).getByteArrayEntityManager().deleteByteArrayById(variableByteArrayRef.getId());
             }
             
             if (!taskVariables.isEmpty()) {
@@ -393,8 +395,8 @@ public class TaskHelper {
 
     protected static void fireTaskDeletedEvent(TaskEntity task, CommandContext commandContext, FlowableEventDispatcher eventDispatcher) {
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
-                FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, task));
+            CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, task));
         }
     }
 
@@ -119,6 +119,36 @@ public class FlowableEventDispatcherTest extends PluggableFlowableTestCase {
         assertThat(newListener.getEventsReceived()).isEmpty();
     }
 
+    /**
+     * Test that events dispatched through a supplier are only created when a listener is registered for their type.
+     */
+    @Test
+    public void testDispatchEventSupplierOnlyCalledForListenedTypes() throws Exception {
+        TestFlowableEventListener newListener = new TestFlowableEventListener();
+        dispatcher.addEventListener(newListener, FlowableEngineEventType.ENTITY_CREATED);
+
+        TaskServiceConfiguration taskServiceConfiguration = (TaskServiceConfiguration) processEngineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_TASK_SERVICE_CONFIG);
+        FlowableEntityEventImpl event = new FlowableEntityEventImpl(taskServiceConfiguration.getTaskEntityManager().create(),
+                FlowableEngineEventType.ENTITY_CREATED);
+
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isTrue();
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_DELETED)).isFalse();
+
+        dispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED, () -> event);
+        dispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED, () -> {
+            throw new AssertionError("Event without listeners should not be created");
+        });
+        assertThat(newListener.getEventsReceived()).containsExactly(event);
+
+        // A disabled dispatcher doesn't create any event
+        dispatcher.setEnabled(false);
+        dispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED, () -> {
+            throw new AssertionError("Event of disabled dispatcher should not be created");
+        });
+        assertThat(newListener.getEventsReceived()).hasSize(1);
+    }
+
     /**
      * Test that adding a listener with a null-type is never called.
      */
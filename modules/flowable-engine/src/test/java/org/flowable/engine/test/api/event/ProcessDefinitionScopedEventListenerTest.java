@@ -14,15 +14,19 @@ package org.flowable.engine.test.api.event;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.engine.test.DeploymentId;
+import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -68,4 +72,36 @@ public class ProcessDefinitionScopedEventListenerTest extends PluggableFlowableT
         assertThat(otherInstance).isNotNull();
         assertThat(listener.getEventsReceived()).isEmpty();
     }
+
+    /**
+     * Test that a listener defined in a process definition is called when the process definition is not cached
+     * and the engine has not seen its listener types yet (e.g. after a restart), when the event is fired.
+     */
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/event/SignalThrowingEventListenerTest.testThrowSignalDefinedInProcessDefinition.bpmn20.xml")
+    public void testListenerDefinedInProcessDefinitionAfterDeploymentCacheCleared() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testSignal");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        List<EventDispatchAction> eventDispatchActions = processEngineConfiguration.getAdditionalEventDispatchActions();
+        int actionIndex = -1;
+        for (int i = 0; i < eventDispatchActions.size(); i++) {
+            if (eventDispatchActions.get(i) instanceof BpmnModelEventDispatchAction) {
+                actionIndex = i;
+            }
+        }
+        assertThat(actionIndex).isNotNegative();
+
+        EventDispatchAction originalEventDispatchAction = eventDispatchActions.set(actionIndex, new BpmnModelEventDispatchAction());
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+        try {
+            // The TASK_ASSIGNED listener of the process definition signals the boundary event
+            taskService.setAssignee(task.getId(), "kermit");
+
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("boundaryTask").count()).isEqualTo(1);
+
+        } finally {
+            eventDispatchActions.set(actionIndex, originalEventDispatchAction);
+        }
+    }
 }
@@ -12,11 +12,20 @@
  */
 package org.flowable.engine.test.api.runtime;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.AbstractTestCase;
 import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 
 public class RecordRuntimeActivitiesTest extends AbstractTestCase {
@@ -42,4 +51,140 @@ public class RecordRuntimeActivitiesTest extends AbstractTestCase {
 
     }
 
+    @Test
+    public void disabledRuntimeActivityInstances() {
+        ProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration()
+            .setEnableRuntimeActivityInstances(false)
+            .setJdbcUrl("jdbc:h2:mem:RecordRuntimeActivitiesTest-disabled");
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        Deployment deployment = processEngine.getRepositoryService().createDeployment()
+            .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+            .deploy();
+
+        try {
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+            assertHistoricActivitiesWithoutRuntimeActivities(processEngine, processInstance);
+
+            assertThatThrownBy(() -> processEngine.getRuntimeService().createActivityInstanceQuery().count())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Runtime activity instances are disabled");
+        } finally {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void disabledRuntimeActivityInstancesForProcessDefinition() {
+        ProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration()
+            .setJdbcUrl("jdbc:h2:mem:RecordRuntimeActivitiesTest-disabledForProcessDefinition");
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        Deployment deployment = processEngine.getRepositoryService().createDeployment()
+            .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+            .addClasspathResource("org/flowable/engine/test/api/runtime/RecordRuntimeActivitiesTest.disabledRuntimeActivityInstances.bpmn20.xml")
+            .deploy();
+
+        try {
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("disabledRuntimeActivityInstances");
+            assertHistoricActivitiesWithoutRuntimeActivities(processEngine, processInstance);
+
+            ProcessInstance otherProcessInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+            assertThat(processEngine.getRuntimeService().createActivityInstanceQuery().processInstanceId(otherProcessInstance.getId()).count())
+                .isEqualTo(3);
+
+            ProcessInstance runningProcessInstance = processEngine.getRuntimeService().startProcessInstanceByKey("disabledRuntimeActivityInstances");
+            assertThatThrownBy(() -> processEngine.getRuntimeService().createActivityInstanceQuery().processInstanceId(runningProcessInstance.getId()).list())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Runtime activity instances are disabled for process definition " + runningProcessInstance.getProcessDefinitionId());
+            assertThatThrownBy(() -> processEngine.getRuntimeService().createActivityInstanceQuery()
+                .processDefinitionId(runningProcessInstance.getProcessDefinitionId()).count())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Runtime activity instances are disabled for process definition");
+        } finally {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void disabledRuntimeActivityInstancesWithAsyncHistory() {
+        ProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration()
+            .setEnableRuntimeActivityInstances(false)
+            .setAsyncHistoryEnabled(true)
+            .setJdbcUrl("jdbc:h2:mem:RecordRuntimeActivitiesTest-disabledWithAsyncHistory");
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        Deployment deployment = processEngine.getRepositoryService().createDeployment()
+            .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+            .deploy();
+
+        try {
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+            assertHistoricActivitiesWithoutRuntimeActivities(processEngine, processInstance);
+        } finally {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void disabledRuntimeActivityInstancesForProcessDefinitionWithAsyncHistory() {
+        ProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration()
+            .setAsyncHistoryEnabled(true)
+            .setJdbcUrl("jdbc:h2:mem:RecordRuntimeActivitiesTest-disabledForProcessDefinitionWithAsyncHistory");
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        Deployment deployment = processEngine.getRepositoryService().createDeployment()
+            .addClasspathResource("org/flowable/engine/test/api/runtime/RecordRuntimeActivitiesTest.disabledRuntimeActivityInstances.bpmn20.xml")
+            .deploy();
+
+        try {
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("disabledRuntimeActivityInstances");
+            assertHistoricActivitiesWithoutRuntimeActivities(processEngine, processInstance);
+        } finally {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            processEngine.close();
+        }
+    }
+
+    protected void assertHistoricActivitiesWithoutRuntimeActivities(ProcessEngine processEngine, ProcessInstance processInstance) {
+        assertThat(processEngine.getManagementService().getTableCount().get("ACT_RU_ACTINST")).isZero();
+
+        Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        processEngine.getTaskService().setAssignee(task.getId(), "kermit");
+        executeHistoryJobs(processEngine);
+
+        assertThat(processEngine.getHistoryService().createHistoricActivityInstanceQuery()
+            .processInstanceId(processInstance.getId())
+            .activityId("theTask")
+            .singleResult())
+            .extracting(HistoricActivityInstance::getTaskId, HistoricActivityInstance::getAssignee, HistoricActivityInstance::getEndTime)
+            .containsExactly(task.getId(), "kermit", null);
+
+        processEngine.getTaskService().complete(task.getId());
+        executeHistoryJobs(processEngine);
+
+        assertThat(processEngine.getHistoryService().createHistoricActivityInstanceQuery()
+            .processInstanceId(processInstance.getId())
+            .orderByHistoricActivityInstanceStartTime().asc()
+            .list())
+            .extracting(HistoricActivityInstance::getActivityId, activityInstance -> activityInstance.getEndTime() != null)
+            .containsExactlyInAnyOrder(
+                tuple("theStart", true),
+                tuple("flow1", true),
+                tuple("theTask", true),
+                tuple("flow2", true),
+                tuple("theEnd", true)
+            );
+        assertThat(processEngine.getManagementService().getTableCount().get("ACT_RU_ACTINST")).isZero();
+    }
+
+    protected void executeHistoryJobs(ProcessEngine processEngine) {
+        for (HistoryJob historyJob : processEngine.getManagementService().createHistoryJobQuery().list()) {
+            processEngine.getManagementService().executeHistoryJob(historyJob.getId());
+        }
+    }
+
 }
@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalVariableLookupTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/HierarchicalVariableLookupTest.bpmn20.xml")
+    public void testExpressionUsesHierarchicalLookup() {
+        Task task = startProcessInstance();
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityImpl execution = (ExecutionEntityImpl) CommandContextUtil.getExecutionEntityManager(commandContext).findById(task.getExecutionId());
+            Expression expression = processEngineConfiguration.getExpressionManager().createExpression("${amount} ${level}");
+            assertThat(expression.getValue(execution)).isEqualTo("100 inner");
+
+            // only the used variables are cached, in the execution they belong to
+            ExecutionEntityImpl subProcessExecution = findExecution(execution, "subProcess");
+            assertThat(subProcessExecution.getUsedVariablesCache()).containsOnlyKeys("level");
+            assertThat(subProcessExecution.getProcessInstance().getUsedVariablesCache()).containsOnlyKeys("amount");
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/HierarchicalVariableLookupTest.bpmn20.xml")
+    public void testExpressionWithHierarchicalLookupDisabled() {
+        Task task = startProcessInstance();
+
+        processEngineConfiguration.setEnableHierarchicalVariableLookupForExpressions(false);
+        try {
+            managementService.executeCommand(commandContext -> {
+                ExecutionEntityImpl execution = (ExecutionEntityImpl) CommandContextUtil.getExecutionEntityManager(commandContext).findById(task.getExecutionId());
+                Expression expression = processEngineConfiguration.getExpressionManager().createExpression("${amount} ${level}");
+                assertThat(expression.getValue(execution)).isEqualTo("100 inner");
+
+                // all variables are fetched instead
+                ExecutionEntityImpl subProcessExecution = findExecution(execution, "subProcess");
+                assertThat(subProcessExecution.getUsedVariablesCache()).isEmpty();
+                assertThat(subProcessExecution.getProcessInstance().getUsedVariablesCache()).isEmpty();
+                return null;
+            });
+        } finally {
+            processEngineConfiguration.setEnableHierarchicalVariableLookupForExpressions(true);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/HierarchicalVariableLookupTest.bpmn20.xml")
+    public void testTransientAndCachedVariablesTakePrecedence() {
+        Task task = startProcessInstance();
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityImpl execution = (ExecutionEntityImpl) CommandContextUtil.getExecutionEntityManager(commandContext).findById(task.getExecutionId());
+            execution.setTransientVariableLocal("amount", 5);
+            execution.getProcessInstance().getVariables();
+
+            Expression expression = processEngineConfiguration.getExpressionManager().createExpression("${amount} ${level} ${other}");
+            assertThat(expression.getValue(execution)).isEqualTo("5 inner other");
+            return null;
+        });
+    }
+
+    protected Task startProcessInstance() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 100);
+        variables.put("level", "outer");
+        variables.put("other", "other");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("hierarchicalVariableLookup", variables);
+
+        Execution subProcessExecution = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("subProcess").singleResult();
+        runtimeService.setVariableLocal(subProcessExecution.getId(), "level", "inner");
+
+        return taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+    }
+
+    protected ExecutionEntityImpl findExecution(ExecutionEntityImpl execution, String activityId) {
+        ExecutionEntityImpl current = execution;
+        while (current != null && !activityId.equals(current.getActivityId())) {
+            current = current.getParent();
+        }
+        return current;
+    }
+
+}
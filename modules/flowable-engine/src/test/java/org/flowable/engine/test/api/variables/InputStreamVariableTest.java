@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.InputStreamType;
+import org.flowable.variable.service.impl.util.ContentHashUtil;
+import org.junit.jupiter.api.Test;
+
+public class InputStreamVariableTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testInputStreamVariable() {
+        byte[] content = createContent(256 * 1024);
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("document", new ByteArrayInputStream(content))
+                .start();
+
+        VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "document");
+        assertThat(variableInstance.getTypeName()).isEqualTo(InputStreamType.TYPE_NAME);
+        assertThat(variableInstance.getTextValue()).isEqualTo(ContentHashUtil.toHex(ContentHashUtil.hash(content)));
+        assertThat(variableInstance.getLongValue()).isEqualTo(content.length);
+
+        // read after the command that fetched the variable has finished
+        assertThat(readContent(runtimeService.getVariable(processInstance.getId(), "document"))).isEqualTo(content);
+
+        // read within the command that fetched the variable
+        byte[] contentInCommand = managementService.executeCommand(commandContext -> readContent(runtimeService.getVariable(processInstance.getId(), "document")));
+        assertThat(contentInCommand).isEqualTo(content);
+
+        byte[] updatedContent = createContent(64 * 1024);
+        runtimeService.setVariable(processInstance.getId(), "document", new ByteArrayInputStream(updatedContent));
+        assertThat(readContent(runtimeService.getVariable(processInstance.getId(), "document"))).isEqualTo(updatedContent);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("document")
+                    .singleResult();
+            assertThat(readContent(historicVariableInstance.getValue())).isEqualTo(updatedContent);
+        }
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReplaceInputStreamVariable() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("document", new ByteArrayInputStream(createContent(1024)))
+                .start();
+
+        runtimeService.setVariable(processInstance.getId(), "document", "replaced");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "document")).isEqualTo("replaced");
+
+        runtimeService.setVariable(processInstance.getId(), "document", null);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "document")).isNull();
+
+        byte[] content = createContent(2048);
+        runtimeService.setVariable(processInstance.getId(), "document", new ByteArrayInputStream(content));
+        assertThat(readContent(runtimeService.getVariable(processInstance.getId(), "document"))).isEqualTo(content);
+
+        runtimeService.removeVariable(processInstance.getId(), "document");
+        assertThat(runtimeService.hasVariable(processInstance.getId(), "document")).isFalse();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testContentFileDeletedWhenContentIsRead() throws IOException {
+        byte[] content = createContent(4096);
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("document", new ByteArrayInputStream(content))
+                .start();
+
+        int contentFileCount = countContentFiles();
+
+        // the stream is not closed
+        InputStream inputStream = (InputStream) runtimeService.getVariable(processInstance.getId(), "document");
+        assertThat(inputStream.read()).isEqualTo(content[0] & 0xff);
+        assertThat(countContentFiles()).isEqualTo(contentFileCount + 1);
+
+        assertThat(IoUtil.readInputStream(inputStream, "document")).hasSize(content.length - 1);
+        assertThat(inputStream.read()).isEqualTo(-1);
+        assertThat(countContentFiles()).isEqualTo(contentFileCount);
+
+        // read within a command, the stream is closed together with the command context
+        InputStream inputStreamInCommand = managementService.executeCommand(commandContext -> {
+            InputStream variableInputStream = (InputStream) runtimeService.getVariable(processInstance.getId(), "document");
+            try {
+                assertThat(variableInputStream.read()).isEqualTo(content[0] & 0xff);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return variableInputStream;
+        });
+        assertThat(countContentFiles()).isEqualTo(contentFileCount);
+        assertThatThrownBy(inputStreamInCommand::read)
+                .isInstanceOf(IOException.class)
+                .hasMessage("Stream closed");
+    }
+
+    protected int countContentFiles() {
+        String[] contentFiles = new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.startsWith("flowable-variable-"));
+        return contentFiles != null ? contentFiles.length : 0;
+    }
+
+    protected byte[] createContent(int length) {
+        byte[] content = new byte[length];
+        new Random().nextBytes(content);
+        return content;
+    }
+
+    protected byte[] readContent(Object value) {
+        assertThat(value).isInstanceOf(InputStream.class);
+        InputStream inputStream = (InputStream) value;
+        try {
+            return IoUtil.readInputStream(inputStream, "document");
+        } finally {
+            IoUtil.closeSilently(inputStream);
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.storage.FileSystemVariableContentStorage;
+import org.flowable.variable.service.impl.util.CommandContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VariableContentStorageTest extends PluggableFlowableTestCase {
+
+    protected Path contentFolder;
+
+    @BeforeEach
+    protected void setUp() throws IOException {
+        contentFolder = Files.createTempDirectory("flowable-variable-content");
+        VariableServiceConfiguration variableServiceConfiguration = processEngineConfiguration.getVariableServiceConfiguration();
+        variableServiceConfiguration.setVariableContentStorage(new FileSystemVariableContentStorage(contentFolder.toFile()));
+        variableServiceConfiguration.setVariableContentStorageThreshold(16 * 1024);
+    }
+
+    @AfterEach
+    protected void tearDown() throws IOException {
+        VariableServiceConfiguration variableServiceConfiguration = processEngineConfiguration.getVariableServiceConfiguration();
+        variableServiceConfiguration.setVariableContentStorage(null);
+        variableServiceConfiguration.setVariableContentStorageThreshold(64 * 1024);
+
+        try (Stream<Path> paths = Files.walk(contentFolder)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLargeVariableInStorage() throws IOException {
+        byte[] content = createContent(32 * 1024);
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("large", content)
+                .variable("small", createContent(1024))
+                .start();
+
+        // only a reference is kept in the database for the large variable
+        String largeByteArrayId = getByteArrayId(processInstance, "large");
+        assertThat(getBytesInDatabase(largeByteArrayId)).isNull();
+        assertThat(getBytesInDatabase(getByteArrayId(processInstance, "small"))).hasSize(1024);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "large")).isEqualTo(content);
+
+        // updated content is stored under a new id, the previous content is deleted
+        byte[] updatedContent = createContent(48 * 1024);
+        runtimeService.setVariable(processInstance.getId(), "large", updatedContent);
+        String updatedByteArrayId = getByteArrayId(processInstance, "large");
+        assertThat(updatedByteArrayId).isNotEqualTo(largeByteArrayId);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "large")).isEqualTo(updatedContent);
+
+        // content that is small enough moves back to the database
+        byte[] smallContent = createContent(512);
+        runtimeService.setVariable(processInstance.getId(), "large", smallContent);
+        String smallByteArrayId = getByteArrayId(processInstance, "large");
+        assertThat(getBytesInDatabase(smallByteArrayId)).isEqualTo(smallContent);
+
+        // content moving from the database to the storage gets a new id as well
+        runtimeService.setVariable(processInstance.getId(), "large", content);
+        assertThat(getByteArrayId(processInstance, "large")).isNotEqualTo(smallByteArrayId);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "large")).isEqualTo(content);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("large")
+                    .singleResult();
+            assertThat(historicVariableInstance.getValue()).isEqualTo(content);
+        }
+
+        // the content of the runtime variable is deleted with the variable
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+
+        int expectedFileCount = HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration) ? 1 : 0;
+        assertThat(countContentFiles()).isEqualTo(expectedFileCount);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoricContentDeletedByHistoryCleanup() throws IOException {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("large", createContent(32 * 1024))
+                .start();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+        assertThat(countContentFiles()).isEqualTo(1);
+
+        // the history cleanup removes the historic variables with a bulk delete
+        historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).deleteWithRelatedData();
+
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(countContentFiles()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testContentRemovedOnRollback() throws IOException {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        long fileCount = countContentFiles();
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            runtimeService.setVariable(processInstance.getId(), "large", createContent(32 * 1024));
+            throw new FlowableException("rollback");
+        })).isInstanceOf(FlowableException.class);
+
+        assertThat(runtimeService.hasVariable(processInstance.getId(), "large")).isFalse();
+        assertThat(countContentFiles()).isEqualTo(fileCount);
+    }
+
+    protected String getByteArrayId(ProcessInstance processInstance, String variableName) {
+        return managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), variableName);
+            return variableInstance.getByteArrayRef().getId();
+        });
+    }
+
+    protected byte[] getBytesInDatabase(String byteArrayId) {
+        return managementService.executeCommand(commandContext -> {
+            VariableByteArrayEntity byteArray = CommandContextUtil.getByteArrayEntityManager(commandContext).findById(byteArrayId);
+            return byteArray.getBytes();
+        });
+    }
+
+    protected long countContentFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(contentFolder)) {
+            return paths.filter(Files::isRegularFile).count();
+        }
+    }
+
+    protected byte[] createContent(int length) {
+        byte[] content = new byte[length];
+        new Random().nextBytes(content);
+        return content;
+    }
+
+}
@@ -16,8 +16,13 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchPartJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchStatusJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.ResourceFlowableTestCase;
@@ -93,4 +98,156 @@ public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
             processEngineConfiguration.resetClock();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupTimerJobWithBatch() throws Exception {
+        processEngineConfiguration.setHistoryCleaningBatchSize(3);
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+            
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+            
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                
+                for (int i = 0; i < 10; i++) {
+                    // spread the end times over several hours
+                    cal.add(Calendar.HOUR_OF_DAY, 1);
+                    clock.setCurrentCalendar(cal);
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.complete(task.getId());
+                }
+                
+                managementService.handleHistoryCleanupTimerJob();
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+                
+                // the instances are deleted by the batch part jobs
+                assertEquals(20, historyService.createHistoricProcessInstanceQuery().count());
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertNotNull(batch);
+                assertEquals(4, managementService.findBatchPartsByBatchId(batch.getId()).size());
+                
+                // a new cleanup is not started while the batch is in progress
+                executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+                assertEquals(1, managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).count());
+                
+                List<Job> partJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                while (!partJobs.isEmpty()) {
+                    for (Job partJob : partJobs) {
+                        managementService.executeJob(partJob.getId());
+                    }
+                    partJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                }
+                
+                assertEquals(10, historyService.createHistoricProcessInstanceQuery().count());
+                assertEquals(10, historyService.createHistoricProcessInstanceQuery().unfinished().count());
+                assertEquals(10, historyService.createHistoricTaskInstanceQuery().count());
+                for (int i = 0; i < 10; i++) {
+                    assertEquals(0, historyService.getHistoricIdentityLinksForProcessInstance(processInstanceIds.get(i)).size());
+                    assertEquals(0, historyService.createHistoricTaskLogEntryQuery().processInstanceId(processInstanceIds.get(i)).count());
+                    assertEquals(0, historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count());
+                    assertEquals(0, historyService.createHistoricDetailQuery().processInstanceId(processInstanceIds.get(i)).count());
+                }
+                
+                int deletedCount = 0;
+                for (BatchPart batchPart : managementService.findBatchPartsByBatchId(batch.getId())) {
+                    assertNotNull(batchPart.getCompleteTime());
+                    assertEquals(BpmnHistoryCleanupBatchPartJobHandler.RESULT_SUCCESS, batchPart.getStatus());
+                    deletedCount += processEngineConfiguration.getObjectMapper().readTree(managementService.getBatchPartDocument(batchPart.getId())).get("deletedCount").asInt();
+                }
+                assertEquals(10, deletedCount);
+                
+                Job statusJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupBatchStatusJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(statusJob.getId());
+                assertEquals(0, managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupBatchStatusJobHandler.TYPE).count());
+                
+                batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+                assertEquals(BpmnHistoryCleanupBatchPartJobHandler.STATUS_COMPLETED, batch.getStatus());
+                assertNotNull(batch.getCompleteTime());
+                
+                managementService.deleteBatch(batch.getId());
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+        
+        } finally {
+            processEngineConfiguration.setHistoryCleaningBatchSize(0);
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupBatchPartWithDeadLetterJobFails() throws Exception {
+        processEngineConfiguration.setHistoryCleaningBatchSize(3);
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+            
+            for (int i = 0; i < 6; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                cal.add(Calendar.HOUR_OF_DAY, 1);
+                clock.setCurrentCalendar(cal);
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+            }
+            
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                
+                managementService.handleHistoryCleanupTimerJob();
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+                
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                List<Job> partJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                assertEquals(2, partJobs.size());
+                
+                // a part whose job ended up as dead letter job can never complete, the status job has to fail it
+                Job deadLetterJob = managementService.moveJobToDeadLetterJob(partJobs.get(0).getId());
+                partJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                while (!partJobs.isEmpty()) {
+                    for (Job partJob : partJobs) {
+                        managementService.executeJob(partJob.getId());
+                    }
+                    partJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                }
+                
+                Job statusJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupBatchStatusJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(statusJob.getId());
+                assertEquals(0, managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupBatchStatusJobHandler.TYPE).count());
+                
+                batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+                assertEquals(BpmnHistoryCleanupBatchPartJobHandler.STATUS_COMPLETED, batch.getStatus());
+                int failedCount = 0;
+                for (BatchPart batchPart : managementService.findBatchPartsByBatchId(batch.getId())) {
+                    if (BpmnHistoryCleanupBatchPartJobHandler.RESULT_FAIL.equals(batchPart.getStatus())) {
+                        failedCount++;
+                    }
+                }
+                assertEquals(1, failedCount);
+                assertEquals(3, historyService.createHistoricProcessInstanceQuery().count());
+                
+                managementService.deleteDeadLetterJob(deadLetterJob.getId());
+                managementService.deleteBatch(batch.getId());
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                for (HistoricProcessInstance historicProcessInstance : historyService.createHistoricProcessInstanceQuery().list()) {
+                    historyService.deleteHistoricProcessInstance(historicProcessInstance.getId());
+                }
+            }
+        
+        } finally {
+            processEngineConfiguration.setHistoryCleaningBatchSize(0);
+            processEngineConfiguration.resetClock();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EngineMetricsTest {
+
+    protected RecordingEngineMetrics engineMetrics;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    protected void createProcessEngine() {
+        engineMetrics = new RecordingEngineMetrics();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-EngineMetricsTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setEngineMetrics(engineMetrics);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    protected void closeProcessEngine() {
+        for (Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    @Test
+    public void testCommandMetrics() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+        engineMetrics.reset();
+
+        processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+        assertThat(engineMetrics.commands).contains("StartProcessInstanceCmd:true");
+        assertThat(engineMetrics.agendaOperations.get()).isGreaterThan(0);
+        assertThat(engineMetrics.flushes.get()).isGreaterThan(0);
+        // at least the process instance, its child execution and the task
+        assertThat(engineMetrics.insertedEntities.get()).isGreaterThanOrEqualTo(3);
+        assertThat(engineMetrics.maxCachedEntities.get()).isGreaterThan(0);
+        assertThat(engineMetrics.deploymentCacheAccesses).contains("processDefinition:true");
+
+        engineMetrics.reset();
+        assertThatThrownBy(() -> processEngine.getTaskService().complete("unexisting"))
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+        assertThat(engineMetrics.commands).containsExactly("CompleteTaskCmd:false");
+        assertThat(engineMetrics.flushes.get()).isZero();
+    }
+
+    @Test
+    public void testJobMetrics() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/cfg/EngineMetricsTest.testJobMetrics.bpmn20.xml")
+                .deploy();
+        for (int i = 0; i < 3; i++) {
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncTask");
+        }
+        engineMetrics.reset();
+
+        AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        asyncExecutor.start();
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), 10000L, 100L, true);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after async task").count()).isEqualTo(3);
+        assertThat(engineMetrics.acquiredJobs.get()).isEqualTo(3);
+        assertThat(engineMetrics.jobExecutions)
+                .hasSize(3)
+                .containsOnly(AsyncContinuationJobHandler.TYPE + ":true");
+        assertThat(engineMetrics.jobQueues).containsExactly(((DefaultAsyncJobExecutor) asyncExecutor).getThreadPoolQueue());
+        assertThat(engineMetrics.rejectedJobs.get()).isZero();
+    }
+
+    protected static class RecordingEngineMetrics implements EngineMetrics {
+
+        protected final Queue<String> commands = new ConcurrentLinkedQueue<>();
+        protected final AtomicInteger agendaOperations = new AtomicInteger();
+        protected final AtomicInteger flushes = new AtomicInteger();
+        protected final AtomicInteger insertedEntities = new AtomicInteger();
+        protected final AtomicInteger maxCachedEntities = new AtomicInteger();
+        protected final AtomicInteger acquiredJobs = new AtomicInteger();
+        protected final AtomicInteger rejectedJobs = new AtomicInteger();
+        protected final Queue<Collection<?>> jobQueues = new ConcurrentLinkedQueue<>();
+        protected final Queue<String> jobExecutions = new ConcurrentLinkedQueue<>();
+        protected final Queue<String> deploymentCacheAccesses = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void recordCommand(String commandName, long durationInNanos, boolean successful) {
+            commands.add(commandName + ":" + successful);
+        }
+
+        @Override
+        public void recordAgendaOperations(int operationCount) {
+            agendaOperations.addAndGet(operationCount);
+        }
+
+        @Override
+        public void recordFlush(int insertCount, int updateCount, int deleteCount, long durationInNanos) {
+            flushes.incrementAndGet();
+            insertedEntities.addAndGet(insertCount);
+        }
+
+        @Override
+        public void recordEntityCacheSize(int cachedEntityCount) {
+            maxCachedEntities.accumulateAndGet(cachedEntityCount, Math::max);
+        }
+
+        @Override
+        public void recordJobsAcquired(int acquiredJobCount) {
+            acquiredJobs.addAndGet(acquiredJobCount);
+        }
+
+        @Override
+        public void recordTimerJobsAcquired(int acquiredTimerJobCount) {
+        }
+
+        @Override
+        public void recordJobLockConflict() {
+        }
+
+        @Override
+        public void recordJobRejected() {
+            rejectedJobs.incrementAndGet();
+        }
+
+        @Override
+        public void registerJobQueue(Collection<?> jobQueue) {
+            jobQueues.add(jobQueue);
+        }
+
+        @Override
+        public void recordJobExecution(String jobHandlerType, long durationInNanos, boolean successful) {
+            jobExecutions.add(jobHandlerType + ":" + successful);
+        }
+
+        @Override
+        public void recordDeploymentCacheAccess(String cacheName, boolean hit) {
+            deploymentCacheAccesses.add(cacheName + ":" + hit);
+        }
+
+        protected void reset() {
+            commands.clear();
+            agendaOperations.set(0);
+            flushes.set(0);
+            insertedEntities.set(0);
+            maxCachedEntities.set(0);
+            acquiredJobs.set(0);
+            rejectedJobs.set(0);
+            jobQueues.clear();
+            jobExecutions.clear();
+            deploymentCacheAccesses.clear();
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchUpdateAndDeleteTest extends PluggableFlowableTestCase {
+
+    protected boolean oldBatchUpdateAndDeleteEnabled;
+
+    @BeforeEach
+    protected void enableBatchUpdateAndDelete() {
+        oldBatchUpdateAndDeleteEnabled = processEngineConfiguration.getDbSqlSessionFactory().isBatchUpdateAndDeleteEnabled();
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateAndDeleteEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetBatchUpdateAndDelete() {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateAndDeleteEnabled(oldBatchUpdateAndDeleteEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testBatchedUpdatesAndDeletes() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelMultiInstance", Collections.singletonMap("nrOfLoops", 5));
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        managementService.executeCommand(commandContext -> {
+            List<TaskEntity> tasks = CommandContextUtil.getTaskService(commandContext).findTasksByProcessInstanceId(processInstance.getId());
+            for (TaskEntity task : tasks) {
+                task.setName("Updated " + task.getName());
+            }
+            return null;
+        });
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks)
+                .hasSize(5)
+                .extracting(Task::getName)
+                .containsOnly("Updated Parallel Task");
+
+        // Completing the last multi instance task deletes all child executions in one flush
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+
+        Task nextTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(nextTask.getTaskDefinitionKey()).isEqualTo("nextTask");
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(2);
+
+        taskService.complete(nextTask.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testOptimisticLockingInBatchedUpdate() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelMultiInstance", Collections.singletonMap("nrOfLoops", 3));
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            List<TaskEntity> tasks = CommandContextUtil.getTaskService(commandContext).findTasksByProcessInstanceId(processInstance.getId());
+            for (TaskEntity task : tasks) {
+                task.setName("Updated " + task.getName());
+            }
+
+            // Simulate a concurrent update of one of the rows in the batch
+            TaskEntity staleTask = tasks.get(1);
+            staleTask.setRevision(staleTask.getRevision() + 10);
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(Task::getName)
+                .containsOnly("Parallel Task");
+    }
+
+}
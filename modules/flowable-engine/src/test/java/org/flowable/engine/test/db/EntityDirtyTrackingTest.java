@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheSessionFactory;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityDirtyTrackingTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void enableDirtyTracking() {
+        processEngineConfiguration.addSessionFactory(new EntityCacheSessionFactory(true));
+    }
+
+    @AfterEach
+    protected void resetDirtyTracking() {
+        processEngineConfiguration.addSessionFactory(new EntityCacheSessionFactory(processEngineConfiguration.isEntityDirtyTrackingEnabled()));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOnlyChangedVariableIsUpdated() {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            variables.put("var" + i, "value" + i);
+        }
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        managementService.executeCommand(commandContext -> {
+            List<VariableInstanceEntity> variableInstances = CommandContextUtil.getVariableService(commandContext)
+                    .findVariableInstancesByExecutionId(processInstance.getId());
+            assertThat(variableInstances).hasSize(20);
+            for (VariableInstanceEntity variableInstance : variableInstances) {
+                assertThat(((VariableInstanceEntityImpl) variableInstance).isDirtyTrackingActive()).isTrue();
+                if ("var5".equals(variableInstance.getName())) {
+                    variableInstance.setValue("updated");
+                }
+            }
+            for (VariableInstanceEntity variableInstance : variableInstances) {
+                assertThat(((VariableInstanceEntityImpl) variableInstance).isDirty()).isEqualTo("var5".equals(variableInstance.getName()));
+            }
+            return null;
+        });
+
+        Map<String, Integer> revisions = managementService.executeCommand(commandContext -> {
+            Map<String, Integer> result = new HashMap<>();
+            for (VariableInstanceEntity variableInstance : CommandContextUtil.getVariableService(commandContext)
+                    .findVariableInstancesByExecutionId(processInstance.getId())) {
+                result.put(variableInstance.getName(), variableInstance.getRevision());
+            }
+            return result;
+        });
+        assertThat(revisions.get("var5")).isEqualTo(2);
+        assertThat(revisions).hasSize(20);
+        revisions.forEach((name, revision) -> {
+            if (!"var5".equals(name)) {
+                assertThat(revision).as(name).isEqualTo(1);
+            }
+        });
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var5")).isEqualTo("updated");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var6")).isEqualTo("value6");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testSettingSameValueDoesNotUpdate() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        int revision = managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            execution.setName(execution.getName());
+            assertThat(((ExecutionEntityImpl) execution).isDirty()).isTrue();
+            return execution.getRevision();
+        });
+
+        int revisionAfterFlush = managementService.executeCommand(commandContext -> CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findById(processInstance.getId()).getRevision());
+        assertThat(revisionAfterFlush).isEqualTo(revision);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTaskAssigneeChangeWithDirtyTracking() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        managementService.executeCommand(commandContext -> {
+            TaskEntityImpl taskEntity = (TaskEntityImpl) CommandContextUtil.getTaskService(commandContext).getTask(task.getId());
+            assertThat(taskEntity.isDirty()).isFalse();
+            assertThat(taskEntity.getOriginalPersistentState()).isEqualTo(taskEntity.getPersistentState());
+            return null;
+        });
+
+        taskService.setAssignee(task.getId(), "kermit");
+        assertThat(taskService.createTaskQuery().taskId(task.getId()).singleResult().getAssignee()).isEqualTo("kermit");
+
+        if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+            HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().taskId(task.getId()).singleResult();
+            assertThat(historicTaskInstance.getAssignee()).isEqualTo("kermit");
+            assertThat(historyService.createHistoricActivityInstanceQuery().activityId("theTask").singleResult().getAssignee()).isEqualTo("kermit");
+        }
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+}
@@ -15,6 +15,8 @@ package org.flowable.engine.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -148,6 +150,55 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelationBatch() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.put("customerIdVar", "piggy");
+        ProcessInstance piggyProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        // The second kermit event no longer finds the boundary event subscription of the kermit instance
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "fozzie", "gonzo", "kermit");
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(piggyProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+        assertThat(runtimeService.createEventSubscriptionQuery().activityId("eventBoundary").list())
+            .extracting(EventSubscription::getProcessInstanceId)
+            .containsExactly(piggyProcessInstance.getId());
+    }
+
+    @Test
+    @Deployment
+    public void testTwoBoundaryEventsBatch() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        variableMap.put("orderIdVar", "order1");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.put("customerIdVar", "gonzo");
+        variableMap.put("orderIdVar", "order2");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        // The order event of the kermit instance no longer finds the order boundary event, it was removed by the customer boundary event
+        inboundEventChannelAdapter.triggerTestEvents(
+            inboundEventChannelAdapter.createTestEvent("kermit", null),
+            inboundEventChannelAdapter.createTestEvent(null, "order1"),
+            inboundEventChannelAdapter.createTestEvent(null, "order2"));
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterCustomerBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterOrderBoundary");
+        assertThat(runtimeService.createEventSubscriptionQuery().list()).isEmpty();
+    }
+
     @Test
     @Deployment
     public void testBoundaryEventListenerWithPayload() {
@@ -219,6 +270,13 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartSimpleCorrelationParameter.bpmn20.xml")
+    public void testProcessStartSimpleCorrelationParameterBatch() {
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "anotherCustomer", "testCustomer", "testCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(3);
+    }
+    
     @Test
     @Deployment
     public void testProcessStartWithPayload() {
@@ -259,6 +317,18 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testStartOnlyOneInstanceBatch() {
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "testCustomer", "anotherTestCustomer", "testCustomer", "anotherTestCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(ProcessInstance::getReferenceType)
+            .containsExactly(ReferenceTypes.EVENT_PROCESS, ReferenceTypes.EVENT_PROCESS);
+
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "anotherTestCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(2);
+    }
+
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
 
         public InboundChannelModel inboundChannelModel;
@@ -287,9 +357,36 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
 
         public void triggerTestEvent(String customerId, String orderId) {
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, new ObjectMapper().writeValueAsString(createTestEvent(customerId, orderId)));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public void triggerTestEvents(String... customerIds) {
+            ObjectNode[] events = new ObjectNode[customerIds.length];
+            for (int i = 0; i < customerIds.length; i++) {
+                events[i] = createTestEvent(customerIds[i], null);
+            }
+            triggerTestEvents(events);
+        }
+
+        public void triggerTestEvents(ObjectNode... testEvents) {
             ObjectMapper objectMapper = new ObjectMapper();
+            List<ByteBuffer> events = new ArrayList<>();
+            try {
+                for (ObjectNode testEvent : testEvents) {
+                    events.add(ByteBuffer.wrap(objectMapper.writeValueAsBytes(testEvent)));
+                }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+            eventRegistry.binaryEventsReceived(inboundChannelModel, events);
+        }
 
-            ObjectNode json = objectMapper.createObjectNode();
+        protected ObjectNode createTestEvent(String customerId, String orderId) {
+            ObjectNode json = new ObjectMapper().createObjectNode();
             json.put("type", "myEvent");
             if (customerId != null) {
                 json.put("customerId", customerId);
@@ -300,11 +397,7 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
             }
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
-            try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
+            return json;
         }
 
     }
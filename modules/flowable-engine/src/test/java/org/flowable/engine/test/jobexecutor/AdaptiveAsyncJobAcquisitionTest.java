@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobAcquisitionMetrics;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the adaptive async job acquisition of the {@link DefaultAsyncJobExecutor}.
+ */
+public class AdaptiveAsyncJobAcquisitionTest {
+
+    protected ProcessEngine processEngine;
+
+    @AfterEach
+    protected void closeProcessEngine() {
+        if (processEngine != null) {
+            for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+                processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            }
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testPageSizeGrowsWhileFullPagesAreAcquired() {
+        processEngine = createProcessEngine(false, 10 * 1000);
+        deployAsyncScriptProcess();
+
+        // The async executor is not active, so the jobs are not handed to it and need to be acquired
+        for (int i = 0; i < 20; i++) {
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+        }
+        assertThat(processEngine.getManagementService().createJobQuery().count()).isEqualTo(20);
+
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        asyncExecutor.start();
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), 10000L, 100L, false);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after script").count()).isEqualTo(20);
+
+        AsyncJobAcquisitionMetrics metrics = asyncExecutor.getAsyncJobAcquisitionMetrics();
+        assertThat(metrics.getAcquiredJobs()).isEqualTo(20);
+
+        // With a fixed page size of 1, at least 20 acquire cycles returning jobs would have been needed
+        assertThat(metrics.getAcquireCycles() - metrics.getEmptyAcquireCycles()).isLessThan(10);
+        assertThat(metrics.getMaxAcquireTimeInMillis()).isGreaterThanOrEqualTo(metrics.getLastAcquireTimeInMillis());
+    }
+
+    @Test
+    public void testAddedJobWakesUpIdleAcquisition() throws Exception {
+        processEngine = createProcessEngine(true, 60 * 1000);
+        deployAsyncScriptProcess();
+
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        AsyncJobAcquisitionMetrics metrics = asyncExecutor.getAsyncJobAcquisitionMetrics();
+
+        // Let the acquisition thread back off: 10, 20, 40, 80, 160, 320 ms, ...
+        long start = System.currentTimeMillis();
+        while (metrics.getEmptyAcquireCycles() < 6 && System.currentTimeMillis() - start < 10000L) {
+            Thread.sleep(20L);
+        }
+        assertThat(metrics.getEmptyAcquireCycles()).isGreaterThanOrEqualTo(6);
+        assertThat(metrics.getWakeUps()).isZero();
+        Thread.sleep(50L);
+
+        processEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), 10000L, 100L, false);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after script").count()).isEqualTo(1);
+        assertThat(metrics.getWakeUps()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAddedJobDoesNotResetBackoffWhenNotIdleSleeping() {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(1000);
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(asyncExecutor);
+        runnable.setAdaptiveAcquisitionEnabled(true);
+        runnable.setMinAcquireWaitTimeInMillis(10);
+
+        assertThat(runnable.getIdleWaitTimeInMillis()).isEqualTo(10);
+        assertThat(runnable.getIdleWaitTimeInMillis()).isEqualTo(20);
+
+        // The acquisition thread is not sleeping, so jobs added locally must not reset the backoff
+        runnable.wakeUp();
+        runnable.wakeUp();
+
+        assertThat(runnable.getIdleWaitTimeInMillis()).isEqualTo(40);
+        assertThat(runnable.getMetrics().getWakeUps()).isZero();
+    }
+
+    protected ProcessEngine createProcessEngine(boolean activateAsyncExecutor, int defaultAsyncJobAcquireWaitTime) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AdaptiveAsyncJobAcquisitionTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(activateAsyncExecutor);
+        processEngineConfiguration.setAsyncExecutorAdaptiveAsyncJobAcquisitionEnabled(true);
+        processEngineConfiguration.setAsyncExecutorMinAsyncJobAcquireWaitTime(10);
+        processEngineConfiguration.setAsyncExecutorDefaultAsyncJobAcquireWaitTime(defaultAsyncJobAcquireWaitTime);
+        processEngineConfiguration.setAsyncExecutorDefaultTimerJobAcquireWaitTime(defaultAsyncJobAcquireWaitTime);
+        return processEngineConfiguration.buildProcessEngine();
+    }
+
+    protected void deployAsyncScriptProcess() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml")
+                .deploy();
+    }
+
+    protected static class TestAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+        public TestAcquireAsyncJobsDueRunnable(AsyncExecutor asyncExecutor) {
+            super("test-acquire-async-jobs", asyncExecutor, null);
+        }
+
+        @Override
+        public long getIdleWaitTimeInMillis() {
+            return super.getIdleWaitTimeInMillis();
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.session.Configuration;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SkipLockedJobAcquisitionTest extends PluggableFlowableTestCase {
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected boolean originalSkipLockedJobAcquisitionEnabled;
+
+    @BeforeEach
+    protected void enableSkipLockedJobAcquisition() {
+        jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        originalSkipLockedJobAcquisitionEnabled = jobServiceConfiguration.isSkipLockedJobAcquisitionEnabled();
+        jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetSkipLockedJobAcquisition() {
+        jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(originalSkipLockedJobAcquisitionEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml")
+    public void testAsyncJobsAreAcquired() {
+        if (AbstractEngineConfiguration.DATABASE_TYPE_H2.equals(processEngineConfiguration.getDatabaseType())) {
+            // Falls back to the regular acquisition queries
+            assertThat(processEngineConfiguration.getDbSqlSessionFactory().isSkipLockedSupported()).isFalse();
+        }
+
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("asyncScript");
+        }
+        assertThat(managementService.createJobQuery().count()).isEqualTo(5);
+
+        waitForJobExecutorToProcessAllJobs(10000L, 200L);
+
+        assertThat(managementService.createJobQuery().count()).isZero();
+        assertThat(taskService.createTaskQuery().taskName("Task after script").count()).isEqualTo(5);
+    }
+
+    @Test
+    public void testSkipLockedStatements() {
+        Configuration configuration = processEngineConfiguration.getSqlSessionFactory().getConfiguration();
+        String originalDatabaseId = configuration.getDatabaseId();
+
+        Map<String, Object> jobParameters = new HashMap<>();
+        jobParameters.put("jobExecutionScope", null);
+        jobParameters.put("now", new Date());
+        ListQueryParameterObject jobQueryParameter = new ListQueryParameterObject(jobParameters, 0, 10);
+
+        ListQueryParameterObject historyJobQueryParameter = new ListQueryParameterObject(null, 0, 10);
+        historyJobQueryParameter.setOrderByColumns("CREATE_TIME_ ASC");
+
+        try {
+            for (String databaseType : new String[] { AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, AbstractEngineConfiguration.DATABASE_TYPE_MYSQL }) {
+                configuration.setDatabaseId(databaseType);
+                assertThat(getSql(configuration, "selectJobsToExecuteSkipLocked", jobQueryParameter))
+                        .contains("LIMIT ?")
+                        .endsWith("for update skip locked");
+                assertThat(getSql(configuration, "selectTimerJobsToExecuteSkipLocked", jobQueryParameter))
+                        .contains("LIMIT ?")
+                        .endsWith("for update skip locked");
+                assertThat(getSql(configuration, "selectHistoryJobsToExecuteSkipLocked", historyJobQueryParameter))
+                        .contains("order by CREATE_TIME_ ASC LIMIT ?")
+                        .endsWith("for update skip locked");
+            }
+
+            configuration.setDatabaseId(AbstractEngineConfiguration.DATABASE_TYPE_MSSQL);
+            assertThat(getSql(configuration, "selectTimerJobsToExecuteSkipLocked", jobQueryParameter))
+                    .startsWith("select top (?) RES.*")
+                    .contains("with (updlock, readpast, rowlock)")
+                    .doesNotContain("skip locked");
+
+        } finally {
+            configuration.setDatabaseId(originalDatabaseId);
+        }
+    }
+
+    @Test
+    public void testSkipLockedSupportedDatabaseVersions() throws SQLException {
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, "9.4.26", 9, 4)).isFalse();
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, "9.5.0", 9, 5)).isTrue();
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, "12.2", 12, 2)).isTrue();
+
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, "5.7.29", 5, 7)).isFalse();
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, "8.0.19", 8, 0)).isTrue();
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, "5.5.5-10.5.8-MariaDB", 5, 5)).isFalse();
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, "5.5.5-10.6.4-MariaDB", 5, 5)).isTrue();
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, "10.6.4-MariaDB", 10, 6)).isTrue();
+
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_MSSQL, "14.00.3281", 14, 0)).isTrue();
+
+        // Oracle applies ROWNUM before skipping locked rows, which could starve acquiring nodes
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_ORACLE, "Oracle Database 19c", 19, 0)).isFalse();
+        assertThat(isSkipLockedSupported(AbstractEngineConfiguration.DATABASE_TYPE_H2, "1.4.200", 1, 4)).isFalse();
+    }
+
+    protected boolean isSkipLockedSupported(String type, String productVersion, int majorVersion, int minorVersion) throws SQLException {
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseProductVersion()).thenReturn(productVersion);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(majorVersion);
+        when(databaseMetaData.getDatabaseMinorVersion()).thenReturn(minorVersion);
+
+        return new StandaloneInMemProcessEngineConfiguration() {
+
+            boolean isSkipLockedSupported() throws SQLException {
+                return isSkipLockedSupported(type, databaseMetaData);
+            }
+        }.isSkipLockedSupported();
+    }
+
+    protected String getSql(Configuration configuration, String statement, Object parameter) {
+        return String.join(" ", configuration.getMappedStatement(statement).getBoundSql(parameter).getSql().trim().split("\\s+"));
+    }
+
+}
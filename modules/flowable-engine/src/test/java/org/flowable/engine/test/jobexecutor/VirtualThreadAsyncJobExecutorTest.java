@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.VirtualThreadAsyncJobExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Load test comparing the {@link VirtualThreadAsyncJobExecutor} with the thread pool based {@link DefaultAsyncJobExecutor}
+ * for service tasks that block on I/O.
+ */
+public class VirtualThreadAsyncJobExecutorTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadAsyncJobExecutorTest.class);
+
+    protected static final int NR_OF_PROCESS_INSTANCES = 100;
+
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    protected void resetDelegate() {
+        IoBoundDelegate.reset();
+    }
+
+    @AfterEach
+    protected void closeProcessEngine() {
+        if (processEngine != null) {
+            for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+                processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            }
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testIoBoundServiceTasks() {
+        DefaultAsyncJobExecutor threadPoolExecutor = new DefaultAsyncJobExecutor();
+        long threadPoolDuration = executeIoBoundJobs(threadPoolExecutor);
+        int threadPoolConcurrency = IoBoundDelegate.MAX_CONCURRENT_EXECUTIONS.get();
+
+        IoBoundDelegate.reset();
+        VirtualThreadAsyncJobExecutor virtualThreadExecutor = new VirtualThreadAsyncJobExecutor();
+        virtualThreadExecutor.setMaxConcurrentJobs(NR_OF_PROCESS_INSTANCES);
+        long virtualThreadDuration = executeIoBoundJobs(virtualThreadExecutor);
+        int virtualThreadConcurrency = IoBoundDelegate.MAX_CONCURRENT_EXECUTIONS.get();
+
+        LOGGER.info("Executed {} I/O bound jobs in {} ms with a thread pool (max concurrency {}) and in {} ms with virtual threads (max concurrency {})",
+                NR_OF_PROCESS_INSTANCES, threadPoolDuration, threadPoolConcurrency, virtualThreadDuration, virtualThreadConcurrency);
+
+        assertThat(threadPoolConcurrency).isLessThanOrEqualTo(threadPoolExecutor.getMaxPoolSize());
+        assertThat(virtualThreadConcurrency)
+                .isGreaterThan(threadPoolExecutor.getMaxPoolSize())
+                .isLessThanOrEqualTo(NR_OF_PROCESS_INSTANCES);
+    }
+
+    @Test
+    public void testJobsAreRejectedWhenNoPermitsAreAvailable() {
+        VirtualThreadAsyncJobExecutor asyncExecutor = new VirtualThreadAsyncJobExecutor();
+        asyncExecutor.setMaxConcurrentJobs(2);
+        executeIoBoundJobs(asyncExecutor);
+
+        assertThat(IoBoundDelegate.MAX_CONCURRENT_EXECUTIONS.get()).isLessThanOrEqualTo(2);
+        assertThat(IoBoundDelegate.EXECUTIONS.get()).isEqualTo(NR_OF_PROCESS_INSTANCES);
+        assertThat(asyncExecutor.getRemainingCapacity()).isEqualTo(2);
+    }
+
+    protected long executeIoBoundJobs(DefaultAsyncJobExecutor asyncExecutor) {
+        if (processEngine != null) {
+            closeProcessEngine();
+        }
+
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(NR_OF_PROCESS_INSTANCES);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(100);
+        asyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(50);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-VirtualThreadAsyncJobExecutorTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setJdbcMaxActiveConnections(NR_OF_PROCESS_INSTANCES + 10);
+        processEngineConfiguration.setAsyncExecutor(asyncExecutor);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/VirtualThreadAsyncJobExecutorTest.testIoBoundServiceTasks.bpmn20.xml")
+                .deploy();
+        for (int i = 0; i < NR_OF_PROCESS_INSTANCES; i++) {
+            processEngine.getRuntimeService().startProcessInstanceByKey("ioBoundServiceTask");
+        }
+
+        long start = System.currentTimeMillis();
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, processEngine.getManagementService(), 60000L, 25L);
+        long duration = System.currentTimeMillis() - start;
+
+        assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().count()).isZero();
+        return duration;
+    }
+
+    public static class IoBoundDelegate implements JavaDelegate {
+
+        static final AtomicInteger EXECUTIONS = new AtomicInteger();
+        static final AtomicInteger CONCURRENT_EXECUTIONS = new AtomicInteger();
+        static final AtomicInteger MAX_CONCURRENT_EXECUTIONS = new AtomicInteger();
+
+        static void reset() {
+            EXECUTIONS.set(0);
+            CONCURRENT_EXECUTIONS.set(0);
+            MAX_CONCURRENT_EXECUTIONS.set(0);
+        }
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            int concurrentExecutions = CONCURRENT_EXECUTIONS.incrementAndGet();
+            MAX_CONCURRENT_EXECUTIONS.accumulateAndGet(concurrentExecutions, Math::max);
+            try {
+                // Simulates waiting on a remote system
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                CONCURRENT_EXECUTIONS.decrementAndGet();
+                EXECUTIONS.incrementAndGet();
+            }
+        }
+    }
+
+}
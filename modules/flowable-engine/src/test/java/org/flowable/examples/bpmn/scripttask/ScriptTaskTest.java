@@ -15,6 +15,7 @@ package org.flowable.examples.bpmn.scripttask;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import groovy.lang.MissingPropertyException;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -150,6 +151,29 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Test
+    public void testCompiledScriptCache() {
+        CompiledScriptCache compiledScriptCache = processEngineConfiguration.getScriptingEngines().getCompiledScriptCache();
+        int initialSize = compiledScriptCache.size();
+
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/examples/bpmn/scripttask/ScriptTaskTest.testCompiledScriptCache.bpmn20.xml")
+                .deploy()
+                .getId();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", 20, "b", 22));
+        assertEquals(42, ((Number) runtimeService.getVariable(processInstance.getId(), "sum")).intValue());
+        assertEquals(initialSize + 1, compiledScriptCache.size());
+
+        // The compiled script is reused with the variables of the other process instance
+        processInstance = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", 1, "b", 2));
+        assertEquals(3, ((Number) runtimeService.getVariable(processInstance.getId(), "sum")).intValue());
+        assertEquals(initialSize + 1, compiledScriptCache.size());
+
+        repositoryService.deleteDeployment(deploymentId, true);
+        assertEquals(initialSize, compiledScriptCache.size());
+    }
+
     protected void verifyExceptionInStacktrace(Exception rootException, Class<?> expectedExceptionClass) {
         Throwable expectedException = rootException;
         boolean found = false;
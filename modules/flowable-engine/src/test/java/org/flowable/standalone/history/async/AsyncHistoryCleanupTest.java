@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Calendar;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchPartJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchStatusJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the history cleanup batch when async history is enabled.
+ */
+public class AsyncHistoryCleanupTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncHistoryCleanupTest() {
+        super("asyncHistoryCleanupTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setEnableHistoryCleaning(true);
+        processEngineConfiguration.setHistoryCleaningBatchSize(2);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.resetClock();
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+        for (Job timerJob : managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).list()) {
+            managementService.deleteTimerJob(timerJob.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupBatchCompletes() throws Exception {
+        Clock clock = processEngineConfiguration.getClock();
+        Calendar cal = clock.getCurrentCalendar();
+        cal.add(Calendar.DAY_OF_YEAR, -400);
+        clock.setCurrentCalendar(cal);
+
+        for (int i = 0; i < 5; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("startToEnd").getId();
+            runtimeService.setVariable(processInstanceId, "testVar", "testValue" + i);
+            cal.add(Calendar.HOUR_OF_DAY, 1);
+            clock.setCurrentCalendar(cal);
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            taskService.complete(task.getId());
+        }
+        processEngineConfiguration.resetClock();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(5);
+
+        managementService.handleHistoryCleanupTimerJob();
+        Job cleanupJob = managementService.moveTimerToExecutableJob(
+                managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+        managementService.executeJob(cleanupJob.getId());
+
+        Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+        assertThat(batch).isNotNull();
+
+        // Every part job deletes a chunk and reschedules itself until a chunk comes back short
+        List<Job> partJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+        for (int i = 0; i < 10 && !partJobs.isEmpty(); i++) {
+            for (Job partJob : partJobs) {
+                managementService.executeJob(partJob.getId());
+            }
+            partJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+        }
+        assertThat(partJobs).isEmpty();
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+        assertThat(historyService.createHistoricVariableInstanceQuery().count()).isZero();
+        assertThat(historyService.createHistoricTaskInstanceQuery().count()).isZero();
+        assertThat(historyService.createHistoricActivityInstanceQuery().count()).isZero();
+        for (BatchPart batchPart : managementService.findBatchPartsByBatchId(batch.getId())) {
+            assertThat(batchPart.getStatus()).isEqualTo(BpmnHistoryCleanupBatchPartJobHandler.RESULT_SUCCESS);
+        }
+
+        Job statusJob = managementService.moveTimerToExecutableJob(
+                managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupBatchStatusJobHandler.TYPE).singleResult().getId());
+        managementService.executeJob(statusJob.getId());
+
+        batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(BpmnHistoryCleanupBatchPartJobHandler.STATUS_COMPLETED);
+        managementService.deleteBatch(batch.getId());
+    }
+
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest extends ResourceFlowableTestCase {
+
+    public PrefetchingDbIdGeneratorTest() {
+        super("org/flowable/standalone/idgenerator/prefetchingdbidgenerator.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testIdsAreUniqueWhenGeneratedConcurrently() throws Exception {
+        assertThat(processEngineConfiguration.getIdGenerator()).isInstanceOf(PrefetchingDbIdGenerator.class);
+        PrefetchingDbIdGenerator idGenerator = (PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executorService.submit(() -> {
+                    List<String> ids = new ArrayList<>();
+                    for (int j = 0; j < 500; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<String> ids = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                ids.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(ids).hasSize(2000);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // The ids were used up much faster than the target block lifetime, so bigger blocks are claimed
+        assertThat(idGenerator.getCurrentIdBlockSize()).isGreaterThan(10);
+        assertThat(idGenerator.getCurrentIdBlockSize()).isLessThanOrEqualTo(idGenerator.getMaxIdBlockSize());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    public void testProcessExecution() {
+        for (int i = 0; i < 20; i++) {
+            runtimeService.startProcessInstanceByKey("simpleProcess");
+        }
+
+        taskService.createTaskQuery().list().forEach(task -> taskService.complete(task.getId()));
+        taskService.createTaskQuery().list().forEach(task -> taskService.complete(task.getId()));
+        taskService.createTaskQuery().list().forEach(task -> taskService.complete(task.getId()));
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(20);
+    }
+
+    @Test
+    public void testPrefetchExecutorIsShutDownWithProcessEngine() {
+        ProcessEngineConfigurationImpl standaloneConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:flowable-PrefetchingDbIdGeneratorTest;DB_CLOSE_DELAY=1000")
+                .setDatabaseSchemaUpdate("true");
+        standaloneConfiguration.setDbIdGeneratorPrefetchEnabled(true);
+        ProcessEngine standaloneEngine = standaloneConfiguration.buildProcessEngine();
+
+        PrefetchingDbIdGenerator idGenerator = (PrefetchingDbIdGenerator) standaloneConfiguration.getIdGenerator();
+        Executor prefetchExecutor;
+        try {
+            prefetchExecutor = idGenerator.getPrefetchExecutor();
+            assertThat(((ExecutorService) prefetchExecutor).isShutdown()).isFalse();
+        } finally {
+            standaloneEngine.close();
+        }
+
+        assertThat(((ExecutorService) prefetchExecutor).isShutdown()).isTrue();
+    }
+
+}
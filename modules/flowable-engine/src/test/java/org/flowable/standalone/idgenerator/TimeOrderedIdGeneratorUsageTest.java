@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedIdGeneratorUsageTest extends ResourceFlowableTestCase {
+
+    public TimeOrderedIdGeneratorUsageTest() {
+        super("org/flowable/standalone/idgenerator/timeorderedidgenerator.test.flowable.cfg.xml");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    public void testIdsFollowCreationOrder() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+            assertThat(processInstance.getId()).hasSize(26);
+            processInstanceIds.add(processInstance.getId());
+        }
+        assertThat(processInstanceIds).isSorted();
+
+        assertThat(runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list())
+                .extracting(ProcessInstance::getId)
+                .containsExactlyElementsOf(processInstanceIds);
+
+        while (taskService.createTaskQuery().count() > 0) {
+            for (Task task : taskService.createTaskQuery().list()) {
+                taskService.complete(task.getId());
+            }
+        }
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(20);
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -61,12 +63,42 @@ public interface EventRegistry {
      * Events received in adapters should call this method to process events.
      */
     void eventReceived(InboundChannelModel channelModel, String event);
+
+    /**
+     * Events received as bytes in adapters should call this method to process events.
+     * The bytes are handed to the channel pipeline as is, without decoding them to a String first.
+     */
+    void eventReceived(InboundChannelModel channelModel, byte[] event);
+
+    /**
+     * Same as {@link #eventReceived(InboundChannelModel, byte[])}, for events received in a buffer.
+     * Only the remaining bytes of the buffer are processed and the buffer position is not changed.
+     */
+    void eventReceived(InboundChannelModel channelModel, ByteBuffer event);
+
+    /**
+     * Events received in batches in adapters should call this method to process the batch as a whole.
+     * All events are passed through the channel pipeline before they are sent to the consumers, so that the consumers can correlate
+     * the complete batch at once. The batch has been processed when this method returns; adapters should only acknowledge the batch at that point.
+     */
+    void eventsReceived(InboundChannelModel channelModel, Collection<String> events);
+
+    /**
+     * Same as {@link #eventsReceived(InboundChannelModel, Collection)}, for batches of events received as bytes.
+     * Only the remaining bytes of the buffers are processed and the buffer positions are not changed.
+     */
+    void binaryEventsReceived(InboundChannelModel channelModel, Collection<ByteBuffer> events);
     
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     */
+    void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents);
+
     /**
      * Send out an event. The corresponding {@link EventModel} will be used to
      * decide which channel (and pipeline) will be used
@@ -12,12 +12,24 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     void eventReceived(EventRegistryEvent event);
+
+    /**
+     * Handles a batch of events. By default every event is handled on its own,
+     * consumers can override this to handle the batch more efficiently.
+     */
+    default void eventsReceived(Collection<EventRegistryEvent> events) {
+        for (EventRegistryEvent event : events) {
+            eventReceived(event);
+        }
+    }
     
     String getConsumerKey();
 }
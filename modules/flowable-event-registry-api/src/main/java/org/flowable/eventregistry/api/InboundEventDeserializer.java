@@ -12,6 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * @author Joram Barrez
  * @author Filip Hrisafov
@@ -23,4 +26,13 @@ public interface InboundEventDeserializer<T> {
      */
     T deserialize(String rawEvent);
 
+    /**
+     * Deserialization of a binary event, as received by adapters that work with bytes.
+     * The buffer should not be modified. By default the bytes are decoded as UTF-8 and passed to {@link #deserialize(String)};
+     * implementations that can parse the bytes directly should override this method to avoid the intermediate String.
+     */
+    default T deserialize(ByteBuffer rawEvent) {
+        return deserialize(StandardCharsets.UTF_8.decode(rawEvent.duplicate()).toString());
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 
 /**
@@ -21,5 +23,12 @@ import java.util.Collection;
 public interface InboundEventProcessingPipeline {
 
     Collection<EventRegistryEvent> run(String channelKey, String rawEvent);
-    
+
+    /**
+     * Runs the pipeline for a binary event. By default the bytes are decoded as UTF-8 and passed to {@link #run(String, String)}.
+     */
+    default Collection<EventRegistryEvent> run(String channelKey, ByteBuffer rawEvent) {
+        return run(channelKey, StandardCharsets.UTF_8.decode(rawEvent.duplicate()).toString());
+    }
+
 }
@@ -12,6 +12,10 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -21,4 +25,29 @@ public interface InboundEventProcessor {
 
     void eventReceived(InboundChannelModel channelModel, String event);
 
+    /**
+     * Processes a binary event. By default the bytes are decoded as UTF-8 and passed to {@link #eventReceived(InboundChannelModel, String)}.
+     */
+    default void eventReceived(InboundChannelModel channelModel, ByteBuffer event) {
+        eventReceived(channelModel, StandardCharsets.UTF_8.decode(event.duplicate()).toString());
+    }
+
+    /**
+     * Processes a batch of events. By default every event is processed on its own.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<String> events) {
+        for (String event : events) {
+            eventReceived(channelModel, event);
+        }
+    }
+
+    /**
+     * Processes a batch of binary events. By default every event is processed on its own.
+     */
+    default void binaryEventsReceived(InboundChannelModel channelModel, Collection<ByteBuffer> events) {
+        for (ByteBuffer event : events) {
+            eventReceived(channelModel, event);
+        }
+    }
+
 }
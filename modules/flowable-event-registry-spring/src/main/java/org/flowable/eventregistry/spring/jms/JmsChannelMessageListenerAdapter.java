@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.spring.jms;
 
+import javax.jms.BytesMessage;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.Session;
@@ -38,9 +39,14 @@ public class JmsChannelMessageListenerAdapter extends AbstractAdaptableMessageLi
     public void onMessage(Message message, Session session) throws JMSException {
         if (message instanceof TextMessage) {
             eventRegistry.eventReceived(inboundChannelModel, ((TextMessage) message).getText());
+        } else if (message instanceof BytesMessage) {
+            BytesMessage bytesMessage = (BytesMessage) message;
+            byte[] body = new byte[(int) bytesMessage.getBodyLength()];
+            bytesMessage.readBytes(body);
+            eventRegistry.eventReceived(inboundChannelModel, body);
         } else {
             //TODO what about other message types
-            throw new UnsupportedOperationException("Can only received TextMessage. Received: " + message);
+            throw new UnsupportedOperationException("Can only received TextMessage or BytesMessage. Received: " + message);
         }
     }
 
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.springframework.kafka.listener.BatchMessageListener;
+
+/**
+ * Passes all records of a poll to the event registry as one batch. Used when the listener container factory is configured
+ * for batch listeners. The offsets of the batch are only committed by the container once the whole batch was processed.
+ */
+public class KafkaChannelBatchMessageListenerAdapter implements BatchMessageListener<Object, Object> {
+
+    protected EventRegistry eventRegistry;
+    protected InboundChannelModel inboundChannelModel;
+
+    public KafkaChannelBatchMessageListenerAdapter(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        this.eventRegistry = eventRegistry;
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<Object, Object>> data) {
+        if (containsBinaryValues(data)) {
+            List<ByteBuffer> events = new ArrayList<>(data.size());
+            for (ConsumerRecord<Object, Object> record : data) {
+                events.add(toByteBuffer(record.value()));
+            }
+            eventRegistry.binaryEventsReceived(inboundChannelModel, events);
+
+        } else {
+            List<String> events = new ArrayList<>(data.size());
+            for (ConsumerRecord<Object, Object> record : data) {
+                Object value = record.value();
+                events.add(value != null ? value.toString() : null);
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+    }
+
+    protected boolean containsBinaryValues(List<ConsumerRecord<Object, Object>> data) {
+        for (ConsumerRecord<Object, Object> record : data) {
+            Object value = record.value();
+            if (value instanceof byte[] || value instanceof ByteBuffer) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected ByteBuffer toByteBuffer(Object value) {
+        if (value == null || value instanceof ByteBuffer) {
+            return (ByteBuffer) value;
+        } else if (value instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) value);
+        } else {
+            // Other values in a binary batch are passed as the bytes of their String representation
+            return ByteBuffer.wrap(value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    public EventRegistry getEventRegistry() {
+        return eventRegistry;
+    }
+
+    public void setEventRegistry(EventRegistry eventRegistry) {
+        this.eventRegistry = eventRegistry;
+    }
+
+    public InboundChannelModel getInboundChannelModel() {
+        return inboundChannelModel;
+    }
+
+    public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+}
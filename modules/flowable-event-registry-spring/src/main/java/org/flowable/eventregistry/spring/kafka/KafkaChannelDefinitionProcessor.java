@@ -39,6 +39,7 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.EmbeddedValueResolver;
 import org.springframework.context.expression.StandardBeanExpressionResolver;
 import org.springframework.kafka.annotation.KafkaListenerAnnotationBeanPostProcessor;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerEndpoint;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
@@ -106,7 +107,11 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         endpoint.setConcurrency(resolveExpressionAsInteger(channelModel.getConcurrency(), "concurrency"));
         endpoint.setConsumerProperties(resolveProperties(channelModel.getCustomProperties()));
 
-        endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        if (isBatchListener(resolveContainerFactory(endpoint, null))) {
+            endpoint.setMessageListener(createBatchMessageListener(eventRegistry, channelModel));
+        } else {
+            endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        }
         return endpoint;
     }
 
@@ -207,6 +212,18 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         return kafkaChannelMessageListenerAdapter;
     }
 
+    @SuppressWarnings("unchecked")
+    protected GenericMessageListener<ConsumerRecord<Object, Object>> createBatchMessageListener(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        @SuppressWarnings("rawtypes")
+        GenericMessageListener kafkaChannelBatchMessageListenerAdapter = new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        return kafkaChannelBatchMessageListenerAdapter;
+    }
+
+    protected boolean isBatchListener(KafkaListenerContainerFactory<?> containerFactory) {
+        return containerFactory instanceof AbstractKafkaListenerContainerFactory
+            && Boolean.TRUE.equals(((AbstractKafkaListenerContainerFactory<?, ?, ?>) containerFactory).isBatchListener());
+    }
+
     @Override
     public void unregisterChannelModel(ChannelModel channelModel, String tenantId, EventRepositoryService eventRepositoryService) {
         String endpointId = getEndpointId(channelModel, tenantId);
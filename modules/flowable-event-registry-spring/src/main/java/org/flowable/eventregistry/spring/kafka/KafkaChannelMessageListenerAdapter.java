@@ -12,15 +12,20 @@
  */
 package org.flowable.eventregistry.spring.kafka;
 
+import java.nio.ByteBuffer;
+
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.springframework.kafka.listener.MessageListener;
 
 /**
+ * Passes the record values to the event registry. Values deserialized as {@code byte[]} or {@link ByteBuffer}
+ * (e.g. with the Kafka {@code ByteArrayDeserializer}) are processed without decoding them to a String first.
+ *
  * @author Filip Hrisafov
  */
-public class KafkaChannelMessageListenerAdapter implements MessageListener<String, String> {
+public class KafkaChannelMessageListenerAdapter implements MessageListener<Object, Object> {
 
     protected EventRegistry eventRegistry;
     protected InboundChannelModel inboundChannelModel;
@@ -31,8 +36,15 @@ public class KafkaChannelMessageListenerAdapter implements MessageListener<Strin
     }
 
     @Override
-    public void onMessage(ConsumerRecord<String, String> data) {
-        eventRegistry.eventReceived(inboundChannelModel, data.value());
+    public void onMessage(ConsumerRecord<Object, Object> data) {
+        Object value = data.value();
+        if (value instanceof byte[]) {
+            eventRegistry.eventReceived(inboundChannelModel, (byte[]) value);
+        } else if (value instanceof ByteBuffer) {
+            eventRegistry.eventReceived(inboundChannelModel, (ByteBuffer) value);
+        } else {
+            eventRegistry.eventReceived(inboundChannelModel, value != null ? value.toString() : null);
+        }
     }
 
     public EventRegistry getEventRegistry() {
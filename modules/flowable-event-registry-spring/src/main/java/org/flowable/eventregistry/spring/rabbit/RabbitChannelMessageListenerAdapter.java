@@ -12,10 +12,12 @@
  */
 package org.flowable.eventregistry.spring.rabbit;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -45,20 +47,57 @@ public class RabbitChannelMessageListenerAdapter implements MessageListener {
 
     @Override
     public void onMessage(Message message) {
+        Object rawEvent = getRawEvent(message);
+        if (rawEvent instanceof byte[]) {
+            eventRegistry.eventReceived(inboundChannelModel, (byte[]) rawEvent);
+        } else {
+            eventRegistry.eventReceived(inboundChannelModel, (String) rawEvent);
+        }
+    }
+
+    /**
+     * Used when the listener container is configured for batch listeners.
+     * The batch is acknowledged by the container once all of its messages were processed.
+     */
+    @Override
+    public void onMessageBatch(List<Message> messages) {
+        List<ByteBuffer> rawEvents = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            rawEvents.add(getBinaryRawEvent(message));
+        }
+        eventRegistry.binaryEventsReceived(inboundChannelModel, rawEvents);
+    }
+
+    /**
+     * Same as {@link #getRawEvent(Message)}, but with the Base64 encoded body of non string content types returned as bytes as well.
+     */
+    protected ByteBuffer getBinaryRawEvent(Message message) {
         byte[] body = message.getBody();
         MessageProperties messageProperties = message.getMessageProperties();
         String contentType = messageProperties != null ? messageProperties.getContentType() : null;
 
-        String rawEvent;
         if (body == null) {
-            rawEvent = null;
+            return null;
         } else if (stringContentTypes.contains(contentType)) {
-            rawEvent = new String(body, StandardCharsets.UTF_8);
+            return ByteBuffer.wrap(body);
         } else {
-            rawEvent = Base64.getEncoder().encodeToString(body);
+            return ByteBuffer.wrap(Base64.getEncoder().encode(body));
         }
+    }
 
-        eventRegistry.eventReceived(inboundChannelModel, rawEvent);
+    protected Object getRawEvent(Message message) {
+        byte[] body = message.getBody();
+        MessageProperties messageProperties = message.getMessageProperties();
+        String contentType = messageProperties != null ? messageProperties.getContentType() : null;
+
+        if (body == null) {
+            return null;
+        } else if (stringContentTypes.contains(contentType)) {
+            // The pipeline decodes the bytes itself, so there is no need to create an intermediate String
+            return body;
+        } else {
+            return Base64.getEncoder().encodeToString(body);
+        }
     }
 
     public EventRegistry getEventRegistry() {
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Map;
 
@@ -55,6 +56,26 @@ public class DefaultEventRegistry implements EventRegistry {
     public void eventReceived(InboundChannelModel channelModel, String event) {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
+
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, byte[] event) {
+        inboundEventProcessor.eventReceived(channelModel, ByteBuffer.wrap(event));
+    }
+
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, ByteBuffer event) {
+        inboundEventProcessor.eventReceived(channelModel, event);
+    }
+    
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<String> events) {
+        inboundEventProcessor.eventsReceived(channelModel, events);
+    }
+
+    @Override
+    public void binaryEventsReceived(InboundChannelModel channelModel, Collection<ByteBuffer> events) {
+        inboundEventProcessor.binaryEventsReceived(channelModel, events);
+    }
     
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
@@ -64,6 +85,18 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        if (eventRegistryEvents.isEmpty()) {
+            return;
+        }
+
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            eventConsumer.eventsReceived(eventRegistryEvents);
+        }
+    }
+
     @Override
     public void sendEventOutbound(EventInstance eventInstance) {
         outboundEventProcessor.sendEvent(eventInstance);
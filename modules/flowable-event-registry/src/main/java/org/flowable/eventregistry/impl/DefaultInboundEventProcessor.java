@@ -12,7 +12,10 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -37,11 +40,52 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
         InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
         Collection<EventRegistryEvent> eventRegistryEvents = inboundEventProcessingPipeline.run(channelModel.getKey(), event);
+        sendEventsToConsumers(eventRegistryEvents);
+    }
+
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, ByteBuffer event) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        Collection<EventRegistryEvent> eventRegistryEvents = inboundEventProcessingPipeline.run(channelModel.getKey(), event);
+        sendEventsToConsumers(eventRegistryEvents);
+    }
+
+    /**
+     * Runs the pipeline for all events of the batch first and then sends all resulting events to the consumers at once.
+     */
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<String> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+        for (String event : events) {
+            eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(channelModel.getKey(), event));
+        }
 
+        eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+    }
+
+    /**
+     * Same as {@link #eventsReceived(InboundChannelModel, Collection)}, for a batch of binary events.
+     */
+    @Override
+    public void binaryEventsReceived(InboundChannelModel channelModel, Collection<ByteBuffer> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+        for (ByteBuffer event : events) {
+            if (event != null) {
+                eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(channelModel.getKey(), event));
+            } else {
+                eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(channelModel.getKey(), (String) null));
+            }
+        }
+
+        eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+    }
+
+    protected void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
         for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
             eventRegistry.sendEventToConsumers(eventRegistryEvent);
         }
-
     }
 
 }
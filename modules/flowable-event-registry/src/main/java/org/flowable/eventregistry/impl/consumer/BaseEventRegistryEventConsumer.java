@@ -18,6 +18,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +38,8 @@ import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -43,6 +47,14 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseEventRegistryEventConsumer.class);
+
+    /**
+     * The maximum number of correlation keys used in one event subscription query when looking up the subscriptions of a batch of events.
+     * Keeps the in clause of the query within the limits of all supported databases.
+     */
+    protected static final int MAX_CORRELATION_KEYS_PER_QUERY = 1000;
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -53,8 +65,21 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public void eventReceived(EventRegistryEvent event) {
+        eventReceived(getEventInstance(event));
+    }
+
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            eventInstances.add(getEventInstance(event));
+        }
+        eventsReceived(eventInstances);
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -66,6 +91,116 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles a batch of event instances. By default every event instance is handled on its own,
+     * see {@link #handleEventBatch(String, List)} for correlating the batch as a whole.
+     */
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        for (EventInstance eventInstance : eventInstances) {
+            eventReceived(eventInstance);
+        }
+    }
+
+    /**
+     * Handles a batch of event instances as a whole.
+     * <p>
+     * The event subscriptions of the batch are fetched together (see {@link #findEventSubscriptions(String, Map)}) and all
+     * matched subscriptions are handled in one transaction. If that transaction fails, the events are handled
+     * one by one, like single events, so that the handling of one event doesn't roll back the others.
+     * <p>
+     * A subscription that can only be handled once per transaction (see {@link #isSingleUseEventSubscription(EventSubscription)})
+     * is handled for the first event of the batch that matches it, as are the other single use subscriptions of the same instance
+     * (see {@link #getEventSubscriptionInstanceId(EventSubscription)}). The later events matching them are handled one by one after the batch,
+     * fetching their subscriptions again, so they see the state left behind by the earlier events.
+     */
+    protected void handleEventBatch(String scopeType, List<EventInstance> eventInstances) {
+        // Keyed by identity, two events of a batch with the same content are still separate events
+        Map<EventInstance, Collection<CorrelationKey>> correlationKeys = new IdentityHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            correlationKeys.put(eventInstance, generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+        }
+
+        Map<EventInstance, List<EventSubscription>> eventSubscriptions = findEventSubscriptions(scopeType, correlationKeys);
+
+        List<EventInstance> batchEventInstances = new ArrayList<>(eventInstances.size());
+        List<EventInstance> remainingEventInstances = new ArrayList<>();
+        Set<String> singleUseEventSubscriptionIds = new HashSet<>();
+        Set<String> singleUseInstanceIds = new HashSet<>();
+        for (EventInstance eventInstance : eventInstances) {
+            Set<String> eventSubscriptionIds = new HashSet<>();
+            Set<String> instanceIds = new HashSet<>();
+            for (EventSubscription eventSubscription : eventSubscriptions.get(eventInstance)) {
+                if (isSingleUseEventSubscription(eventSubscription)) {
+                    eventSubscriptionIds.add(eventSubscription.getId());
+                    String instanceId = getEventSubscriptionInstanceId(eventSubscription);
+                    if (instanceId != null) {
+                        instanceIds.add(instanceId);
+                    }
+                }
+            }
+
+            // Handling a subscription can change or delete the other subscriptions of the same instance
+            // (e.g. an event-based gateway or a boundary event), so an instance is only handled for one event of the batch
+            if (Collections.disjoint(singleUseEventSubscriptionIds, eventSubscriptionIds) && Collections.disjoint(singleUseInstanceIds, instanceIds)) {
+                singleUseEventSubscriptionIds.addAll(eventSubscriptionIds);
+                singleUseInstanceIds.addAll(instanceIds);
+                batchEventInstances.add(eventInstance);
+            } else {
+                remainingEventInstances.add(eventInstance);
+            }
+        }
+
+        if (!batchEventInstances.isEmpty()) {
+            try {
+                commandExecutor.execute(commandContext -> {
+                    handleEventSubscriptions(batchEventInstances, eventSubscriptions, correlationKeys);
+                    return null;
+                });
+
+            } catch (RuntimeException e) {
+                LOGGER.warn("Handling the event subscriptions of a batch of {} events in one transaction failed, handling the events one by one",
+                        batchEventInstances.size(), e);
+                for (EventInstance eventInstance : batchEventInstances) {
+                    eventReceived(eventInstance);
+                }
+            }
+        }
+
+        for (EventInstance eventInstance : remainingEventInstances) {
+            eventReceived(eventInstance);
+        }
+    }
+
+    protected void handleEventSubscriptions(List<EventInstance> eventInstances, Map<EventInstance, List<EventSubscription>> eventSubscriptions,
+            Map<EventInstance, Collection<CorrelationKey>> correlationKeys) {
+
+        for (EventInstance eventInstance : eventInstances) {
+            for (EventSubscription eventSubscription : eventSubscriptions.get(eventInstance)) {
+                handleEventSubscription(eventSubscription, eventInstance, correlationKeys.get(eventInstance));
+            }
+        }
+    }
+
+    /**
+     * Handles one event subscription matched by an event of a batch, see {@link #handleEventBatch(String, List)}.
+     */
+    protected abstract void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys);
+
+    /**
+     * Whether the given subscription can be handled at most once per transaction, for example because it belongs to an execution waiting for the event.
+     */
+    protected boolean isSingleUseEventSubscription(EventSubscription eventSubscription) {
+        return true;
+    }
+
+    /**
+     * Returns the id of the instance the given subscription belongs to, or null when it doesn't belong to an instance (e.g. a start event).
+     * Only one event of a batch is handled in the batch transaction for the single use subscriptions of an instance.
+     */
+    protected String getEventSubscriptionInstanceId(EventSubscription eventSubscription) {
+        return eventSubscription.getScopeId();
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -167,6 +302,130 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         });
     }
 
+    /**
+     * Finds the event subscriptions for a batch of event instances.
+     * Instead of a query per event instance, one query is done per tenant of the batch (and per event definition key when falling back
+     * to the default tenant) for the event definition keys and correlation keys of all event instances.
+     * The result is then matched to the individual event instances, giving the same subscriptions as
+     * {@link #findEventSubscriptions(String, EventInstance, Collection)} would for every single event instance.
+     */
+    protected Map<EventInstance, List<EventSubscription>> findEventSubscriptions(String scopeType, Map<EventInstance, Collection<CorrelationKey>> correlationKeys) {
+        return commandExecutor.execute(commandContext -> {
+
+            // Event instances with the same tenant restriction can be looked up together
+            Map<List<String>, List<EventInstance>> eventInstancesByTenantRestriction = new LinkedHashMap<>();
+            for (EventInstance eventInstance : correlationKeys.keySet()) {
+                eventInstancesByTenantRestriction.computeIfAbsent(getTenantRestriction(scopeType, eventInstance), key -> new ArrayList<>()).add(eventInstance);
+            }
+
+            Map<EventInstance, List<EventSubscription>> result = new IdentityHashMap<>();
+            for (Map.Entry<List<String>, List<EventInstance>> entry : eventInstancesByTenantRestriction.entrySet()) {
+
+                Set<String> eventTypes = new HashSet<>();
+                Set<String> allCorrelationKeyValues = new HashSet<>();
+                List<EventInstance> queryEventInstances = new ArrayList<>();
+                for (EventInstance eventInstance : entry.getValue()) {
+                    Collection<CorrelationKey> eventCorrelationKeys = correlationKeys.get(eventInstance);
+                    if (!queryEventInstances.isEmpty() && allCorrelationKeyValues.size() + eventCorrelationKeys.size() > MAX_CORRELATION_KEYS_PER_QUERY) {
+                        matchEventSubscriptions(queryEventInstances, correlationKeys,
+                            findEventSubscriptions(scopeType, eventTypes, allCorrelationKeyValues, entry.getKey()), result);
+
+                        eventTypes.clear();
+                        allCorrelationKeyValues.clear();
+                        queryEventInstances.clear();
+                    }
+
+                    eventTypes.add(eventInstance.getEventModel().getKey());
+                    for (CorrelationKey correlationKey : eventCorrelationKeys) {
+                        allCorrelationKeyValues.add(correlationKey.getValue());
+                    }
+                    queryEventInstances.add(eventInstance);
+                }
+
+                matchEventSubscriptions(queryEventInstances, correlationKeys,
+                    findEventSubscriptions(scopeType, eventTypes, allCorrelationKeyValues, entry.getKey()), result);
+            }
+
+            return result;
+        });
+    }
+
+    protected List<EventSubscription> findEventSubscriptions(String scopeType, Collection<String> eventTypes,
+            Collection<String> allCorrelationKeyValues, List<String> tenantRestriction) {
+
+        EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
+            .eventTypes(eventTypes)
+            .scopeType(scopeType);
+
+        if (!allCorrelationKeyValues.isEmpty()) {
+            eventSubscriptionQuery.or()
+                .withoutConfiguration()
+                .configurations(allCorrelationKeyValues)
+                .endOr();
+
+        } else {
+            eventSubscriptionQuery.withoutConfiguration();
+
+        }
+
+        if (tenantRestriction.size() == 1) {
+            eventSubscriptionQuery.tenantId(tenantRestriction.get(0));
+
+        } else if (tenantRestriction.size() == 2) {
+            if (AbstractEngineConfiguration.NO_TENANT_ID.equals(tenantRestriction.get(1))) {
+                eventSubscriptionQuery.or()
+                    .tenantId(tenantRestriction.get(0))
+                    .withoutTenantId()
+                .endOr();
+
+            } else {
+                eventSubscriptionQuery.tenantIds(tenantRestriction);
+
+            }
+        }
+
+        return eventSubscriptionQuery.list();
+    }
+
+    /**
+     * Returns the tenants the event subscriptions for the given event instance should be restricted to, in the same way as
+     * {@link #findEventSubscriptions(String, EventInstance, Collection)}: an empty list for no restriction,
+     * the tenant of the event, or the tenant of the event and the default tenant when falling back to the default tenant.
+     */
+    protected List<String> getTenantRestriction(String scopeType, EventInstance eventInstance) {
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId == null || AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+            return Collections.emptyList();
+        }
+
+        EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+        if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+            String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+                .getDefaultTenant(eventInstanceTenantId, scopeType, eventInstance.getEventModel().getKey());
+            return Arrays.asList(eventInstanceTenantId, defaultTenant);
+        }
+
+        return Collections.singletonList(eventInstanceTenantId);
+    }
+
+    protected void matchEventSubscriptions(List<EventInstance> eventInstances, Map<EventInstance, Collection<CorrelationKey>> correlationKeys,
+            List<EventSubscription> eventSubscriptions, Map<EventInstance, List<EventSubscription>> result) {
+
+        for (EventInstance eventInstance : eventInstances) {
+            String eventType = eventInstance.getEventModel().getKey();
+            Set<String> correlationKeyValues = correlationKeys.get(eventInstance).stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+
+            List<EventSubscription> matchingEventSubscriptions = new ArrayList<>();
+            for (EventSubscription eventSubscription : eventSubscriptions) {
+                if (eventType.equals(eventSubscription.getEventType())
+                        && (eventSubscription.getConfiguration() == null || correlationKeyValues.contains(eventSubscription.getConfiguration()))) {
+                    matchingEventSubscriptions.add(eventSubscription);
+                }
+            }
+            result.put(eventInstance, matchingEventSubscriptions);
+        }
+    }
+
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
 }
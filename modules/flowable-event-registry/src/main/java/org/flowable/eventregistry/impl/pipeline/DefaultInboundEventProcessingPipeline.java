@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.impl.pipeline;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -62,37 +63,54 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
     @Override
     public Collection<EventRegistryEvent> run(String channelKey, String rawEvent) {
         T event = deserialize(rawEvent);
+        return processEvent(channelKey, event);
+    }
+
+    @Override
+    public Collection<EventRegistryEvent> run(String channelKey, ByteBuffer rawEvent) {
+        T event = deserialize(rawEvent);
+        return processEvent(channelKey, event);
+    }
+
+    protected Collection<EventRegistryEvent> processEvent(String channelKey, T event) {
         String eventKey = detectEventDefinitionKey(event);
+        String tenantId = detectTenantId(event);
+        EventModel eventModel = getEventModel(eventKey, tenantId);
+        return transform(createEventInstance(channelKey, eventModel, event, tenantId));
+    }
 
-        boolean multiTenant = false;
-        String tenantId = AbstractEngineConfiguration.NO_TENANT_ID;
-        if (inboundEventTenantDetector != null) {
-            tenantId = inboundEventTenantDetector.detectTenantId(event);
-            multiTenant = true;
-        }
+    protected EventModel getEventModel(String eventKey, String tenantId) {
+        return inboundEventTenantDetector != null ? eventRepositoryService.getEventModelByKey(eventKey, tenantId) : eventRepositoryService.getEventModelByKey(eventKey);
+    }
 
-        EventModel eventModel = multiTenant ? eventRepositoryService.getEventModelByKey(eventKey, tenantId) : eventRepositoryService.getEventModelByKey(eventKey);
-        ChannelModel channelModel = multiTenant ? eventRepositoryService.getChannelModelByKey(channelKey, tenantId) : eventRepositoryService.getChannelModelByKey(channelKey);
+    protected EventInstance createEventInstance(String channelKey, EventModel eventModel, T event, String tenantId) {
+        ChannelModel channelModel = inboundEventTenantDetector != null ? eventRepositoryService.getChannelModelByKey(channelKey, tenantId) : eventRepositoryService.getChannelModelByKey(channelKey);
         
-        EventInstanceImpl eventInstance = new EventInstanceImpl(
+        return new EventInstanceImpl(
             eventModel,
             Collections.singletonList(channelModel),
             extractCorrelationParameters(eventModel, event),
             extractPayload(eventModel, event),
             tenantId
         );
-
-        return transform(eventInstance);
     }
 
     public T deserialize(String rawEvent) {
         return inboundEventDeserializer.deserialize(rawEvent);
     }
 
+    public T deserialize(ByteBuffer rawEvent) {
+        return inboundEventDeserializer.deserialize(rawEvent);
+    }
+
     public String detectEventDefinitionKey(T event) {
         return inboundEventKeyDetector.detectEventDefinitionKey(event);
     }
 
+    public String detectTenantId(T event) {
+        return inboundEventTenantDetector != null ? inboundEventTenantDetector.detectTenantId(event) : AbstractEngineConfiguration.NO_TENANT_ID;
+    }
+
     public Collection<EventCorrelationParameterInstance> extractCorrelationParameters(EventModel eventDefinition, T event) {
         return inboundEventPayloadExtractor.extractCorrelationParameters(eventDefinition, event);
     }
@@ -159,7 +159,7 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
             }
         }
 
-        return new DefaultInboundEventProcessingPipeline<>(eventRepositoryService, eventDeserializer,
+        return new JsonInboundEventProcessingPipeline(eventRepositoryService, eventDeserializer,
             eventKeyDetector, eventTenantDetector, eventPayloadExtractor, eventTransformer);
     }
 
@@ -0,0 +1,161 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.pipeline;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEventDeserializer;
+import org.flowable.eventregistry.api.InboundEventKeyDetector;
+import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
+import org.flowable.eventregistry.api.InboundEventTenantDetector;
+import org.flowable.eventregistry.api.InboundEventTransformer;
+import org.flowable.eventregistry.impl.keydetector.InboundEventStaticKeyDetector;
+import org.flowable.eventregistry.impl.keydetector.JsonFieldBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.keydetector.JsonPointerBasedInboundEventKeyDetector;
+import org.flowable.eventregistry.impl.payload.JsonFieldToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.serialization.JsonFieldsReader;
+import org.flowable.eventregistry.impl.serialization.StringToJsonDeserializer;
+import org.flowable.eventregistry.impl.tenantdetector.InboundEventStaticTenantDetector;
+import org.flowable.eventregistry.impl.tenantdetector.JsonPointerBasedInboundEventTenantDetector;
+import org.flowable.eventregistry.model.EventCorrelationParameter;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventregistry.model.EventPayload;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Json pipeline that processes binary events without building a tree of the complete event when the default json
+ * deserializer, key detection, tenant detection and payload extraction are used.
+ * The event is streamed twice: once for the top level fields needed to detect the event key and tenant,
+ * and once for the top level fields declared as correlation parameters or payload by the detected event model.
+ * All other fields are skipped. When a custom stage is configured the complete event is deserialized instead.
+ */
+public class JsonInboundEventProcessingPipeline extends DefaultInboundEventProcessingPipeline<JsonNode> {
+
+    protected JsonFieldsReader jsonFieldsReader;
+
+    public JsonInboundEventProcessingPipeline(EventRepositoryService eventRepositoryService,
+            InboundEventDeserializer<JsonNode> inboundEventDeserializer,
+            InboundEventKeyDetector<JsonNode> inboundEventKeyDetector,
+            InboundEventTenantDetector<JsonNode> inboundEventTenantDetector,
+            InboundEventPayloadExtractor<JsonNode> inboundEventPayloadExtractor,
+            InboundEventTransformer inboundEventTransformer) {
+
+        super(eventRepositoryService, inboundEventDeserializer, inboundEventKeyDetector, inboundEventTenantDetector,
+                inboundEventPayloadExtractor, inboundEventTransformer);
+
+        if (inboundEventDeserializer instanceof StringToJsonDeserializer) {
+            this.jsonFieldsReader = new JsonFieldsReader(((StringToJsonDeserializer) inboundEventDeserializer).getObjectMapper());
+        }
+    }
+
+    @Override
+    public Collection<EventRegistryEvent> run(String channelKey, ByteBuffer rawEvent) {
+        Set<String> detectionFieldNames = getDetectionFieldNames();
+        if (detectionFieldNames == null) {
+            return super.run(channelKey, rawEvent);
+        }
+
+        JsonNode detectionEvent = jsonFieldsReader.readFields(rawEvent, detectionFieldNames);
+        if (detectionEvent == null) {
+            // Not a json object, the configured stages can't work on individual fields
+            return super.run(channelKey, rawEvent);
+        }
+
+        String eventKey = detectEventDefinitionKey(detectionEvent);
+        String tenantId = detectTenantId(detectionEvent);
+        EventModel eventModel = getEventModel(eventKey, tenantId);
+
+        JsonNode event = jsonFieldsReader.readFields(rawEvent, getEventFieldNames(eventModel));
+        return transform(createEventInstance(channelKey, eventModel, event, tenantId));
+    }
+
+    /**
+     * Returns the top level fields needed to detect the event key and tenant,
+     * or null when the event can't be processed field by field because a custom stage is configured.
+     */
+    protected Set<String> getDetectionFieldNames() {
+        if (jsonFieldsReader == null
+                || inboundEventDeserializer == null || inboundEventDeserializer.getClass() != StringToJsonDeserializer.class
+                || inboundEventPayloadExtractor == null || inboundEventPayloadExtractor.getClass() != JsonFieldToMapPayloadExtractor.class
+                || inboundEventKeyDetector == null) {
+            return null;
+        }
+
+        Set<String> fieldNames = new HashSet<>(4);
+
+        Class<?> keyDetectorClass = inboundEventKeyDetector.getClass();
+        if (keyDetectorClass == JsonFieldBasedInboundEventKeyDetector.class) {
+            fieldNames.add(((JsonFieldBasedInboundEventKeyDetector) inboundEventKeyDetector).getJsonField());
+
+        } else if (keyDetectorClass == JsonPointerBasedInboundEventKeyDetector.class) {
+            String fieldName = getPointerFieldName(((JsonPointerBasedInboundEventKeyDetector) inboundEventKeyDetector).getJsonPointerValue());
+            if (fieldName == null) {
+                return null;
+            }
+            fieldNames.add(fieldName);
+
+        } else if (keyDetectorClass != InboundEventStaticKeyDetector.class) {
+            return null;
+        }
+
+        if (inboundEventTenantDetector != null) {
+            Class<?> tenantDetectorClass = inboundEventTenantDetector.getClass();
+            if (tenantDetectorClass == JsonPointerBasedInboundEventTenantDetector.class) {
+                String fieldName = getPointerFieldName(((JsonPointerBasedInboundEventTenantDetector) inboundEventTenantDetector).getJsonPointerExpression());
+                if (fieldName == null) {
+                    return null;
+                }
+                fieldNames.add(fieldName);
+
+            } else if (tenantDetectorClass != InboundEventStaticTenantDetector.class) {
+                return null;
+            }
+        }
+
+        return fieldNames;
+    }
+
+    /**
+     * Returns the top level field a json pointer starts with, or null when the pointer refers to the whole event.
+     */
+    protected String getPointerFieldName(String jsonPointerExpression) {
+        JsonPointer jsonPointer = JsonPointer.compile(jsonPointerExpression);
+        return jsonPointer.matches() ? null : jsonPointer.getMatchingProperty();
+    }
+
+    protected Set<String> getEventFieldNames(EventModel eventModel) {
+        Set<String> fieldNames = new HashSet<>();
+        for (EventCorrelationParameter correlationParameter : eventModel.getCorrelationParameters()) {
+            fieldNames.add(correlationParameter.getName());
+        }
+        for (EventPayload payload : eventModel.getPayload()) {
+            fieldNames.add(payload.getName());
+        }
+        return fieldNames;
+    }
+
+    public JsonFieldsReader getJsonFieldsReader() {
+        return jsonFieldsReader;
+    }
+
+    public void setJsonFieldsReader(JsonFieldsReader jsonFieldsReader) {
+        this.jsonFieldsReader = jsonFieldsReader;
+    }
+}
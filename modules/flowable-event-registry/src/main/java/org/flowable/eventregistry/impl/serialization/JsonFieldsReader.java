@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.serialization;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Streams over the top level fields of a binary json event and only builds nodes for the requested fields.
+ * All other fields are skipped without being materialized. The complete event is still parsed, so malformed json
+ * is rejected the same way as when the complete event is deserialized.
+ */
+public class JsonFieldsReader {
+
+    protected ObjectMapper objectMapper;
+
+    public JsonFieldsReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns an object node containing the requested top level fields of the event that are present,
+     * or null when the event is not a json object.
+     */
+    public ObjectNode readFields(ByteBuffer rawEvent, Set<String> fieldNames) {
+        try (JsonParser parser = createParser(objectMapper, rawEvent)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            ObjectNode fields = objectMapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldNames.contains(fieldName)) {
+                    fields.set(fieldName, objectMapper.readTree(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            return fields;
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
+
+    /**
+     * Creates a parser reading the remaining bytes of the buffer, without copying them when the buffer is backed by an array.
+     */
+    public static JsonParser createParser(ObjectMapper objectMapper, ByteBuffer rawEvent) throws IOException {
+        if (rawEvent.hasArray()) {
+            return objectMapper.getFactory().createParser(rawEvent.array(), rawEvent.arrayOffset() + rawEvent.position(), rawEvent.remaining());
+        }
+
+        byte[] bytes = new byte[rawEvent.remaining()];
+        rawEvent.duplicate().get(bytes);
+        return objectMapper.getFactory().createParser(bytes);
+    }
+
+}
@@ -13,10 +13,12 @@
 package org.flowable.eventregistry.impl.serialization;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -37,4 +39,21 @@ public class StringToJsonDeserializer implements InboundEventDeserializer<JsonNo
         }
     }
 
+    @Override
+    public JsonNode deserialize(ByteBuffer rawEvent) {
+        try (JsonParser parser = JsonFieldsReader.createParser(objectMapper, rawEvent)) {
+            return objectMapper.readTree(parser);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
 }
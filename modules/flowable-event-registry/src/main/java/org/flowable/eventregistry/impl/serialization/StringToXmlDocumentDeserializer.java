@@ -14,6 +14,7 @@ package org.flowable.eventregistry.impl.serialization;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -30,10 +31,25 @@ public class StringToXmlDocumentDeserializer implements InboundEventDeserializer
 
     @Override
     public Document deserialize(String rawEvent) {
+        return parse(new ByteArrayInputStream(rawEvent.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public Document deserialize(ByteBuffer rawEvent) {
+        if (rawEvent.hasArray()) {
+            return parse(new ByteArrayInputStream(rawEvent.array(), rawEvent.arrayOffset() + rawEvent.position(), rawEvent.remaining()));
+        }
+
+        byte[] bytes = new byte[rawEvent.remaining()];
+        rawEvent.duplicate().get(bytes);
+        return parse(new ByteArrayInputStream(bytes));
+    }
+
+    protected Document parse(InputStream rawEvent) {
         try {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
             DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-            try (InputStream inputStream = new ByteArrayInputStream(rawEvent.getBytes(StandardCharsets.UTF_8))) {
+            try (InputStream inputStream = rawEvent) {
                 return documentBuilder.parse(inputStream);
             }
         } catch (Exception e) {
@@ -13,10 +13,13 @@
 package org.flowable.eventregistry.test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -25,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -39,6 +43,7 @@ import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
 import org.flowable.eventregistry.impl.DefaultInboundEventProcessor;
 import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
 import org.flowable.eventregistry.impl.pipeline.DefaultInboundEventProcessingPipeline;
+import org.flowable.eventregistry.impl.pipeline.JsonInboundEventProcessingPipeline;
 import org.flowable.eventregistry.impl.runtime.EventCorrelationParameterInstanceImpl;
 import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
 import org.flowable.eventregistry.model.EventCorrelationParameter;
@@ -121,6 +126,93 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
             );
     }
 
+    @Test
+    public void testDefaultInboundEventPipelineWithBytes() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .correlationParameter("customerId", EventPayloadTypes.STRING)
+            .payload("payload1", EventPayloadTypes.STRING)
+            .payload("payload2", EventPayloadTypes.INTEGER)
+            .payload("payload3", EventPayloadTypes.DOUBLE)
+            .deploy();
+
+        assertThat(inboundEventChannelAdapter.inboundChannelModel.getInboundEventProcessingPipeline()).isInstanceOf(JsonInboundEventProcessingPipeline.class);
+
+        // Fields that are not part of the event model, before and after the declared ones
+        ObjectNode event = new ObjectMapper().createObjectNode();
+        event.putObject("metadata").put("type", "ignored").putArray("tags").add("a").add("b");
+        event.setAll(inboundEventChannelAdapter.createTestEvent());
+        event.putArray("items").addObject().put("payload1", "ignored");
+        inboundEventChannelAdapter.triggerTestEventAsBytes(event);
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(1);
+        FlowableEventRegistryEvent eventRegistryEvent = (FlowableEventRegistryEvent) testEventConsumer.eventsReceived.get(0);
+
+        EventInstance eventInstance = eventRegistryEvent.getEventInstance();
+        assertThat(eventInstance.getEventModel().getKey()).isEqualTo("myEvent");
+
+        assertThat(eventInstance.getCorrelationParameterInstances())
+            .extracting(EventCorrelationParameterInstance::getValue).containsOnly("test");
+        assertThat(eventInstance.getPayloadInstances())
+            .extracting(EventPayloadInstance::getDefinitionName, EventPayloadInstance::getDefinitionType, EventPayloadInstance::getValue)
+            .containsOnly(
+                tuple("customerId", EventPayloadTypes.STRING, "test"),
+                tuple("payload1", EventPayloadTypes.STRING, "Hello World"),
+                tuple("payload2", EventPayloadTypes.INTEGER, 123)
+            );
+    }
+
+    @Test
+    public void testDefaultInboundEventPipelineWithMalformedBytes() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .correlationParameter("customerId", EventPayloadTypes.STRING)
+            .payload("payload1", EventPayloadTypes.STRING)
+            .deploy();
+
+        // All fields of the event model are present before the malformed part of the event
+        byte[] event = "{\"type\": \"myEvent\", \"customerId\": \"test\", \"payload1\": \"Hello World\", \"other\": }".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> inboundEventChannelAdapter.eventRegistry.eventReceived(inboundEventChannelAdapter.inboundChannelModel, ByteBuffer.wrap(event)))
+            .isInstanceOf(FlowableException.class)
+            .hasMessage("Could not deserialize event to json");
+
+        assertThat(testEventConsumer.eventsReceived).isEmpty();
+    }
+
+    @Test
+    public void testDefaultInboundEventPipelineWithBytesAndCustomDeserializerAndExtractor() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannelWithCustomDeserializer();
+
+        repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .correlationParameter("customerId", EventPayloadTypes.STRING)
+            .payload("payload1", EventPayloadTypes.STRING)
+            .payload("payload2", EventPayloadTypes.INTEGER)
+            .deploy();
+
+        inboundEventChannelAdapter.triggerTestEventAsBytes(inboundEventChannelAdapter.createTestEvent());
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(1);
+        FlowableEventRegistryEvent eventRegistryEvent = (FlowableEventRegistryEvent) testEventConsumer.eventsReceived.get(0);
+
+        EventInstance eventInstance = eventRegistryEvent.getEventInstance();
+        assertThat(eventInstance.getEventModel().getKey()).isEqualTo("myEvent");
+        assertThat(eventInstance.getPayloadInstances())
+            .extracting(EventPayloadInstance::getDefinitionName, EventPayloadInstance::getValue)
+            .containsOnly(
+                tuple("customerId", "test"),
+                tuple("payload1", "Hello World"),
+                tuple("payload2", 123)
+            );
+    }
+
     @Test
     public void testDefaultInboundEventPipelineWithCustomDeserializerAndExtractor() {
         TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannelWithCustomDeserializer();
@@ -270,20 +362,36 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
         }
 
         public void triggerTestEvent() {
-            ObjectMapper objectMapper = new ObjectMapper();
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, new ObjectMapper().writeValueAsString(createTestEvent()));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
 
-            ObjectNode json = objectMapper.createObjectNode();
-            json.put("type", "myEvent");
-            json.put("customerId", "test");
-            json.put("payload1", "Hello World");
-            json.put("payload2", 123);
+        public void triggerTestEventAsBytes(ObjectNode json) {
             try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+                // Wrap the event with surrounding bytes to make sure only the remaining bytes of the buffer are read
+                byte[] event = new ObjectMapper().writeValueAsBytes(json);
+                byte[] bytes = new byte[event.length + 20];
+                System.arraycopy(event, 0, bytes, 10, event.length);
+                ByteBuffer buffer = ByteBuffer.wrap(bytes, 10, event.length).slice();
+                eventRegistry.eventReceived(inboundChannelModel, buffer);
+                assertThat(buffer.position()).isZero();
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
         }
 
+        public ObjectNode createTestEvent() {
+            ObjectNode json = new ObjectMapper().createObjectNode();
+            json.put("type", "myEvent");
+            json.put("customerId", "test");
+            json.put("payload1", "Hello World");
+            json.put("payload2", 123);
+            return json;
+        }
+
     }
 
     private static class Customer {
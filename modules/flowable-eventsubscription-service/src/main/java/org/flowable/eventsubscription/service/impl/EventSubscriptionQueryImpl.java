@@ -39,6 +39,7 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
 
     protected String id;
     protected String eventType;
+    protected Collection<String> eventTypes;
     protected String eventName;
     protected String executionId;
     protected String processInstanceId;
@@ -103,6 +104,21 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return this;
     }
 
+    @Override
+    public EventSubscriptionQueryImpl eventTypes(Collection<String> eventTypes) {
+        if (eventTypes == null) {
+            throw new FlowableIllegalArgumentException("Provided event types are null");
+        }
+
+        if (inOrStatement) {
+            this.currentOrQueryObject.eventTypes = eventTypes;
+        } else {
+            this.eventTypes = eventTypes;
+        }
+
+        return this;
+    }
+
     @Override
     public EventSubscriptionQueryImpl eventName(String eventName) {
         if (eventName == null) {
@@ -429,6 +445,10 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return eventType;
     }
 
+    public Collection<String> getEventTypes() {
+        return eventTypes;
+    }
+
     public String getEventName() {
         return eventName;
     }
@@ -25,7 +25,6 @@ import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.api.FormEngineConfigurationApi;
@@ -367,11 +366,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (formDefinitionCache == null) {
-            if (formDefinitionCacheLimit <= 0) {
-                formDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                formDefinitionCache = new DefaultDeploymentCache<>(formDefinitionCacheLimit);
-            }
+            formDefinitionCache = createDeploymentCache(formDefinitionCacheLimit);
         }
 
         deploymentManager = new DeploymentManager(formDefinitionCache, this);
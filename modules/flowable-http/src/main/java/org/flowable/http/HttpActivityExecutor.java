@@ -24,11 +24,16 @@ import java.util.List;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpMessage;
 import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
@@ -37,13 +42,19 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.nio.client.HttpAsyncClient;
 import org.apache.http.util.EntityUtils;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.engine.delegate.BpmnError;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
@@ -52,6 +63,7 @@ import org.flowable.http.delegate.HttpResponseHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.MissingNode;
 
@@ -72,13 +84,32 @@ public class HttpActivityExecutor {
     public static final String HTTP_TASK_REQUEST_HEADERS_INVALID = "requestHeaders are invalid";
     public static final String HTTP_TASK_REQUEST_FIELD_INVALID = "request fields are invalid";
 
+    // Name of the transient variable that holds the serialized result of a non-blocking request when the waiting execution is triggered by its job
+    public static final String NON_BLOCKING_RESULT_VARIABLE_NAME = "_flowableHttpNonBlockingResult";
+
     protected final Timer timer = new Timer(true);
     protected final HttpClientBuilder clientBuilder;
+    protected final CloseableHttpClient sharedClient;
     protected final ErrorPropagator errorPropagator;
     protected ObjectMapper objectMapper;
 
+    /**
+     * Creates an executor that builds (and closes) a new http client for every request.
+     */
     public HttpActivityExecutor(HttpClientBuilder clientBuilder, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
         this.clientBuilder = clientBuilder;
+        this.sharedClient = null;
+        this.errorPropagator = errorPropagator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates an executor that executes all requests with the given (pooled) http client.
+     * The client is shared and is therefore not closed by this executor.
+     */
+    public HttpActivityExecutor(CloseableHttpClient sharedClient, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
+        this.clientBuilder = null;
+        this.sharedClient = sharedClient;
         this.errorPropagator = errorPropagator;
         this.objectMapper = objectMapper;
     }
@@ -91,7 +122,7 @@ public class HttpActivityExecutor {
 
         CloseableHttpClient client = null;
         try {
-            client = clientBuilder.build();
+            client = sharedClient != null ? sharedClient : clientBuilder.build();
 
             HttpResponse response = perform(client, variableContainer, request, flowableHttpRequestHandler, flowableHttpResponseHandler,
                     socketTimeout,
@@ -99,88 +130,253 @@ public class HttpActivityExecutor {
                     connectionRequestTimeout);
             // Save response fields
             if (response != null) {
-                // Save response body only by default
-                if (request.isSaveResponse()) {
-                    if (request.isSaveResponseTransient()) {
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseReason", response.getReason());
-                        variableContainer.setTransientVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
-                    } else {
-                        variableContainer.setVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseReason", response.getReason());
-                        variableContainer.setVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
-                    }
+                handleResponse(request, response, variableContainer, responseVariableName);
+            }
+
+        } catch (Exception e) {
+            handleException(e, request, variableContainer, executionId, mapExceptions);
+        } finally {
+            closeClient(client);
+        }
+
+    }
+
+    protected void closeClient(CloseableHttpClient client) {
+        if (client != null && client != sharedClient) {
+            try {
+                client.close();
+                LOGGER.debug("HTTP client is closed");
+            } catch (Throwable e) {
+                LOGGER.error("Could not close http client", e);
+            }
+        }
+    }
+
+    /**
+     * Sends the request with the given non-blocking client once the current transaction is committed, so the calling thread is not blocked
+     * while waiting for the response. The request handler is invoked in the current transaction.
+     * <p>
+     * When the response arrives (or sending the request fails), the result is passed to the result callback on a thread of the callback executor,
+     * so the I/O threads of the client are never blocked by the engine. The callback is expected to hand the result over to a job that triggers
+     * the waiting execution, see {@link #writeNonBlockingResult} and {@link #completeNonBlocking}.
+     * <p>
+     * The request handler gets the shared client, or a client built for the request handler only when this executor was created
+     * with a client builder.
+     *
+     * @return true if the request will be sent and the execution needs to wait for the result,
+     *         false if an error occurred while preparing the request that was ignored or propagated
+     */
+    public boolean executeNonBlocking(HttpRequest request, VariableContainer variableContainer, String executionId,
+                                      HttpRequestHandler flowableHttpRequestHandler, List<MapExceptionEntry> mapExceptions,
+                                      int socketTimeout, int connectTimeout, int connectionRequestTimeout,
+                                      HttpAsyncClient asyncClient, Executor callbackExecutor, Consumer<NonBlockingHttpResult> resultCallback) {
+        validate(request);
+
+        HttpRequestBase httpRequest;
+        CloseableHttpClient client = null;
+        try {
+            client = sharedClient != null ? sharedClient : clientBuilder.build();
+            if (!invokeRequestHandler(flowableHttpRequestHandler, variableContainer, request, client)) {
+                return false;
+            }
+
+            try {
+                httpRequest = createHttpRequest(request, socketTimeout, connectTimeout, connectionRequestTimeout);
+            } catch (final IOException e) {
+                throw new FlowableException("IO exception occurred", e);
+            } catch (final URISyntaxException e) {
+                throw new FlowableException("Invalid URL exception occurred", e);
+            }
+
+        } catch (Exception e) {
+            handleException(e, request, variableContainer, executionId, mapExceptions);
+            return false;
+        } finally {
+            closeClient(client);
+        }
+
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED,
+                commandContext -> sendNonBlocking(asyncClient, httpRequest, request, executionId, callbackExecutor, resultCallback));
+        return true;
+    }
+
+    protected void sendNonBlocking(HttpAsyncClient asyncClient, HttpRequestBase httpRequest, HttpRequest requestInfo, String executionId,
+            Executor callbackExecutor, Consumer<NonBlockingHttpResult> resultCallback) {
+
+        HttpClientContext context = HttpClientContext.create();
+        context.setCookieStore(new BasicCookieStore());
+
+        Future<org.apache.http.HttpResponse> future = asyncClient.execute(httpRequest, context, new FutureCallback<org.apache.http.HttpResponse>() {
+
+            @Override
+            public void completed(org.apache.http.HttpResponse response) {
+                HttpResponse responseInfo;
+                try {
+                    responseInfo = readResponse(response);
+                } catch (Exception e) {
+                    failed(e);
+                    return;
                 }
+                handOverNonBlockingResult(new NonBlockingHttpResult(requestInfo, responseInfo, null), executionId, callbackExecutor, resultCallback);
+            }
 
-                if (!response.isBodyResponseHandled()) {
-                    String varName = StringUtils.isNotEmpty(responseVariableName) ? responseVariableName : request.getPrefix() + "ResponseBody";
-                    Object varValue = request.isSaveResponseAsJson() && response.getBody() != null ? objectMapper.readTree(response.getBody()) : response.getBody();
-                    if (varValue instanceof MissingNode) {
-                        varValue = null;
-                    }
-                    if (request.isSaveResponseTransient()) {
-                        variableContainer.setTransientVariable(varName, varValue);
-                    } else {
-                        variableContainer.setVariable(varName, varValue);
-                    }
+            @Override
+            public void failed(Exception e) {
+                handOverNonBlockingResult(new NonBlockingHttpResult(requestInfo, null, e), executionId, callbackExecutor, resultCallback);
+            }
+
+            @Override
+            public void cancelled() {
+                failed(new IOException("Request aborted"));
+            }
+        });
+
+        if (requestInfo.getTimeout() > 0) {
+            timer.schedule(new CancelFutureTask(future), requestInfo.getTimeout());
+        }
+    }
+
+    protected void handOverNonBlockingResult(NonBlockingHttpResult result, String executionId, Executor callbackExecutor,
+            Consumer<NonBlockingHttpResult> resultCallback) {
+
+        // When the result can't be handed over, the job waiting for the response fails the http task once the response timeout is reached
+        try {
+            callbackExecutor.execute(() -> {
+                try {
+                    resultCallback.accept(result);
+                } catch (Exception e) {
+                    LOGGER.warn("Could not hand over the result of the non-blocking http task in execution {}, the task fails when its response timeout is reached",
+                            executionId, e);
                 }
+            });
 
-                // Handle http status codes
-                if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Could not hand over the result of the non-blocking http task in execution {}, the task fails when its response timeout is reached",
+                    executionId, e);
+        }
+    }
 
-                    String code = Integer.toString(response.statusCode);
+    public String writeNonBlockingResult(NonBlockingHttpResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not serialize the result of the non-blocking http request", e);
+        }
+    }
 
-                    Set<String> handleCodes = request.getHandleCodes();
-                    if (handleCodes != null && !handleCodes.isEmpty()) {
-                        if (handleCodes.contains(code)
-                                || (code.startsWith("5") && handleCodes.contains("5XX"))
-                                || (code.startsWith("4") && handleCodes.contains("4XX"))
-                                || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+    public NonBlockingHttpResult readNonBlockingResult(String value) {
+        try {
+            return objectMapper.readValue(value, NonBlockingHttpResult.class);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize the result of the non-blocking http request", e);
+        }
+    }
 
-                            errorPropagator.propagateError(variableContainer, code);
-                            return;
-                        }
-                    }
+    /**
+     * Processes the result of a request sent by {@link #executeNonBlocking} in the same way as {@link #execute} processes a response:
+     * the response handler is invoked, the response variables are saved and the status codes are handled.
+     */
+    public void completeNonBlocking(NonBlockingHttpResult result, VariableContainer variableContainer, String executionId,
+                                    HttpResponseHandler flowableHttpResponseHandler, String responseVariableName, List<MapExceptionEntry> mapExceptions) {
 
-                    Set<String> failCodes = request.getFailCodes();
-                    if (failCodes != null && !failCodes.isEmpty()) {
-                        if (failCodes.contains(code)
-                                || (code.startsWith("5") && failCodes.contains("5XX"))
-                                || (code.startsWith("4") && failCodes.contains("4XX"))
-                                || (code.startsWith("3") && failCodes.contains("3XX"))) {
+        HttpRequest request = result.getRequest();
+        try {
+            Exception failure = result.createFailure();
+            if (failure instanceof ClientProtocolException) {
+                throw new FlowableException("HTTP exception occurred", failure);
+            } else if (failure instanceof IOException) {
+                throw new FlowableException("IO exception occurred", failure);
+            } else if (failure != null) {
+                throw new FlowableException("Exception occurred while sending http request", failure);
+            }
 
-                            throw new FlowableException("HTTP" + code);
-                        }
-                    }
-                }
+            HttpResponse response = result.getResponse();
+            if (invokeResponseHandler(flowableHttpResponseHandler, variableContainer, response)) {
+                handleResponse(request, response, variableContainer, responseVariableName);
             }
 
         } catch (Exception e) {
-            if (request.isIgnoreErrors()) {
-                LOGGER.info("Error ignored while processing http task in execution {}", executionId, e);
-                variableContainer.setVariable(request.getPrefix() + "ErrorMessage", e.getMessage());
+            handleException(e, request, variableContainer, executionId, mapExceptions);
+        }
+    }
+
+    protected void handleResponse(HttpRequest request, HttpResponse response, VariableContainer variableContainer, String responseVariableName)
+            throws IOException {
+
+        // Save response body only by default
+        if (request.isSaveResponse()) {
+            if (request.isSaveResponseTransient()) {
+                variableContainer.setTransientVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
+                variableContainer.setTransientVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
+                variableContainer.setTransientVariable(request.getPrefix() + "ResponseReason", response.getReason());
+                variableContainer.setTransientVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
             } else {
-                if (!errorPropagator.mapException(e, variableContainer, mapExceptions)) {
-                    if (e instanceof FlowableException) {
-                        throw (FlowableException) e;
-                    } else {
-                        throw new FlowableException("Error occurred while processing http task in execution " + executionId, e);
-                    }
-                }
+                variableContainer.setVariable(request.getPrefix() + "ResponseProtocol", response.getProtocol());
+                variableContainer.setVariable(request.getPrefix() + "ResponseStatusCode", response.getStatusCode());
+                variableContainer.setVariable(request.getPrefix() + "ResponseReason", response.getReason());
+                variableContainer.setVariable(request.getPrefix() + "ResponseHeaders", response.getHeaders());
             }
-        } finally {
-            try {
-                client.close();
-                LOGGER.debug("HTTP client is closed");
-            } catch (Throwable e) {
-                LOGGER.error("Could not close http client", e);
+        }
+
+        if (!response.isBodyResponseHandled()) {
+            String varName = StringUtils.isNotEmpty(responseVariableName) ? responseVariableName : request.getPrefix() + "ResponseBody";
+            Object varValue = request.isSaveResponseAsJson() && response.getBody() != null ? objectMapper.readTree(response.getBody()) : response.getBody();
+            if (varValue instanceof MissingNode) {
+                varValue = null;
+            }
+            if (request.isSaveResponseTransient()) {
+                variableContainer.setTransientVariable(varName, varValue);
+            } else {
+                variableContainer.setVariable(varName, varValue);
             }
         }
 
+        // Handle http status codes
+        if ((request.isNoRedirects() && response.getStatusCode() >= 300) || response.getStatusCode() >= 400) {
+
+            String code = Integer.toString(response.statusCode);
+
+            Set<String> handleCodes = request.getHandleCodes();
+            if (handleCodes != null && !handleCodes.isEmpty()) {
+                if (handleCodes.contains(code)
+                        || (code.startsWith("5") && handleCodes.contains("5XX"))
+                        || (code.startsWith("4") && handleCodes.contains("4XX"))
+                        || (code.startsWith("3") && handleCodes.contains("3XX"))) {
+
+                    errorPropagator.propagateError(variableContainer, code);
+                    return;
+                }
+            }
+
+            Set<String> failCodes = request.getFailCodes();
+            if (failCodes != null && !failCodes.isEmpty()) {
+                if (failCodes.contains(code)
+                        || (code.startsWith("5") && failCodes.contains("5XX"))
+                        || (code.startsWith("4") && failCodes.contains("4XX"))
+                        || (code.startsWith("3") && failCodes.contains("3XX"))) {
+
+                    throw new FlowableException("HTTP" + code);
+                }
+            }
+        }
     }
 
+    protected void handleException(Exception e, HttpRequest request, VariableContainer variableContainer, String executionId,
+            List<MapExceptionEntry> mapExceptions) {
+
+        if (request.isIgnoreErrors()) {
+            LOGGER.info("Error ignored while processing http task in execution {}", executionId, e);
+            variableContainer.setVariable(request.getPrefix() + "ErrorMessage", e.getMessage());
+        } else {
+            if (!errorPropagator.mapException(e, variableContainer, mapExceptions)) {
+                if (e instanceof FlowableException) {
+                    throw (FlowableException) e;
+                } else {
+                    throw new FlowableException("Error occurred while processing http task in execution " + executionId, e);
+                }
+            }
+        }
+    }
 
     // HttpRequest validation
     public void validate(final HttpRequest request) throws FlowableException {
@@ -211,89 +407,26 @@ public class HttpActivityExecutor {
         HttpRequestBase request;
         CloseableHttpResponse response = null;
 
-        try {
-            if (httpRequestHandler != null) {
-                httpRequestHandler.handleHttpRequest(execution, requestInfo, client);
-            }
-        } catch (Exception e) {
-            if (e instanceof BpmnError) {
-                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
-                return null;
-            }
-
-            throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
+        if (!invokeRequestHandler(httpRequestHandler, execution, requestInfo, client)) {
+            return null;
         }
 
         try {
-            URI uri = ensureUrlIsEncodedAndConvertToUri(new URL(requestInfo.getUrl()));
-            switch (requestInfo.getMethod()) {
-                case "GET": {
-                    request = new HttpGet(uri);
-                    break;
-                }
-                case "POST": {
-                    HttpPost post = new HttpPost(uri);
-                    setRequestEntity(requestInfo, post);
-                    request = post;
-                    break;
-                }
-                case "PUT": {
-                    HttpPut put = new HttpPut(uri);
-                    setRequestEntity(requestInfo, put);
-                    request = put;
-                    break;
-                }
-                case "DELETE": {
-                    request = new HttpDelete(uri);
-                    break;
-                }
-                default: {
-                    throw new FlowableException(requestInfo.getMethod() + " HTTP method not supported");
-                }
-            }
-
-            if (requestInfo.getHeaders() != null) {
-                setHeaders(request, requestInfo.getHeaders());
-            }
-
-            setConfig(request, requestInfo,
-                    socketTimeout,
-                    connectTimeout,
-                    connectionRequestTimeout);
+            request = createHttpRequest(requestInfo, socketTimeout, connectTimeout, connectionRequestTimeout);
 
             if (requestInfo.getTimeout() > 0) {
                 timer.schedule(new TimeoutTask(request), requestInfo.getTimeout());
             }
 
-            response = client.execute(request);
+            // A shared client keeps its connections, but cookies must not leak between requests
+            HttpClientContext context = HttpClientContext.create();
+            context.setCookieStore(new BasicCookieStore());
+            response = client.execute(request, context);
 
-            HttpResponse responseInfo = new HttpResponse();
-
-            if (response.getStatusLine() != null) {
-                responseInfo.setStatusCode(response.getStatusLine().getStatusCode());
-                responseInfo.setProtocol(response.getStatusLine().getProtocolVersion().toString());
-                responseInfo.setReason(response.getStatusLine().getReasonPhrase());
-            }
+            HttpResponse responseInfo = readResponse(response);
 
-            if (response.getAllHeaders() != null) {
-                responseInfo.setHeaders(getHeadersAsString(response.getAllHeaders()));
-            }
-
-            if (response.getEntity() != null) {
-                responseInfo.setBody(EntityUtils.toString(response.getEntity()));
-            }
-
-            try {
-                if ( httpResponseHandler!= null) {
-                    httpResponseHandler.handleHttpResponse(execution, responseInfo);
-                }
-            } catch (Exception e) {
-                if (e instanceof BpmnError) {
-                    ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
-                    return null;
-                }
-
-                throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+            if (!invokeResponseHandler(httpResponseHandler, execution, responseInfo)) {
+                return null;
             }
 
             return responseInfo;
@@ -315,6 +448,109 @@ public class HttpActivityExecutor {
         }
     }
 
+    /**
+     * @return false if the request handler threw a {@link BpmnError} that was propagated
+     */
+    protected boolean invokeRequestHandler(HttpRequestHandler httpRequestHandler, VariableContainer execution, HttpRequest requestInfo, HttpClient client) {
+        try {
+            if (httpRequestHandler != null) {
+                httpRequestHandler.handleHttpRequest(execution, requestInfo, client);
+            }
+            return true;
+
+        } catch (Exception e) {
+            if (e instanceof BpmnError) {
+                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
+                return false;
+            }
+
+            throw new FlowableException("Exception while invoking HttpRequestHandler: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return false if the response handler threw a {@link BpmnError} that was propagated
+     */
+    protected boolean invokeResponseHandler(HttpResponseHandler httpResponseHandler, VariableContainer execution, HttpResponse responseInfo) {
+        try {
+            if (httpResponseHandler != null) {
+                httpResponseHandler.handleHttpResponse(execution, responseInfo);
+            }
+            return true;
+
+        } catch (Exception e) {
+            if (e instanceof BpmnError) {
+                ErrorPropagation.propagateError(((BpmnError) e), ((DelegateExecution) execution));
+                return false;
+            }
+
+            throw new FlowableException("Exception while invoking HttpResponseHandler: " + e.getMessage(), e);
+        }
+    }
+
+    protected HttpRequestBase createHttpRequest(HttpRequest requestInfo, int socketTimeout, int connectTimeout, int connectionRequestTimeout)
+            throws IOException, URISyntaxException {
+
+        HttpRequestBase request;
+        URI uri = ensureUrlIsEncodedAndConvertToUri(new URL(requestInfo.getUrl()));
+        switch (requestInfo.getMethod()) {
+            case "GET": {
+                request = new HttpGet(uri);
+                break;
+            }
+            case "POST": {
+                HttpPost post = new HttpPost(uri);
+                setRequestEntity(requestInfo, post);
+                request = post;
+                break;
+            }
+            case "PUT": {
+                HttpPut put = new HttpPut(uri);
+                setRequestEntity(requestInfo, put);
+                request = put;
+                break;
+            }
+            case "DELETE": {
+                request = new HttpDelete(uri);
+                break;
+            }
+            default: {
+                throw new FlowableException(requestInfo.getMethod() + " HTTP method not supported");
+            }
+        }
+
+        if (requestInfo.getHeaders() != null) {
+            setHeaders(request, requestInfo.getHeaders());
+        }
+
+        setConfig(request, requestInfo,
+                socketTimeout,
+                connectTimeout,
+                connectionRequestTimeout);
+
+        return request;
+    }
+
+    protected HttpResponse readResponse(org.apache.http.HttpResponse response) throws IOException {
+        HttpResponse responseInfo = new HttpResponse();
+
+        if (response.getStatusLine() != null) {
+            responseInfo.setStatusCode(response.getStatusLine().getStatusCode());
+            responseInfo.setProtocol(response.getStatusLine().getProtocolVersion().toString());
+            responseInfo.setReason(response.getStatusLine().getReasonPhrase());
+        }
+
+        if (response.getAllHeaders() != null) {
+            responseInfo.setHeaders(getHeadersAsString(response.getAllHeaders()));
+        }
+
+        if (response.getEntity() != null) {
+            responseInfo.setBody(EntityUtils.toString(response.getEntity()));
+        }
+
+        return responseInfo;
+    }
+
     protected void setRequestEntity(HttpRequest requestInfo, HttpEntityEnclosingRequestBase requestBase) throws UnsupportedEncodingException {
         if (requestInfo.getBody() != null) {
             if (StringUtils.isNotEmpty(requestInfo.getBodyEncoding())) {
@@ -382,6 +618,21 @@ public class HttpActivityExecutor {
         }
     }
 
+    protected static class CancelFutureTask extends TimerTask {
+        private Future<?> future;
+
+        public CancelFutureTask(Future<?> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
     protected static class TimeoutTask extends TimerTask {
         private HttpRequestBase request;
 
@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.net.ssl.SSLException;
+
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * The outcome of a request sent by a non-blocking http task: either the response or the exception that occurred while sending the request.
+ * It is stored as JSON in the custom values of the job that triggers the waiting execution (or plan item instance), so it only keeps
+ * the class name and the message of the exception. Only the exception types in {@link #FAILURE_TYPES} are recreated,
+ * any other client protocol or IO exception is stored as its closest known type.
+ */
+public class NonBlockingHttpResult {
+
+    protected static final Map<String, Function<String, Exception>> FAILURE_TYPES = new HashMap<>();
+
+    static {
+        FAILURE_TYPES.put(ClientProtocolException.class.getName(), ClientProtocolException::new);
+        FAILURE_TYPES.put(IOException.class.getName(), IOException::new);
+        FAILURE_TYPES.put(InterruptedIOException.class.getName(), InterruptedIOException::new);
+        FAILURE_TYPES.put(SocketTimeoutException.class.getName(), SocketTimeoutException::new);
+        FAILURE_TYPES.put(ConnectTimeoutException.class.getName(), ConnectTimeoutException::new);
+        FAILURE_TYPES.put(SocketException.class.getName(), SocketException::new);
+        FAILURE_TYPES.put(ConnectException.class.getName(), ConnectException::new);
+        FAILURE_TYPES.put(NoRouteToHostException.class.getName(), NoRouteToHostException::new);
+        FAILURE_TYPES.put(UnknownHostException.class.getName(), UnknownHostException::new);
+        FAILURE_TYPES.put(SSLException.class.getName(), SSLException::new);
+    }
+
+    protected HttpRequest request;
+    protected HttpResponse response;
+    protected String failureClassName;
+    protected String failureMessage;
+
+    public NonBlockingHttpResult() {
+    }
+
+    public NonBlockingHttpResult(HttpRequest request, HttpResponse response, Exception failure) {
+        this.request = request;
+        this.response = response;
+        if (failure != null) {
+            String className = failure.getClass().getName();
+            if (FAILURE_TYPES.containsKey(className)) {
+                this.failureClassName = className;
+                this.failureMessage = failure.getMessage();
+
+            } else {
+                if (failure instanceof ClientProtocolException) {
+                    this.failureClassName = ClientProtocolException.class.getName();
+                } else if (failure instanceof IOException) {
+                    this.failureClassName = IOException.class.getName();
+                } else {
+                    this.failureClassName = FlowableException.class.getName();
+                }
+                this.failureMessage = className + ": " + failure.getMessage();
+            }
+        }
+    }
+
+    /**
+     * @return an exception with the message of the exception that occurred while sending the request, of the same type if it is one
+     *         of the known failure types and a {@link FlowableException} otherwise, or null if the response was received
+     */
+    public Exception createFailure() {
+        if (failureClassName == null) {
+            return null;
+        }
+
+        Function<String, Exception> failureType = FAILURE_TYPES.get(failureClassName);
+        if (failureType != null) {
+            return failureType.apply(failureMessage);
+        }
+        return new FlowableException(failureMessage);
+    }
+
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    public void setRequest(HttpRequest request) {
+        this.request = request;
+    }
+
+    public HttpResponse getResponse() {
+        return response;
+    }
+
+    public void setResponse(HttpResponse response) {
+        this.response = response;
+    }
+
+    public String getFailureClassName() {
+        return failureClassName;
+    }
+
+    public void setFailureClassName(String failureClassName) {
+        this.failureClassName = failureClassName;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public void setFailureMessage(String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+
+}
@@ -0,0 +1,408 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.HttpHost;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.flowable.common.engine.api.Engine;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.engine.EngineLifecycleListener;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link CloseableHttpClient} backed by a {@link PoolingHttpClientConnectionManager}, shared by all the http tasks of an engine,
+ * so connections (and TLS sessions) are reused between http task executions.
+ * <p>
+ * The pooled client of an engine is created when the first http task of the engine is parsed, and closed when the engine is closed.
+ * It can be retrieved with {@link #getPooledHttpClient(AbstractEngineConfiguration)}, for example to monitor the pool statistics.
+ * The blocking client and the non-blocking client used by non-blocking http tasks are only built on first use, each with its own pool using the same limits.
+ * The responses of the non-blocking client are handed over to the callback executor, so the I/O threads of the client never wait for the engine.
+ */
+public class PooledHttpClient implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledHttpClient.class);
+
+    protected static final Map<AbstractEngineConfiguration, PooledHttpClient> POOLED_HTTP_CLIENTS = new HashMap<>();
+
+    protected final boolean useSystemProperties;
+    protected final int requestRetryLimit;
+    protected final int maxConnectionsTotal;
+    protected final int maxConnectionsPerRoute;
+    protected final Map<String, Integer> routeMaxConnections;
+    protected final long keepAliveTime;
+    protected final long idleConnectionEvictionTime;
+    protected final long connectionTimeToLive;
+    protected final int callbackThreads;
+
+    protected final PoolingHttpClientConnectionManager connectionManager;
+    protected SSLContext sslContext;
+    protected HostnameVerifier hostnameVerifier;
+
+    protected CloseableHttpClient httpClient;
+    protected PoolingNHttpClientConnectionManager asyncConnectionManager;
+    protected CloseableHttpAsyncClient asyncHttpClient;
+    protected ExecutorService callbackExecutor;
+    protected boolean closed;
+
+    /**
+     * @param disableCertVerify whether any server certificate and host name is accepted for https connections
+     * @param useSystemProperties whether the clients use the system properties (proxy, ssl, ...)
+     * @param requestRetryLimit the number of times a failed request is retried
+     * @param maxConnectionsTotal the maximum number of open connections
+     * @param maxConnectionsPerRoute the default maximum number of open connections to one route
+     * @param routeMaxConnections the maximum number of open connections for specific routes, keyed by scheme://host:port
+     * @param keepAliveTime the keep-alive time (in milliseconds) when the server doesn't send a Keep-Alive header, a value &lt;= 0 keeps connections alive indefinitely
+     * @param idleConnectionEvictionTime the time (in milliseconds) after which idle connections are closed, a value &lt;= 0 disables the eviction of idle connections
+     * @param connectionTimeToLive the maximum time (in milliseconds) a connection is reused, a value &lt;= 0 means no limit
+     * @param callbackThreads the number of threads handing the responses of the non-blocking client over to the engine
+     */
+    public PooledHttpClient(boolean disableCertVerify, boolean useSystemProperties, int requestRetryLimit, int maxConnectionsTotal, int maxConnectionsPerRoute,
+            Map<String, Integer> routeMaxConnections, long keepAliveTime, long idleConnectionEvictionTime, long connectionTimeToLive, int callbackThreads) {
+
+        this.useSystemProperties = useSystemProperties;
+        this.requestRetryLimit = requestRetryLimit;
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.routeMaxConnections = routeMaxConnections;
+        this.keepAliveTime = keepAliveTime;
+        this.idleConnectionEvictionTime = idleConnectionEvictionTime;
+        this.connectionTimeToLive = connectionTimeToLive;
+        this.callbackThreads = callbackThreads;
+
+        // https settings
+        if (disableCertVerify) {
+            try {
+                SSLContextBuilder builder = new SSLContextBuilder();
+                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
+                this.sslContext = builder.build();
+                this.hostnameVerifier = (hostname, sslSession) -> true;
+
+            } catch (Exception e) {
+                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
+            }
+        }
+
+        SSLConnectionSocketFactory sslSocketFactory;
+        if (sslContext != null) {
+            sslSocketFactory = new SSLConnectionSocketFactory(sslContext, hostnameVerifier);
+        } else {
+            sslSocketFactory = useSystemProperties ? SSLConnectionSocketFactory.getSystemSocketFactory() : SSLConnectionSocketFactory.getSocketFactory();
+        }
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build();
+
+        this.connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry, null, null, null,
+                connectionTimeToLive > 0 ? connectionTimeToLive : -1, TimeUnit.MILLISECONDS);
+        this.connectionManager.setMaxTotal(maxConnectionsTotal);
+        this.connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        if (routeMaxConnections != null) {
+            for (Map.Entry<String, Integer> routeMaxConnectionsEntry : routeMaxConnections.entrySet()) {
+                connectionManager.setMaxPerRoute(createRoute(routeMaxConnectionsEntry.getKey()), routeMaxConnectionsEntry.getValue());
+            }
+        }
+    }
+
+    protected CloseableHttpClient createHttpClient() {
+        HttpClientBuilder clientBuilder = HttpClientBuilder.create();
+
+        // request retry settings
+        int retryCount = 0;
+        if (requestRetryLimit > 0) {
+            retryCount = requestRetryLimit;
+        }
+        clientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
+
+        // client builder settings
+        if (useSystemProperties) {
+            clientBuilder.useSystemProperties();
+        }
+
+        clientBuilder.setConnectionManager(connectionManager);
+        clientBuilder.setKeepAliveStrategy(createKeepAliveStrategy());
+        if (idleConnectionEvictionTime > 0) {
+            clientBuilder.evictExpiredConnections();
+            clientBuilder.evictIdleConnections(idleConnectionEvictionTime, TimeUnit.MILLISECONDS);
+        }
+
+        return clientBuilder.build();
+    }
+
+    protected CloseableHttpAsyncClient createAsyncHttpClient() {
+        SchemeIOSessionStrategy sslSessionStrategy;
+        if (sslContext != null) {
+            sslSessionStrategy = new SSLIOSessionStrategy(sslContext, hostnameVerifier);
+        } else {
+            sslSessionStrategy = useSystemProperties ? SSLIOSessionStrategy.getSystemDefaultStrategy() : SSLIOSessionStrategy.getDefaultStrategy();
+        }
+
+        Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", sslSessionStrategy)
+                .build();
+
+        try {
+            asyncConnectionManager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT), null,
+                    sessionStrategyRegistry, null, null, connectionTimeToLive > 0 ? connectionTimeToLive : -1, TimeUnit.MILLISECONDS);
+        } catch (IOReactorException e) {
+            throw new FlowableException("Could not create the I/O reactor of the non-blocking http client", e);
+        }
+
+        asyncConnectionManager.setMaxTotal(maxConnectionsTotal);
+        asyncConnectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        if (routeMaxConnections != null) {
+            for (Map.Entry<String, Integer> routeMaxConnectionsEntry : routeMaxConnections.entrySet()) {
+                asyncConnectionManager.setMaxPerRoute(createRoute(routeMaxConnectionsEntry.getKey()), routeMaxConnectionsEntry.getValue());
+            }
+        }
+
+        HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create();
+        if (useSystemProperties) {
+            builder.useSystemProperties();
+        }
+        builder.setConnectionManager(asyncConnectionManager);
+        builder.setKeepAliveStrategy(createKeepAliveStrategy());
+
+        CloseableHttpAsyncClient client = builder.build();
+        client.start();
+        LOGGER.debug("Non-blocking pooled HTTP client is started");
+        return client;
+    }
+
+    protected ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        return (response, context) -> {
+            long keepAliveDuration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            if (keepAliveDuration > 0) {
+                return keepAliveDuration;
+            }
+            return keepAliveTime > 0 ? keepAliveTime : -1;
+        };
+    }
+
+    /**
+     * @return the pooled http client of the given engine, or null if no http task of the engine was parsed yet
+     */
+    public static PooledHttpClient getPooledHttpClient(AbstractEngineConfiguration engineConfiguration) {
+        synchronized (POOLED_HTTP_CLIENTS) {
+            return POOLED_HTTP_CLIENTS.get(engineConfiguration);
+        }
+    }
+
+    /**
+     * Returns the pooled http client of the given engine, creating it with the given supplier when there is none yet.
+     * The created client is closed when the engine is closed.
+     */
+    public static PooledHttpClient getOrCreatePooledHttpClient(AbstractEngineConfiguration engineConfiguration, Supplier<PooledHttpClient> pooledHttpClientSupplier) {
+        synchronized (POOLED_HTTP_CLIENTS) {
+            PooledHttpClient pooledHttpClient = POOLED_HTTP_CLIENTS.get(engineConfiguration);
+            if (pooledHttpClient == null) {
+                pooledHttpClient = pooledHttpClientSupplier.get();
+                POOLED_HTTP_CLIENTS.put(engineConfiguration, pooledHttpClient);
+                engineConfiguration.addEngineLifecycleListener(new PooledHttpClientEngineLifecycleListener(engineConfiguration));
+            }
+            return pooledHttpClient;
+        }
+    }
+
+    protected static void closePooledHttpClient(AbstractEngineConfiguration engineConfiguration) {
+        PooledHttpClient pooledHttpClient;
+        synchronized (POOLED_HTTP_CLIENTS) {
+            pooledHttpClient = POOLED_HTTP_CLIENTS.remove(engineConfiguration);
+        }
+        if (pooledHttpClient != null) {
+            pooledHttpClient.close();
+        }
+    }
+
+    protected HttpRoute createRoute(String route) {
+        HttpHost host = HttpHost.create(route);
+        boolean secure = "https".equalsIgnoreCase(host.getSchemeName());
+        if (host.getPort() < 0) {
+            host = new HttpHost(host.getHostName(), secure ? 443 : 80, host.getSchemeName());
+        }
+        return new HttpRoute(host, null, secure);
+    }
+
+    /**
+     * @return the blocking client, which is built when this method is called for the first time
+     */
+    public synchronized CloseableHttpClient getHttpClient() {
+        if (httpClient == null) {
+            ensureNotClosed();
+            httpClient = createHttpClient();
+        }
+        return httpClient;
+    }
+
+    /**
+     * @return the non-blocking client, which is created and started when this method is called for the first time
+     */
+    public synchronized CloseableHttpAsyncClient getAsyncHttpClient() {
+        if (asyncHttpClient == null) {
+            ensureNotClosed();
+            asyncHttpClient = createAsyncHttpClient();
+        }
+        return asyncHttpClient;
+    }
+
+    /**
+     * @return the executor handling the responses of the non-blocking client, which is created when this method is called for the first time
+     */
+    public synchronized ExecutorService getCallbackExecutor() {
+        if (callbackExecutor == null) {
+            ensureNotClosed();
+            callbackExecutor = createCallbackExecutor();
+        }
+        return callbackExecutor;
+    }
+
+    protected ExecutorService createCallbackExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, callbackThreads), runnable -> {
+            Thread thread = new Thread(runnable, "flowable-http-callback-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    protected void ensureNotClosed() {
+        if (closed) {
+            throw new FlowableException("The pooled http client is closed");
+        }
+    }
+
+    public PoolingHttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * @return the statistics of the connection pool of the non-blocking client, or null if the non-blocking client was not used yet
+     */
+    public synchronized PoolStats getAsyncTotalStats() {
+        return asyncConnectionManager != null ? asyncConnectionManager.getTotalStats() : null;
+    }
+
+    /**
+     * @return the statistics (leased, pending, available and max connections) of the whole pool
+     */
+    public PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * @return the statistics of the pool per route that has been used
+     */
+    public Map<HttpRoute, PoolStats> getRouteStats() {
+        Map<HttpRoute, PoolStats> routeStats = new LinkedHashMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            routeStats.put(route, connectionManager.getStats(route));
+        }
+        return routeStats;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (httpClient != null) {
+                httpClient.close();
+            } else {
+                connectionManager.shutdown();
+            }
+            LOGGER.debug("Pooled HTTP client is closed");
+        } catch (Throwable e) {
+            LOGGER.error("Could not close pooled http client", e);
+        }
+
+        if (asyncHttpClient != null) {
+            try {
+                asyncHttpClient.close();
+                LOGGER.debug("Non-blocking pooled HTTP client is closed");
+            } catch (Throwable e) {
+                LOGGER.error("Could not close non-blocking pooled http client", e);
+            }
+        }
+
+        if (callbackExecutor != null) {
+            callbackExecutor.shutdown();
+        }
+    }
+
+    protected static class PooledHttpClientEngineLifecycleListener implements EngineLifecycleListener {
+
+        protected final AbstractEngineConfiguration engineConfiguration;
+
+        public PooledHttpClientEngineLifecycleListener(AbstractEngineConfiguration engineConfiguration) {
+            this.engineConfiguration = engineConfiguration;
+        }
+
+        @Override
+        public void onEngineBuilt(Engine engine) {
+            // nothing to do
+        }
+
+        @Override
+        public void onEngineClosed(Engine engine) {
+            closePooledHttpClient(engineConfiguration);
+        }
+    }
+
+}
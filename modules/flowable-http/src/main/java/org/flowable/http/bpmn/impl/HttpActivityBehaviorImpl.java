@@ -19,18 +19,13 @@ import static org.flowable.http.ExpressionUtils.getIntFromField;
 import static org.flowable.http.ExpressionUtils.getStringFromField;
 import static org.flowable.http.ExpressionUtils.getStringSetFromField;
 
+import java.net.SocketTimeoutException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
-
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.ssl.SSLContextBuilder;
 import org.flowable.bpmn.model.FieldExtension;
 import org.flowable.bpmn.model.FlowableHttpRequestHandler;
 import org.flowable.bpmn.model.FlowableHttpResponseHandler;
@@ -41,6 +36,7 @@ import org.flowable.bpmn.model.ServiceTask;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.cfg.HttpClientConfig;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
@@ -48,13 +44,21 @@ import org.flowable.engine.impl.bpmn.helper.SkipExpressionUtil;
 import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.el.FixedValue;
+import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
+import org.flowable.http.NonBlockingHttpResult;
+import org.flowable.http.PooledHttpClient;
 import org.flowable.http.bpmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.bpmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
 import org.flowable.http.delegate.HttpResponseHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -103,47 +107,29 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
     protected Expression saveResponseVariableAsJson;
     // Prefix for the execution variable names (Optional)
     protected Expression resultVariablePrefix;
+    // Flag to send the request without blocking the thread, the execution waits for the response as a wait state. Default is false (Optional)
+    protected Expression nonBlocking;
     // Exception mapping
     protected List<MapExceptionEntry> mapExceptions;
     protected HttpServiceTask httpServiceTask;
     protected HttpActivityExecutor httpActivityExecutor;
+    protected PooledHttpClient pooledHttpClient;
 
     public HttpActivityBehaviorImpl() {
-        HttpClientConfig config = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
-        // https settings
-        if (config.isDisableCertVerify()) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                httpClientBuilder.setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
-                            @Override
-                            public boolean verify(String s, SSLSession sslSession) {
-                                return true;
-                            }
-                        }));
-
-            } catch (Exception e) {
-                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
-            }
-        }
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        HttpClientConfig config = processEngineConfiguration.getHttpClientConfig();
 
-        // request retry settings
-        int retryCount = 0;
-        if (config.getRequestRetryLimit() > 0) {
-            retryCount = config.getRequestRetryLimit();
-        }
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
+        // all http tasks of the engine share one pooled client, which is closed when the engine is closed
+        this.pooledHttpClient = PooledHttpClient.getOrCreatePooledHttpClient(processEngineConfiguration, () -> createPooledHttpClient(config));
 
-        // client builder settings
-        if (config.isUseSystemProperties()) {
-            httpClientBuilder.useSystemProperties();
-        }
+        this.httpActivityExecutor = new HttpActivityExecutor(pooledHttpClient.getHttpClient(), new ProcessErrorPropagator(),
+                processEngineConfiguration.getObjectMapper());
+    }
 
-        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, new ProcessErrorPropagator(),
-                CommandContextUtil.getProcessEngineConfiguration().getObjectMapper());
+    protected PooledHttpClient createPooledHttpClient(HttpClientConfig config) {
+        return new PooledHttpClient(config.isDisableCertVerify(), config.isUseSystemProperties(), config.getRequestRetryLimit(),
+                config.getMaxConnectionsTotal(), config.getMaxConnectionsPerRoute(), config.getRouteMaxConnections(), config.getKeepAliveTime(),
+                config.getIdleConnectionEvictionTime(), config.getConnectionTimeToLive(), config.getNonBlockingCallbackThreads());
     }
 
     @Override
@@ -219,22 +205,149 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
             HttpClientConfig httpClientConfig = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
 
-            httpActivityExecutor.execute(
-                    request,
-                    execution,
-                    execution.getId(),
-                    createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration),
-                    createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration),
-                    getStringFromField(responseVariableName, execution),
-                    mapExceptions,
-                    httpClientConfig.getSocketTimeout(),
-                    httpClientConfig.getConnectTimeout(),
-                    httpClientConfig.getConnectionRequestTimeout());
+            if (getBooleanFromField(nonBlocking, execution)) {
+                boolean waitForResponse = httpActivityExecutor.executeNonBlocking(
+                        request,
+                        execution,
+                        execution.getId(),
+                        createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration),
+                        mapExceptions,
+                        httpClientConfig.getSocketTimeout(),
+                        httpClientConfig.getConnectTimeout(),
+                        httpClientConfig.getConnectionRequestTimeout(),
+                        pooledHttpClient.getAsyncHttpClient(),
+                        pooledHttpClient.getCallbackExecutor(),
+                        createNonBlockingResultCallback(processEngineConfiguration, execution.getId()));
+
+                if (waitForResponse) {
+                    // The execution is triggered by the job holding the response, or by the timeout job when no response is handed over
+                    scheduleNonBlockingTimeoutJob((ExecutionEntity) execution, request, processEngineConfiguration);
+                    return;
+                }
+
+            } else {
+                httpActivityExecutor.execute(
+                        request,
+                        execution,
+                        execution.getId(),
+                        createHttpRequestHandler(httpServiceTask.getHttpRequestHandler(), processEngineConfiguration),
+                        createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration),
+                        getStringFromField(responseVariableName, execution),
+                        mapExceptions,
+                        httpClientConfig.getSocketTimeout(),
+                        httpClientConfig.getConnectTimeout(),
+                        httpClientConfig.getConnectionRequestTimeout());
+            }
+        }
+
+        leave(execution);
+    }
+
+    @Override
+    public void trigger(DelegateExecution execution, String signalName, Object signalData) {
+        Object result = execution.getTransientVariable(HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME);
+        if (!(result instanceof String)) {
+            // The execution is triggered while waiting for a response, the response is not handled anymore
+            deleteNonBlockingTimeoutJob(execution.getId());
+            super.trigger(execution, signalName, signalData);
+            return;
         }
 
+        execution.removeTransientVariable(HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        httpActivityExecutor.completeNonBlocking(
+                httpActivityExecutor.readNonBlockingResult((String) result),
+                execution,
+                execution.getId(),
+                createHttpResponseHandler(httpServiceTask.getHttpResponseHandler(), processEngineConfiguration),
+                getStringFromField(responseVariableName, execution),
+                mapExceptions);
+
         leave(execution);
     }
 
+    /**
+     * Schedules the job that triggers the execution with a timeout failure when no response is handed over in time,
+     * for example because the engine was stopped while the request was in flight.
+     */
+    protected void scheduleNonBlockingTimeoutJob(ExecutionEntity execution, HttpRequest request, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        long responseTimeout = Math.max(request.getTimeout(), processEngineConfiguration.getHttpClientConfig().getNonBlockingResponseTimeout());
+        NonBlockingHttpResult timeoutResult = new NonBlockingHttpResult(request, null,
+                new SocketTimeoutException("No response received within " + responseTimeout + " ms"));
+
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setJobHandlerType(AsyncTriggerJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME);
+        timerJob.setCustomValues(httpActivityExecutor.writeNonBlockingResult(timeoutResult));
+        timerJob.setExclusive(true);
+        timerJob.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+        timerJob.setDuedate(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + responseTimeout));
+        timerJob.setExecutionId(execution.getId());
+        timerJob.setProcessInstanceId(execution.getProcessInstanceId());
+        timerJob.setProcessDefinitionId(execution.getProcessDefinitionId());
+        timerJob.setElementId(httpServiceTask.getId());
+        timerJob.setElementName(httpServiceTask.getName());
+        timerJob.setTenantId(execution.getTenantId());
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+    protected Consumer<NonBlockingHttpResult> createNonBlockingResultCallback(ProcessEngineConfigurationImpl processEngineConfiguration, String executionId) {
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        return result -> commandExecutor.execute(commandContext -> {
+            scheduleNonBlockingResultJob(executionId, result, commandContext);
+            return null;
+        });
+    }
+
+    /**
+     * Replaces the timeout job of the execution with an async job holding the result, so the async executor triggers the execution.
+     * The result is dropped when the timeout job has already been executed.
+     */
+    protected void scheduleNonBlockingResultJob(String executionId, NonBlockingHttpResult result, CommandContext commandContext) {
+        TimerJobEntity timerJob = findNonBlockingTimeoutJob(executionId, commandContext);
+        if (timerJob == null) {
+            LOGGER.debug("No execution {} is waiting for the result of the non-blocking http task anymore", executionId);
+            return;
+        }
+
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(AsyncTriggerJobHandler.TYPE);
+        job.setJobHandlerConfiguration(HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME);
+        job.setCustomValues(httpActivityExecutor.writeNonBlockingResult(result));
+        job.setExecutionId(timerJob.getExecutionId());
+        job.setProcessInstanceId(timerJob.getProcessInstanceId());
+        job.setProcessDefinitionId(timerJob.getProcessDefinitionId());
+        job.setElementId(timerJob.getElementId());
+        job.setElementName(timerJob.getElementName());
+        job.setTenantId(timerJob.getTenantId());
+        jobService.createAsyncJob(job, true);
+        jobService.scheduleAsyncJob(job);
+
+        CommandContextUtil.getTimerJobService(commandContext).deleteTimerJob(timerJob);
+    }
+
+    protected void deleteNonBlockingTimeoutJob(String executionId) {
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        TimerJobEntity timerJob = findNonBlockingTimeoutJob(executionId, commandContext);
+        if (timerJob != null) {
+            CommandContextUtil.getTimerJobService(commandContext).deleteTimerJob(timerJob);
+        }
+    }
+
+    protected TimerJobEntity findNonBlockingTimeoutJob(String executionId, CommandContext commandContext) {
+        for (TimerJobEntity timerJob : CommandContextUtil.getTimerJobService(commandContext).findTimerJobsByExecutionId(executionId)) {
+            if (AsyncTriggerJobHandler.TYPE.equals(timerJob.getJobHandlerType())
+                    && HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME.equals(timerJob.getJobHandlerConfiguration())) {
+                return timerJob;
+            }
+        }
+        return null;
+    }
+
     protected HttpRequestHandler createHttpRequestHandler(FlowableHttpRequestHandler handler, ProcessEngineConfigurationImpl processEngineConfiguration) {
         HttpRequestHandler requestHandler = null;
 
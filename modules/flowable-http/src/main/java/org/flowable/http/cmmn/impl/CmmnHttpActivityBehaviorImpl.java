@@ -17,21 +17,17 @@ import static org.flowable.http.ExpressionUtils.getStringFromField;
 import static org.flowable.http.ExpressionUtils.getStringSetFromField;
 import static org.flowable.http.HttpActivityExecutor.HTTP_TASK_REQUEST_FIELD_INVALID;
 
+import java.net.SocketTimeoutException;
 import java.util.Collections;
-
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
+import java.util.Date;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.ssl.SSLContextBuilder;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.HttpClientConfig;
-import org.flowable.cmmn.engine.impl.behavior.CoreCmmnActivityBehavior;
+import org.flowable.cmmn.engine.impl.behavior.CoreCmmnTriggerableActivityBehavior;
+import org.flowable.cmmn.engine.impl.job.AsyncTriggerJobHandler;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.FlowableHttpRequestHandler;
@@ -40,15 +36,23 @@ import org.flowable.cmmn.model.HttpServiceTask;
 import org.flowable.cmmn.model.ImplementationType;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.http.ExpressionUtils;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
+import org.flowable.http.NonBlockingHttpResult;
 import org.flowable.http.NopErrorPropagator;
+import org.flowable.http.PooledHttpClient;
 import org.flowable.http.cmmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.cmmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
 import org.flowable.http.delegate.HttpResponseHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,7 +61,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author martin.grofcik
  */
-public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
+public class CmmnHttpActivityBehaviorImpl extends CoreCmmnTriggerableActivityBehavior {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CmmnHttpActivityBehaviorImpl.class);
 
@@ -93,48 +97,29 @@ public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
     protected Expression saveResponseVariableAsJson;
     // Prefix for the execution variable names (Optional)
     protected Expression resultVariablePrefix;
+    // Flag to send the request without blocking the thread, the plan item instance waits for the response. Default is false (Optional)
+    protected Expression nonBlocking;
 
     protected HttpServiceTask serviceTask;
     protected HttpActivityExecutor httpActivityExecutor;
+    protected PooledHttpClient pooledHttpClient;
 
     public CmmnHttpActivityBehaviorImpl() {
-        org.flowable.cmmn.engine.HttpClientConfig config = CommandContextUtil.getCmmnEngineConfiguration().getHttpClientConfig();
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
-        // https settings
-        if (config.isDisableCertVerify()) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                httpClientBuilder.setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
-                            @Override
-                            public boolean verify(String s, SSLSession sslSession) {
-                                return true;
-                            }
-                        }));
-
-            } catch (Exception e) {
-                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
-            }
-        }
-
-        // request retry settings
-        int retryCount = 0;
-        if (config.getRequestRetryLimit() > 0) {
-            retryCount = config.getRequestRetryLimit();
-        }
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        HttpClientConfig config = cmmnEngineConfiguration.getHttpClientConfig();
 
-        // client builder settings
-        if (config.isUseSystemProperties()) {
-            httpClientBuilder.useSystemProperties();
-        }
+        // all http tasks of the engine share one pooled client, which is closed when the engine is closed
+        this.pooledHttpClient = PooledHttpClient.getOrCreatePooledHttpClient(cmmnEngineConfiguration, () -> createPooledHttpClient(config));
 
-        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, new NopErrorPropagator(), 
-                CommandContextUtil.getCmmnEngineConfiguration().getObjectMapper());
+        this.httpActivityExecutor = new HttpActivityExecutor(pooledHttpClient.getHttpClient(), new NopErrorPropagator(),
+                cmmnEngineConfiguration.getObjectMapper());
     }
 
+    protected PooledHttpClient createPooledHttpClient(HttpClientConfig config) {
+        return new PooledHttpClient(config.isDisableCertVerify(), config.isUseSystemProperties(), config.getRequestRetryLimit(),
+                config.getMaxConnectionsTotal(), config.getMaxConnectionsPerRoute(), config.getRouteMaxConnections(), config.getKeepAliveTime(),
+                config.getIdleConnectionEvictionTime(), config.getConnectionTimeToLive(), config.getNonBlockingCallbackThreads());
+    }
 
     @Override
     public void execute(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
@@ -198,21 +183,139 @@ public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
         HttpClientConfig httpClientConfig = cmmnEngineConfiguration.getHttpClientConfig();
 
-        httpActivityExecutor.execute(
-                request,
+        if (getBooleanFromField(nonBlocking, planItemInstanceEntity)) {
+            boolean waitForResponse = httpActivityExecutor.executeNonBlocking(
+                    request,
+                    planItemInstanceEntity,
+                    planItemInstanceEntity.getId(),
+                    createHttpRequestHandler(serviceTask.getHttpRequestHandler(), cmmnEngineConfiguration),
+                    Collections.<MapExceptionEntry>emptyList(),
+                    httpClientConfig.getSocketTimeout(),
+                    httpClientConfig.getConnectTimeout(),
+                    httpClientConfig.getConnectionRequestTimeout(),
+                    pooledHttpClient.getAsyncHttpClient(),
+                    pooledHttpClient.getCallbackExecutor(),
+                    createNonBlockingResultCallback(cmmnEngineConfiguration, planItemInstanceEntity.getCaseInstanceId(), planItemInstanceEntity.getId()));
+
+            if (waitForResponse) {
+                // The plan item instance is triggered by the job holding the response, or by the timeout job when no response is handed over
+                scheduleNonBlockingTimeoutJob(planItemInstanceEntity, request, cmmnEngineConfiguration);
+                return;
+            }
+
+        } else {
+            httpActivityExecutor.execute(
+                    request,
+                    planItemInstanceEntity,
+                    planItemInstanceEntity.getId(),
+                    createHttpRequestHandler(serviceTask.getHttpRequestHandler(), cmmnEngineConfiguration),
+                    createHttpResponseHandler(serviceTask.getHttpResponseHandler(), cmmnEngineConfiguration),
+                    getStringFromField(responseVariableName, planItemInstanceEntity),
+                    Collections.<MapExceptionEntry>emptyList(),
+                    httpClientConfig.getSocketTimeout(),
+                    httpClientConfig.getConnectTimeout(),
+                    httpClientConfig.getConnectionRequestTimeout()
+            );
+        }
+
+        CommandContextUtil.getAgenda().planCompletePlanItemInstanceOperation(planItemInstanceEntity);
+
+    }
+
+    @Override
+    public void trigger(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
+        Object result = planItemInstanceEntity.getTransientVariable(HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME);
+        if (!(result instanceof String)) {
+            throw new FlowableException("Http task plan item instance " + planItemInstanceEntity.getId() + " isn't waiting for a response");
+        }
+
+        planItemInstanceEntity.removeTransientVariable(HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME);
+
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        httpActivityExecutor.completeNonBlocking(
+                httpActivityExecutor.readNonBlockingResult((String) result),
                 planItemInstanceEntity,
                 planItemInstanceEntity.getId(),
-                createHttpRequestHandler(serviceTask.getHttpRequestHandler(), cmmnEngineConfiguration),
                 createHttpResponseHandler(serviceTask.getHttpResponseHandler(), cmmnEngineConfiguration),
                 getStringFromField(responseVariableName, planItemInstanceEntity),
-                Collections.<MapExceptionEntry>emptyList(),
-                httpClientConfig.getSocketTimeout(),
-                httpClientConfig.getConnectTimeout(),
-                httpClientConfig.getConnectionRequestTimeout()
-        );
+                Collections.<MapExceptionEntry>emptyList());
 
-        CommandContextUtil.getAgenda().planCompletePlanItemInstanceOperation(planItemInstanceEntity);
+        CommandContextUtil.getAgenda(commandContext).planCompletePlanItemInstanceOperation(planItemInstanceEntity);
+    }
+
+    /**
+     * Schedules the job that triggers the plan item instance with a timeout failure when no response is handed over in time,
+     * for example because the engine was stopped while the request was in flight.
+     */
+    protected void scheduleNonBlockingTimeoutJob(PlanItemInstanceEntity planItemInstanceEntity, HttpRequest request, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        long responseTimeout = Math.max(request.getTimeout(), cmmnEngineConfiguration.getHttpClientConfig().getNonBlockingResponseTimeout());
+        NonBlockingHttpResult timeoutResult = new NonBlockingHttpResult(request, null,
+                new SocketTimeoutException("No response received within " + responseTimeout + " ms"));
+
+        JobServiceConfiguration jobServiceConfiguration = cmmnEngineConfiguration.getJobServiceConfiguration();
+        TimerJobEntity timerJob = jobServiceConfiguration.getTimerJobService().createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setJobHandlerType(AsyncTriggerJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME);
+        timerJob.setCustomValues(httpActivityExecutor.writeNonBlockingResult(timeoutResult));
+        timerJob.setExclusive(true);
+        timerJob.setRetries(jobServiceConfiguration.getAsyncExecutorNumberOfRetries());
+        timerJob.setDuedate(new Date(cmmnEngineConfiguration.getClock().getCurrentTime().getTime() + responseTimeout));
+        timerJob.setScopeDefinitionId(planItemInstanceEntity.getCaseDefinitionId());
+        timerJob.setScopeId(planItemInstanceEntity.getCaseInstanceId());
+        timerJob.setSubScopeId(planItemInstanceEntity.getId());
+        timerJob.setScopeType(ScopeTypes.CMMN);
+        timerJob.setElementId(serviceTask.getId());
+        timerJob.setElementName(serviceTask.getName());
+        timerJob.setTenantId(planItemInstanceEntity.getTenantId());
+        jobServiceConfiguration.getTimerJobService().scheduleTimerJob(timerJob);
+    }
+
+    protected Consumer<NonBlockingHttpResult> createNonBlockingResultCallback(CmmnEngineConfiguration cmmnEngineConfiguration, String caseInstanceId,
+            String planItemInstanceId) {
+
+        CommandExecutor commandExecutor = cmmnEngineConfiguration.getCommandExecutor();
+        return result -> commandExecutor.execute(commandContext -> {
+            scheduleNonBlockingResultJob(caseInstanceId, planItemInstanceId, result, commandContext);
+            return null;
+        });
+    }
+
+    /**
+     * Replaces the timeout job of the plan item instance with an async job holding the result, so the async executor triggers the plan item instance.
+     * The result is dropped when the timeout job has already been executed.
+     */
+    protected void scheduleNonBlockingResultJob(String caseInstanceId, String planItemInstanceId, NonBlockingHttpResult result, CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext).getJobServiceConfiguration();
+        TimerJobEntity timerJob = null;
+        for (TimerJobEntity candidate : jobServiceConfiguration.getTimerJobEntityManager().findJobsByScopeIdAndSubScopeId(caseInstanceId, planItemInstanceId)) {
+            if (AsyncTriggerJobHandler.TYPE.equals(candidate.getJobHandlerType())
+                    && HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME.equals(candidate.getJobHandlerConfiguration())) {
+                timerJob = candidate;
+            }
+        }
+
+        if (timerJob == null) {
+            LOGGER.debug("No plan item instance {} is waiting for the result of the non-blocking http task anymore", planItemInstanceId);
+            return;
+        }
 
+        JobService jobService = jobServiceConfiguration.getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(AsyncTriggerJobHandler.TYPE);
+        job.setJobHandlerConfiguration(HttpActivityExecutor.NON_BLOCKING_RESULT_VARIABLE_NAME);
+        job.setCustomValues(httpActivityExecutor.writeNonBlockingResult(result));
+        job.setScopeDefinitionId(timerJob.getScopeDefinitionId());
+        job.setScopeId(timerJob.getScopeId());
+        job.setSubScopeId(timerJob.getSubScopeId());
+        job.setScopeType(timerJob.getScopeType());
+        job.setElementId(timerJob.getElementId());
+        job.setElementName(timerJob.getElementName());
+        job.setTenantId(timerJob.getTenantId());
+        jobService.createAsyncJob(job, true);
+        jobService.scheduleAsyncJob(job);
+
+        jobServiceConfiguration.getTimerJobService().deleteTimerJob(timerJob);
     }
 
     protected Expression createExpression(String expressionString) {
@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.ConnectException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class HttpServiceTaskNonBlockingTest extends HttpServiceTaskTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskNonBlockingTest.nonBlockingGet.bpmn20.xml")
+    public void testExecutionWaitsForResponse() {
+        ProcessInstance processInstance = startProcessInstance("http://localhost:9798/api?delay=1000", false);
+
+        // The process instance is started without waiting for the response, the timeout job keeps the wait state durable
+        Execution execution = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("httpGet").singleResult();
+        assertThat(execution).isNotNull();
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(timerJob).isNotNull();
+        assertThat(timerJob.getJobHandlerType()).isEqualTo(AsyncTriggerJobHandler.TYPE);
+        assertThat(timerJob.getExecutionId()).isEqualTo(execution.getId());
+
+        // The response is handed over to an async job, which replaces the timeout job
+        Job job = waitForResultJob(processInstance.getId());
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        managementService.executeJob(job.getId());
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("afterHttp");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "httpGetResponseStatusCode")).isEqualTo(200);
+        assertThat((String) runtimeService.getVariable(processInstance.getId(), "httpGetResponseBody")).contains("delay");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskNonBlockingTest.nonBlockingGet.bpmn20.xml")
+    public void testHandleStatusCode() {
+        ProcessInstance processInstance = startProcessInstance("http://localhost:9798/api?code=404", false);
+
+        managementService.executeJob(waitForResultJob(processInstance.getId()).getId());
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("handleError");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskNonBlockingTest.nonBlockingGet.bpmn20.xml")
+    public void testIgnoredConnectionFailure() {
+        // Nothing is listening on this port
+        ProcessInstance processInstance = startProcessInstance("http://localhost:9797/api", true);
+
+        managementService.executeJob(waitForResultJob(processInstance.getId()).getId());
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("afterHttp");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "httpGetErrorMessage")).isNotNull();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskNonBlockingTest.nonBlockingGet.bpmn20.xml")
+    public void testConnectionFailure() {
+        // Nothing is listening on this port
+        ProcessInstance processInstance = startProcessInstance("http://localhost:9797/api", false);
+
+        // The connection failure is recreated from the stored result
+        Job job = waitForResultJob(processInstance.getId());
+        assertThatThrownBy(() -> managementService.executeJob(job.getId()))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("IO exception occurred")
+                .hasRootCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskNonBlockingTest.nonBlockingGet.bpmn20.xml")
+    public void testTimeoutJobFailsWhenNoResponseIsHandedOver() {
+        ProcessInstance processInstance = startProcessInstance("http://localhost:9798/api?delay=3000", false);
+
+        // Simulates reaching the response timeout, for example after the engine was restarted while waiting for the response
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        Job job = managementService.moveTimerToExecutableJob(timerJob.getId());
+
+        assertThatThrownBy(() -> managementService.executeJob(job.getId()))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("IO exception occurred");
+
+        // The failure is retried by the async executor like any other failing job and ends up as a dead letter job
+        Job failedJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(failedJob.getRetries()).isEqualTo(processEngineConfiguration.getAsyncExecutorNumberOfRetries() - 1);
+        assertThat(managementService.getTimerJobExceptionStacktrace(failedJob.getId())).contains("No response received");
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(Execution::getActivityId)
+                .contains("httpGet");
+    }
+
+    protected ProcessInstance startProcessInstance(String url, boolean ignoreException) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("url", url);
+        variables.put("ignoreException", ignoreException);
+        return runtimeService.startProcessInstanceByKey("nonBlockingGet", variables);
+    }
+
+    protected Job waitForResultJob(String processInstanceId) {
+        long start = System.currentTimeMillis();
+        while (System.currentTimeMillis() - start < 10000L) {
+            Job job = managementService.createJobQuery().processInstanceId(processInstanceId).singleResult();
+            if (job != null) {
+                return job;
+            }
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        throw new AssertionError("No job holding the response was created for process instance " + processInstanceId + " within 10 seconds");
+    }
+
+}
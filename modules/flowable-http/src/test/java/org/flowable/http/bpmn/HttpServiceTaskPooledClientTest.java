@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.PoolStats;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.test.Deployment;
+import org.flowable.http.PooledHttpClient;
+import org.junit.jupiter.api.Test;
+
+public class HttpServiceTaskPooledClientTest extends HttpServiceTaskTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskTest.testSimpleGetOnly.bpmn20.xml")
+    public void testHttpTasksShareConnectionPool() {
+        String procId = runtimeService.startProcessInstanceByKey("simpleGetOnly").getId();
+        assertProcessEnded(procId);
+
+        PooledHttpClient pooledHttpClient = PooledHttpClient.getPooledHttpClient(processEngineConfiguration);
+        assertThat(pooledHttpClient).isNotNull();
+
+        for (int i = 0; i < 5; i++) {
+            procId = runtimeService.startProcessInstanceByKey("simpleGetOnly").getId();
+            assertProcessEnded(procId);
+        }
+
+        assertThat(PooledHttpClient.getPooledHttpClient(processEngineConfiguration)).isSameAs(pooledHttpClient);
+
+        // The requests are executed one after the other, so a single kept-alive connection is reused
+        PoolStats totalStats = pooledHttpClient.getTotalStats();
+        assertThat(totalStats.getLeased()).isZero();
+        assertThat(totalStats.getAvailable()).isEqualTo(1);
+        assertThat(totalStats.getMax()).isEqualTo(processEngineConfiguration.getHttpClientConfig().getMaxConnectionsTotal());
+
+        Map<HttpRoute, PoolStats> routeStats = pooledHttpClient.getRouteStats();
+        assertThat(routeStats).hasSize(1);
+        Map.Entry<HttpRoute, PoolStats> routeStatsEntry = routeStats.entrySet().iterator().next();
+        assertThat(routeStatsEntry.getKey().getTargetHost().getPort()).isEqualTo(9798);
+        assertThat(routeStatsEntry.getValue().getAvailable()).isEqualTo(1);
+        assertThat(routeStatsEntry.getValue().getMax()).isEqualTo(processEngineConfiguration.getHttpClientConfig().getMaxConnectionsPerRoute());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskTest.testSimpleGetOnly.bpmn20.xml")
+    public void testPooledClientIsClosedWithProcessEngine() {
+        ProcessEngine otherProcessEngine = new StandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:flowable-http-pooled-client;DB_CLOSE_DELAY=1000")
+                .buildProcessEngine();
+
+        PooledHttpClient pooledHttpClient;
+        try {
+            otherProcessEngine.getRepositoryService().createDeployment()
+                    .addClasspathResource("org/flowable/http/bpmn/HttpServiceTaskTest.testSimpleGetOnly.bpmn20.xml")
+                    .deploy();
+            String procId = otherProcessEngine.getRuntimeService().startProcessInstanceByKey("simpleGetOnly").getId();
+            assertThat(otherProcessEngine.getRuntimeService().createProcessInstanceQuery().processInstanceId(procId).count()).isZero();
+
+            pooledHttpClient = PooledHttpClient.getPooledHttpClient((ProcessEngineConfigurationImpl) otherProcessEngine.getProcessEngineConfiguration());
+            assertThat(pooledHttpClient).isNotNull();
+            assertThat(pooledHttpClient).isNotSameAs(PooledHttpClient.getPooledHttpClient(processEngineConfiguration));
+            assertThat(pooledHttpClient.getHttpClient()).isNotNull();
+            assertThat(pooledHttpClient.isClosed()).isFalse();
+        } finally {
+            otherProcessEngine.close();
+        }
+
+        assertThat(pooledHttpClient.isClosed()).isTrue();
+        assertThat(PooledHttpClient.getPooledHttpClient((ProcessEngineConfigurationImpl) otherProcessEngine.getProcessEngineConfiguration())).isNull();
+        assertThat(PooledHttpClient.getPooledHttpClient(processEngineConfiguration).isClosed()).isFalse();
+    }
+
+}
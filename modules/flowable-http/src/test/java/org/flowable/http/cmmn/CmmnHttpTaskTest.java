@@ -30,6 +30,7 @@ import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnRule;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.http.bpmn.HttpServiceTaskTestServer;
+import org.flowable.job.api.Job;
 import org.hamcrest.core.AnyOf;
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.Assert;
@@ -75,6 +76,31 @@ public class CmmnHttpTaskTest {
 
     }
 
+    @Test
+    @CmmnDeployment
+    public void testNonBlockingGet() throws Exception {
+        CaseInstance caseInstance = createCaseInstance();
+
+        // The http task plan item instance stays active with a timeout job until the response is handed over to an async job
+        assertEquals(1, cmmnRule.getCmmnManagementService().createTimerJobQuery().caseInstanceId(caseInstance.getId()).count());
+
+        Job job = null;
+        long start = System.currentTimeMillis();
+        while (job == null && System.currentTimeMillis() - start < 10000L) {
+            Thread.sleep(100L);
+            job = cmmnRule.getCmmnManagementService().createJobQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        }
+        assertNotNull(job);
+        assertEquals(0, cmmnRule.getCmmnManagementService().createTimerJobQuery().caseInstanceId(caseInstance.getId()).count());
+        assertNull(cmmnRule.getCmmnRuntimeService().getVariable(caseInstance.getId(), "test"));
+
+        cmmnRule.getCmmnManagementService().executeJob(job.getId());
+
+        assertThat((String) cmmnRule.getCmmnRuntimeService().getVariable(caseInstance.getId(), "test"), containsString("John"));
+        assertEquals(1, cmmnRule.getCmmnRuntimeService().createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId())
+                .planItemInstanceStateActive().planItemInstanceName("The Case").count());
+    }
+
     @Test
     @CmmnDeployment
     public void testGetWithoutVariableName() {
@@ -22,6 +22,7 @@ import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -111,10 +112,12 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
     
     protected String jobExecutionScope;
+    protected boolean isSkipLockedJobAcquisitionEnabled;
     protected Map<String, JobHandler> jobHandlers;
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
     protected List<JobProcessor> jobProcessors;
+    protected EngineMetrics engineMetrics;
     
     protected AsyncExecutor asyncHistoryExecutor;
     protected int asyncHistoryExecutorNumberOfRetries;
@@ -425,6 +428,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.jobExecutionScope = jobExecutionScope;
         return this;
     }
+
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return isSkipLockedJobAcquisitionEnabled;
+    }
+
+    public JobServiceConfiguration setSkipLockedJobAcquisitionEnabled(boolean isSkipLockedJobAcquisitionEnabled) {
+        this.isSkipLockedJobAcquisitionEnabled = isSkipLockedJobAcquisitionEnabled;
+        return this;
+    }
     
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
@@ -591,6 +603,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public JobServiceConfiguration setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+        return this;
+    }
+
     public void setJobParentStateResolver(InternalJobParentStateResolver jobParentStateResolver) {
         this.jobParentStateResolver = jobParentStateResolver;
     }
@@ -15,6 +15,7 @@ package org.flowable.job.service.impl.asyncexecutor;
 import java.util.LinkedList;
 import java.util.UUID;
 
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
@@ -57,6 +58,13 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
 
+    // Adaptive async job acquisition: grow the page size while full pages are acquired, back off exponentially when idle
+    // and wake up the acquisition thread when a job is added on this node.
+    protected boolean adaptiveAsyncJobAcquisitionEnabled;
+    protected int maxAdaptiveAsyncJobsDuePerAcquisition = 64;
+    protected int minAsyncJobAcquireWaitTimeInMillis = 100;
+    protected AsyncJobAcquisitionMetrics asyncJobAcquisitionMetrics = new AsyncJobAcquisitionMetrics();
+
     protected String lockOwner = UUID.randomUUID().toString();
     protected int timerLockTimeInMillis = 5 * 60 * 1000;
     protected int asyncJobLockTimeInMillis = 5 * 60 * 1000;
@@ -82,7 +90,9 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         Runnable runnable = null;
         if (isActive) {
             runnable = createRunnableForJob(job);
-            return executeAsyncJob(job, runnable);
+            boolean executed = executeAsyncJob(job, runnable);
+            recordJobMetrics(executed);
+            return executed;
         } else {
             temporaryJobQueue.add(job);
         }
@@ -90,8 +100,24 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         return true;
     }
 
+    @Override
+    public boolean executeAddedAsyncJob(JobInfo job) {
+        boolean executed = executeAsyncJob(job);
+        if (adaptiveAsyncJobAcquisitionEnabled && asyncJobsDueRunnable != null) {
+            asyncJobsDueRunnable.wakeUp();
+        }
+        return executed;
+    }
+
     protected abstract boolean executeAsyncJob(final JobInfo job, Runnable runnable);
 
+    protected void recordJobMetrics(boolean executed) {
+        EngineMetrics engineMetrics = jobServiceConfiguration != null ? jobServiceConfiguration.getEngineMetrics() : null;
+        if (engineMetrics != null && !executed) {
+            engineMetrics.recordJobRejected();
+        }
+    }
+
     protected void unlockOwnedJobs() {
         jobServiceConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(lockOwner, tenantId));
     }
@@ -145,6 +171,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             String acquireJobsRunnableName = acquireRunnableThreadName != null ?
                     acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse);
+            asyncJobsDueRunnable.setMetrics(asyncJobAcquisitionMetrics);
+            asyncJobsDueRunnable.setAdaptiveAcquisitionEnabled(adaptiveAsyncJobAcquisitionEnabled);
+            asyncJobsDueRunnable.setMaxAdaptiveJobsPerAcquisition(maxAdaptiveAsyncJobsDuePerAcquisition);
+            asyncJobsDueRunnable.setMinAcquireWaitTimeInMillis(minAsyncJobAcquireWaitTimeInMillis);
         }
     }
 
@@ -307,6 +337,38 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.defaultQueueSizeFullWaitTime = defaultQueueSizeFullWaitTime;
     }
 
+    public boolean isAdaptiveAsyncJobAcquisitionEnabled() {
+        return adaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAsyncJobAcquisitionEnabled(boolean adaptiveAsyncJobAcquisitionEnabled) {
+        this.adaptiveAsyncJobAcquisitionEnabled = adaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public int getMaxAdaptiveAsyncJobsDuePerAcquisition() {
+        return maxAdaptiveAsyncJobsDuePerAcquisition;
+    }
+
+    public void setMaxAdaptiveAsyncJobsDuePerAcquisition(int maxAdaptiveAsyncJobsDuePerAcquisition) {
+        this.maxAdaptiveAsyncJobsDuePerAcquisition = maxAdaptiveAsyncJobsDuePerAcquisition;
+    }
+
+    public int getMinAsyncJobAcquireWaitTimeInMillis() {
+        return minAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public void setMinAsyncJobAcquireWaitTimeInMillis(int minAsyncJobAcquireWaitTimeInMillis) {
+        this.minAsyncJobAcquireWaitTimeInMillis = minAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public AsyncJobAcquisitionMetrics getAsyncJobAcquisitionMetrics() {
+        return asyncJobAcquisitionMetrics;
+    }
+
+    public void setAsyncJobAcquisitionMetrics(AsyncJobAcquisitionMetrics asyncJobAcquisitionMetrics) {
+        this.asyncJobAcquisitionMetrics = asyncJobAcquisitionMetrics;
+    }
+
     public void setAsyncJobsDueRunnable(AcquireAsyncJobsDueRunnable asyncJobsDueRunnable) {
         this.asyncJobsDueRunnable = asyncJobsDueRunnable;
     }
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
@@ -39,6 +40,20 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+    protected volatile long currentWaitTimeInMillis;
+
+    protected AsyncJobAcquisitionMetrics metrics = new AsyncJobAcquisitionMetrics();
+
+    /**
+     * When enabled, the page size grows (up to {@link #maxAdaptiveJobsPerAcquisition}) as long as full pages are acquired
+     * and the wait time between empty acquire cycles grows exponentially from {@link #minAcquireWaitTimeInMillis}
+     * up to the default async job acquire wait time of the async executor.
+     */
+    protected boolean adaptiveAcquisitionEnabled;
+    protected int maxAdaptiveJobsPerAcquisition = 64;
+    protected long minAcquireWaitTimeInMillis = 100;
+    protected int currentPageSize;
+    protected long currentIdleWaitTimeInMillis;
 
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, 
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
@@ -80,30 +95,87 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     }
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
+        int pageSize = getAcquirePageSize();
+        long acquireStartTime = System.currentTimeMillis();
         try {
-            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, pageSize, jobEntityManager));
 
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
+            metrics.recordAcquireCycle(System.currentTimeMillis() - acquireStartTime, pageSize, acquiredJobs.size(), rejectedJobs.size());
+            EngineMetrics engineMetrics = asyncExecutor.getJobServiceConfiguration().getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordJobsAcquired(acquiredJobs.size());
+            }
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), asyncExecutor.getJobServiceConfiguration().getEngineName());
             if (rejectedJobs.size() > 0) {
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
+                currentPageSize = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
-            if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
+            if (acquiredJobs.size() >= pageSize) {
                 // the maximum amount of jobs were acquired, so we can expect more.
+                increasePageSize(pageSize);
                 return 0L;
             }
+            if (adaptiveAcquisitionEnabled && acquiredJobs.size() > 0) {
+                // the backlog has been drained, but the engine is busy: check again soon
+                decreasePageSize(pageSize);
+                currentIdleWaitTimeInMillis = minAcquireWaitTimeInMillis;
+                return minAcquireWaitTimeInMillis;
+            }
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            metrics.recordOptimisticLockingFailure(System.currentTimeMillis() - acquireStartTime);
+            EngineMetrics engineMetrics = asyncExecutor.getJobServiceConfiguration().getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordJobLockConflict();
+            }
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Optimistic locking exception during async job acquisition. If you have multiple async executors running against the same database, this exception means that this thread tried to acquire a due async job, which already was acquired by another async executor acquisition thread.This is expected behavior in a clustered environment. You can ignore this message if you indeed have multiple async executor acquisition threads running against the same database. for engine {}. Exception message: {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), optimisticLockingException.getMessage());
             }
         } catch (Throwable e) {
+            metrics.recordAcquireError(System.currentTimeMillis() - acquireStartTime);
             LOGGER.error("exception for engine {} during async job acquisition: {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), e.getMessage(), e);
         }
 
-        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        return getIdleWaitTimeInMillis();
+    }
+
+    protected int getAcquirePageSize() {
+        int defaultPageSize = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        if (!adaptiveAcquisitionEnabled || currentPageSize < defaultPageSize) {
+            return defaultPageSize;
+        }
+        return currentPageSize;
+    }
+
+    protected void increasePageSize(int pageSize) {
+        if (adaptiveAcquisitionEnabled) {
+            int maxPageSize = Math.max(maxAdaptiveJobsPerAcquisition, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+            currentPageSize = (int) Math.min((long) pageSize * 2, maxPageSize);
+            currentIdleWaitTimeInMillis = minAcquireWaitTimeInMillis;
+        }
+    }
+
+    protected void decreasePageSize(int pageSize) {
+        currentPageSize = Math.max(pageSize / 2, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+    }
+
+    /**
+     * Returns the time to wait after an acquire cycle that didn't fetch any job.
+     * When adaptive acquisition is enabled, this time doubles with every consecutive idle cycle.
+     */
+    protected long getIdleWaitTimeInMillis() {
+        long defaultWaitTime = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        if (!adaptiveAcquisitionEnabled) {
+            return defaultWaitTime;
+        }
+
+        currentPageSize = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        long idleWaitTime = currentIdleWaitTimeInMillis > 0 ? Math.min(currentIdleWaitTimeInMillis, defaultWaitTime) : Math.min(minAcquireWaitTimeInMillis, defaultWaitTime);
+        currentIdleWaitTimeInMillis = Math.min(idleWaitTime * 2, defaultWaitTime);
+        return idleWaitTime;
     }
 
     protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
@@ -117,6 +189,26 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    /**
+     * Signals that a job was added on this node. When the acquisition thread is sleeping in an idle backoff
+     * (waiting longer than the minimum acquire wait time), the backoff is reset and the thread is woken up so it
+     * starts acquiring again. While the thread is acquiring or only waiting the minimum wait time, the backoff is left untouched.
+     * Only has effect when adaptive acquisition is enabled.
+     */
+    public void wakeUp() {
+        if (!adaptiveAcquisitionEnabled) {
+            return;
+        }
+
+        synchronized (MONITOR) {
+            if (currentWaitTimeInMillis > minAcquireWaitTimeInMillis && isWaiting.compareAndSet(true, false)) {
+                currentIdleWaitTimeInMillis = minAcquireWaitTimeInMillis;
+                metrics.recordWakeUp();
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -135,6 +227,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 synchronized (MONITOR) {
                     if (!isInterrupted) {
                         isWaiting.set(true);
+                        currentWaitTimeInMillis = millisToWait;
                         MONITOR.wait(millisToWait);
                     }
                 }
@@ -148,8 +241,41 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 }
             } finally {
                 isWaiting.set(false);
+                currentWaitTimeInMillis = 0;
             }
         }
     }
 
+    public AsyncJobAcquisitionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(AsyncJobAcquisitionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public boolean isAdaptiveAcquisitionEnabled() {
+        return adaptiveAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAcquisitionEnabled(boolean adaptiveAcquisitionEnabled) {
+        this.adaptiveAcquisitionEnabled = adaptiveAcquisitionEnabled;
+    }
+
+    public int getMaxAdaptiveJobsPerAcquisition() {
+        return maxAdaptiveJobsPerAcquisition;
+    }
+
+    public void setMaxAdaptiveJobsPerAcquisition(int maxAdaptiveJobsPerAcquisition) {
+        this.maxAdaptiveJobsPerAcquisition = maxAdaptiveJobsPerAcquisition;
+    }
+
+    public long getMinAcquireWaitTimeInMillis() {
+        return minAcquireWaitTimeInMillis;
+    }
+
+    public void setMinAcquireWaitTimeInMillis(long minAcquireWaitTimeInMillis) {
+        this.minAcquireWaitTimeInMillis = minAcquireWaitTimeInMillis;
+    }
+
 }
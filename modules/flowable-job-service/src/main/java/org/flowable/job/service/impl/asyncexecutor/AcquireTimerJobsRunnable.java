@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
@@ -75,7 +76,16 @@ public class AcquireTimerJobsRunnable implements Runnable {
                     millisToWait = 0;
                 }
 
+                EngineMetrics engineMetrics = asyncExecutor.getJobServiceConfiguration().getEngineMetrics();
+                if (engineMetrics != null) {
+                    engineMetrics.recordTimerJobsAcquired(jobsAcquired);
+                }
+
             } catch (FlowableOptimisticLockingException optimisticLockingException) {
+                EngineMetrics engineMetrics = asyncExecutor.getJobServiceConfiguration().getEngineMetrics();
+                if (engineMetrics != null) {
+                    engineMetrics.recordJobLockConflict();
+                }
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Optimistic locking exception during timer job acquisition. If you have multiple timer executors running against the same database, "
                             + "this exception means that this thread tried to acquire a timer job, which already was acquired by another timer executor acquisition thread."
@@ -37,6 +37,14 @@ public interface AsyncExecutor {
      */
     boolean executeAsyncJob(JobInfo job);
 
+    /**
+     * Offers a {@link JobInfo} that was created (and locked) on this node to this {@link AsyncExecutor}, once the transaction that created it has been committed.
+     * By default this is the same as {@link #executeAsyncJob(JobInfo)}, but implementations can use it to wake up their job acquisition.
+     */
+    default boolean executeAddedAsyncJob(JobInfo job) {
+        return executeAsyncJob(job);
+    }
+
     int getRemainingCapacity();
 
     /* Getters and Setters */
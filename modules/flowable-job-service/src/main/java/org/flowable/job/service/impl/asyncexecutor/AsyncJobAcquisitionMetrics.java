@@ -0,0 +1,156 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the async job acquisition thread of one async executor (and thus of one node).
+ * They can be used to tune the acquisition settings (page size and wait times) of the async executor.
+ */
+public class AsyncJobAcquisitionMetrics {
+
+    protected final AtomicLong acquireCycles = new AtomicLong();
+    protected final AtomicLong emptyAcquireCycles = new AtomicLong();
+    protected final AtomicLong acquiredJobs = new AtomicLong();
+    protected final AtomicLong rejectedJobs = new AtomicLong();
+    protected final AtomicLong optimisticLockingFailures = new AtomicLong();
+    protected final AtomicLong acquireErrors = new AtomicLong();
+    protected final AtomicLong totalAcquireTimeInMillis = new AtomicLong();
+    protected final AtomicLong maxAcquireTimeInMillis = new AtomicLong();
+    protected final AtomicLong wakeUps = new AtomicLong();
+    protected volatile long lastAcquireTimeInMillis;
+    protected volatile int lastPageSize;
+
+    public void recordAcquireCycle(long acquireTimeInMillis, int pageSize, int acquired, int rejected) {
+        acquireCycles.incrementAndGet();
+        if (acquired == 0) {
+            emptyAcquireCycles.incrementAndGet();
+        }
+        acquiredJobs.addAndGet(acquired);
+        rejectedJobs.addAndGet(rejected);
+        recordAcquireTime(acquireTimeInMillis);
+        lastPageSize = pageSize;
+    }
+
+    public void recordOptimisticLockingFailure(long acquireTimeInMillis) {
+        acquireCycles.incrementAndGet();
+        optimisticLockingFailures.incrementAndGet();
+        recordAcquireTime(acquireTimeInMillis);
+    }
+
+    public void recordAcquireError(long acquireTimeInMillis) {
+        acquireCycles.incrementAndGet();
+        acquireErrors.incrementAndGet();
+        recordAcquireTime(acquireTimeInMillis);
+    }
+
+    public void recordWakeUp() {
+        wakeUps.incrementAndGet();
+    }
+
+    protected void recordAcquireTime(long acquireTimeInMillis) {
+        lastAcquireTimeInMillis = acquireTimeInMillis;
+        totalAcquireTimeInMillis.addAndGet(acquireTimeInMillis);
+        maxAcquireTimeInMillis.accumulateAndGet(acquireTimeInMillis, Math::max);
+    }
+
+    public void reset() {
+        acquireCycles.set(0);
+        emptyAcquireCycles.set(0);
+        acquiredJobs.set(0);
+        rejectedJobs.set(0);
+        optimisticLockingFailures.set(0);
+        acquireErrors.set(0);
+        totalAcquireTimeInMillis.set(0);
+        maxAcquireTimeInMillis.set(0);
+        wakeUps.set(0);
+        lastAcquireTimeInMillis = 0;
+        lastPageSize = 0;
+    }
+
+    /**
+     * @return the number of acquire queries that have been executed.
+     */
+    public long getAcquireCycles() {
+        return acquireCycles.get();
+    }
+
+    /**
+     * @return the number of acquire queries that didn't return any job.
+     */
+    public long getEmptyAcquireCycles() {
+        return emptyAcquireCycles.get();
+    }
+
+    public long getAcquiredJobs() {
+        return acquiredJobs.get();
+    }
+
+    /**
+     * @return the number of acquired jobs that couldn't be handed to the executor because its queue was full.
+     */
+    public long getRejectedJobs() {
+        return rejectedJobs.get();
+    }
+
+    public long getOptimisticLockingFailures() {
+        return optimisticLockingFailures.get();
+    }
+
+    public long getAcquireErrors() {
+        return acquireErrors.get();
+    }
+
+    public long getTotalAcquireTimeInMillis() {
+        return totalAcquireTimeInMillis.get();
+    }
+
+    public long getMaxAcquireTimeInMillis() {
+        return maxAcquireTimeInMillis.get();
+    }
+
+    public long getLastAcquireTimeInMillis() {
+        return lastAcquireTimeInMillis;
+    }
+
+    public double getAverageAcquireTimeInMillis() {
+        long cycles = acquireCycles.get();
+        return cycles > 0 ? (double) totalAcquireTimeInMillis.get() / cycles : 0d;
+    }
+
+    /**
+     * @return the number of times the acquisition thread was woken up before its wait time passed, because a job was added on this node.
+     */
+    public long getWakeUps() {
+        return wakeUps.get();
+    }
+
+    public int getLastPageSize() {
+        return lastPageSize;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncJobAcquisitionMetrics[acquireCycles=" + getAcquireCycles()
+                + ", emptyAcquireCycles=" + getEmptyAcquireCycles()
+                + ", acquiredJobs=" + getAcquiredJobs()
+                + ", rejectedJobs=" + getRejectedJobs()
+                + ", optimisticLockingFailures=" + getOptimisticLockingFailures()
+                + ", acquireErrors=" + getAcquireErrors()
+                + ", averageAcquireTimeInMillis=" + getAverageAcquireTimeInMillis()
+                + ", maxAcquireTimeInMillis=" + getMaxAcquireTimeInMillis()
+                + ", wakeUps=" + getWakeUps()
+                + "]";
+    }
+}
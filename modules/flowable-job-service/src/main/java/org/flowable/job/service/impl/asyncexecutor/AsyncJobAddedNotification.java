@@ -39,7 +39,7 @@ public class AsyncJobAddedNotification implements CommandContextCloseListener {
     }
 
     public void execute(CommandContext commandContext) {
-        asyncExecutor.executeAsyncJob(job);
+        asyncExecutor.executeAddedAsyncJob(job);
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.flowable.common.engine.impl.cfg.TransactionPropagation;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
@@ -149,6 +150,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     protected void startAdditionalComponents() {
         if (!isMessageQueueMode) {
             initAsyncJobExecutionThreadPool();
+            registerJobQueueMetrics();
             startJobAcquisitionThread();
         }
 
@@ -192,6 +194,13 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void registerJobQueueMetrics() {
+        EngineMetrics engineMetrics = jobServiceConfiguration != null ? jobServiceConfiguration.getEngineMetrics() : null;
+        if (engineMetrics != null && threadPoolQueue != null) {
+            engineMetrics.registerJobQueue(threadPoolQueue);
+        }
+    }
+
     protected void stopExecutingAsyncJobs() {
         if (executorService != null) {
 
@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
@@ -124,6 +125,8 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void executeJob(final boolean unlock) {
+        long startTime = System.nanoTime();
+        boolean successful = false;
         try {
             jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
                 @Override
@@ -138,6 +141,7 @@ public class ExecuteAsyncRunnable implements Runnable {
                     return null;
                 }
             });
+            successful = true;
 
         } catch (final FlowableOptimisticLockingException e) {
 
@@ -156,6 +160,12 @@ public class ExecuteAsyncRunnable implements Runnable {
 
         } catch (Throwable exception) {
             handleFailedJob(exception);
+
+        } finally {
+            EngineMetrics engineMetrics = jobServiceConfiguration.getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordJobExecution(job != null ? job.getJobHandlerType() : null, System.nanoTime() - startTime, successful);
+            }
         }
     }
 
@@ -190,6 +200,11 @@ public class ExecuteAsyncRunnable implements Runnable {
             jobServiceConfiguration.getCommandExecutor().execute(new LockExclusiveJobCmd(job));
 
         } catch (Throwable lockException) {
+            EngineMetrics engineMetrics = jobServiceConfiguration.getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordJobLockConflict();
+            }
+
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Could not lock exclusive job. Unlocking job so it can be acquired again. Caught exception: {}", lockException.getMessage());
             }
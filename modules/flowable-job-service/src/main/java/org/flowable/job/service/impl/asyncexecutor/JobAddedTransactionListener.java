@@ -44,6 +44,6 @@ public class JobAddedTransactionListener implements TransactionListener {
         // which would block the current connection/transaction (of the calling thread)
         // until the job has been handed of to the async executor.
         // When the connection pool is small, this might lead to contention and (temporary) locks.
-        asyncExecutor.executeAsyncJob(job);
+        asyncExecutor.executeAddedAsyncJob(job);
     }
 }
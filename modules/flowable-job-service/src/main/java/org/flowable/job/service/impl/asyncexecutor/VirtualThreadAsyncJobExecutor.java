@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.job.api.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AsyncExecutor} that executes every job on its own thread instead of on a fixed size thread pool.
+ * On a Java 21+ runtime virtual threads are used, on older runtimes it falls back to (cached) platform threads.
+ * <p>
+ * The number of jobs that are executed concurrently is limited by a {@link Semaphore} with {@link #maxConcurrentJobs} permits.
+ * When no permit is available, the job is rejected and unacquired, exactly like the {@link DefaultAsyncJobExecutor} does when its queue is full.
+ * <p>
+ * This executor is meant for jobs that mostly wait on I/O (http calls, messaging, database access),
+ * where the throughput of the {@link DefaultAsyncJobExecutor} is limited by its pool size.
+ * Note that a job holds a database connection while it executes, so the connection pool needs to be sized accordingly.
+ */
+public class VirtualThreadAsyncJobExecutor extends DefaultAsyncJobExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadAsyncJobExecutor.class);
+
+    /** The maximum number of jobs that are executed at the same time */
+    protected int maxConcurrentJobs = 256;
+
+    protected Semaphore concurrentJobsSemaphore;
+
+    public VirtualThreadAsyncJobExecutor() {
+        threadPoolNamingPattern = "flowable-async-job-executor-virtual-thread-%d";
+    }
+
+    @Override
+    protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+        if (!concurrentJobsSemaphore.tryAcquire()) {
+            unacquireJobAfterRejection(job);
+            return false;
+        }
+
+        try {
+            executorService.execute(new SemaphoreReleasingRunnable(runnable, concurrentJobsSemaphore));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            concurrentJobsSemaphore.release();
+            unacquireJobAfterRejection(job);
+            return false;
+        }
+    }
+
+    @Override
+    protected void initAsyncJobExecutionThreadPool() {
+        if (concurrentJobsSemaphore == null) {
+            concurrentJobsSemaphore = new Semaphore(maxConcurrentJobs);
+        }
+
+        if (executorService == null) {
+            executorService = createVirtualThreadPerTaskExecutor();
+            if (executorService != null) {
+                LOGGER.info("Creating virtual thread executor service with {} max concurrent jobs", maxConcurrentJobs);
+
+            } else {
+                LOGGER.info("Virtual threads are not supported by this runtime, creating thread per job executor service with {} max concurrent jobs", maxConcurrentJobs);
+                executorService = Executors.newCachedThreadPool(new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build());
+            }
+        }
+    }
+
+    protected ExecutorService createVirtualThreadPerTaskExecutor() {
+        try {
+            // Looked up reflectively, as the job service is compiled against older Java versions
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        if (concurrentJobsSemaphore != null) {
+            return concurrentJobsSemaphore.availablePermits();
+        } else {
+            return maxConcurrentJobs;
+        }
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public Semaphore getConcurrentJobsSemaphore() {
+        return concurrentJobsSemaphore;
+    }
+
+    public void setConcurrentJobsSemaphore(Semaphore concurrentJobsSemaphore) {
+        this.concurrentJobsSemaphore = concurrentJobsSemaphore;
+    }
+
+    protected static class SemaphoreReleasingRunnable implements Runnable {
+
+        protected final Runnable runnable;
+        protected final Semaphore semaphore;
+
+        public SemaphoreReleasingRunnable(Runnable runnable, Semaphore semaphore) {
+            this.runnable = runnable;
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public void run() {
+            try {
+                runnable.run();
+            } finally {
+                semaphore.release();
+            }
+        }
+    }
+
+}
@@ -32,23 +32,31 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
 
     private final AsyncExecutor asyncExecutor;
     private final int remainingCapacity;
+    private final int maxJobsPerAcquisition;
     private final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     
     public AcquireJobsCmd(AsyncExecutor asyncExecutor) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = Integer.MAX_VALUE;
+        this.maxJobsPerAcquisition = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
         this.jobEntityManager = asyncExecutor.getJobServiceConfiguration().getJobEntityManager(); // backwards compatibility
     }
 
     public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this(asyncExecutor, remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition(), jobEntityManager);
+    }
+
+    public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, int maxJobsPerAcquisition,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = remainingCapacity;
+        this.maxJobsPerAcquisition = maxJobsPerAcquisition;
         this.jobEntityManager = jobEntityManager;
     }
 
     @Override
     public AcquiredJobEntities execute(CommandContext commandContext) {
-        int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        int maxResults = Math.min(remainingCapacity, maxJobsPerAcquisition);
 
         List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
@@ -38,6 +38,11 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
         return persistentState;
     }
 
+    @Override
+    public boolean isDirtyTrackingSupported() {
+        return true;
+    }
+
     // getters and setters ////////////////////////////////////////////////////////
 
     @Override
@@ -47,6 +52,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     @Override
     public void setLockOwner(String claimedBy) {
+        markDirty();
         this.lockOwner = claimedBy;
     }
 
@@ -57,6 +63,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
+        markDirty();
         this.lockExpirationTime = claimedUntil;
     }
 
@@ -63,7 +63,11 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         params.setFirstResult(page.getFirstResult());
         params.setMaxResults(page.getMaxResults());
         params.setOrderByColumns("CREATE_TIME_ ASC");
-        return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
+        String statement = "selectHistoryJobsToExecute";
+        if (jobServiceConfiguration.isSkipLockedJobAcquisitionEnabled() && getDbSqlSession().getDbSqlSessionFactory().isSkipLockedSupported()) {
+            statement = "selectHistoryJobsToExecuteSkipLocked";
+        }
+        return getDbSqlSession().selectList(statement, params);
     }
 
     @Override
@@ -63,7 +63,11 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
         
-        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+        String statement = "selectJobsToExecute";
+        if (jobServiceConfiguration.isSkipLockedJobAcquisitionEnabled() && getDbSqlSession().getDbSqlSessionFactory().isSkipLockedSupported()) {
+            statement = "selectJobsToExecuteSkipLocked";
+        }
+        return getDbSqlSession().selectList(statement, params, page);
     }
 
     @Override
@@ -79,7 +79,11 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         Date now = jobServiceConfiguration.getClock().getCurrentTime();
         params.put("now", now);
         
-        return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
+        String statement = "selectTimerJobsToExecute";
+        if (jobServiceConfiguration.isSkipLockedJobAcquisitionEnabled() && getDbSqlSession().getDbSqlSessionFactory().isSkipLockedSupported()) {
+            statement = "selectTimerJobsToExecuteSkipLocked";
+        }
+        return getDbSqlSession().selectList(statement, params, page);
     }
 
     @Override
@@ -48,7 +48,7 @@ public class OsgiScriptingEngines extends ScriptingEngines {
     }
 
     @Override
-    protected Object evaluate(String script, String language, Bindings bindings) {
+    protected Object evaluate(String script, String language, Bindings bindings, String deploymentId, String scriptId) {
         ScriptEngine scriptEngine = null;
         try {
             scriptEngine = Extender.resolveScriptEngine(language);
@@ -57,7 +57,7 @@ public class OsgiScriptingEngines extends ScriptingEngines {
         }
 
         if (scriptEngine == null) {
-            return super.evaluate(script, language, bindings);
+            return super.evaluate(script, language, bindings, deploymentId, scriptId);
         }
 
         try {
@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.app.spring.SpringAppEngineConfiguration;
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.dmn.spring.SpringDmnEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.app.AppEngineAutoConfiguration;
+import org.flowable.spring.boot.cmmn.CmmnEngineAutoConfiguration;
+import org.flowable.spring.boot.condition.ConditionalOnAppEngine;
+import org.flowable.spring.boot.condition.ConditionalOnCmmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnDmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnProcessEngine;
+import org.flowable.spring.boot.dmn.DmnEngineAutoConfiguration;
+import org.flowable.spring.job.service.SpringAsyncExecutor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Publishes the metrics of the Flowable engines (commands, agenda operations, flushes, jobs and deployment caches) to the
+ * Micrometer {@link MeterRegistry} of the application. The meters of each engine are tagged with {@code engine}.
+ * It can be disabled with the {@code flowable.metrics.enabled} property. A percentile histogram of the command execution
+ * times is only published when {@code flowable.metrics.percentile-histogram} is enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "flowable.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@AutoConfigureAfter(name = {
+    "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+    "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+})
+@AutoConfigureBefore({
+    ProcessEngineAutoConfiguration.class,
+    CmmnEngineAutoConfiguration.class,
+    DmnEngineAutoConfiguration.class,
+    AppEngineAutoConfiguration.class
+})
+@EnableConfigurationProperties(FlowableMetricsProperties.class)
+public class FlowableMetricsAutoConfiguration {
+
+    protected static MicrometerEngineMetrics createEngineMetrics(MeterRegistry meterRegistry, FlowableMetricsProperties metricsProperties, String engine) {
+        return new MicrometerEngineMetrics(meterRegistry, Tags.of("engine", engine), metricsProperties.isPercentileHistogram());
+    }
+
+    /**
+     * The Spring async executor hands the jobs to a task executor instead of its own thread pool queue,
+     * so the queue of that task executor is the one that is measured.
+     */
+    protected static void registerTaskExecutorQueue(MicrometerEngineMetrics engineMetrics, AsyncExecutor asyncExecutor) {
+        if (asyncExecutor instanceof SpringAsyncExecutor) {
+            TaskExecutor taskExecutor = ((SpringAsyncExecutor) asyncExecutor).getTaskExecutor();
+            if (taskExecutor instanceof ThreadPoolTaskExecutor) {
+                engineMetrics.registerJobQueue(((ThreadPoolTaskExecutor) taskExecutor).getThreadPoolExecutor().getQueue());
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProcessEngine
+    public static class ProcessEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsProcessEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurationConfigurer(MeterRegistry meterRegistry,
+                FlowableMetricsProperties metricsProperties) {
+            return engineConfiguration -> {
+                MicrometerEngineMetrics engineMetrics = createEngineMetrics(meterRegistry, metricsProperties, "bpmn");
+                engineConfiguration.setEngineMetrics(engineMetrics);
+                registerTaskExecutorQueue(engineMetrics, engineConfiguration.getAsyncExecutor());
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnCmmnEngine
+    public static class CmmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsCmmnEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> metricsCmmnEngineConfigurationConfigurer(MeterRegistry meterRegistry,
+                FlowableMetricsProperties metricsProperties) {
+            return engineConfiguration -> {
+                MicrometerEngineMetrics engineMetrics = createEngineMetrics(meterRegistry, metricsProperties, "cmmn");
+                engineConfiguration.setEngineMetrics(engineMetrics);
+                registerTaskExecutorQueue(engineMetrics, engineConfiguration.getAsyncExecutor());
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnDmnEngine
+    public static class DmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsDmnEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringDmnEngineConfiguration> metricsDmnEngineConfigurationConfigurer(MeterRegistry meterRegistry,
+                FlowableMetricsProperties metricsProperties) {
+            return engineConfiguration -> engineConfiguration.setEngineMetrics(createEngineMetrics(meterRegistry, metricsProperties, "dmn"));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnAppEngine
+    public static class AppEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsAppEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringAppEngineConfiguration> metricsAppEngineConfigurationConfigurer(MeterRegistry meterRegistry,
+                FlowableMetricsProperties metricsProperties) {
+            return engineConfiguration -> engineConfiguration.setEngineMetrics(createEngineMetrics(meterRegistry, metricsProperties, "app"));
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link EngineMetrics} that publishes the metrics of an engine to a Micrometer {@link MeterRegistry}.
+ * All meters are tagged with the given tags, which typically identify the engine.
+ */
+public class MicrometerEngineMetrics implements EngineMetrics {
+
+    protected static final String UNKNOWN = "unknown";
+
+    protected final MeterRegistry meterRegistry;
+    protected final Tags tags;
+    protected final boolean percentileHistogram;
+
+    protected final Map<String, Timer> successfulCommandTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> failedCommandTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> successfulJobTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> failedJobTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Counter> deploymentCacheHitCounters = new ConcurrentHashMap<>();
+    protected final Map<String, Counter> deploymentCacheMissCounters = new ConcurrentHashMap<>();
+
+    protected final DistributionSummary agendaOperations;
+    protected final Timer flushTimer;
+    protected final Counter flushInserts;
+    protected final Counter flushUpdates;
+    protected final Counter flushDeletes;
+    protected final DistributionSummary entityCacheSize;
+    protected final Counter acquiredJobs;
+    protected final Counter acquiredTimerJobs;
+    protected final Counter jobLockConflicts;
+    protected final Counter rejectedJobs;
+
+    public MicrometerEngineMetrics(MeterRegistry meterRegistry, Iterable<Tag> tags) {
+        this(meterRegistry, tags, false);
+    }
+
+    /**
+     * @param percentileHistogram whether a percentile histogram should be published for the command execution times
+     */
+    public MicrometerEngineMetrics(MeterRegistry meterRegistry, Iterable<Tag> tags, boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.tags = Tags.of(tags);
+        this.percentileHistogram = percentileHistogram;
+
+        this.agendaOperations = DistributionSummary.builder("flowable.agenda.operations")
+                .description("The number of agenda operations executed per command")
+                .tags(this.tags)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("flowable.db.flush")
+                .description("The time spent flushing the changes of a command to the database")
+                .tags(this.tags)
+                .register(meterRegistry);
+        this.flushInserts = flushCounter("insert");
+        this.flushUpdates = flushCounter("update");
+        this.flushDeletes = flushCounter("delete");
+        this.entityCacheSize = DistributionSummary.builder("flowable.entity.cache.size")
+                .description("The number of entities in the entity cache of a command when it is flushed")
+                .tags(this.tags)
+                .register(meterRegistry);
+        this.acquiredJobs = jobsAcquiredCounter("async");
+        this.acquiredTimerJobs = jobsAcquiredCounter("timer");
+        this.jobLockConflicts = Counter.builder("flowable.jobs.lock.conflicts")
+                .description("The number of jobs that couldn't be acquired or locked because another async executor changed them first")
+                .tags(this.tags)
+                .register(meterRegistry);
+        this.rejectedJobs = Counter.builder("flowable.jobs.rejected")
+                .description("The number of jobs that couldn't be handed to the async executor because its queue was full")
+                .tags(this.tags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordCommand(String commandName, long durationInNanos, boolean successful) {
+        Map<String, Timer> timers = successful ? successfulCommandTimers : failedCommandTimers;
+        timers.computeIfAbsent(commandName, name -> Timer.builder("flowable.command")
+                .description("The execution time of the engine commands")
+                .tags(tags)
+                .tag("command", name)
+                .tag("outcome", outcome(successful))
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry))
+                .record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordAgendaOperations(int operationCount) {
+        agendaOperations.record(operationCount);
+    }
+
+    @Override
+    public void recordFlush(int insertCount, int updateCount, int deleteCount, long durationInNanos) {
+        flushTimer.record(durationInNanos, TimeUnit.NANOSECONDS);
+        flushInserts.increment(insertCount);
+        flushUpdates.increment(updateCount);
+        flushDeletes.increment(deleteCount);
+    }
+
+    @Override
+    public void recordEntityCacheSize(int cachedEntityCount) {
+        entityCacheSize.record(cachedEntityCount);
+    }
+
+    @Override
+    public void recordJobsAcquired(int acquiredJobCount) {
+        acquiredJobs.increment(acquiredJobCount);
+    }
+
+    @Override
+    public void recordTimerJobsAcquired(int acquiredTimerJobCount) {
+        acquiredTimerJobs.increment(acquiredTimerJobCount);
+    }
+
+    @Override
+    public void recordJobLockConflict() {
+        jobLockConflicts.increment();
+    }
+
+    @Override
+    public void recordJobRejected() {
+        rejectedJobs.increment();
+    }
+
+    @Override
+    public void registerJobQueue(Collection<?> jobQueue) {
+        Gauge.builder("flowable.jobs.queue.size", jobQueue, Collection::size)
+                .description("The number of jobs waiting in the queue of the async executor")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordJobExecution(String jobHandlerType, long durationInNanos, boolean successful) {
+        Map<String, Timer> timers = successful ? successfulJobTimers : failedJobTimers;
+        timers.computeIfAbsent(jobHandlerType != null ? jobHandlerType : UNKNOWN, handlerType -> Timer.builder("flowable.jobs.execution")
+                .description("The execution time of the jobs executed by the async executor")
+                .tags(tags)
+                .tag("handler", handlerType)
+                .tag("outcome", outcome(successful))
+                .register(meterRegistry))
+                .record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordDeploymentCacheAccess(String cacheName, boolean hit) {
+        Map<String, Counter> counters = hit ? deploymentCacheHitCounters : deploymentCacheMissCounters;
+        counters.computeIfAbsent(cacheName, name -> Counter.builder("flowable.deployment.cache.gets")
+                .description("The number of times a definition was looked up in the deployment cache")
+                .tags(tags)
+                .tag("cache", name)
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry))
+                .increment();
+    }
+
+    protected Counter flushCounter(String operation) {
+        return Counter.builder("flowable.db.flush.entities")
+                .description("The number of entities written to the database by the flushes")
+                .tags(tags)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    protected Counter jobsAcquiredCounter(String type) {
+        return Counter.builder("flowable.jobs.acquired")
+                .description("The number of jobs acquired by the async executor")
+                .tags(tags)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    protected String outcome(boolean successful) {
+        return successful ? "success" : "failure";
+    }
+
+}
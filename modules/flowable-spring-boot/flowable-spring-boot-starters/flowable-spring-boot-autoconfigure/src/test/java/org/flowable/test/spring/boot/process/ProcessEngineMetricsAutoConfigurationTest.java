@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.spring.boot.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.flowable.test.spring.boot.util.DeploymentCleanerUtil.deleteDeployments;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.ProcessEngineServicesAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.FlowableMetricsAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.MicrometerEngineMetrics;
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ProcessEngineMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            FlowableMetricsAutoConfiguration.class,
+            ProcessEngineServicesAutoConfiguration.class,
+            ProcessEngineAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            DataSourceAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+        ))
+        .withUserConfiguration(MeterRegistryConfiguration.class)
+        .withClassLoader(new FilteredClassLoader(EntityManagerFactory.class));
+
+    @Test
+    public void processEngineMetricsArePublished() {
+        contextRunner.run(context -> {
+            ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+            assertThat(processEngine.getProcessEngineConfiguration().getEngineMetrics()).isInstanceOf(MicrometerEngineMetrics.class);
+
+            processEngine.getRuntimeService().createProcessInstanceQuery().list();
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            Timer commandTimer = meterRegistry.find("flowable.command")
+                .tag("engine", "bpmn")
+                .tag("outcome", "success")
+                .timer();
+            assertThat(commandTimer).isNotNull();
+            assertThat(commandTimer.count()).isGreaterThan(0);
+            assertThat(commandTimer.takeSnapshot().histogramCounts()).isEmpty();
+
+            Gauge jobQueueSize = meterRegistry.find("flowable.jobs.queue.size")
+                .tag("engine", "bpmn")
+                .gauge();
+            assertThat(jobQueueSize).isNotNull();
+            assertThat(jobQueueSize.value()).isZero();
+
+            deleteDeployments(processEngine);
+        });
+    }
+
+    @Test
+    public void percentileHistogramCanBeEnabled() {
+        contextRunner.withPropertyValues("flowable.metrics.percentile-histogram=true")
+            .run(context -> {
+                ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+                processEngine.getRuntimeService().createProcessInstanceQuery().list();
+
+                Timer commandTimer = context.getBean(MeterRegistry.class).find("flowable.command")
+                    .tag("engine", "bpmn")
+                    .tag("outcome", "success")
+                    .timer();
+                assertThat(commandTimer).isNotNull();
+                assertThat(commandTimer.takeSnapshot().histogramCounts()).isNotEmpty();
+
+                deleteDeployments(processEngine);
+            });
+    }
+
+    @Test
+    public void metricsCanBeDisabled() {
+        contextRunner.withPropertyValues("flowable.metrics.enabled=false")
+            .run(context -> {
+                ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+                assertThat(processEngine.getProcessEngineConfiguration().getEngineMetrics()).isNull();
+                assertThat(context.getBean(MeterRegistry.class).find("flowable.command").timers()).isEmpty();
+
+                deleteDeployments(processEngine);
+            });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+}
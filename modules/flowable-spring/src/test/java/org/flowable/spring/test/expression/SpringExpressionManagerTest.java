@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.test.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.el.DynamicBeanPropertyELResolver;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.flowable.spring.SpringExpressionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Tests the resolver chain of the {@link SpringExpressionManager}.
+ */
+public class SpringExpressionManagerTest {
+
+    @Test
+    public void testBeanPropertyResolvedFromApplicationContext() {
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.registerSingleton("customer", Customer.class);
+        applicationContext.refresh();
+
+        SpringExpressionManager expressionManager = new SpringExpressionManager(applicationContext, null);
+        Object value = expressionManager.createExpression("${customer.name}").getValue(new VariableContainerWrapper(Collections.emptyMap()));
+
+        assertThat(value).isEqualTo("Kermit");
+    }
+
+    @Test
+    public void testBeanPropertyResolvedFromLimitedBeans() {
+        SpringExpressionManager expressionManager = new SpringExpressionManager(null, Collections.singletonMap("customer", new Customer()));
+        Object value = expressionManager.createExpression("${customer.name == 'Kermit'}").getValue(new VariableContainerWrapper(Collections.emptyMap()));
+
+        assertThat(value).isEqualTo(true);
+    }
+
+    @Test
+    public void testResolverChainHasNoItemInstanceResolver() {
+        List<ELResolver> configuredResolvers = new ArrayList<>();
+        SpringExpressionManager expressionManager = new SpringExpressionManager(null, Collections.singletonMap("customer", new Customer())) {
+
+            @Override
+            protected void configureResolvers(List<ELResolver> elResolvers) {
+                super.configureResolvers(elResolvers);
+                configuredResolvers.addAll(elResolvers);
+            }
+        };
+        Map<String, Object> variables = Collections.singletonMap("amount", 10);
+        expressionManager.createExpression("${amount}").getValue(new VariableContainerWrapper(variables));
+
+        assertThat(configuredResolvers)
+                .isNotEmpty()
+                .noneMatch(resolver -> resolver instanceof DynamicBeanPropertyELResolver);
+    }
+
+    public static class Customer {
+
+        public String getName() {
+            return "Kermit";
+        }
+    }
+
+}
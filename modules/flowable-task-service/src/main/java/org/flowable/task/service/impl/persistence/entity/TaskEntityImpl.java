@@ -191,9 +191,15 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void forceUpdate() {
+        markDirty();
         this.forcedUpdate = true;
     }
 
+    @Override
+    public boolean isDirtyTrackingSupported() {
+        return true;
+    }
+
     // variables //////////////////////////////////////////////////////////////////
 
     @Override
@@ -271,16 +277,19 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setName(String taskName) {
+        markDirty();
         this.name = taskName;
     }
 
     @Override
     public void setDescription(String description) {
+        markDirty();
         this.description = description;
     }
 
     @Override
     public void setAssignee(String assignee) {
+        markDirty();
         this.originalAssignee = this.assignee;
         this.assignee = assignee;
         assigneeUpdatedCount++;
@@ -288,6 +297,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     
     @Override
     public void setAssigneeValue(String assignee) {
+        markDirty();
         InternalTaskAssignmentManager taskAssignmentManager = getTaskAssignmentManager();
         if (taskAssignmentManager != null) {
             taskAssignmentManager.changeAssignee(this, assignee);
@@ -300,11 +310,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setOwner(String owner) {
+        markDirty();
         this.owner = owner;
     }
     
     @Override
     public void setOwnerValue(String owner) {
+        markDirty();
         InternalTaskAssignmentManager taskAssignmentManager = getTaskAssignmentManager();
         if (taskAssignmentManager != null) {
             taskAssignmentManager.changeOwner(this, owner);
@@ -315,16 +327,19 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setDueDate(Date dueDate) {
+        markDirty();
         this.dueDate = dueDate;
     }
 
     @Override
     public void setPriority(int priority) {
+        markDirty();
         this.priority = priority;
     }
 
     @Override
     public void setCategory(String category) {
+        markDirty();
         this.category = category;
     }
 
@@ -372,6 +387,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setParentTaskId(String parentTaskId) {
+        markDirty();
         this.parentTaskId = parentTaskId;
     }
 
@@ -382,6 +398,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setFormKey(String formKey) {
+        markDirty();
         this.formKey = formKey;
     }
 
@@ -468,6 +485,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setCreateTime(Date createTime) {
+        markDirty();
         this.createTime = createTime;
     }
 
@@ -488,6 +506,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -498,6 +517,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setTaskDefinitionId(String taskDefinitionId) {
+        markDirty();
         this.taskDefinitionId = taskDefinitionId;
     }
 
@@ -508,6 +528,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
 
@@ -518,6 +539,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -528,6 +550,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -538,11 +561,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
+        markDirty();
         this.scopeDefinitionId = scopeDefinitionId;
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        markDirty();
         this.propagatedStageInstanceId = propagatedStageInstanceId;
     }
 
@@ -572,6 +597,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setTaskDefinitionKey(String taskDefinitionKey) {
+        markDirty();
         this.taskDefinitionKey = taskDefinitionKey;
     }
 
@@ -597,11 +623,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
 
@@ -671,6 +699,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setDelegationState(DelegationState delegationState) {
+        markDirty();
         this.delegationState = delegationState;
     }
 
@@ -679,6 +708,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     }
 
     public void setDelegationStateString(String delegationStateString) {
+        markDirty();
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
     }
 
@@ -720,6 +750,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty();
         this.suspensionState = suspensionState;
     }
 
@@ -799,6 +830,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setClaimTime(Date claimTime) {
+        markDirty();
         this.claimTime = claimTime;
     }
 
@@ -814,11 +846,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty();
         this.isCountEnabled = isCountEnabled;
     }
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty();
         this.variableCount = variableCount;
     }
 
@@ -829,6 +863,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty();
         this.identityLinkCount = identityLinkCount;
     }
 
@@ -844,6 +879,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSubTaskCount(int subTaskCount) {
+        markDirty();
         this.subTaskCount = subTaskCount;
     }
     
@@ -47,6 +47,12 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> taskNames);
 
+    /**
+     * Fetches the variable with the given name of each of the given executions of a process instance with a single query.
+     * Executions that don't have such a variable are not represented in the result.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByProcessInstanceAndExecutionsAndName(String processInstanceId, Collection<String> executionIds, String variableName);
+
     List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType);
 
     VariableInstanceEntity findVariableInstanceByScopeIdAndScopeTypeAndName(String scopeId, String scopeType, String variableName);
@@ -29,6 +29,7 @@ import org.flowable.variable.service.impl.persistence.entity.data.VariableInstan
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisHistoricVariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableByteArrayDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
+import org.flowable.variable.service.impl.storage.VariableContentStorage;
 
 /**
  * @author Tijs Rademakers
@@ -74,6 +75,13 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
      * By default true for backwards compatibility.
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * When set, the content of variable byte arrays that is larger than the {@link #variableContentStorageThreshold} (in bytes)
+     * is stored in this storage instead of the database, which then only keeps a reference to it.
+     */
+    protected VariableContentStorage variableContentStorage;
+    protected int variableContentStorageThreshold = 64 * 1024;
     
     public VariableServiceConfiguration(String engineName) {
         super(engineName);
@@ -236,4 +244,22 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
     public void setSerializableVariableTypeTrackDeserializedObjects(boolean serializableVariableTypeTrackDeserializedObjects) {
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
+
+    public VariableContentStorage getVariableContentStorage() {
+        return variableContentStorage;
+    }
+
+    public VariableServiceConfiguration setVariableContentStorage(VariableContentStorage variableContentStorage) {
+        this.variableContentStorage = variableContentStorage;
+        return this;
+    }
+
+    public int getVariableContentStorageThreshold() {
+        return variableContentStorageThreshold;
+    }
+
+    public VariableServiceConfiguration setVariableContentStorageThreshold(int variableContentStorageThreshold) {
+        this.variableContentStorageThreshold = variableContentStorageThreshold;
+        return this;
+    }
 }
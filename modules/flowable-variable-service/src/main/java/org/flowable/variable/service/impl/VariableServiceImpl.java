@@ -83,6 +83,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstancesByExecutionAndNames(executionId, taskNames);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceAndExecutionsAndName(String processInstanceId, Collection<String> executionIds, String variableName) {
+        return getVariableInstanceEntityManager().findVariableInstancesByProcessInstanceAndExecutionsAndName(processInstanceId, executionIds, variableName);
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType) {
         return getVariableInstanceEntityManager().findVariableInstanceByScopeIdAndScopeType(scopeId, scopeType);
@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.util.Date;
 
 import org.flowable.common.engine.impl.db.HasRevision;
@@ -51,4 +52,14 @@ public interface HistoricVariableInstanceEntity extends ValueFields, HistoricVar
 
     VariableByteArrayRef getByteArrayRef();
 
+    /**
+     * Returns the byte array value as a stream that is read lazily, without loading it in memory.
+     */
+    InputStream getContentStream();
+
+    /**
+     * Sets the byte array value to a copy of the given byte array, made within the database.
+     */
+    void copyContentStream(VariableByteArrayRef byteArrayRef);
+
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.HashMap;
@@ -106,6 +107,22 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
         byteArrayRef.setValue("hist.var-" + name, bytes);
     }
 
+    @Override
+    public InputStream getContentStream() {
+        if (byteArrayRef != null) {
+            return byteArrayRef.getContentStream();
+        }
+        return null;
+    }
+
+    @Override
+    public void copyContentStream(VariableByteArrayRef byteArrayRef) {
+        if (this.byteArrayRef == null) {
+            this.byteArrayRef = new VariableByteArrayRef();
+        }
+        this.byteArrayRef.copyContentFrom("hist.var-" + name, byteArrayRef);
+    }
+
     // getters and setters //////////////////////////////////////////////////////
 
     @Override
@@ -23,6 +23,7 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariableInstanceDataManager;
+import org.flowable.variable.service.impl.types.InputStreamType;
 
 /**
  * @author Christian Lipphardt (camunda)
@@ -69,7 +70,12 @@ public class HistoricVariableInstanceEntityManagerImpl
 
         historicVariableInstance.setVariableType(variableInstance.getType());
         if (variableInstance.getByteArrayRef() != null) {
-            historicVariableInstance.setBytes(variableInstance.getBytes());
+            if (variableInstance.getType() instanceof InputStreamType) {
+                // copied within the database, as the content of a stream isn't loaded in memory
+                historicVariableInstance.copyContentStream(variableInstance.getByteArrayRef());
+            } else {
+                historicVariableInstance.setBytes(variableInstance.getBytes());
+            }
         }
 
         historicVariableInstance.setLastUpdatedTime(updateTime);
@@ -142,14 +148,26 @@ public class HistoricVariableInstanceEntityManagerImpl
     @Override
     public void deleteHistoricVariableInstancesForNonExistingProcessInstances() {
         if (serviceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            // the byte arrays of the removed variables, and their external content, are selected before the bulk delete removes the references to them
+            List<String> byteArrayIds = dataManager.findHistoricVariableByteArrayIdsForNonExistingProcessInstances();
             dataManager.deleteHistoricVariableInstancesForNonExistingProcessInstances();
+            deleteByteArrays(byteArrayIds);
         }
     }
     
     @Override
     public void deleteHistoricVariableInstancesForNonExistingCaseInstances() {
         if (serviceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            List<String> byteArrayIds = dataManager.findHistoricVariableByteArrayIdsForNonExistingCaseInstances();
             dataManager.deleteHistoricVariableInstancesForNonExistingCaseInstances();
+            deleteByteArrays(byteArrayIds);
+        }
+    }
+
+    protected void deleteByteArrays(List<String> byteArrayIds) {
+        VariableByteArrayEntityManager byteArrayEntityManager = serviceConfiguration.getByteArrayEntityManager();
+        for (String byteArrayId : byteArrayIds) {
+            byteArrayEntityManager.deleteByteArrayById(byteArrayId);
         }
     }
 
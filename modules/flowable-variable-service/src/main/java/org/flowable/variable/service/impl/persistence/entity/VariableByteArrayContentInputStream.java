@@ -0,0 +1,182 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.persistence.entity;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.variable.service.impl.util.CommandContextUtil;
+
+/**
+ * An {@link InputStream} over the content of a {@link VariableByteArrayEntity}, which is only read from the database when the stream is first read.
+ *
+ * The content is streamed from the JDBC driver to a temporary file, so it is never held in memory as a whole.
+ * The temporary file is deleted when the stream is closed or has been read completely. When the content is first read within a command,
+ * the stream is also closed when that command context is closed, so it can't be read after the command has completed.
+ */
+public class VariableByteArrayContentInputStream extends InputStream {
+
+    protected String byteArrayId;
+    protected CommandExecutor commandExecutor;
+
+    protected File contentFile;
+    protected InputStream contentStream;
+    protected boolean closed;
+
+    public VariableByteArrayContentInputStream(String byteArrayId, CommandExecutor commandExecutor) {
+        this.byteArrayId = byteArrayId;
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int result = getContentStream().read();
+        if (result == -1) {
+            releaseContentFile();
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int result = getContentStream().read(b, off, len);
+        if (result == -1) {
+            releaseContentFile();
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return getContentStream().skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return getContentStream().available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            if (contentStream != null) {
+                contentStream.close();
+            }
+        } finally {
+            deleteContentFile();
+        }
+    }
+
+    /**
+     * Deletes the temporary file once all content has been read, the stream keeps returning the end of the stream until it is closed.
+     */
+    protected void releaseContentFile() throws IOException {
+        if (contentFile != null) {
+            try {
+                contentStream.close();
+            } finally {
+                deleteContentFile();
+                contentStream = new ByteArrayInputStream(new byte[0]);
+            }
+        }
+    }
+
+    protected void deleteContentFile() {
+        if (contentFile != null) {
+            contentFile.delete();
+            contentFile = null;
+        }
+    }
+
+    protected InputStream getContentStream() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        if (contentStream == null) {
+            contentFile = File.createTempFile("flowable-variable-", ".bin");
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(contentFile))) {
+                CommandContext commandContext = CommandContextUtil.getCommandContext();
+                if (commandContext != null) {
+                    CommandContextUtil.getByteArrayEntityManager(commandContext).readByteArrayContent(byteArrayId, out);
+                    commandContext.addCloseListener(new CloseContentStreamListener(this));
+                } else if (commandExecutor != null) {
+                    commandExecutor.execute(context -> {
+                        CommandContextUtil.getByteArrayEntityManager(context).readByteArrayContent(byteArrayId, out);
+                        return null;
+                    });
+                } else {
+                    throw new IllegalStateException("Cannot read byte array content. There is no command context and there is no command executor");
+                }
+            } catch (RuntimeException | IOException e) {
+                deleteContentFile();
+                throw e;
+            }
+            contentStream = new BufferedInputStream(new FileInputStream(contentFile));
+        }
+        return contentStream;
+    }
+
+    /**
+     * Closes the content stream (deleting its temporary file) when the command context in which the content was read is closed.
+     */
+    protected static class CloseContentStreamListener implements CommandContextCloseListener {
+
+        protected VariableByteArrayContentInputStream contentInputStream;
+
+        public CloseContentStreamListener(VariableByteArrayContentInputStream contentInputStream) {
+            this.contentInputStream = contentInputStream;
+        }
+
+        @Override
+        public void closing(CommandContext commandContext) {
+        }
+
+        @Override
+        public void afterSessionsFlush(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closed(CommandContext commandContext) {
+            IoUtil.closeSilently(contentInputStream);
+        }
+
+        @Override
+        public void closeFailure(CommandContext commandContext) {
+            IoUtil.closeSilently(contentInputStream);
+        }
+
+        @Override
+        public Integer order() {
+            return 100;
+        }
+
+        @Override
+        public boolean multipleAllowed() {
+            return true;
+        }
+    }
+
+}
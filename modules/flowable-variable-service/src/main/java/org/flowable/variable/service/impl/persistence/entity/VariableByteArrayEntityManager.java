@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -32,4 +34,44 @@ public interface VariableByteArrayEntityManager extends EntityManager<VariableBy
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
-}
\ No newline at end of file
+    /**
+     * Inserts a new byte array with the given content directly in the database, streaming the content to the JDBC driver instead of
+     * keeping it in memory until the flush. Returns the id of the new byte array.
+     */
+    String insertByteArrayContent(String name, InputStream content);
+
+    /**
+     * Copies the byte array with the given id to a new byte array within the database, without loading its content in memory.
+     * Returns the id of the new byte array.
+     */
+    String copyByteArray(String sourceByteArrayId, String name);
+
+    /**
+     * Writes the content of the byte array with the given id to the given stream, reading it from the JDBC driver as a stream.
+     */
+    void readByteArrayContent(String byteArrayId, OutputStream target);
+
+    /**
+     * Returns whether the given content is to be stored in the configured {@link org.flowable.variable.service.impl.storage.VariableContentStorage}
+     * instead of the database, i.e. whether a storage is configured and the content exceeds its threshold.
+     */
+    boolean isExternalContent(byte[] content);
+
+    /**
+     * Stores the content of the byte array with the given id in the configured external storage.
+     * The stored content is removed again when the current transaction is rolled back.
+     */
+    void storeExternalContent(String byteArrayId, byte[] content);
+
+    /**
+     * Returns the content of the byte array with the given id from the configured external storage,
+     * or null if there is no storage or it doesn't contain the byte array.
+     */
+    byte[] findExternalContent(String byteArrayId);
+
+    /**
+     * Deletes the content of the byte array with the given id from the configured external storage, once the current transaction has committed.
+     */
+    void deleteExternalContent(String byteArrayId);
+
+}
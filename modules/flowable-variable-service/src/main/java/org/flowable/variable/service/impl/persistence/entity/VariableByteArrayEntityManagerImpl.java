@@ -13,11 +13,17 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableByteArrayDataManager;
+import org.flowable.variable.service.impl.storage.VariableContentStorage;
 
 /**
  * @author Joram Barrez
@@ -36,9 +42,71 @@ public class VariableByteArrayEntityManagerImpl
         return dataManager.findAll();
     }
 
+    @Override
+    public void delete(VariableByteArrayEntity entity, boolean fireDeleteEvent) {
+        super.delete(entity, fireDeleteEvent);
+        deleteExternalContent(entity.getId());
+    }
+
     @Override
     public void deleteByteArrayById(String byteArrayEntityId) {
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
+        deleteExternalContent(byteArrayEntityId);
+    }
+
+    @Override
+    public String insertByteArrayContent(String name, InputStream content) {
+        return dataManager.insertByteArrayContent(name, content);
+    }
+
+    @Override
+    public String copyByteArray(String sourceByteArrayId, String name) {
+        return dataManager.copyByteArray(sourceByteArrayId, name);
+    }
+
+    @Override
+    public void readByteArrayContent(String byteArrayId, OutputStream target) {
+        dataManager.readByteArrayContent(byteArrayId, target);
+    }
+
+    @Override
+    public boolean isExternalContent(byte[] content) {
+        return content != null && serviceConfiguration.getVariableContentStorage() != null
+                && content.length > serviceConfiguration.getVariableContentStorageThreshold();
+    }
+
+    @Override
+    public void storeExternalContent(String byteArrayId, byte[] content) {
+        VariableContentStorage contentStorage = serviceConfiguration.getVariableContentStorage();
+        contentStorage.storeContent(byteArrayId, content);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            // the row referencing the content is never inserted
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, commandContext -> contentStorage.deleteContent(byteArrayId));
+        }
+    }
+
+    @Override
+    public byte[] findExternalContent(String byteArrayId) {
+        VariableContentStorage contentStorage = serviceConfiguration.getVariableContentStorage();
+        return contentStorage != null ? contentStorage.getContent(byteArrayId) : null;
+    }
+
+    @Override
+    public void deleteExternalContent(String byteArrayId) {
+        VariableContentStorage contentStorage = serviceConfiguration.getVariableContentStorage();
+        if (contentStorage == null || byteArrayId == null) {
+            return;
+        }
+
+        // the content is only deleted when the deletion of the row referencing it is committed
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> contentStorage.deleteContent(byteArrayId));
+        } else {
+            contentStorage.deleteContent(byteArrayId);
+        }
     }
 
 }
@@ -12,7 +12,10 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.util.function.Function;
 
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -36,6 +39,9 @@ public class VariableByteArrayRef implements Serializable {
     private VariableByteArrayEntity entity;
     protected boolean deleted;
 
+    // the content of the byte array when it is kept in the external variable content storage
+    protected byte[] externalContent;
+
     public VariableByteArrayRef() {
     }
 
@@ -55,7 +61,14 @@ public class VariableByteArrayRef implements Serializable {
 
     public byte[] getBytes() {
         ensureInitialized();
-        return (entity != null ? entity.getBytes() : null);
+        if (entity == null) {
+            return null;
+        }
+        if (entity.getBytes() == null && externalContent == null) {
+            // only a reference row: the content is in the external storage
+            externalContent = executeWithByteArrayEntityManager(byteArrayEntityManager -> byteArrayEntityManager.findExternalContent(id));
+        }
+        return entity.getBytes() != null ? entity.getBytes() : externalContent;
     }
 
     public void setValue(String name, byte[] bytes) {
@@ -64,20 +77,38 @@ public class VariableByteArrayRef implements Serializable {
     }
 
     private void setBytes(byte[] bytes) {
+        VariableByteArrayEntityManager byteArrayEntityManager = CommandContextUtil.getByteArrayEntityManager();
+        boolean external = byteArrayEntityManager.isExternalContent(bytes);
         if (id == null) {
             if (bytes != null) {
-                VariableByteArrayEntityManager byteArrayEntityManager = CommandContextUtil.getByteArrayEntityManager();
                 entity = byteArrayEntityManager.create();
                 entity.setName(name);
-                entity.setBytes(bytes);
+                entity.setBytes(external ? null : bytes);
                 byteArrayEntityManager.insert(entity);
                 id = entity.getId();
                 deleted = false;
+                if (external) {
+                    byteArrayEntityManager.storeExternalContent(id, bytes);
+                }
+                externalContent = external ? bytes : null;
             }
         } else {
             ensureInitialized();
             if (bytes != null) {
-                entity.setBytes(bytes);
+                boolean wasExternal = entity.getBytes() == null;
+                if (external) {
+                    // externally stored content always gets a new id, so that the content of the current id is never
+                    // overwritten and is still there when the transaction is rolled back
+                    delete();
+                    setBytes(bytes);
+
+                } else {
+                    entity.setBytes(bytes);
+                    externalContent = null;
+                    if (wasExternal) {
+                        byteArrayEntityManager.deleteExternalContent(id);
+                    }
+                }
             } else {
                 // If the bytes are null delete this
                 delete();
@@ -85,6 +116,53 @@ public class VariableByteArrayRef implements Serializable {
         }
     }
 
+    /**
+     * Returns the content of the byte array as a stream. Unless the byte array was already loaded, the content is only read
+     * from the database when the stream is first read, and never held in memory as a whole.
+     */
+    public InputStream getContentStream() {
+        if (entity != null) {
+            byte[] bytes = getBytes();
+            return bytes != null ? new ByteArrayInputStream(bytes) : null;
+        }
+        if (id == null) {
+            return null;
+        }
+
+        CommandExecutor contentCommandExecutor = commandExecutor;
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        if (contentCommandExecutor == null && commandContext != null && commandContext.getCurrentEngineConfiguration() != null) {
+            // needed when the stream is read after the current command has finished
+            contentCommandExecutor = commandContext.getCurrentEngineConfiguration().getCommandExecutor();
+        }
+        return new VariableByteArrayContentInputStream(id, contentCommandExecutor);
+    }
+
+    /**
+     * Replaces the content of the byte array with the given stream. The content is written to the database directly
+     * as a new byte array, streaming it to the JDBC driver instead of keeping it in memory until the flush.
+     */
+    public void setContentStream(String name, InputStream content) {
+        delete();
+        this.name = name;
+        if (content != null) {
+            id = CommandContextUtil.getByteArrayEntityManager().insertByteArrayContent(name, content);
+            deleted = false;
+        }
+    }
+
+    /**
+     * Replaces the content of the byte array with a copy of the content of the given byte array, made within the database.
+     */
+    public void copyContentFrom(String name, VariableByteArrayRef source) {
+        delete();
+        this.name = name;
+        if (source != null && source.getId() != null) {
+            id = CommandContextUtil.getByteArrayEntityManager().copyByteArray(source.getId(), name);
+            deleted = false;
+        }
+    }
+
     public VariableByteArrayEntity getEntity() {
         ensureInitialized();
         return entity;
@@ -100,6 +178,7 @@ public class VariableByteArrayRef implements Serializable {
                 CommandContextUtil.getByteArrayEntityManager().deleteByteArrayById(id);
             }
             entity = null;
+            externalContent = null;
             id = null;
             deleted = true;
         }
@@ -107,14 +186,7 @@ public class VariableByteArrayRef implements Serializable {
 
     private void ensureInitialized() {
         if (id != null && entity == null) {
-            CommandContext commandContext = CommandContextUtil.getCommandContext();
-            if (commandContext != null) {
-                entity = CommandContextUtil.getByteArrayEntityManager(commandContext).findById(id);
-            } else if (commandExecutor != null) {
-                entity = commandExecutor.execute(context -> CommandContextUtil.getByteArrayEntityManager(context).findById(id));
-            } else {
-                throw new IllegalStateException("Cannot initialize byte array. There is no command context and there is no command Executor");
-            }
+            entity = executeWithByteArrayEntityManager(byteArrayEntityManager -> byteArrayEntityManager.findById(id));
 
             if (entity != null) {
                 name = entity.getName();
@@ -122,6 +194,17 @@ public class VariableByteArrayRef implements Serializable {
         }
     }
 
+    private <T> T executeWithByteArrayEntityManager(Function<VariableByteArrayEntityManager, T> function) {
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        if (commandContext != null) {
+            return function.apply(CommandContextUtil.getByteArrayEntityManager(commandContext));
+        } else if (commandExecutor != null) {
+            return commandExecutor.execute(context -> function.apply(CommandContextUtil.getByteArrayEntityManager(context)));
+        } else {
+            throw new IllegalStateException("Cannot initialize byte array. There is no command context and there is no command Executor");
+        }
+    }
+
     public boolean isDeleted() {
         return deleted;
     }
@@ -136,6 +219,7 @@ public class VariableByteArrayRef implements Serializable {
         copy.id = id;
         copy.name = name;
         copy.entity = entity;
+        copy.externalContent = externalContent;
         copy.deleted = deleted;
         return copy;
     }
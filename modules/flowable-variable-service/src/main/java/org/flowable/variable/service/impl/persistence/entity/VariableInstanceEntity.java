@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
+
 import org.flowable.common.engine.impl.db.HasRevision;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
@@ -28,6 +30,16 @@ public interface VariableInstanceEntity extends VariableInstance, Entity, HasRev
 
     VariableByteArrayRef getByteArrayRef();
 
+    /**
+     * Returns the byte array value as a stream that is read lazily, without loading it in memory.
+     */
+    InputStream getContentStream();
+
+    /**
+     * Stores the byte array value from the given stream, writing it directly to the database.
+     */
+    void setContentStream(InputStream contentStream);
+
     VariableType getType();
 
     void setType(VariableType type);
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -81,11 +82,20 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void forceUpdate() {
+        markDirty();
         forcedUpdate = true;
     }
+
+    @Override
+    public boolean isDirtyTrackingSupported() {
+        // The id of an existing byte array ref can be changed through the ref itself,
+        // so dirty tracking is only possible when no byte array was loaded with the variable
+        return byteArrayRef == null;
+    }
     
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
@@ -109,10 +119,26 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setBytes(byte[] bytes) {
+        markDirty();
         ensureByteArrayRefInitialized();
         byteArrayRef.setValue("var-" + name, bytes);
     }
 
+    @Override
+    public InputStream getContentStream() {
+        if (byteArrayRef != null) {
+            return byteArrayRef.getContentStream();
+        }
+        return null;
+    }
+
+    @Override
+    public void setContentStream(InputStream contentStream) {
+        markDirty();
+        ensureByteArrayRefInitialized();
+        byteArrayRef.setContentStream("var-" + name, contentStream);
+    }
+
     @Override
     public VariableByteArrayRef getByteArrayRef() {
         return byteArrayRef;
@@ -145,6 +171,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -176,6 +203,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setType(VariableType type) {
+        markDirty();
         this.type = type;
     }
 
@@ -211,6 +239,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
     
@@ -221,6 +250,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -231,6 +261,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -241,6 +272,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setLongValue(Long longValue) {
+        markDirty();
         this.longValue = longValue;
     }
 
@@ -251,6 +283,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        markDirty();
         this.doubleValue = doubleValue;
     }
 
@@ -261,6 +294,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue(String textValue) {
+        markDirty();
         this.textValue = textValue;
     }
 
@@ -271,6 +305,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue2(String textValue2) {
+        markDirty();
         this.textValue2 = textValue2;
     }
 
@@ -86,6 +86,11 @@ public class VariableInstanceEntityManagerImpl
         return dataManager.findVariableInstancesByExecutionAndNames(executionId, names);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceAndExecutionsAndName(String processInstanceId, Collection<String> executionIds, String variableName) {
+        return dataManager.findVariableInstancesByProcessInstanceAndExecutionsAndName(processInstanceId, executionIds, variableName);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName) {
         return dataManager.findVariableInstanceByTaskAndName(taskId, variableName);
@@ -333,6 +333,83 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     protected abstract VariableInstanceEntity getSpecificVariable(String variableName);
 
+    /**
+     * Returns the variable with the given name of this scope or of the nearest parent scope that has it, similar to {@link #getVariableInstance(String, boolean)}.
+     *
+     * Unlike fetching all variables, only the requested variable is fetched, and unlike fetching the specific variable scope by scope,
+     * the scopes that can store their variables together (e.g. the executions of a process instance) are queried at once.
+     * The found variable is put in the used variables cache of the scope it belongs to.
+     */
+    public VariableInstance getVariableInstanceFromHierarchy(String variableName) {
+        List<VariableScopeImpl> scopesToFetch = new ArrayList<>();
+        VariableInstance cachedVariable = null;
+        VariableScopeImpl scope = this;
+        while (scope != null) {
+            cachedVariable = scope.getCachedVariableInstance(variableName);
+            if (cachedVariable != null) {
+                break;
+            }
+
+            if (scope.variableInstances == null) {
+                scopesToFetch.add(scope);
+            }
+            scope = scope.getParentVariableScope();
+        }
+
+        // Only the scopes nearer than the one with a cached variable need to be fetched
+        if (!scopesToFetch.isEmpty()) {
+            VariableInstanceEntity variable = scopesToFetch.get(0).fetchNearestVariableInstance(variableName, scopesToFetch);
+            if (variable != null) {
+                return variable;
+            }
+        }
+
+        return cachedVariable;
+    }
+
+    protected VariableInstance getCachedVariableInstance(String variableName) {
+        if (transientVariables != null && transientVariables.containsKey(variableName)) {
+            return transientVariables.get(variableName);
+        }
+
+        if (usedVariablesCache.containsKey(variableName)) {
+            return usedVariablesCache.get(variableName);
+        }
+
+        if (variableInstances != null) {
+            return variableInstances.get(variableName);
+        }
+
+        return null;
+    }
+
+    /**
+     * Fetches the variable with the given name of the nearest of the given scopes that has it. The first scope is always this scope,
+     * followed by the ancestors of which the variables haven't been fetched yet.
+     *
+     * By default, only the variable of this scope is fetched, and the remaining scopes are left to the next one.
+     * Subclasses can override this to fetch the variable of several scopes with a single query.
+     */
+    protected VariableInstanceEntity fetchNearestVariableInstance(String variableName, List<VariableScopeImpl> scopes) {
+        VariableInstanceEntity variable = getSpecificVariable(variableName);
+        if (variable != null) {
+            usedVariablesCache.put(variableName, variable);
+            return variable;
+        }
+
+        return fetchNearestVariableInstance(variableName, scopes, 1);
+    }
+
+    /**
+     * Leaves fetching the variable of the given scopes, starting from the given index, to the first of those scopes.
+     */
+    protected VariableInstanceEntity fetchNearestVariableInstance(String variableName, List<VariableScopeImpl> scopes, int fromIndex) {
+        if (fromIndex < scopes.size()) {
+            return scopes.get(fromIndex).fetchNearestVariableInstance(variableName, scopes.subList(fromIndex, scopes.size()));
+        }
+        return null;
+    }
+
     @Override
     public Object getVariableLocal(String variableName) {
         return getVariableLocal(variableName, true);
@@ -43,6 +43,10 @@ public interface HistoricVariableInstanceDataManager extends DataManager<Histori
 
     long findHistoricVariableInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    List<String> findHistoricVariableByteArrayIdsForNonExistingProcessInstances();
+
+    List<String> findHistoricVariableByteArrayIdsForNonExistingCaseInstances();
+
     void deleteHistoricVariableInstancesForNonExistingProcessInstances();
     
     void deleteHistoricVariableInstancesForNonExistingCaseInstances();
@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -26,4 +28,10 @@ public interface VariableByteArrayDataManager extends DataManager<VariableByteAr
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    String insertByteArrayContent(String name, InputStream content);
+
+    String copyByteArray(String sourceByteArrayId, String name);
+
+    void readByteArrayContent(String byteArrayId, OutputStream target);
+
 }
@@ -38,6 +38,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
 
+    List<VariableInstanceEntity> findVariableInstancesByProcessInstanceAndExecutionsAndName(String processInstanceId, Collection<String> executionIds, String variableName);
+
     VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> names);
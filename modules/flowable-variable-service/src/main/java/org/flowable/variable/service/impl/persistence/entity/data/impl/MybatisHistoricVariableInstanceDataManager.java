@@ -113,6 +113,18 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return (Long) getDbSqlSession().selectOne("selectHistoricVariableInstanceCountByNativeQuery", parameterMap);
     }
     
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricVariableByteArrayIdsForNonExistingProcessInstances() {
+        return getDbSqlSession().selectList("selectHistoricVariableByteArrayIdsForNonExistingProcessInstances");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricVariableByteArrayIdsForNonExistingCaseInstances() {
+        return getDbSqlSession().selectList("selectHistoricVariableByteArrayIdsForNonExistingCaseInstances");
+    }
+
     @Override
     public void deleteHistoricVariableInstancesForNonExistingProcessInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesForNonExistingProcessInstances", null, HistoricVariableInstanceEntity.class);
@@ -12,9 +12,18 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableByteArrayDataManager;
@@ -45,4 +54,53 @@ public class MybatisVariableByteArrayDataManager extends AbstractDataManager<Var
         getDbSqlSession().delete("deleteVariableByteArrayNoRevisionCheck", byteArrayEntityId, VariableByteArrayEntityImpl.class);
     }
 
+    @Override
+    public String insertByteArrayContent(String name, InputStream content) {
+        String id = getNextId();
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("id", id);
+        params.put("name", name);
+        params.put("content", content);
+        getDbSqlSession().update("insertVariableByteArrayContent", params);
+        return id;
+    }
+
+    @Override
+    public String copyByteArray(String sourceByteArrayId, String name) {
+        String id = getNextId();
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("id", id);
+        params.put("name", name);
+        params.put("sourceId", sourceByteArrayId);
+        getDbSqlSession().update("copyVariableByteArray", params);
+        return id;
+    }
+
+    @Override
+    public void readByteArrayContent(String byteArrayId, OutputStream target) {
+        // The content needs to be copied while the result set is still open, hence the result handler
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        String statement = dbSqlSession.getDbSqlSessionFactory().mapStatement("selectVariableByteArrayContent");
+        dbSqlSession.getSqlSession().select(statement, byteArrayId, resultContext -> {
+            InputStream content = (InputStream) ((Map<?, ?>) resultContext.getResultObject()).get("content");
+            if (content != null) {
+                try {
+                    byte[] buffer = new byte[8192];
+                    int length;
+                    while ((length = content.read(buffer)) != -1) {
+                        target.write(buffer, 0, length);
+                    }
+                } catch (IOException e) {
+                    throw new FlowableException("Could not read the content of byte array " + byteArrayId, e);
+                } finally {
+                    IoUtil.closeSilently(content);
+                }
+            }
+        });
+    }
+
+    protected String getNextId() {
+        return Context.getCommandContext().getCurrentEngineConfiguration().getIdGenerator().getNextId();
+    }
+
 }
@@ -119,6 +119,16 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getDbSqlSession().selectList("selectVariableInstancesByExecutionAndNames", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceAndExecutionsAndName(String processInstanceId, Collection<String> executionIds, String variableName) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("processInstanceId", processInstanceId);
+        params.put("executionIds", executionIds);
+        params.put("name", variableName);
+        return getDbSqlSession().selectList("selectVariableInstancesByProcessInstanceAndExecutionsAndName", params);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName) {
         Map<String, String> params = new HashMap<>(2);
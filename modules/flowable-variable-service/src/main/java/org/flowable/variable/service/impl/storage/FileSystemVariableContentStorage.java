@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * {@link VariableContentStorage} that stores content as files under a root folder.
+ *
+ * Similar to the file system content storage of the content engine, the files are spread over a tree of folders
+ * with the given depth, each level having at most the given number of child folders. The folders of a file are derived from its id.
+ * New content is written to a temporary file first, and only renamed to its final name when it was written completely.
+ */
+public class FileSystemVariableContentStorage implements VariableContentStorage {
+
+    private static final String TEMP_SUFFIX = "_TEMP";
+
+    protected File rootFolder;
+    protected int blockSize;
+    protected int depth;
+
+    public FileSystemVariableContentStorage(File rootFolder) {
+        this(rootFolder, 1024, 2);
+    }
+
+    /**
+     * @param rootFolder
+     *            root folder where all content will be stored in
+     * @param blockSize
+     *            max number of child folders of a single folder
+     * @param depth
+     *            number of folder levels below the root folder
+     */
+    public FileSystemVariableContentStorage(File rootFolder, int blockSize, int depth) {
+        this.rootFolder = rootFolder;
+        this.blockSize = blockSize;
+        this.depth = depth;
+    }
+
+    @Override
+    public void storeContent(String id, byte[] content) {
+        File contentFile = getContentFile(id);
+        File tempContentFile = new File(contentFile.getParentFile(), contentFile.getName() + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(contentFile.getParentFile().toPath());
+            Files.write(tempContentFile.toPath(), content);
+            Files.move(tempContentFile.toPath(), contentFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            deleteQuietly(tempContentFile.toPath());
+            throw new FlowableException("Error while writing variable content to file: " + contentFile, e);
+        }
+    }
+
+    @Override
+    public byte[] getContent(String id) {
+        File contentFile = getContentFile(id);
+        try {
+            return Files.readAllBytes(contentFile.toPath());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new FlowableException("Error while reading variable content from file: " + contentFile, e);
+        }
+    }
+
+    @Override
+    public void deleteContent(String id) {
+        File contentFile = getContentFile(id);
+        try {
+            Files.deleteIfExists(contentFile.toPath());
+        } catch (IOException e) {
+            throw new FlowableException("Error while deleting variable content file: " + contentFile, e);
+        }
+    }
+
+    protected File getContentFile(String id) {
+        if (id == null || id.isEmpty() || id.startsWith(".") || id.indexOf('/') >= 0 || id.indexOf('\\') >= 0) {
+            throw new FlowableIllegalArgumentException("Illegal variable content id: " + id);
+        }
+
+        // the folders are derived from the hash of the id, as ids aren't necessarily numeric
+        long hash = id.hashCode() & 0xffffffffL;
+        File folder = rootFolder;
+        for (int i = 0; i < depth; i++) {
+            folder = new File(folder, String.valueOf(hash % blockSize));
+            hash = hash / blockSize;
+        }
+        return new File(folder, id);
+    }
+
+    protected void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // the temporary file is overwritten when the content is stored again
+        }
+    }
+
+    public File getRootFolder() {
+        return rootFolder;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+}
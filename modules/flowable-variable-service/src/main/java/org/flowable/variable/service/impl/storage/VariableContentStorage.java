@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.storage;
+
+/**
+ * Stores the content of variable byte arrays outside of the database.
+ *
+ * When a storage is configured, the content of byte arrays larger than the configured threshold (e.g. large serializable,
+ * json or byte array variables) is stored here, and the ACT_GE_BYTEARRAY row only remains as a reference to it.
+ * The content is stored under the id of that row, which is never reused: updated content always gets a new id.
+ */
+public interface VariableContentStorage {
+
+    /**
+     * Stores the given content under the given id.
+     */
+    void storeContent(String id, byte[] content);
+
+    /**
+     * @return the content stored under the given id, or null if there is none
+     */
+    byte[] getContent(String id);
+
+    /**
+     * Deletes the content stored under the given id. Does nothing if there is none.
+     */
+    void deleteContent(String id);
+
+}
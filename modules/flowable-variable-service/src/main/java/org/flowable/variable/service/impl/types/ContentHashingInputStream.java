@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+
+import org.flowable.variable.service.impl.util.ContentHashUtil;
+
+/**
+ * An {@link InputStream} that computes the hash and the length of the content that is read through it.
+ */
+public class ContentHashingInputStream extends DigestInputStream {
+
+    protected long length;
+
+    public ContentHashingInputStream(InputStream stream) {
+        super(stream, ContentHashUtil.createMessageDigest());
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            length++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = super.read(b, off, len);
+        if (count > 0) {
+            length += count;
+        }
+        return count;
+    }
+
+    /**
+     * Only to be used once the stream has been read completely.
+     */
+    public String getHash() {
+        return ContentHashUtil.toHex(getMessageDigest().digest());
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+}
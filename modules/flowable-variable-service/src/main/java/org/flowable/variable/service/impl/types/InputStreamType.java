@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Stores an {@link InputStream} as a byte array, without loading the content in memory.
+ *
+ * The given stream is read completely, written directly to the database and closed when the variable is set. The value is returned as a stream
+ * that only reads the content when it is read itself. Each read of the value returns a new stream, which should be closed after use.
+ * The hash of the content is stored as the text value and its length as the long value, so changes can be detected without reading the content.
+ */
+public class InputStreamType implements VariableType {
+
+    public static final String TYPE_NAME = "inputStream";
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return false;
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value instanceof InputStream;
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        if (valueFields instanceof VariableInstanceEntity) {
+            return ((VariableInstanceEntity) valueFields).getContentStream();
+        } else if (valueFields instanceof HistoricVariableInstanceEntity) {
+            return ((HistoricVariableInstanceEntity) valueFields).getContentStream();
+        }
+
+        byte[] bytes = valueFields.getBytes();
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        if (value == null) {
+            setContentStream(null, valueFields);
+            valueFields.setTextValue(null);
+            valueFields.setLongValue(null);
+            return;
+        }
+
+        ContentHashingInputStream contentStream = new ContentHashingInputStream((InputStream) value);
+        try {
+            setContentStream(contentStream, valueFields);
+        } finally {
+            IoUtil.closeSilently(contentStream);
+        }
+        valueFields.setTextValue(contentStream.getHash());
+        valueFields.setLongValue(contentStream.getLength());
+    }
+
+    protected void setContentStream(InputStream contentStream, ValueFields valueFields) {
+        if (valueFields instanceof VariableInstanceEntity) {
+            ((VariableInstanceEntity) valueFields).setContentStream(contentStream);
+        } else {
+            valueFields.setBytes(contentStream != null ? IoUtil.readInputStream(contentStream, valueFields.getName()) : null);
+        }
+    }
+
+}
@@ -21,7 +21,8 @@ import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
 import java.io.OutputStream;
 import java.io.Serializable;
-import java.util.Arrays;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
@@ -32,6 +33,7 @@ import org.flowable.common.engine.impl.util.ReflectUtil;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.util.ContentHashUtil;
 
 /**
  * @author Tom Baeyens
@@ -107,23 +109,49 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     @Override
     public boolean updateValueIfChanged(Object tracedObject, byte[] originalBytes,
         VariableInstanceEntity variableInstanceEntity) {
-        byte[] bytes = serialize(tracedObject, variableInstanceEntity);
+        // The traced object is only serialized in a hash, the bytes are only needed when the value has changed
+        byte[] hash = serializeToHash(tracedObject, variableInstanceEntity);
         boolean valueChanged = false;
         // this first check verifies if the variable value was not overwritten with another object
-        if (!Arrays.equals(originalBytes, bytes)) {
+        if (!MessageDigest.isEqual(hashOriginalBytes(originalBytes), hash)) {
 
             // Add an additional check to prevent byte differences due to JDK changes etc
             Object originalObject = deserialize(originalBytes, variableInstanceEntity);
-            byte[] refreshedOriginalBytes = serialize(originalObject, variableInstanceEntity);
+            byte[] refreshedOriginalHash = serializeToHash(originalObject, variableInstanceEntity);
 
-            if (!Arrays.equals(refreshedOriginalBytes, bytes)) {
-                variableInstanceEntity.setBytes(bytes);
+            if (!MessageDigest.isEqual(refreshedOriginalHash, hash)) {
+                variableInstanceEntity.setBytes(serialize(tracedObject, variableInstanceEntity));
                 valueChanged = true;
             }
         }
         return valueChanged;
     }
 
+    protected byte[] hashOriginalBytes(byte[] originalBytes) {
+        return originalBytes != null ? ContentHashUtil.hash(originalBytes) : null;
+    }
+
+    /**
+     * Serializes the given value into its hash, without keeping the serialized bytes in memory.
+     */
+    public byte[] serializeToHash(Object value, ValueFields valueFields) {
+        if (value == null) {
+            return null;
+        }
+        MessageDigest messageDigest = ContentHashUtil.createMessageDigest();
+        ObjectOutputStream oos = null;
+        try {
+            oos = createObjectOutputStream(new DigestOutputStream(new DiscardingOutputStream(), messageDigest));
+            oos.writeObject(value);
+            oos.flush();
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
+        } finally {
+            IoUtil.closeSilently(oos);
+        }
+        return messageDigest.digest();
+    }
+
     public byte[] serialize(Object value, ValueFields valueFields) {
         if (value == null) {
             return null;
@@ -173,4 +201,16 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     protected ObjectOutputStream createObjectOutputStream(OutputStream os) throws IOException {
         return new ObjectOutputStream(os);
     }
+
+    protected static class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+
+    }
 }